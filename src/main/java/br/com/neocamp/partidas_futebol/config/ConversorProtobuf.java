@@ -0,0 +1,47 @@
+package br.com.neocamp.partidas_futebol.config;
+
+import br.com.neocamp.partidas_futebol.enums.FormatoResposta;
+import br.com.neocamp.partidas_futebol.service.CodificadorRespostas;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+
+public class ConversorProtobuf extends AbstractHttpMessageConverter<Object> {
+
+    private final CodificadorRespostas codificadorRespostas;
+
+    public ConversorProtobuf(CodificadorRespostas codificadorRespostas) {
+        super(FormatoResposta.PROTOBUF.getMediaType());
+        this.codificadorRespostas = codificadorRespostas;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CodificadorRespostas.suportaProtobuf(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Leitura em Protobuf não suportada", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object valor, HttpOutputMessage outputMessage) throws IOException {
+        try {
+            codificadorRespostas.codificar(valor, FormatoResposta.PROTOBUF, outputMessage.getBody());
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotWritableException(e.getMessage(), e);
+        }
+    }
+
+}
@@ -0,0 +1,130 @@
+package br.com.neocamp.partidas_futebol.config;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class DataSourceLimitado extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permissoes;
+    private final int limite;
+    private final long esperaMaximaNanos;
+
+    public DataSourceLimitado(DataSource alvo, int limite, Duration esperaMaxima) {
+        super(alvo);
+        if (limite < 1) {
+            throw new IllegalArgumentException("Limite de conexões deve ser positivo: " + limite);
+        }
+        this.permissoes = new Semaphore(limite, true);
+        this.limite = limite;
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return envolver(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException | Error e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        try {
+            return envolver(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException | Error e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public int getEmUso() {
+        return limite - permissoes.availablePermits();
+    }
+
+    public int getAguardando() {
+        return permissoes.getQueueLength();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable alvo) {
+            alvo.close();
+        }
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permissoes.tryAcquire(esperaMaximaNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException("Tempo esgotado aguardando uma das " + limite + " conexões do pool");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão do pool", e);
+        }
+    }
+
+    private Connection envolver(Connection conexao) {
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[] {ConnectionProxy.class}, new ConexaoLimitada(conexao));
+    }
+
+    private final class ConexaoLimitada implements InvocationHandler {
+
+        private final Connection alvo;
+        private final AtomicBoolean liberada = new AtomicBoolean();
+
+        private ConexaoLimitada(Connection alvo) {
+            this.alvo = alvo;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return alvo;
+                case "close":
+                    try {
+                        alvo.close();
+                    } finally {
+                        if (liberada.compareAndSet(false, true)) {
+                            permissoes.release();
+                        }
+                    }
+                    return null;
+                default:
+                    try {
+                        return method.invoke(alvo, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package br.com.neocamp.partidas_futebol.config;
+
+import com.github.benmanes.caffeine.jcache.CacheManagerImpl;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.util.Map;
+import java.util.Properties;
+
+public class FabricaRegioesCache extends JCacheRegionFactory {
+
+    @Override
+    protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String, Object> properties) {
+        CachingProvider cachingProvider = getCachingProvider(properties);
+        return new CacheManagerImpl(cachingProvider, false, getUri(settings, properties), getClassLoader(cachingProvider), new Properties());
+    }
+
+}
@@ -0,0 +1,38 @@
+package br.com.neocamp.partidas_futebol.config;
+
+import br.com.neocamp.partidas_futebol.enums.FormatoResposta;
+import br.com.neocamp.partidas_futebol.service.CodificadorRespostas;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class FormatosRespostaConfig implements WebMvcConfigurer {
+
+    private final CodificadorRespostas codificadorRespostas;
+
+    public FormatosRespostaConfig(ObjectMapper objectMapper) {
+        this.codificadorRespostas = new CodificadorRespostas(objectMapper);
+    }
+
+    @Bean
+    public CodificadorRespostas codificadorRespostas() {
+        return codificadorRespostas;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(conversor -> conversor instanceof MappingJackson2CborHttpMessageConverter
+                || conversor instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(codificadorRespostas.getMapeador(FormatoResposta.CBOR)));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(codificadorRespostas.getMapeador(FormatoResposta.SMILE)));
+        converters.add(new ConversorProtobuf(codificadorRespostas));
+    }
+
+}
@@ -0,0 +1,35 @@
+package br.com.neocamp.partidas_futebol.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(HikariDataSource.class)
+@ConditionalOnProperty(name = "partidas.jdbc.limitador.habilitado", havingValue = "true")
+public class LimitadorConexoesConfig {
+
+    @Bean
+    static BeanPostProcessor limitadorConexoes(Environment environment) {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource pool)) {
+                    return bean;
+                }
+                Duration espera = environment.getProperty("partidas.jdbc.limitador.espera", Duration.class,
+                        Duration.ofMillis(pool.getConnectionTimeout()));
+                return new DataSourceLimitado(pool, pool.getMaximumPoolSize(), espera);
+            }
+
+        };
+    }
+
+}
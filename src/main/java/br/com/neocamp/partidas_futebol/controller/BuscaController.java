@@ -0,0 +1,33 @@
+package br.com.neocamp.partidas_futebol.controller;
+
+import br.com.neocamp.partidas_futebol.dto.buscaDto.ResultadoBuscaDto;
+import br.com.neocamp.partidas_futebol.service.IndiceNomesService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/busca")
+public class BuscaController {
+
+    private final IndiceNomesService indiceNomesService;
+
+    public BuscaController(IndiceNomesService indiceNomesService) {
+        this.indiceNomesService = indiceNomesService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ResultadoBuscaDto>> buscar(@RequestParam String q,
+                                                          @RequestParam(defaultValue = "10") int limite) {
+
+        List<ResultadoBuscaDto> resultados = indiceNomesService.buscar(q, limite);
+
+        return ResponseEntity.status(HttpStatus.OK).body(resultados);
+    }
+
+}
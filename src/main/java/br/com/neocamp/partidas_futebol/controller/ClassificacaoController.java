@@ -0,0 +1,40 @@
+package br.com.neocamp.partidas_futebol.controller;
+
+import br.com.neocamp.partidas_futebol.dto.classificacaoDto.ClassificacaoResponseDto;
+import br.com.neocamp.partidas_futebol.service.ClassificacaoService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/classificacao")
+public class ClassificacaoController {
+
+    private final ClassificacaoService classificacaoService;
+
+    public ClassificacaoController(ClassificacaoService classificacaoService) {
+        this.classificacaoService = classificacaoService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ClassificacaoResponseDto>> listarClassificacao() {
+
+        List<ClassificacaoResponseDto> classificacao = classificacaoService.listarClassificacao();
+
+        return ResponseEntity.status(HttpStatus.OK).body(classificacao);
+    }
+
+    @PostMapping("/recalculo")
+    public ResponseEntity<List<ClassificacaoResponseDto>> recalcularClassificacao() {
+
+        classificacaoService.recalcularClassificacao();
+
+        return ResponseEntity.status(HttpStatus.OK).body(classificacaoService.listarClassificacao());
+    }
+
+}
@@ -2,20 +2,46 @@ package br.com.neocamp.partidas_futebol.controller;
 
 import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeRequestDto;
 import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.dto.clubeDto.RetrospectoResponseDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaCursorDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaFatiaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.enums.FormatoResposta;
+import br.com.neocamp.partidas_futebol.enums.ModoPaginacao;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
+import br.com.neocamp.partidas_futebol.service.ClubeEstatisticaService;
 import br.com.neocamp.partidas_futebol.service.ClubeService;
+import br.com.neocamp.partidas_futebol.service.RespostaSerializada;
+import br.com.neocamp.partidas_futebol.service.RespostaSerializadaService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
 
-import java.util.List;
 
 
 @RestController
@@ -26,9 +52,21 @@ public class ClubeController {
     private final ClubeService clubeService;
 
     
+    private final ClubeEstatisticaService clubeEstatisticaService;
+
+    
+    private final RespostaSerializadaService respostaSerializadaService;
+
+    
+    private final ObjectMapper objectMapper;
+
+    
     @Autowired
-    public ClubeController(ClubeService clubeService) {
+    public ClubeController(ClubeService clubeService, ClubeEstatisticaService clubeEstatisticaService, RespostaSerializadaService respostaSerializadaService, ObjectMapper objectMapper) {
         this.clubeService = clubeService;
+        this.clubeEstatisticaService = clubeEstatisticaService;
+        this.respostaSerializadaService = respostaSerializadaService;
+        this.objectMapper = objectMapper;
     }
 
     
@@ -42,16 +80,30 @@ public class ClubeController {
     }
 
     
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ClubeResponseDto.class)))
     @GetMapping("/{id}")
-    public ResponseEntity<ClubeResponseDto> buscarClubePorId(@PathVariable Long id) {
-        ClubeResponseDto clube = clubeService.buscarPorId(id);
-        return ResponseEntity.status(HttpStatus.OK).body(clube);
+    public void buscarClubePorId(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        VersaoRecursoDto versao = clubeService.buscarVersao(id);
+        if (Condicional.naoModificado(new ServletWebRequest(request, response), versao)) {
+            return;
+        }
+
+        RespostaSerializada clube = respostaSerializadaService.buscar(RespostaSerializadaService.CLUBE, id, versao.versao(), FormatoResposta.negociar(request.getHeader(HttpHeaders.ACCEPT)), () -> clubeService.buscarPorIdVersionado(id));
+        RespostaCodificada.escrever(clube, request, response);
+    }
+
+    
+    @GetMapping("/{id}/retrospecto")
+    public ResponseEntity<RetrospectoResponseDto> buscarRetrospectoDoClube(@PathVariable Long id) {
+        RetrospectoResponseDto retrospecto = clubeEstatisticaService.buscarRetrospecto(id);
+        return ResponseEntity.status(HttpStatus.OK).body(retrospecto);
     }
 
     
     @PutMapping("/{id}")
-    public ResponseEntity<ClubeResponseDto> atualizarClube(@PathVariable Long id, @RequestBody ClubeRequestDto clubeAtualizado) {
-        ClubeResponseDto clube = clubeService.atualizarPorId(id, clubeAtualizado);
+    public ResponseEntity<ClubeResponseDto> atualizarClube(@PathVariable Long id, @RequestBody ClubeRequestDto clubeAtualizado,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ClubeResponseDto clube = clubeService.atualizarPorId(id, clubeAtualizado, Condicional.versaoEsperada(ifMatch));
         return ResponseEntity.status(HttpStatus.OK).body(clube);
     }
 
@@ -68,26 +120,64 @@ public class ClubeController {
             String nome,
             @RequestParam(required = false) String siglaEstado,
             @RequestParam(required = false) Boolean ativo,
-            @PageableDefault(size = 10) Pageable pageable
+            @RequestParam(defaultValue = "PAGINA") ModoPaginacao paginacao,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Set<String> fields,
+            @PageableDefault(size = 10) Pageable pageable,
+            WebRequest webRequest
     ) {
-            Page<ClubeResponseDto> clubes = clubeService.listarClubes(nome, siglaEstado, ativo, pageable);
+            if (fields != null && !fields.isEmpty() && paginacao != ModoPaginacao.PAGINA) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O parâmetro fields só é suportado com paginacao=PAGINA");
+            }
+
+            if (paginacao == ModoPaginacao.CURSOR) {
+                PaginaCursorDto<ClubeResponseDto> clubes = clubeService.listarClubesPorCursor(nome, siglaEstado, ativo, after, pageable.getPageSize());
+
+                return ResponseEntity.status(HttpStatus.OK)
+                        .body(clubes);
+            }
+
+            if (paginacao == ModoPaginacao.SLICE || paginacao == ModoPaginacao.ESTIMADO) {
+                PaginaFatiaDto<ClubeResponseDto> clubes = clubeService.listarClubesSemContagem(nome, siglaEstado, ativo, pageable, paginacao);
+
+                return ResponseEntity.status(HttpStatus.OK)
+                        .body(clubes);
+            }
+
+            VersaoPaginaDto pagina = clubeService.buscarVersaoDaPagina(nome, siglaEstado, ativo, pageable);
+            if (Condicional.naoModificado(webRequest, pagina.versao())) {
+                return null;
+            }
+
+            Page<ClubeResponseDto> clubes = clubeService.listarClubes(pagina, nome, siglaEstado, ativo, fields, pageable);
 
             return ResponseEntity.status(HttpStatus.OK)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(clubes);
+                    .body(PaginaDto.de(clubes));
         }
 
     
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = ClubeResponseDto.class))))
     @GetMapping("/lista-sem-paginacao")
-    public ResponseEntity<List<ClubeResponseDto>> listarClubesSemPaginacao(
+    public void listarClubesSemPaginacao(
             @RequestParam(required = false) String nome,
             @RequestParam(required = false) String siglaEstado,
-            @RequestParam(required = false) Boolean ativo
-    ) {
-        List<ClubeResponseDto> clubes = clubeService.listarClubes(nome, siglaEstado, ativo);
-        return ResponseEntity.status(HttpStatus.OK)
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(clubes);
+            @RequestParam(required = false) Boolean ativo,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        try (JsonGenerator gerador = objectMapper.createGenerator(response.getOutputStream())) {
+            gerador.writeStartArray();
+            clubeService.listarClubesEmFluxo(nome, siglaEstado, ativo, clube -> {
+                try {
+                    gerador.writeObject(clube);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            gerador.writeEndArray();
+        }
     }
 
 }
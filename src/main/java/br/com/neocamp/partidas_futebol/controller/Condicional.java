@@ -0,0 +1,57 @@
+package br.com.neocamp.partidas_futebol.controller;
+
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.enums.FormatoResposta;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+import java.util.Locale;
+
+final class Condicional {
+
+    static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private Condicional() {}
+
+    static boolean naoModificado(WebRequest request, VersaoRecursoDto versao) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().setHeader(HttpHeaders.VARY, VARY);
+        }
+
+        long ultimaModificacao = versao.atualizadoEm() != null
+                ? versao.atualizadoEm().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        FormatoResposta formato = FormatoResposta.negociar(request.getHeader(HttpHeaders.ACCEPT));
+        return request.checkNotModified(etag(versao.versao(), formato), ultimaModificacao);
+    }
+
+    static String etag(String versao, FormatoResposta formato) {
+        return versao + "-" + formato.name().toLowerCase(Locale.ROOT);
+    }
+
+    static String versaoEsperada(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String versao = ifMatch.trim();
+        if (versao.startsWith("W/")) {
+            versao = versao.substring(2);
+        }
+        versao = versao.replace("\"", "");
+
+        int separador = versao.lastIndexOf('-');
+        if (separador > 0) {
+            String sufixo = versao.substring(separador + 1).toUpperCase(Locale.ROOT);
+            for (FormatoResposta formato : FormatoResposta.values()) {
+                if (formato.name().equals(sufixo)) {
+                    return versao.substring(0, separador);
+                }
+            }
+        }
+        return versao;
+    }
+
+}
@@ -2,8 +2,21 @@ package br.com.neocamp.partidas_futebol.controller;
 
 import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioRequestDto;
 import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaFatiaDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.enums.FormatoResposta;
+import br.com.neocamp.partidas_futebol.enums.ModoPaginacao;
 import br.com.neocamp.partidas_futebol.service.EstadioService;
+import br.com.neocamp.partidas_futebol.service.RespostaSerializada;
+import br.com.neocamp.partidas_futebol.service.RespostaSerializadaService;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -12,10 +25,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.Set;
 
 
 @RestController
@@ -25,11 +45,15 @@ public class EstadioController {
     
     private final EstadioService estadioService;
 
+    
+    private final RespostaSerializadaService respostaSerializadaService;
+
 
     @Autowired
-    public EstadioController (EstadioService estadioService) {
+    public EstadioController (EstadioService estadioService, RespostaSerializadaService respostaSerializadaService) {
 
         this.estadioService = estadioService;
+        this.respostaSerializadaService = respostaSerializadaService;
     }
 
 
@@ -40,37 +64,62 @@ public class EstadioController {
         }
 
     
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = EstadioResponseDto.class)))
     @GetMapping ("/{id}")
-    public ResponseEntity<EstadioResponseDto> buscarEstadioPorId(@PathVariable Long id) {
+    public void buscarEstadioPorId(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
 
-        EstadioResponseDto estadio = estadioService.buscarPorId(id);
+        VersaoRecursoDto versao = estadioService.buscarVersao(id);
+        if (Condicional.naoModificado(new ServletWebRequest(request, response), versao)) {
+            return;
+        }
 
-        return ResponseEntity.status(HttpStatus.OK).body(estadio);
+        RespostaSerializada estadio = respostaSerializadaService.buscar(RespostaSerializadaService.ESTADIO, id, versao.versao(), FormatoResposta.negociar(request.getHeader(HttpHeaders.ACCEPT)), () -> estadioService.buscarPorIdVersionado(id));
+
+        RespostaCodificada.escrever(estadio, request, response);
     }
 
     
     @PutMapping("/{id}")
-    public ResponseEntity<EstadioResponseDto> atualizarEstadio(@PathVariable Long id, @RequestBody EstadioRequestDto estadioAtualizado) {
-        EstadioResponseDto estadio = estadioService.atualizarPorId(id, estadioAtualizado);
+    public ResponseEntity<EstadioResponseDto> atualizarEstadio(@PathVariable Long id, @RequestBody EstadioRequestDto estadioAtualizado,
+                                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EstadioResponseDto estadio = estadioService.atualizarPorId(id, estadioAtualizado, Condicional.versaoEsperada(ifMatch));
         return ResponseEntity.status(HttpStatus.OK).body(estadio);
     }
 
     
     @GetMapping("/lista")
-    public ResponseEntity<Page<EstadioResponseDto>> listarEstadios(
+    public ResponseEntity<?> listarEstadios(
             @RequestParam(required = false) String nome,
             @RequestParam(required = false, defaultValue = "10") int page,
             @RequestParam(required = false, defaultValue = "0") int size,
-            @RequestParam(required = false, defaultValue = "id") String sortBy
+            @RequestParam(required = false, defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "PAGINA") ModoPaginacao paginacao,
+            @RequestParam(required = false) Set<String> fields,
+            WebRequest webRequest
             //@PageableDefault(size = 10, sort = "id, asc") Pageable pageable
     )
     {
 
-        Page<EstadioResponseDto> estadioPage = estadioService.listarEstadios(nome, PageRequest.of(page, size, Sort.Direction.ASC, sortBy));
+        if (fields != null && !fields.isEmpty() && paginacao != ModoPaginacao.PAGINA) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O parâmetro fields só é suportado com paginacao=PAGINA");
+        }
+
+        if (paginacao == ModoPaginacao.SLICE || paginacao == ModoPaginacao.ESTIMADO) {
+            PaginaFatiaDto<EstadioResponseDto> estadios = estadioService.listarEstadiosSemContagem(nome, PageRequest.of(page, size, Sort.Direction.ASC, sortBy), paginacao);
+
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(estadios);
+        }
+
+        VersaoPaginaDto pagina = estadioService.buscarVersaoDaPagina(nome, PageRequest.of(page, size, Sort.Direction.ASC, sortBy));
+        if (Condicional.naoModificado(webRequest, pagina.versao())) {
+            return null;
+        }
+
+        Page<EstadioResponseDto> estadioPage = estadioService.listarEstadios(pagina, nome, fields, PageRequest.of(page, size, Sort.Direction.ASC, sortBy));
 
         return ResponseEntity.status(HttpStatus.OK)
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(estadioPage);
+                .body(PaginaDto.de(estadioPage));
     }
 
 }
@@ -0,0 +1,70 @@
+package br.com.neocamp.partidas_futebol.controller;
+
+import br.com.neocamp.partidas_futebol.enums.FormatoExportacao;
+import br.com.neocamp.partidas_futebol.service.ExportacaoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/export")
+public class ExportacaoController {
+
+    private final ExportacaoService exportacaoService;
+
+    public ExportacaoController(ExportacaoService exportacaoService) {
+        this.exportacaoService = exportacaoService;
+    }
+
+    @Operation(
+            summary = "Exportar registros",
+            description = "Exporta todas as partidas, clubes ou estádios em NDJSON ou CSV, lidos de um único cursor no banco. " +
+                    "Partidas aceitam filtro por dataHora (início inclusivo, fim exclusivo).")
+    @GetMapping("/{entidade}")
+    public void exportar(
+            @PathVariable String entidade,
+            @RequestParam(defaultValue = "NDJSON") FormatoExportacao formato,
+            @Parameter(description = "Início do período, inclusivo (somente partidas)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataHoraInicio,
+            @Parameter(description = "Fim do período, exclusivo (somente partidas)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataHoraFim,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+
+        exportacaoService.validar(entidade, dataHoraInicio, dataHoraFim);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(formato.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + entidade + "." + formato.getExtensao() + "\"");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (RespostaCodificada.aceitaGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            try (OutputStream saida = new GZIPOutputStream(response.getOutputStream(), 64 * 1024)) {
+                exportacaoService.exportar(entidade, formato, dataHoraInicio, dataHoraFim, saida);
+            } catch (IOException | RuntimeException e) {
+                if (!response.isCommitted()) {
+                    response.reset();
+                }
+                throw e;
+            }
+            return;
+        }
+
+        exportacaoService.exportar(entidade, formato, dataHoraInicio, dataHoraFim, response.getOutputStream());
+    }
+
+}
@@ -1,24 +1,61 @@
 package br.com.neocamp.partidas_futebol.controller;
 
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaCursorDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaFatiaDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.ConfrontoDiretoResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaLoteResponseDto;
 import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaRequestDto;
 import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.enums.FormatoResposta;
+import br.com.neocamp.partidas_futebol.enums.ModoPaginacao;
+import br.com.neocamp.partidas_futebol.exceptions.EntityBadRequestException;
+import br.com.neocamp.partidas_futebol.service.PartidaImportacaoService;
 import br.com.neocamp.partidas_futebol.service.PartidaService;
+import br.com.neocamp.partidas_futebol.service.RespostaSerializada;
+import br.com.neocamp.partidas_futebol.service.RespostaSerializadaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/partida")
 public class PartidaController {
 
     private final PartidaService partidaService;
+    private final PartidaImportacaoService partidaImportacaoService;
+    private final ObjectMapper objectMapper;
+    private final RespostaSerializadaService respostaSerializadaService;
 
-    public PartidaController(PartidaService partidaService) {
+    public PartidaController(PartidaService partidaService, PartidaImportacaoService partidaImportacaoService, ObjectMapper objectMapper, RespostaSerializadaService respostaSerializadaService) {
         this.partidaService = partidaService;
+        this.partidaImportacaoService = partidaImportacaoService;
+        this.objectMapper = objectMapper;
+        this.respostaSerializadaService = respostaSerializadaService;
     }
 
     @PostMapping
@@ -29,32 +66,112 @@ public class PartidaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(partidaSalva);
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<PartidaLoteResponseDto> cadastrarPartidasEmLote(@RequestBody List<PartidaRequestDto> partidasRequestDto) {
+
+        PartidaLoteResponseDto resultado = partidaService.cadastrarPartidasEmLote(partidasRequestDto);
+        HttpStatus status = resultado.getErros().isEmpty() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+
+        return ResponseEntity.status(status).body(resultado);
+    }
+
+    @PostMapping(value = "/importacao", consumes = {"application/x-ndjson", "text/csv"}, produces = "application/x-ndjson")
+    public void importarPartidas(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType formato,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(PartidaImportacaoService.APPLICATION_NDJSON.toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream saida = response.getOutputStream();
+
+        partidaImportacaoService.importarPartidas(request.getInputStream(), formato, progresso -> {
+            try {
+                saida.write(objectMapper.writeValueAsBytes(progresso));
+                saida.write('\n');
+                saida.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = PartidaResponseDto.class)))
     @GetMapping("/{id}")
-    public ResponseEntity<PartidaResponseDto> buscarPartidaPorId(@PathVariable Long id) {
+    public void buscarPartidaPorId(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
 
-        PartidaResponseDto partida = partidaService.buscarPartidaPorId(id);
+        VersaoRecursoDto versao = partidaService.buscarVersao(id);
+        if (Condicional.naoModificado(new ServletWebRequest(request, response), versao)) {
+            return;
+        }
 
-        return ResponseEntity.status(HttpStatus.OK).body(partida);
+        RespostaSerializada partida = respostaSerializadaService.buscar(RespostaSerializadaService.PARTIDA, id, versao.versao(), FormatoResposta.negociar(request.getHeader(HttpHeaders.ACCEPT)), () -> partidaService.buscarPartidaPorIdVersionada(id));
+
+        RespostaCodificada.escrever(partida, request, response);
     }
 
     @GetMapping("/lista")
-    public ResponseEntity<Page<PartidaResponseDto>> listarPartidas(
+    public ResponseEntity<?> listarPartidas(
             @RequestParam(required = false) Long clubeMandanteId,
             @RequestParam(required = false) Long clubeVisitanteId,
             @RequestParam(required = false) Long estadioId,
-            @PageableDefault(size = 10) Pageable pageable
+            @RequestParam(defaultValue = "PAGINA") ModoPaginacao paginacao,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Set<String> fields,
+            @PageableDefault(size = 10) Pageable pageable,
+            WebRequest webRequest
     ) {
 
-        Page<PartidaResponseDto> partidas = partidaService.listarPartidas(clubeMandanteId, clubeVisitanteId, estadioId, pageable);
+        if (fields != null && !fields.isEmpty() && paginacao != ModoPaginacao.PAGINA) {
+            throw new EntityBadRequestException("O parâmetro fields só é suportado com paginacao=PAGINA");
+        }
+
+        if (paginacao == ModoPaginacao.CURSOR) {
+            PaginaCursorDto<PartidaResponseDto> partidas = partidaService.listarPartidasPorCursor(
+                    clubeMandanteId, clubeVisitanteId, estadioId, after, pageable.getPageSize());
+
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(partidas);
+        }
+
+        if (paginacao == ModoPaginacao.SLICE || paginacao == ModoPaginacao.ESTIMADO) {
+            PaginaFatiaDto<PartidaResponseDto> partidas = partidaService.listarPartidasSemContagem(
+                    clubeMandanteId, clubeVisitanteId, estadioId, pageable, paginacao);
+
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(partidas);
+        }
+
+        VersaoPaginaDto pagina = partidaService.buscarVersaoDaPagina(clubeMandanteId, clubeVisitanteId, estadioId, pageable);
+        if (Condicional.naoModificado(webRequest, pagina.versao())) {
+            return null;
+        }
+
+        Page<PartidaResponseDto> partidas = partidaService.listarPartidas(pagina, clubeMandanteId, clubeVisitanteId, estadioId, fields, pageable);
 
         return ResponseEntity.status(HttpStatus.OK)
-                .body(partidas);
+                .body(PaginaDto.de(partidas));
+    }
+
+    @GetMapping("/confronto")
+    public ResponseEntity<ConfrontoDiretoResponseDto> buscarConfrontoDireto(
+            @RequestParam Long clubeA,
+            @RequestParam Long clubeB,
+            @PageableDefault(size = 10, sort = "dataHora", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+
+        ConfrontoDiretoResponseDto confronto = partidaService.buscarConfrontoDireto(clubeA, clubeB, pageable);
+
+        return ResponseEntity.status(HttpStatus.OK).body(confronto);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<PartidaResponseDto> atualizarPartidaPorId(@PathVariable Long id, @RequestBody PartidaRequestDto partidaRequestDto) {
+    public ResponseEntity<PartidaResponseDto> atualizarPartidaPorId(@PathVariable Long id, @RequestBody PartidaRequestDto partidaRequestDto,
+                                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        PartidaResponseDto partida = partidaService.atualizarPartidaPorId(id, partidaRequestDto);
+        PartidaResponseDto partida = partidaService.atualizarPartidaPorId(id, partidaRequestDto, Condicional.versaoEsperada(ifMatch));
 
         return ResponseEntity.status(HttpStatus.OK).body(partida);
     }
@@ -0,0 +1,35 @@
+package br.com.neocamp.partidas_futebol.controller;
+
+import br.com.neocamp.partidas_futebol.service.RespostaSerializada;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+
+final class RespostaCodificada {
+
+    private RespostaCodificada() {}
+
+    static void escrever(RespostaSerializada resposta, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        byte[] corpo = resposta.getCorpo();
+        if (aceitaGzip(request)) {
+            corpo = resposta.getCorpoGzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(resposta.getFormato().getContentType());
+        response.setHeader(HttpHeaders.ETAG, "\"" + Condicional.etag(resposta.getVersao(), resposta.getFormato()) + "\"");
+        response.setHeader(HttpHeaders.VARY, Condicional.VARY);
+        response.setContentLength(corpo.length);
+        response.getOutputStream().write(corpo);
+    }
+
+    static boolean aceitaGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+}
@@ -0,0 +1,3 @@
+package br.com.neocamp.partidas_futebol.dto.buscaDto;
+
+public record ResultadoBuscaDto(String tipo, Long id, String nome) {}
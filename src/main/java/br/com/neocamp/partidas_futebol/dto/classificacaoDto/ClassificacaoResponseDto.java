@@ -0,0 +1,132 @@
+package br.com.neocamp.partidas_futebol.dto.classificacaoDto;
+
+public class ClassificacaoResponseDto {
+
+    private int posicao;
+
+    private Long clubeId;
+
+    private String clubeNome;
+
+    private int pontos;
+
+    private int jogos;
+
+    private int vitorias;
+
+    private int empates;
+
+    private int derrotas;
+
+    private int golsPro;
+
+    private int golsContra;
+
+    private int saldoGols;
+
+
+    public ClassificacaoResponseDto() {}
+
+    public ClassificacaoResponseDto(int posicao, Long clubeId, String clubeNome, int pontos, int jogos, int vitorias, int empates, int derrotas, int golsPro, int golsContra, int saldoGols) {
+        this.posicao = posicao;
+        this.clubeId = clubeId;
+        this.clubeNome = clubeNome;
+        this.pontos = pontos;
+        this.jogos = jogos;
+        this.vitorias = vitorias;
+        this.empates = empates;
+        this.derrotas = derrotas;
+        this.golsPro = golsPro;
+        this.golsContra = golsContra;
+        this.saldoGols = saldoGols;
+    }
+
+
+    public int getPosicao() {
+        return posicao;
+    }
+
+    public void setPosicao(int posicao) {
+        this.posicao = posicao;
+    }
+
+    public Long getClubeId() {
+        return clubeId;
+    }
+
+    public void setClubeId(Long clubeId) {
+        this.clubeId = clubeId;
+    }
+
+    public String getClubeNome() {
+        return clubeNome;
+    }
+
+    public void setClubeNome(String clubeNome) {
+        this.clubeNome = clubeNome;
+    }
+
+    public int getPontos() {
+        return pontos;
+    }
+
+    public void setPontos(int pontos) {
+        this.pontos = pontos;
+    }
+
+    public int getJogos() {
+        return jogos;
+    }
+
+    public void setJogos(int jogos) {
+        this.jogos = jogos;
+    }
+
+    public int getVitorias() {
+        return vitorias;
+    }
+
+    public void setVitorias(int vitorias) {
+        this.vitorias = vitorias;
+    }
+
+    public int getEmpates() {
+        return empates;
+    }
+
+    public void setEmpates(int empates) {
+        this.empates = empates;
+    }
+
+    public int getDerrotas() {
+        return derrotas;
+    }
+
+    public void setDerrotas(int derrotas) {
+        this.derrotas = derrotas;
+    }
+
+    public int getGolsPro() {
+        return golsPro;
+    }
+
+    public void setGolsPro(int golsPro) {
+        this.golsPro = golsPro;
+    }
+
+    public int getGolsContra() {
+        return golsContra;
+    }
+
+    public void setGolsContra(int golsContra) {
+        this.golsContra = golsContra;
+    }
+
+    public int getSaldoGols() {
+        return saldoGols;
+    }
+
+    public void setSaldoGols(int saldoGols) {
+        this.saldoGols = saldoGols;
+    }
+}
@@ -1,8 +1,11 @@
 package br.com.neocamp.partidas_futebol.dto.clubeDto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDate;
 
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ClubeResponseDto {
 
     
@@ -0,0 +1,100 @@
+package br.com.neocamp.partidas_futebol.dto.clubeDto;
+
+public class DesempenhoDto {
+
+    private int jogos;
+
+    private int vitorias;
+
+    private int empates;
+
+    private int derrotas;
+
+    private int golsPro;
+
+    private int golsContra;
+
+    private int saldoGols;
+
+
+    public DesempenhoDto() {}
+
+    public DesempenhoDto(int jogos, int vitorias, int empates, int derrotas, int golsPro, int golsContra) {
+        this.jogos = jogos;
+        this.vitorias = vitorias;
+        this.empates = empates;
+        this.derrotas = derrotas;
+        this.golsPro = golsPro;
+        this.golsContra = golsContra;
+        this.saldoGols = golsPro - golsContra;
+    }
+
+
+    public DesempenhoDto somar(DesempenhoDto outro) {
+        return new DesempenhoDto(
+                jogos + outro.jogos,
+                vitorias + outro.vitorias,
+                empates + outro.empates,
+                derrotas + outro.derrotas,
+                golsPro + outro.golsPro,
+                golsContra + outro.golsContra
+        );
+    }
+
+
+    public int getJogos() {
+        return jogos;
+    }
+
+    public void setJogos(int jogos) {
+        this.jogos = jogos;
+    }
+
+    public int getVitorias() {
+        return vitorias;
+    }
+
+    public void setVitorias(int vitorias) {
+        this.vitorias = vitorias;
+    }
+
+    public int getEmpates() {
+        return empates;
+    }
+
+    public void setEmpates(int empates) {
+        this.empates = empates;
+    }
+
+    public int getDerrotas() {
+        return derrotas;
+    }
+
+    public void setDerrotas(int derrotas) {
+        this.derrotas = derrotas;
+    }
+
+    public int getGolsPro() {
+        return golsPro;
+    }
+
+    public void setGolsPro(int golsPro) {
+        this.golsPro = golsPro;
+    }
+
+    public int getGolsContra() {
+        return golsContra;
+    }
+
+    public void setGolsContra(int golsContra) {
+        this.golsContra = golsContra;
+    }
+
+    public int getSaldoGols() {
+        return saldoGols;
+    }
+
+    public void setSaldoGols(int saldoGols) {
+        this.saldoGols = saldoGols;
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.neocamp.partidas_futebol.dto.clubeDto;
+
+public class RetrospectoResponseDto {
+
+    private Long clubeId;
+
+    private DesempenhoDto mandante;
+
+    private DesempenhoDto visitante;
+
+    private DesempenhoDto total;
+
+
+    public RetrospectoResponseDto() {}
+
+    public RetrospectoResponseDto(Long clubeId, DesempenhoDto mandante, DesempenhoDto visitante) {
+        this.clubeId = clubeId;
+        this.mandante = mandante;
+        this.visitante = visitante;
+        this.total = mandante.somar(visitante);
+    }
+
+
+    public Long getClubeId() {
+        return clubeId;
+    }
+
+    public void setClubeId(Long clubeId) {
+        this.clubeId = clubeId;
+    }
+
+    public DesempenhoDto getMandante() {
+        return mandante;
+    }
+
+    public void setMandante(DesempenhoDto mandante) {
+        this.mandante = mandante;
+    }
+
+    public DesempenhoDto getVisitante() {
+        return visitante;
+    }
+
+    public void setVisitante(DesempenhoDto visitante) {
+        this.visitante = visitante;
+    }
+
+    public DesempenhoDto getTotal() {
+        return total;
+    }
+
+    public void setTotal(DesempenhoDto total) {
+        this.total = total;
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.neocamp.partidas_futebol.dto.estadioDto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class EstadioResponseDto {
 
     
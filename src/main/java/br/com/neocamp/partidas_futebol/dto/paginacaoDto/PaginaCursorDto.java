@@ -0,0 +1,50 @@
+package br.com.neocamp.partidas_futebol.dto.paginacaoDto;
+
+import java.util.List;
+
+public class PaginaCursorDto<T> {
+
+    private List<T> conteudo;
+
+    private int tamanho;
+
+    private String proximoCursor;
+
+
+    public PaginaCursorDto() {}
+
+    public PaginaCursorDto(List<T> conteudo, int tamanho, String proximoCursor) {
+        this.conteudo = conteudo;
+        this.tamanho = tamanho;
+        this.proximoCursor = proximoCursor;
+    }
+
+
+    public List<T> getConteudo() {
+        return conteudo;
+    }
+
+    public void setConteudo(List<T> conteudo) {
+        this.conteudo = conteudo;
+    }
+
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    public void setTamanho(int tamanho) {
+        this.tamanho = tamanho;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+
+    public void setProximoCursor(String proximoCursor) {
+        this.proximoCursor = proximoCursor;
+    }
+
+    public boolean isPossuiProximo() {
+        return proximoCursor != null;
+    }
+}
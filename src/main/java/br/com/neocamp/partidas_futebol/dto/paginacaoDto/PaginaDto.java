@@ -0,0 +1,86 @@
+package br.com.neocamp.partidas_futebol.dto.paginacaoDto;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+public class PaginaDto<T> {
+
+    private List<T> conteudo;
+
+    private int numero;
+
+    private int tamanho;
+
+    private long totalElementos;
+
+    private int totalPaginas;
+
+    private boolean possuiProximo;
+
+
+    public PaginaDto() {}
+
+    public PaginaDto(List<T> conteudo, int numero, int tamanho, long totalElementos, int totalPaginas, boolean possuiProximo) {
+        this.conteudo = conteudo;
+        this.numero = numero;
+        this.tamanho = tamanho;
+        this.totalElementos = totalElementos;
+        this.totalPaginas = totalPaginas;
+        this.possuiProximo = possuiProximo;
+    }
+
+    public static <T> PaginaDto<T> de(Page<T> pagina) {
+        return new PaginaDto<>(pagina.getContent(), pagina.getNumber(), pagina.getSize(),
+                pagina.getTotalElements(), pagina.getTotalPages(), pagina.hasNext());
+    }
+
+
+    public List<T> getConteudo() {
+        return conteudo;
+    }
+
+    public void setConteudo(List<T> conteudo) {
+        this.conteudo = conteudo;
+    }
+
+    public int getNumero() {
+        return numero;
+    }
+
+    public void setNumero(int numero) {
+        this.numero = numero;
+    }
+
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    public void setTamanho(int tamanho) {
+        this.tamanho = tamanho;
+    }
+
+    public long getTotalElementos() {
+        return totalElementos;
+    }
+
+    public void setTotalElementos(long totalElementos) {
+        this.totalElementos = totalElementos;
+    }
+
+    public int getTotalPaginas() {
+        return totalPaginas;
+    }
+
+    public void setTotalPaginas(int totalPaginas) {
+        this.totalPaginas = totalPaginas;
+    }
+
+    public boolean isPossuiProximo() {
+        return possuiProximo;
+    }
+
+    public void setPossuiProximo(boolean possuiProximo) {
+        this.possuiProximo = possuiProximo;
+    }
+}
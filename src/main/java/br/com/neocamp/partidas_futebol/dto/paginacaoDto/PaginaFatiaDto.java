@@ -0,0 +1,68 @@
+package br.com.neocamp.partidas_futebol.dto.paginacaoDto;
+
+import java.util.List;
+
+public class PaginaFatiaDto<T> {
+
+    private List<T> conteudo;
+
+    private int numero;
+
+    private int tamanho;
+
+    private boolean possuiProximo;
+
+    private Long totalEstimado;
+
+
+    public PaginaFatiaDto() {}
+
+    public PaginaFatiaDto(List<T> conteudo, int numero, int tamanho, boolean possuiProximo, Long totalEstimado) {
+        this.conteudo = conteudo;
+        this.numero = numero;
+        this.tamanho = tamanho;
+        this.possuiProximo = possuiProximo;
+        this.totalEstimado = totalEstimado;
+    }
+
+
+    public List<T> getConteudo() {
+        return conteudo;
+    }
+
+    public void setConteudo(List<T> conteudo) {
+        this.conteudo = conteudo;
+    }
+
+    public int getNumero() {
+        return numero;
+    }
+
+    public void setNumero(int numero) {
+        this.numero = numero;
+    }
+
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    public void setTamanho(int tamanho) {
+        this.tamanho = tamanho;
+    }
+
+    public boolean isPossuiProximo() {
+        return possuiProximo;
+    }
+
+    public void setPossuiProximo(boolean possuiProximo) {
+        this.possuiProximo = possuiProximo;
+    }
+
+    public Long getTotalEstimado() {
+        return totalEstimado;
+    }
+
+    public void setTotalEstimado(Long totalEstimado) {
+        this.totalEstimado = totalEstimado;
+    }
+}
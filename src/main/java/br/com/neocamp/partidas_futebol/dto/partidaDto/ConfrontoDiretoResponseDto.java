@@ -0,0 +1,112 @@
+package br.com.neocamp.partidas_futebol.dto.partidaDto;
+
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaDto;
+
+public class ConfrontoDiretoResponseDto {
+
+    private Long clubeAId;
+
+    private Long clubeBId;
+
+    private long totalPartidas;
+
+    private long vitoriasClubeA;
+
+    private long vitoriasClubeB;
+
+    private long empates;
+
+    private long golsClubeA;
+
+    private long golsClubeB;
+
+    private PaginaDto<PartidaResponseDto> partidas;
+
+
+    public ConfrontoDiretoResponseDto() {}
+
+    public ConfrontoDiretoResponseDto(Long clubeAId, Long clubeBId, ConfrontoDiretoResumoDto resumo, PaginaDto<PartidaResponseDto> partidas) {
+        this.clubeAId = clubeAId;
+        this.clubeBId = clubeBId;
+        this.totalPartidas = resumo.totalPartidas();
+        this.vitoriasClubeA = resumo.vitoriasClubeA();
+        this.vitoriasClubeB = resumo.vitoriasClubeB();
+        this.empates = resumo.empates();
+        this.golsClubeA = resumo.golsClubeA();
+        this.golsClubeB = resumo.golsClubeB();
+        this.partidas = partidas;
+    }
+
+
+    public Long getClubeAId() {
+        return clubeAId;
+    }
+
+    public void setClubeAId(Long clubeAId) {
+        this.clubeAId = clubeAId;
+    }
+
+    public Long getClubeBId() {
+        return clubeBId;
+    }
+
+    public void setClubeBId(Long clubeBId) {
+        this.clubeBId = clubeBId;
+    }
+
+    public long getTotalPartidas() {
+        return totalPartidas;
+    }
+
+    public void setTotalPartidas(long totalPartidas) {
+        this.totalPartidas = totalPartidas;
+    }
+
+    public long getVitoriasClubeA() {
+        return vitoriasClubeA;
+    }
+
+    public void setVitoriasClubeA(long vitoriasClubeA) {
+        this.vitoriasClubeA = vitoriasClubeA;
+    }
+
+    public long getVitoriasClubeB() {
+        return vitoriasClubeB;
+    }
+
+    public void setVitoriasClubeB(long vitoriasClubeB) {
+        this.vitoriasClubeB = vitoriasClubeB;
+    }
+
+    public long getEmpates() {
+        return empates;
+    }
+
+    public void setEmpates(long empates) {
+        this.empates = empates;
+    }
+
+    public long getGolsClubeA() {
+        return golsClubeA;
+    }
+
+    public void setGolsClubeA(long golsClubeA) {
+        this.golsClubeA = golsClubeA;
+    }
+
+    public long getGolsClubeB() {
+        return golsClubeB;
+    }
+
+    public void setGolsClubeB(long golsClubeB) {
+        this.golsClubeB = golsClubeB;
+    }
+
+    public PaginaDto<PartidaResponseDto> getPartidas() {
+        return partidas;
+    }
+
+    public void setPartidas(PaginaDto<PartidaResponseDto> partidas) {
+        this.partidas = partidas;
+    }
+}
@@ -0,0 +1,9 @@
+package br.com.neocamp.partidas_futebol.dto.partidaDto;
+
+public record ConfrontoDiretoResumoDto(long totalPartidas, long vitoriasClubeA, long vitoriasClubeB, long empates, long golsClubeA, long golsClubeB) {
+
+    public ConfrontoDiretoResumoDto invertido() {
+        return new ConfrontoDiretoResumoDto(totalPartidas, vitoriasClubeB, vitoriasClubeA, empates, golsClubeB, golsClubeA);
+    }
+
+}
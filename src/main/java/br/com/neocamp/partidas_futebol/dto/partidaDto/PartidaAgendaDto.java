@@ -0,0 +1,8 @@
+package br.com.neocamp.partidas_futebol.dto.partidaDto;
+
+import java.time.LocalDateTime;
+
+public record PartidaAgendaDto(Long partidaId, Long clubeMandanteId, Long clubeVisitanteId, Long estadioId, LocalDateTime dataHora) {
+
+
+}
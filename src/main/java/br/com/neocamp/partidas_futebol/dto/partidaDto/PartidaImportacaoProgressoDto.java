@@ -0,0 +1,69 @@
+package br.com.neocamp.partidas_futebol.dto.partidaDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PartidaImportacaoProgressoDto {
+
+    private int lote;
+
+    private long linhasProcessadas;
+
+    private int partidasCadastradasNoLote;
+
+    private long totalPartidasCadastradas;
+
+    private List<PartidaLoteErroDto> erros = new ArrayList<>();
+
+
+    public PartidaImportacaoProgressoDto() {}
+
+    public PartidaImportacaoProgressoDto(int lote, long linhasProcessadas, int partidasCadastradasNoLote, long totalPartidasCadastradas, List<PartidaLoteErroDto> erros) {
+        this.lote = lote;
+        this.linhasProcessadas = linhasProcessadas;
+        this.partidasCadastradasNoLote = partidasCadastradasNoLote;
+        this.totalPartidasCadastradas = totalPartidasCadastradas;
+        this.erros = erros;
+    }
+
+
+    public int getLote() {
+        return lote;
+    }
+
+    public void setLote(int lote) {
+        this.lote = lote;
+    }
+
+    public long getLinhasProcessadas() {
+        return linhasProcessadas;
+    }
+
+    public void setLinhasProcessadas(long linhasProcessadas) {
+        this.linhasProcessadas = linhasProcessadas;
+    }
+
+    public int getPartidasCadastradasNoLote() {
+        return partidasCadastradasNoLote;
+    }
+
+    public void setPartidasCadastradasNoLote(int partidasCadastradasNoLote) {
+        this.partidasCadastradasNoLote = partidasCadastradasNoLote;
+    }
+
+    public long getTotalPartidasCadastradas() {
+        return totalPartidasCadastradas;
+    }
+
+    public void setTotalPartidasCadastradas(long totalPartidasCadastradas) {
+        this.totalPartidasCadastradas = totalPartidasCadastradas;
+    }
+
+    public List<PartidaLoteErroDto> getErros() {
+        return erros;
+    }
+
+    public void setErros(List<PartidaLoteErroDto> erros) {
+        this.erros = erros;
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.neocamp.partidas_futebol.dto.partidaDto;
+
+public class PartidaLoteErroDto {
+
+    private int indice;
+
+    private String mensagem;
+
+
+    public PartidaLoteErroDto() {}
+
+    public PartidaLoteErroDto(int indice, String mensagem) {
+        this.indice = indice;
+        this.mensagem = mensagem;
+    }
+
+
+    public int getIndice() {
+        return indice;
+    }
+
+    public void setIndice(int indice) {
+        this.indice = indice;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.neocamp.partidas_futebol.dto.partidaDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PartidaLoteResponseDto {
+
+    private List<PartidaResponseDto> partidasCadastradas = new ArrayList<>();
+
+    private List<PartidaLoteErroDto> erros = new ArrayList<>();
+
+
+    public PartidaLoteResponseDto() {}
+
+    public PartidaLoteResponseDto(List<PartidaResponseDto> partidasCadastradas, List<PartidaLoteErroDto> erros) {
+        this.partidasCadastradas = partidasCadastradas;
+        this.erros = erros;
+    }
+
+
+    public List<PartidaResponseDto> getPartidasCadastradas() {
+        return partidasCadastradas;
+    }
+
+    public void setPartidasCadastradas(List<PartidaResponseDto> partidasCadastradas) {
+        this.partidasCadastradas = partidasCadastradas;
+    }
+
+    public List<PartidaLoteErroDto> getErros() {
+        return erros;
+    }
+
+    public void setErros(List<PartidaLoteErroDto> erros) {
+        this.erros = erros;
+    }
+}
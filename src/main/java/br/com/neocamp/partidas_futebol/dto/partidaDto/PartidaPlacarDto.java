@@ -0,0 +1,16 @@
+package br.com.neocamp.partidas_futebol.dto.partidaDto;
+
+import br.com.neocamp.partidas_futebol.entity.Partida;
+
+public record PartidaPlacarDto(Long clubeMandanteId, Long clubeVisitanteId, Integer clubeMandanteGols, Integer clubeVisitanteGols) {
+
+    public static PartidaPlacarDto de(Partida partida) {
+        return new PartidaPlacarDto(
+                partida.getClubeMandante().getId(),
+                partida.getClubeVisitante().getId(),
+                partida.getClubeMandanteGols(),
+                partida.getClubeVisitanteGols()
+        );
+    }
+
+}
@@ -0,0 +1,10 @@
+package br.com.neocamp.partidas_futebol.dto.partidaDto;
+
+public record PartidaPlacarVersionadoDto(Long partidaId, Long versao, Long clubeMandanteId, Long clubeVisitanteId,
+                                         Integer clubeMandanteGols, Integer clubeVisitanteGols) {
+
+    public PartidaPlacarDto placar() {
+        return new PartidaPlacarDto(clubeMandanteId, clubeVisitanteId, clubeMandanteGols, clubeVisitanteGols);
+    }
+
+}
@@ -0,0 +1,6 @@
+package br.com.neocamp.partidas_futebol.dto.partidaDto;
+
+import java.time.LocalDate;
+
+public record PartidaReferenciaDto(Long clubeId, String clubeNome, LocalDate clubeDataCriacao, Boolean clubeAtivo, Long estadioId, String estadioNome,
+                                   Boolean clubeComPartidaNoIntervalo, Boolean estadioComPartidaNaData) {}
@@ -1,7 +1,10 @@
 package br.com.neocamp.partidas_futebol.dto.partidaDto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDateTime;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PartidaResponseDto {
 
     private Long partidaId;
@@ -0,0 +1,5 @@
+package br.com.neocamp.partidas_futebol.dto.versaoDto;
+
+public record RecursoVersionadoDto<T>(String versao, T conteudo) {
+
+}
@@ -0,0 +1,7 @@
+package br.com.neocamp.partidas_futebol.dto.versaoDto;
+
+import java.util.List;
+
+public record VersaoPaginaDto(VersaoRecursoDto versao, List<Long> ids, boolean possuiProximo) {
+
+}
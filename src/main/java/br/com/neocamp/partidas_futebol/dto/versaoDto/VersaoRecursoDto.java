@@ -0,0 +1,42 @@
+package br.com.neocamp.partidas_futebol.dto.versaoDto;
+
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.entity.Partida;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public record VersaoRecursoDto(Long id, String versao, LocalDateTime atualizadoEm) {
+
+    public static VersaoRecursoDto de(Clube clube) {
+        return new VersaoRecursoDto(clube.getId(), String.valueOf(clube.getVersao()), clube.getAtualizadoEm());
+    }
+
+    public static VersaoRecursoDto de(Estadio estadio) {
+        return new VersaoRecursoDto(estadio.getId(), String.valueOf(estadio.getVersao()), estadio.getAtualizadoEm());
+    }
+
+    public static VersaoRecursoDto de(Partida partida) {
+        return combinar(partida.getPartidaId(),
+                Arrays.asList(partida.getVersao(), partida.getClubeMandante().getVersao(),
+                        partida.getClubeVisitante().getVersao(), partida.getEstadio().getVersao()),
+                Arrays.asList(partida.getAtualizadoEm(), partida.getClubeMandante().getAtualizadoEm(),
+                        partida.getClubeVisitante().getAtualizadoEm(), partida.getEstadio().getAtualizadoEm()));
+    }
+
+    public static VersaoRecursoDto combinar(Long id, List<?> versoes, List<LocalDateTime> datas) {
+        String versao = versoes.stream().map(String::valueOf).collect(Collectors.joining("."));
+
+        LocalDateTime atualizadoEm = datas.stream()
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+
+        return new VersaoRecursoDto(id, versao, atualizadoEm);
+    }
+
+}
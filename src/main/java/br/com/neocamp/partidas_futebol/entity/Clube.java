@@ -1,16 +1,30 @@
 package br.com.neocamp.partidas_futebol.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 
 @Entity
-@Table(name="clube")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Clube.REGIAO_CACHE)
+@Table(name="clube",
+       uniqueConstraints = @UniqueConstraint(name = Clube.RESTRICAO_NOME_ESTADO, columnNames = {"nome_normalizado", "sigla_estado"}),
+       indexes = {
+               @Index(name = "idx_clube_nome_id", columnList = "nome, id"),
+               @Index(name = "idx_clube_sigla_estado_ativo_nome", columnList = "sigla_estado, ativo, nome")
+       })
 public class Clube {
 
+    public static final String REGIAO_CACHE = "clube";
+    public static final String RESTRICAO_NOME_ESTADO = "uk_clube_nome_normalizado_sigla_estado";
+
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,6 +32,9 @@ public class Clube {
 
     @Column(nullable = false, length = 100)
     private String nome;
+
+    @Column(name = "nome_normalizado", nullable = false, length = 100)
+    private String nomeNormalizado;
     
     @Column(name = "sigla_estado", nullable = false, length = 2)
     private String siglaEstado;
@@ -28,6 +45,14 @@ public class Clube {
     @Column(nullable = false)
     private Boolean ativo;
 
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
+    @UpdateTimestamp
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "clubeMandante")
     private List<Partida> partidasMandante = new ArrayList<>();
 
@@ -39,7 +64,7 @@ public class Clube {
 
     
     public Clube(String nome, String siglaEstado, LocalDate dataCriacao, Boolean ativo) {
-        this.nome = nome;
+        setNome(nome);
         this.siglaEstado = siglaEstado;
         this.dataCriacao = dataCriacao;
         this.ativo = ativo;
@@ -48,7 +73,7 @@ public class Clube {
     
     public Clube(Long id, String nome, String siglaEstado, LocalDate dataCriacao, Boolean ativo) {
         this.id = id;
-        this.nome = nome;
+        setNome(nome);
         this.siglaEstado = siglaEstado;
         this.dataCriacao = dataCriacao;
         this.ativo = ativo;
@@ -72,6 +97,12 @@ public class Clube {
     
     public void setNome(String nome) {
         this.nome = nome;
+        this.nomeNormalizado = NormalizacaoNome.normalizar(nome);
+    }
+
+
+    public String getNomeNormalizado() {
+        return nomeNormalizado;
     }
 
     
@@ -120,4 +151,20 @@ public class Clube {
         this.partidasVisitante = partidasVisitante;
     }
 
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+
+    public void setAtualizadoEm(LocalDateTime atualizadoEm) {
+        this.atualizadoEm = atualizadoEm;
+    }
+
 }
@@ -0,0 +1,131 @@
+package br.com.neocamp.partidas_futebol.entity;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "clube_estatistica")
+public class ClubeEstatistica {
+
+    @Id
+    @Column(name = "clube_id")
+    private Long clubeId;
+
+    @Column(name = "jogos_mandante", nullable = false)
+    private int jogosMandante;
+
+    @Column(name = "vitorias_mandante", nullable = false)
+    private int vitoriasMandante;
+
+    @Column(name = "empates_mandante", nullable = false)
+    private int empatesMandante;
+
+    @Column(name = "derrotas_mandante", nullable = false)
+    private int derrotasMandante;
+
+    @Column(name = "gols_pro_mandante", nullable = false)
+    private int golsProMandante;
+
+    @Column(name = "gols_contra_mandante", nullable = false)
+    private int golsContraMandante;
+
+    @Column(name = "jogos_visitante", nullable = false)
+    private int jogosVisitante;
+
+    @Column(name = "vitorias_visitante", nullable = false)
+    private int vitoriasVisitante;
+
+    @Column(name = "empates_visitante", nullable = false)
+    private int empatesVisitante;
+
+    @Column(name = "derrotas_visitante", nullable = false)
+    private int derrotasVisitante;
+
+    @Column(name = "gols_pro_visitante", nullable = false)
+    private int golsProVisitante;
+
+    @Column(name = "gols_contra_visitante", nullable = false)
+    private int golsContraVisitante;
+
+
+    public ClubeEstatistica() {}
+
+    public ClubeEstatistica(Long clubeId) {
+        this.clubeId = clubeId;
+    }
+
+
+    public void registrarComoMandante(int golsPro, int golsContra, int sinal) {
+        jogosMandante += sinal;
+        vitoriasMandante += golsPro > golsContra ? sinal : 0;
+        empatesMandante += golsPro == golsContra ? sinal : 0;
+        derrotasMandante += golsPro < golsContra ? sinal : 0;
+        golsProMandante += golsPro * sinal;
+        golsContraMandante += golsContra * sinal;
+    }
+
+    public void registrarComoVisitante(int golsPro, int golsContra, int sinal) {
+        jogosVisitante += sinal;
+        vitoriasVisitante += golsPro > golsContra ? sinal : 0;
+        empatesVisitante += golsPro == golsContra ? sinal : 0;
+        derrotasVisitante += golsPro < golsContra ? sinal : 0;
+        golsProVisitante += golsPro * sinal;
+        golsContraVisitante += golsContra * sinal;
+    }
+
+
+    public Long getClubeId() {
+        return clubeId;
+    }
+
+    public void setClubeId(Long clubeId) {
+        this.clubeId = clubeId;
+    }
+
+    public int getJogosMandante() {
+        return jogosMandante;
+    }
+
+    public int getVitoriasMandante() {
+        return vitoriasMandante;
+    }
+
+    public int getEmpatesMandante() {
+        return empatesMandante;
+    }
+
+    public int getDerrotasMandante() {
+        return derrotasMandante;
+    }
+
+    public int getGolsProMandante() {
+        return golsProMandante;
+    }
+
+    public int getGolsContraMandante() {
+        return golsContraMandante;
+    }
+
+    public int getJogosVisitante() {
+        return jogosVisitante;
+    }
+
+    public int getVitoriasVisitante() {
+        return vitoriasVisitante;
+    }
+
+    public int getEmpatesVisitante() {
+        return empatesVisitante;
+    }
+
+    public int getDerrotasVisitante() {
+        return derrotasVisitante;
+    }
+
+    public int getGolsProVisitante() {
+        return golsProVisitante;
+    }
+
+    public int getGolsContraVisitante() {
+        return golsContraVisitante;
+    }
+}
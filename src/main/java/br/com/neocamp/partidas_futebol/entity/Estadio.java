@@ -1,24 +1,46 @@
 package br.com.neocamp.partidas_futebol.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Estadio.REGIAO_CACHE)
 @Table(name = "estadio",
-       uniqueConstraints = @UniqueConstraint(columnNames = "nome"))
+       uniqueConstraints = @UniqueConstraint(name = Estadio.RESTRICAO_NOME, columnNames = "nome_normalizado"))
 public class Estadio {
 
+    public static final String REGIAO_CACHE = "estadio";
+    public static final String REGIAO_CACHE_PARTIDAS = "estadio-partidas";
+    public static final String RESTRICAO_NOME = "uk_estadio_nome_normalizado";
+
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, length = 100, unique = true)
+    @Column(nullable = false, length = 100)
     private String nome;
 
+    @Column(name = "nome_normalizado", nullable = false, length = 100)
+    private String nomeNormalizado;
+
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
+    @UpdateTimestamp
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Estadio.REGIAO_CACHE_PARTIDAS)
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "estadio")
     private List<Partida> partidas = new ArrayList<>();
 
@@ -26,13 +48,13 @@ public class Estadio {
     public Estadio() {}
 
     public Estadio(String nome) {
-        this.nome = nome;
+        setNome(nome);
     }
 
 
     public Estadio(Long id, String nome) {
         this.id = id;
-        this.nome = nome;
+        setNome(nome);
     }
 
     
@@ -53,6 +75,12 @@ public class Estadio {
     
     public void setNome(String nome) {
         this.nome = nome;
+        this.nomeNormalizado = NormalizacaoNome.normalizar(nome);
+    }
+
+
+    public String getNomeNormalizado() {
+        return nomeNormalizado;
     }
 
 
@@ -63,4 +91,21 @@ public class Estadio {
     public void setPartidas(List<Partida> partidas) {
         this.partidas = partidas;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+
+    public void setAtualizadoEm(LocalDateTime atualizadoEm) {
+        this.atualizadoEm = atualizadoEm;
+    }
+
 }
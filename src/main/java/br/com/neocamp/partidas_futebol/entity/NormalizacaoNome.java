@@ -0,0 +1,22 @@
+package br.com.neocamp.partidas_futebol.entity;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class NormalizacaoNome {
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    private NormalizacaoNome() {}
+
+    public static String normalizar(String nome) {
+        if (nome == null) {
+            return null;
+        }
+        String semAcentos = MARCAS.matcher(Normalizer.normalize(nome, Normalizer.Form.NFD)).replaceAll("");
+        return ESPACOS.matcher(semAcentos.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+}
@@ -1,22 +1,43 @@
 package br.com.neocamp.partidas_futebol.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Entity
-@Table(name = "partida")
+@NamedEntityGraph(name = Partida.GRAFO_COMPLETO, attributeNodes = {
+        @NamedAttributeNode("clubeMandante"),
+        @NamedAttributeNode("clubeVisitante"),
+        @NamedAttributeNode("estadio")
+})
+@Table(name = "partida",
+       indexes = {
+               @Index(name = "idx_partida_mandante_data_hora", columnList = "clube_mandante_id, data_hora"),
+               @Index(name = "idx_partida_visitante_data_hora", columnList = "clube_visitante_id, data_hora"),
+               @Index(name = "idx_partida_mandante_visitante_data_hora", columnList = "clube_mandante_id, clube_visitante_id, data_hora"),
+               @Index(name = "idx_partida_estadio_data_hora", columnList = "estadio_id, data_hora"),
+               @Index(name = "idx_partida_data_hora_id", columnList = "data_hora, partida_id")
+       },
+       uniqueConstraints = @UniqueConstraint(name = "uk_partida_estadio_data_partida", columnNames = {"estadio_id", "data_partida"}))
 public class Partida {
 
+    public static final String GRAFO_COMPLETO = "Partida.completa";
+
+    public static final List<String> RELACIONAMENTOS = List.of("clubeMandante", "clubeVisitante", "estadio");
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "partida_seq")
+    @SequenceGenerator(name = "partida_seq", sequenceName = "partida_seq", allocationSize = 50)
     private Long partidaId;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "clube_mandante_id", referencedColumnName = "id", nullable = false)
     private Clube clubeMandante;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "clube_visitante_id", referencedColumnName = "id", nullable = false)
     private Clube clubeVisitante;
 
@@ -33,6 +54,17 @@ public class Partida {
     @Column(name = "data_hora", nullable = false)
     private LocalDateTime dataHora;
 
+    @Column(name = "data_partida", nullable = false)
+    private LocalDate dataPartida;
+
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
+    @UpdateTimestamp
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
 
     public Partida() {}
 
@@ -42,7 +74,7 @@ public class Partida {
         this.clubeMandanteGols = clubeMandanteGols;
         this.clubeVisitanteGols = clubeVisitanteGols;
         this.estadio = estadio;
-        this.dataHora = dataHora;
+        setDataHora(dataHora);
     }
 
     public Partida(Long partidaId, Clube clubeMandante, Clube clubeVisitante, Integer clubeMandanteGols, Integer clubeVisitanteGols, Estadio estadio, LocalDateTime dataHora) {
@@ -52,7 +84,7 @@ public class Partida {
         this.clubeMandanteGols = clubeMandanteGols;
         this.clubeVisitanteGols = clubeVisitanteGols;
         this.estadio = estadio;
-        this.dataHora = dataHora;
+        setDataHora(dataHora);
     }
 
 
@@ -110,5 +142,27 @@ public class Partida {
 
     public void setDataHora(LocalDateTime dataHora) {
         this.dataHora = dataHora;
+        this.dataPartida = dataHora != null ? dataHora.toLocalDate() : null;
+    }
+
+    public LocalDate getDataPartida() {
+        return dataPartida;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+
+    public void setAtualizadoEm(LocalDateTime atualizadoEm) {
+        this.atualizadoEm = atualizadoEm;
+    }
+
 }
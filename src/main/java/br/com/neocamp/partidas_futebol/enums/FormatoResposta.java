@@ -0,0 +1,60 @@
+package br.com.neocamp.partidas_futebol.enums;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+
+public enum FormatoResposta {
+
+    JSON(MediaType.APPLICATION_JSON_VALUE),
+    CBOR(MediaType.APPLICATION_CBOR_VALUE),
+    SMILE("application/x-jackson-smile"),
+    PROTOBUF("application/x-protobuf");
+
+    private final String contentType;
+    private final MediaType mediaType;
+
+    FormatoResposta(String contentType) {
+        this.contentType = contentType;
+        this.mediaType = MediaType.parseMediaType(contentType);
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static FormatoResposta negociar(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+
+        List<MediaType> aceitos;
+        try {
+            aceitos = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+
+        FormatoResposta escolhido = JSON;
+        double melhorQualidade = 0;
+        for (MediaType aceito : aceitos) {
+            if (aceito.getQualityValue() <= melhorQualidade) {
+                continue;
+            }
+            for (FormatoResposta formato : values()) {
+                if (aceito.isCompatibleWith(formato.mediaType)) {
+                    escolhido = formato;
+                    melhorQualidade = aceito.getQualityValue();
+                    break;
+                }
+            }
+        }
+        return escolhido;
+    }
+}
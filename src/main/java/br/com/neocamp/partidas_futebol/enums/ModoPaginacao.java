@@ -0,0 +1,6 @@
+package br.com.neocamp.partidas_futebol.enums;
+
+
+public enum ModoPaginacao {
+    PAGINA, CURSOR, SLICE, ESTIMADO
+}
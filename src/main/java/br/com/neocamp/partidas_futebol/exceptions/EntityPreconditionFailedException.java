@@ -0,0 +1,9 @@
+package br.com.neocamp.partidas_futebol.exceptions;
+
+public class EntityPreconditionFailedException extends RuntimeException {
+
+    public EntityPreconditionFailedException(String message) {
+        super(message);
+    }
+
+}
@@ -1,14 +1,26 @@
 package br.com.neocamp.partidas_futebol.exceptions;
 
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.Map;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Map<String, String> MENSAGENS_POR_RESTRICAO = Map.of(
+            "uk_partida_estadio_data_partida", "Estádio já possui outra partida no mesmo dia",
+            Clube.RESTRICAO_NOME_ESTADO, "Já existe um clube com o mesmo nome no mesmo estado",
+            Estadio.RESTRICAO_NOME, "Já existe um estádio com o mesmo nome"
+    );
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ApiError> handleEntityNotFoundException(EntityNotFoundException ex) {
         ApiError error = new ApiError(ex.getMessage(), "NOT_FOUND");
@@ -27,4 +39,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(EntityPreconditionFailedException.class)
+    public ResponseEntity<ApiError> handleEntityPreconditionFailedException(EntityPreconditionFailedException ex) {
+        ApiError error = new ApiError(ex.getMessage(), "PRECONDITION_FAILED");
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleObjectOptimisticLockingFailureException(ObjectOptimisticLockingFailureException ex) {
+        return handleEntityConflictException(new EntityConflictException("Registro alterado por outra requisição; recarregue e tente novamente"));
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiError> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        String mensagem = mensagemDaRestricaoViolada(ex);
+        if (mensagem == null) {
+            throw ex;
+        }
+        return handleEntityConflictException(new EntityConflictException(mensagem));
+    }
+
+    private String mensagemDaRestricaoViolada(DataIntegrityViolationException ex) {
+        String detalhe = String.valueOf(ex.getMostSpecificCause().getMessage()).toLowerCase();
+
+        return MENSAGENS_POR_RESTRICAO.entrySet().stream()
+                .filter(restricao -> detalhe.contains(restricao.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
 }
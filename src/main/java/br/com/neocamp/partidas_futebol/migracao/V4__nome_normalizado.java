@@ -0,0 +1,115 @@
+package br.com.neocamp.partidas_futebol.migracao;
+
+import br.com.neocamp.partidas_futebol.entity.NormalizacaoNome;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class V4__nome_normalizado extends BaseJavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(V4__nome_normalizado.class);
+
+    private static final int TAMANHO_NOME = 100;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection conexao = context.getConnection();
+
+        try (Statement comando = conexao.createStatement()) {
+            comando.execute("alter table clube add column nome_normalizado varchar(100) not null default ''");
+            comando.execute("alter table estadio add column nome_normalizado varchar(100) not null default ''");
+        }
+
+        preencher(conexao, "clube", "select id, nome, upper(trim(sigla_estado)) from clube order by id");
+        preencher(conexao, "estadio", "select id, nome, '' from estadio order by id");
+
+        for (String restricao : restricoesUnicasDaColuna(conexao, "estadio", "nome")) {
+            try (Statement comando = conexao.createStatement()) {
+                comando.execute(removerRestricao(conexao, "estadio", restricao));
+            }
+        }
+
+        try (Statement comando = conexao.createStatement()) {
+            comando.execute("alter table clube add constraint uk_clube_nome_normalizado_sigla_estado unique (nome_normalizado, sigla_estado)");
+            comando.execute("alter table estadio add constraint uk_estadio_nome_normalizado unique (nome_normalizado)");
+        }
+    }
+
+    private static void preencher(Connection conexao, String tabela, String consulta) throws SQLException {
+        Set<String> chaves = new HashSet<>();
+        List<Long> duplicados = new ArrayList<>();
+
+        try (Statement comando = conexao.createStatement();
+             ResultSet registros = comando.executeQuery(consulta);
+             PreparedStatement atualizacao = conexao.prepareStatement("update " + tabela + " set nome_normalizado = ? where id = ?")) {
+            while (registros.next()) {
+                long id = registros.getLong(1);
+                String normalizado = NormalizacaoNome.normalizar(registros.getString(2));
+                if (!chaves.add(normalizado + '\u0000' + registros.getString(3))) {
+                    String sufixo = "#" + id;
+                    normalizado = normalizado.substring(0, Math.min(normalizado.length(), TAMANHO_NOME - sufixo.length())) + sufixo;
+                    duplicados.add(id);
+                }
+                atualizacao.setString(1, normalizado);
+                atualizacao.setLong(2, id);
+                atualizacao.addBatch();
+            }
+            atualizacao.executeBatch();
+        }
+
+        if (!duplicados.isEmpty()) {
+            log.warn("{} registros de {} repetem o nome normalizado de um registro anterior e receberam o sufixo #id: {}",
+                    duplicados.size(), tabela, duplicados);
+        }
+    }
+
+    private static List<String> restricoesUnicasDaColuna(Connection conexao, String tabela, String coluna) throws SQLException {
+        String esquema = conexao.getSchema() != null ? conexao.getSchema() : conexao.getCatalog();
+        List<String> restricoes = new ArrayList<>();
+
+        try (PreparedStatement consulta = conexao.prepareStatement("""
+                select tc.constraint_name
+                from information_schema.table_constraints tc
+                join information_schema.key_column_usage kcu
+                  on kcu.constraint_schema = tc.constraint_schema
+                 and kcu.constraint_name = tc.constraint_name
+                 and kcu.table_name = tc.table_name
+                where tc.constraint_type = 'UNIQUE'
+                  and lower(tc.table_schema) = lower(?)
+                  and lower(tc.table_name) = ?
+                group by tc.constraint_name
+                having count(*) = 1 and max(lower(kcu.column_name)) = ?
+                """)) {
+            consulta.setString(1, esquema);
+            consulta.setString(2, tabela);
+            consulta.setString(3, coluna);
+            try (ResultSet registros = consulta.executeQuery()) {
+                while (registros.next()) {
+                    restricoes.add(registros.getString(1));
+                }
+            }
+        }
+        return restricoes;
+    }
+
+    private static String removerRestricao(Connection conexao, String tabela, String restricao) throws SQLException {
+        String aspas = conexao.getMetaData().getIdentifierQuoteString();
+        String nome = aspas + restricao + aspas;
+        if ("MySQL".equalsIgnoreCase(conexao.getMetaData().getDatabaseProductName())) {
+            return "alter table " + tabela + " drop index " + nome;
+        }
+        return "alter table " + tabela + " drop constraint " + nome;
+    }
+
+}
@@ -0,0 +1,26 @@
+package br.com.neocamp.partidas_futebol.reativo;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+@SpringBootApplication(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        FlywayAutoConfiguration.class
+})
+public class PartidasReativoApplication {
+
+    public static final String PERFIL = "reativo";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(PartidasReativoApplication.class)
+                .profiles(PERFIL)
+                .run(args);
+    }
+
+}
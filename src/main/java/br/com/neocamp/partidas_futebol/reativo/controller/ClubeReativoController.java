@@ -0,0 +1,46 @@
+package br.com.neocamp.partidas_futebol.reativo.controller;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.reativo.entity.ClubeReativo;
+import br.com.neocamp.partidas_futebol.reativo.repository.ClubeReativoRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/clube")
+public class ClubeReativoController {
+
+    private final ClubeReativoRepository clubeReativoRepository;
+
+    public ClubeReativoController(ClubeReativoRepository clubeReativoRepository) {
+        this.clubeReativoRepository = clubeReativoRepository;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ClubeResponseDto> buscarClubePorId(@PathVariable Long id) {
+        return clubeReativoRepository.findById(id)
+                .map(ClubeReativo::toResponseDto)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Clube não encontrado")));
+    }
+
+    @GetMapping(value = "/lista", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<ClubeResponseDto> listarClubes(
+            @RequestParam(required = false) String nome,
+            @RequestParam(required = false) String siglaEstado,
+            @RequestParam(required = false) Boolean ativo,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return clubeReativoRepository.listarClubes(nome, siglaEstado, ativo, PaginacaoReativa.de(page, size, "id"))
+                .map(ClubeReativo::toResponseDto);
+    }
+
+}
@@ -0,0 +1,48 @@
+package br.com.neocamp.partidas_futebol.reativo.controller;
+
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.reativo.entity.EstadioReativo;
+import br.com.neocamp.partidas_futebol.reativo.repository.EstadioReativoRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/estadio")
+public class EstadioReativoController {
+
+    private final EstadioReativoRepository estadioReativoRepository;
+
+    public EstadioReativoController(EstadioReativoRepository estadioReativoRepository) {
+        this.estadioReativoRepository = estadioReativoRepository;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<EstadioResponseDto> buscarEstadioPorId(@PathVariable Long id) {
+        return estadioReativoRepository.findById(id)
+                .map(EstadioReativo::toResponseDto)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Estádio não encontrado")));
+    }
+
+    @GetMapping(value = "/lista", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<EstadioResponseDto> listarEstadios(
+            @RequestParam(required = false) String nome,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy
+    ) {
+        if (!"id".equals(sortBy) && !"nome".equals(sortBy)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Ordenação inválida: use id ou nome");
+        }
+        return estadioReativoRepository.listarEstadios(nome, PaginacaoReativa.de(page, size, sortBy))
+                .map(EstadioReativo::toResponseDto);
+    }
+
+}
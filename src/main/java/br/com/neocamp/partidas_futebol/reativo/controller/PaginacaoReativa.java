@@ -0,0 +1,23 @@
+package br.com.neocamp.partidas_futebol.reativo.controller;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+final class PaginacaoReativa {
+
+    static final int TAMANHO_MAXIMO = 2000;
+
+    private PaginacaoReativa() {}
+
+    static Pageable de(int page, int size, String ordenacao) {
+        if (page < 0 || size < 1 || size > TAMANHO_MAXIMO) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Paginação inválida: page deve ser >= 0 e size entre 1 e " + TAMANHO_MAXIMO);
+        }
+        return PageRequest.of(page, size, Sort.by(ordenacao));
+    }
+
+}
@@ -0,0 +1,44 @@
+package br.com.neocamp.partidas_futebol.reativo.controller;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.reativo.repository.PartidaReativaRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/partida")
+public class PartidaReativaController {
+
+    private final PartidaReativaRepository partidaReativaRepository;
+
+    public PartidaReativaController(PartidaReativaRepository partidaReativaRepository) {
+        this.partidaReativaRepository = partidaReativaRepository;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<PartidaResponseDto> buscarPartidaPorId(@PathVariable Long id) {
+        return partidaReativaRepository.buscarPartida(id)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Partida não encontrada")));
+    }
+
+    @GetMapping(value = "/lista", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<PartidaResponseDto> listarPartidas(
+            @RequestParam(required = false) Long clubeMandanteId,
+            @RequestParam(required = false) Long clubeVisitanteId,
+            @RequestParam(required = false) Long estadioId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return partidaReativaRepository.listarPartidas(clubeMandanteId, clubeVisitanteId, estadioId,
+                PaginacaoReativa.de(page, size, "partidaId"));
+    }
+
+}
@@ -0,0 +1,24 @@
+package br.com.neocamp.partidas_futebol.reativo.entity;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+@Table("clube")
+public record ClubeReativo(
+        @Id Long id,
+        String nome,
+        @Column("nome_normalizado") String nomeNormalizado,
+        @Column("sigla_estado") String siglaEstado,
+        @Column("data_criacao") LocalDate dataCriacao,
+        Boolean ativo
+) {
+
+    public ClubeResponseDto toResponseDto() {
+        return new ClubeResponseDto(id, nome, siglaEstado, dataCriacao, ativo);
+    }
+
+}
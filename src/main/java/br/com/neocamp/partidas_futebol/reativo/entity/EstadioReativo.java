@@ -0,0 +1,15 @@
+package br.com.neocamp.partidas_futebol.reativo.entity;
+
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("estadio")
+public record EstadioReativo(@Id Long id, String nome, @Column("nome_normalizado") String nomeNormalizado) {
+
+    public EstadioResponseDto toResponseDto() {
+        return new EstadioResponseDto(id, nome);
+    }
+
+}
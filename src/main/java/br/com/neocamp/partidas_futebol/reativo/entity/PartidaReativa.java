@@ -0,0 +1,18 @@
+package br.com.neocamp.partidas_futebol.reativo.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table("partida")
+public record PartidaReativa(
+        @Id @Column("partida_id") Long partidaId,
+        @Column("clube_mandante_id") Long clubeMandanteId,
+        @Column("clube_visitante_id") Long clubeVisitanteId,
+        @Column("clube_mandante_gols") Integer clubeMandanteGols,
+        @Column("clube_visitante_gols") Integer clubeVisitanteGols,
+        @Column("estadio_id") Long estadioId,
+        @Column("data_hora") LocalDateTime dataHora
+) {}
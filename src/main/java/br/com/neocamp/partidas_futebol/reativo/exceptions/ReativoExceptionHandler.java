@@ -0,0 +1,21 @@
+package br.com.neocamp.partidas_futebol.reativo.exceptions;
+
+import br.com.neocamp.partidas_futebol.exceptions.ApiError;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestControllerAdvice
+public class ReativoExceptionHandler {
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ApiError> handleResponseStatusException(ResponseStatusException ex) {
+        HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
+        String mensagem = ex.getReason() != null ? ex.getReason() : status.getReasonPhrase();
+        ApiError error = new ApiError(mensagem, status.name());
+        return ResponseEntity.status(status).body(error);
+    }
+
+}
@@ -0,0 +1,11 @@
+package br.com.neocamp.partidas_futebol.reativo.repository;
+
+import br.com.neocamp.partidas_futebol.reativo.entity.ClubeReativo;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+
+public interface ClubeFiltroReativoRepository {
+
+    Flux<ClubeReativo> listarClubes(String nome, String siglaEstado, Boolean ativo, Pageable pageable);
+
+}
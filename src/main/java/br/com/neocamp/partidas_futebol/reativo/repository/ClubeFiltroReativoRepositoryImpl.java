@@ -0,0 +1,38 @@
+package br.com.neocamp.partidas_futebol.reativo.repository;
+
+import br.com.neocamp.partidas_futebol.entity.NormalizacaoNome;
+import br.com.neocamp.partidas_futebol.reativo.entity.ClubeReativo;
+import br.com.neocamp.partidas_futebol.repository.FiltroTexto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import reactor.core.publisher.Flux;
+
+class ClubeFiltroReativoRepositoryImpl implements ClubeFiltroReativoRepository {
+
+    private final R2dbcEntityTemplate template;
+
+    ClubeFiltroReativoRepositoryImpl(R2dbcEntityTemplate template) {
+        this.template = template;
+    }
+
+    @Override
+    public Flux<ClubeReativo> listarClubes(String nome, String siglaEstado, Boolean ativo, Pageable pageable) {
+        Criteria criterio = Criteria.empty();
+        if (nome != null) {
+            criterio = criterio.and("nomeNormalizado").like(FiltroTexto.contendo(NormalizacaoNome.normalizar(nome)));
+        }
+        if (siglaEstado != null) {
+            criterio = criterio.and("siglaEstado").is(siglaEstado);
+        }
+        if (ativo != null) {
+            criterio = criterio.and("ativo").is(ativo);
+        }
+
+        return template.select(ClubeReativo.class)
+                .matching(Query.query(criterio).with(pageable))
+                .all();
+    }
+
+}
@@ -0,0 +1,11 @@
+package br.com.neocamp.partidas_futebol.reativo.repository;
+
+import br.com.neocamp.partidas_futebol.reativo.entity.ClubeReativo;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Mono;
+
+public interface ClubeReativoRepository extends Repository<ClubeReativo, Long>, ClubeFiltroReativoRepository {
+
+    Mono<ClubeReativo> findById(Long id);
+
+}
@@ -0,0 +1,11 @@
+package br.com.neocamp.partidas_futebol.reativo.repository;
+
+import br.com.neocamp.partidas_futebol.reativo.entity.EstadioReativo;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+
+public interface EstadioFiltroReativoRepository {
+
+    Flux<EstadioReativo> listarEstadios(String nome, Pageable pageable);
+
+}
@@ -0,0 +1,31 @@
+package br.com.neocamp.partidas_futebol.reativo.repository;
+
+import br.com.neocamp.partidas_futebol.entity.NormalizacaoNome;
+import br.com.neocamp.partidas_futebol.reativo.entity.EstadioReativo;
+import br.com.neocamp.partidas_futebol.repository.FiltroTexto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import reactor.core.publisher.Flux;
+
+class EstadioFiltroReativoRepositoryImpl implements EstadioFiltroReativoRepository {
+
+    private final R2dbcEntityTemplate template;
+
+    EstadioFiltroReativoRepositoryImpl(R2dbcEntityTemplate template) {
+        this.template = template;
+    }
+
+    @Override
+    public Flux<EstadioReativo> listarEstadios(String nome, Pageable pageable) {
+        Criteria criterio = nome == null
+                ? Criteria.empty()
+                : Criteria.where("nomeNormalizado").like(FiltroTexto.contendo(NormalizacaoNome.normalizar(nome)));
+
+        return template.select(EstadioReativo.class)
+                .matching(Query.query(criterio).with(pageable))
+                .all();
+    }
+
+}
@@ -0,0 +1,11 @@
+package br.com.neocamp.partidas_futebol.reativo.repository;
+
+import br.com.neocamp.partidas_futebol.reativo.entity.EstadioReativo;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Mono;
+
+public interface EstadioReativoRepository extends Repository<EstadioReativo, Long>, EstadioFiltroReativoRepository {
+
+    Mono<EstadioReativo> findById(Long id);
+
+}
@@ -0,0 +1,14 @@
+package br.com.neocamp.partidas_futebol.reativo.repository;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface PartidaDetalheReativaRepository {
+
+    Mono<PartidaResponseDto> buscarPartida(Long id);
+
+    Flux<PartidaResponseDto> listarPartidas(Long clubeMandanteId, Long clubeVisitanteId, Long estadioId, Pageable pageable);
+
+}
@@ -0,0 +1,81 @@
+package br.com.neocamp.partidas_futebol.reativo.repository;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import io.r2dbc.spi.Readable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class PartidaDetalheReativaRepositoryImpl implements PartidaDetalheReativaRepository {
+
+    private static final String CONSULTA = """
+            select p.partida_id, p.clube_mandante_id, m.nome as clube_mandante_nome,
+                   p.clube_visitante_id, v.nome as clube_visitante_nome,
+                   p.clube_mandante_gols, p.clube_visitante_gols,
+                   p.estadio_id, e.nome as estadio_nome, p.data_hora
+            from partida p
+            join clube m on m.id = p.clube_mandante_id
+            join clube v on v.id = p.clube_visitante_id
+            join estadio e on e.id = p.estadio_id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    PartidaDetalheReativaRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<PartidaResponseDto> buscarPartida(Long id) {
+        return databaseClient.sql(CONSULTA + "where p.partida_id = :id")
+                .bind("id", id)
+                .map(PartidaDetalheReativaRepositoryImpl::toResponseDto)
+                .one();
+    }
+
+    @Override
+    public Flux<PartidaResponseDto> listarPartidas(Long clubeMandanteId, Long clubeVisitanteId, Long estadioId, Pageable pageable) {
+        Map<String, Object> parametros = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder(CONSULTA).append("where 1 = 1");
+        if (clubeMandanteId != null) {
+            sql.append(" and p.clube_mandante_id = :clubeMandanteId");
+            parametros.put("clubeMandanteId", clubeMandanteId);
+        }
+        if (clubeVisitanteId != null) {
+            sql.append(" and p.clube_visitante_id = :clubeVisitanteId");
+            parametros.put("clubeVisitanteId", clubeVisitanteId);
+        }
+        if (estadioId != null) {
+            sql.append(" and p.estadio_id = :estadioId");
+            parametros.put("estadioId", estadioId);
+        }
+        sql.append(" order by p.partida_id limit :limite offset :deslocamento");
+        parametros.put("limite", pageable.getPageSize());
+        parametros.put("deslocamento", pageable.getOffset());
+
+        return databaseClient.sql(sql.toString())
+                .bindValues(parametros)
+                .map(PartidaDetalheReativaRepositoryImpl::toResponseDto)
+                .all();
+    }
+
+    private static PartidaResponseDto toResponseDto(Readable linha) {
+        return new PartidaResponseDto(
+                linha.get("partida_id", Long.class),
+                linha.get("clube_mandante_id", Long.class),
+                linha.get("clube_mandante_nome", String.class),
+                linha.get("clube_visitante_id", Long.class),
+                linha.get("clube_visitante_nome", String.class),
+                linha.get("clube_mandante_gols", Integer.class),
+                linha.get("clube_visitante_gols", Integer.class),
+                linha.get("estadio_id", Long.class),
+                linha.get("estadio_nome", String.class),
+                linha.get("data_hora", LocalDateTime.class));
+    }
+
+}
@@ -0,0 +1,11 @@
+package br.com.neocamp.partidas_futebol.reativo.repository;
+
+import br.com.neocamp.partidas_futebol.reativo.entity.PartidaReativa;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Mono;
+
+public interface PartidaReativaRepository extends Repository<PartidaReativa, Long>, PartidaDetalheReativaRepository {
+
+    Mono<PartidaReativa> findById(Long id);
+
+}
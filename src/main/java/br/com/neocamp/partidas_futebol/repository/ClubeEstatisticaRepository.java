@@ -0,0 +1,25 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.entity.ClubeEstatistica;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ClubeEstatisticaRepository extends JpaRepository<ClubeEstatistica, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM ClubeEstatistica e WHERE e.clubeId = :clubeId")
+    Optional<ClubeEstatistica> buscarParaAtualizacao(@Param("clubeId") Long clubeId);
+
+    @Modifying
+    @Query("INSERT INTO ClubeEstatistica (clubeId, jogosMandante, vitoriasMandante, empatesMandante, derrotasMandante, " +
+            "golsProMandante, golsContraMandante, jogosVisitante, vitoriasVisitante, empatesVisitante, derrotasVisitante, " +
+            "golsProVisitante, golsContraVisitante) VALUES (:clubeId, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0)")
+    void criarZerada(@Param("clubeId") Long clubeId);
+
+}
@@ -0,0 +1,13 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface ClubeFluxoRepository {
+
+    Stream<ClubeResponseDto> buscarClubesEmFluxo(Specification<Clube> specification);
+
+}
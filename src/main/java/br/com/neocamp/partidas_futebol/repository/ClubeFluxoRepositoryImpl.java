@@ -0,0 +1,48 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+class ClubeFluxoRepositoryImpl implements ClubeFluxoRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int tamanhoLote;
+
+    ClubeFluxoRepositoryImpl(@Value("${partidas.fluxo.tamanho-lote:500}") int tamanhoLote) {
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @Override
+    public Stream<ClubeResponseDto> buscarClubesEmFluxo(Specification<Clube> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ClubeResponseDto> query = criteriaBuilder.createQuery(ClubeResponseDto.class);
+        Root<Clube> root = query.from(Clube.class);
+
+        query.select(criteriaBuilder.construct(ClubeResponseDto.class,
+                root.get("id"), root.get("nome"), root.get("siglaEstado"), root.get("dataCriacao"), root.get("ativo")));
+
+        Predicate predicado = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicado != null) {
+            query.where(predicado);
+        }
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, tamanhoLote)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+}
@@ -0,0 +1,21 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+
+public interface ClubeParcialRepository {
+
+    Set<String> camposDeClube();
+
+    Page<ClubeResponseDto> buscarClubesParciais(Specification<Clube> specification, Set<String> campos, Pageable pageable);
+
+    Slice<VersaoRecursoDto> buscarVersoes(Specification<Clube> specification, Pageable pageable);
+
+}
@@ -0,0 +1,47 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+class ClubeParcialRepositoryImpl implements ClubeParcialRepository {
+
+    private static final ProjecaoParcial<Clube, ClubeResponseDto> PROJECAO = new ProjecaoParcial<>(Clube.class, ClubeResponseDto::new)
+            .campo("id", root -> root.<Long>get("id"), ClubeResponseDto::setId)
+            .campo("nome", root -> root.<String>get("nome"), ClubeResponseDto::setNome)
+            .campo("siglaEstado", root -> root.<String>get("siglaEstado"), ClubeResponseDto::setSiglaEstado)
+            .campo("dataCriacao", root -> root.<LocalDate>get("dataCriacao"), ClubeResponseDto::setDataCriacao)
+            .campo("ativo", root -> root.<Boolean>get("ativo"), ClubeResponseDto::setAtivo);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Set<String> camposDeClube() {
+        return PROJECAO.nomes();
+    }
+
+    @Override
+    public Page<ClubeResponseDto> buscarClubesParciais(Specification<Clube> specification, Set<String> campos, Pageable pageable) {
+        return PROJECAO.buscar(entityManager, specification, campos, pageable);
+    }
+
+    @Override
+    public Slice<VersaoRecursoDto> buscarVersoes(Specification<Clube> specification, Pageable pageable) {
+        return SondagemVersoes.buscar(entityManager, Clube.class, specification, pageable,
+                root -> List.of(root.get("id"), root.get("versao"), root.get("atualizadoEm")),
+                linha -> new VersaoRecursoDto(linha.get(0, Long.class), String.valueOf(linha.get(1)), linha.get(2, LocalDateTime.class)));
+    }
+
+}
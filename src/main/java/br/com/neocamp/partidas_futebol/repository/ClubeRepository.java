@@ -1,51 +1,60 @@
 package br.com.neocamp.partidas_futebol.repository;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaReferenciaDto;
 import br.com.neocamp.partidas_futebol.entity.Clube;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 
-public interface ClubeRepository extends JpaRepository<Clube, Long> {
-
-    Optional<Clube> findByNome(String nome);
-
-    List<Clube> findByNomeContainingIgnoreCaseAndSiglaEstadoAndAtivo(String nome, String siglaEstado, Boolean ativo);
-
-    
-    List<Clube> findByNomeContainingIgnoreCase(String nome);
-
-    
-    List<Clube> findByNomeContainingIgnoreCaseAndSiglaEstado(String nome, String siglaEstado);
-
-    
-    Optional<Clube> findByNomeAndSiglaEstado(String nome, String siglaEstado);
+public interface ClubeRepository extends JpaRepository<Clube, Long>, JpaSpecificationExecutor<Clube>, ClubeFluxoRepository, ClubeParcialRepository {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Clube c WHERE c.id = :id")
+    Optional<Clube> bloquearParaAtualizacao(@Param("id") Long id);
+
+    
+    @Query("SELECT new br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaReferenciaDto(" +
+    "c.id, c.nome, c.dataCriacao, c.ativo, e.id, e.nome, " +
+    "CASE WHEN EXISTS (SELECT 1 FROM Partida pm WHERE pm.clubeMandante.id = c.id " +
+    "AND pm.dataHora > :inicio AND pm.dataHora < :fim " +
+    "AND (:partidaIdIgnorada IS NULL OR pm.partidaId <> :partidaIdIgnorada)) " +
+    "OR EXISTS (SELECT 1 FROM Partida pv WHERE pv.clubeVisitante.id = c.id " +
+    "AND pv.dataHora > :inicio AND pv.dataHora < :fim " +
+    "AND (:partidaIdIgnorada IS NULL OR pv.partidaId <> :partidaIdIgnorada)) THEN true ELSE false END, " +
+    "CASE WHEN EXISTS (SELECT 1 FROM Partida pe WHERE pe.estadio.id = e.id AND pe.dataPartida = :dataPartida " +
+    "AND (:partidaIdIgnorada IS NULL OR pe.partidaId <> :partidaIdIgnorada)) THEN true ELSE false END) " +
+    "FROM Clube c LEFT JOIN Estadio e ON e.id = :estadioId WHERE c.id IN :clubeIds")
+    List<PartidaReferenciaDto> buscarReferenciasDePartida(
+            @Param("clubeIds") Collection<Long> clubeIds,
+            @Param("estadioId") Long estadioId,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
+            @Param("dataPartida") LocalDate dataPartida,
+            @Param("partidaIdIgnorada") Long partidaIdIgnorada
+    );
 
-    
-    List<Clube> findByNomeContainingIgnoreCaseAndAtivo (String nome, Boolean ativo);
 
     
-    List<Clube> findBySiglaEstado(String siglaEstado);
+    default Slice<Clube> buscarClubesPorFatia(Specification<Clube> specification, Pageable pageable) {
+        return findBy(specification, consulta -> consulta.slice(pageable));
+    }
 
-    
-    List<Clube> findByAtivo(Boolean ativo);
 
-    
-    List<Clube> findBySiglaEstadoAndAtivo (String siglaEstado, Boolean ativo);
-
-    
-    @Query("SELECT c FROM Clube c WHERE" +
-    "(:nome IS NULL OR c.nome LIKE %:nome%) AND" +
-    "(:siglaEstado IS NULL OR c.siglaEstado = :siglaEstado) AND" +
-    "(:ativo IS NULL OR c.ativo = :ativo)")
-    Page<Clube> buscarClubesPorPaginacao(
-            @Param("nome") String nome,
-            @Param("siglaEstado") String siglaEstado,
-            @Param("ativo") Boolean ativo,
-            Pageable pageable
-    );
+    default List<Clube> buscarClubesPorCursor(Specification<Clube> specification, Limit limite) {
+        return findBy(specification, consulta -> consulta.sortBy(Sort.by("nome", "id")).limit(limite.max()).all());
+    }
 }
@@ -0,0 +1,50 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.NormalizacaoNome;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class ClubeSpecification {
+
+    private ClubeSpecification() {}
+
+    public static Specification<Clube> comFiltros(String nome, String siglaEstado, Boolean ativo) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicados = new ArrayList<>();
+
+            if (nome != null) {
+                predicados.add(criteriaBuilder.like(
+                        root.get("nomeNormalizado"), FiltroTexto.contendo(NormalizacaoNome.normalizar(nome)), FiltroTexto.ESCAPE));
+            }
+            if (siglaEstado != null) {
+                predicados.add(criteriaBuilder.equal(root.get("siglaEstado"), siglaEstado));
+            }
+            if (ativo != null) {
+                predicados.add(criteriaBuilder.equal(root.get("ativo"), ativo));
+            }
+
+            return criteriaBuilder.and(predicados.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<Clube> comIds(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> ids.isEmpty()
+                ? criteriaBuilder.disjunction()
+                : root.get("id").in(ids);
+    }
+
+    public static Specification<Clube> aposCursor(String nomeCursor, Long idCursor) {
+        return (root, query, criteriaBuilder) -> nomeCursor == null ? null
+                : criteriaBuilder.or(
+                        criteriaBuilder.greaterThan(root.get("nome"), nomeCursor),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(root.get("nome"), nomeCursor),
+                                criteriaBuilder.greaterThan(root.get("id"), idCursor)));
+    }
+
+}
@@ -0,0 +1,11 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+
+import java.util.stream.Stream;
+
+public interface EstadioFluxoRepository {
+
+    Stream<EstadioResponseDto> buscarEstadiosEmFluxo();
+
+}
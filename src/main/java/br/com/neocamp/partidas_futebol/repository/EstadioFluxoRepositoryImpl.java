@@ -0,0 +1,41 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+class EstadioFluxoRepositoryImpl implements EstadioFluxoRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int tamanhoLote;
+
+    EstadioFluxoRepositoryImpl(@Value("${partidas.fluxo.tamanho-lote:500}") int tamanhoLote) {
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @Override
+    public Stream<EstadioResponseDto> buscarEstadiosEmFluxo() {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EstadioResponseDto> query = criteriaBuilder.createQuery(EstadioResponseDto.class);
+        Root<Estadio> root = query.from(Estadio.class);
+
+        query.select(criteriaBuilder.construct(EstadioResponseDto.class, root.get("id"), root.get("nome")))
+                .orderBy(criteriaBuilder.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, tamanhoLote)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+}
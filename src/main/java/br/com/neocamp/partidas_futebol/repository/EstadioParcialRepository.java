@@ -0,0 +1,21 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+
+public interface EstadioParcialRepository {
+
+    Set<String> camposDeEstadio();
+
+    Page<EstadioResponseDto> buscarEstadiosParciais(Specification<Estadio> specification, Set<String> campos, Pageable pageable);
+
+    Slice<VersaoRecursoDto> buscarVersoes(Specification<Estadio> specification, Pageable pageable);
+
+}
@@ -0,0 +1,43 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+class EstadioParcialRepositoryImpl implements EstadioParcialRepository {
+
+    private static final ProjecaoParcial<Estadio, EstadioResponseDto> PROJECAO = new ProjecaoParcial<>(Estadio.class, EstadioResponseDto::new)
+            .campo("id", root -> root.<Long>get("id"), EstadioResponseDto::setId)
+            .campo("nome", root -> root.<String>get("nome"), EstadioResponseDto::setNome);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Set<String> camposDeEstadio() {
+        return PROJECAO.nomes();
+    }
+
+    @Override
+    public Page<EstadioResponseDto> buscarEstadiosParciais(Specification<Estadio> specification, Set<String> campos, Pageable pageable) {
+        return PROJECAO.buscar(entityManager, specification, campos, pageable);
+    }
+
+    @Override
+    public Slice<VersaoRecursoDto> buscarVersoes(Specification<Estadio> specification, Pageable pageable) {
+        return SondagemVersoes.buscar(entityManager, Estadio.class, specification, pageable,
+                root -> List.of(root.get("id"), root.get("versao"), root.get("atualizadoEm")),
+                linha -> new VersaoRecursoDto(linha.get(0, Long.class), String.valueOf(linha.get(1)), linha.get(2, LocalDateTime.class)));
+    }
+
+}
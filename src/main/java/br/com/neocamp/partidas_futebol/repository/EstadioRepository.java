@@ -1,18 +1,16 @@
 package br.com.neocamp.partidas_futebol.repository;
 
 import br.com.neocamp.partidas_futebol.entity.Estadio;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-import java.util.Optional;
+public interface EstadioRepository extends JpaRepository<Estadio, Long>, JpaSpecificationExecutor<Estadio>, EstadioFluxoRepository, EstadioParcialRepository {
 
-public interface EstadioRepository extends JpaRepository<Estadio, Long> {
-
-    Optional<Estadio> findByNome(String nome);
-
-    Page<Estadio> findByNomeContainingIgnoreCase(String nome, Pageable pageable);
-
-    Page<Estadio> findAll(Pageable pageable);
+    default Slice<Estadio> buscarEstadiosPorFatia(Specification<Estadio> specification, Pageable pageable) {
+        return findBy(specification, consulta -> consulta.slice(pageable));
+    }
 
 }
@@ -0,0 +1,24 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.entity.NormalizacaoNome;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+public final class EstadioSpecification {
+
+    private EstadioSpecification() {}
+
+    public static Specification<Estadio> comNome(String nome) {
+        return (root, query, criteriaBuilder) -> nome == null ? null
+                : criteriaBuilder.like(root.get("nomeNormalizado"), FiltroTexto.contendo(NormalizacaoNome.normalizar(nome)), FiltroTexto.ESCAPE);
+    }
+
+    public static Specification<Estadio> comIds(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> ids.isEmpty()
+                ? criteriaBuilder.disjunction()
+                : root.get("id").in(ids);
+    }
+
+}
@@ -0,0 +1,19 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import java.util.Locale;
+
+public final class FiltroTexto {
+
+    static final char ESCAPE = '\\';
+
+    private FiltroTexto() {}
+
+    public static String contendo(String texto) {
+        String escapado = texto.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escapado + "%";
+    }
+
+}
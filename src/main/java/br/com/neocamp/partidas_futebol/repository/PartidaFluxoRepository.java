@@ -0,0 +1,13 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.entity.Partida;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+public interface PartidaFluxoRepository {
+
+    Stream<PartidaResponseDto> buscarPartidasEmFluxo(Specification<Partida> specification);
+
+}
@@ -0,0 +1,60 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.entity.Partida;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+class PartidaFluxoRepositoryImpl implements PartidaFluxoRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int tamanhoLote;
+
+    PartidaFluxoRepositoryImpl(@Value("${partidas.fluxo.tamanho-lote:500}") int tamanhoLote) {
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @Override
+    public Stream<PartidaResponseDto> buscarPartidasEmFluxo(Specification<Partida> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PartidaResponseDto> query = criteriaBuilder.createQuery(PartidaResponseDto.class);
+        Root<Partida> root = query.from(Partida.class);
+        Join<Partida, Clube> clubeMandante = root.join("clubeMandante");
+        Join<Partida, Clube> clubeVisitante = root.join("clubeVisitante");
+        Join<Partida, Estadio> estadio = root.join("estadio");
+
+        query.select(criteriaBuilder.construct(PartidaResponseDto.class,
+                root.get("partidaId"),
+                clubeMandante.get("id"), clubeMandante.get("nome"),
+                clubeVisitante.get("id"), clubeVisitante.get("nome"),
+                root.get("clubeMandanteGols"), root.get("clubeVisitanteGols"),
+                estadio.get("id"), estadio.get("nome"),
+                root.get("dataHora")));
+
+        Predicate predicado = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicado != null) {
+            query.where(predicado);
+        }
+        query.orderBy(criteriaBuilder.asc(root.get("partidaId")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, tamanhoLote)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+}
@@ -0,0 +1,21 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.entity.Partida;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+
+public interface PartidaParcialRepository {
+
+    Set<String> camposDePartida();
+
+    Page<PartidaResponseDto> buscarPartidasParciais(Specification<Partida> specification, Set<String> campos, Pageable pageable);
+
+    Slice<VersaoRecursoDto> buscarVersoes(Specification<Partida> specification, Pageable pageable);
+
+}
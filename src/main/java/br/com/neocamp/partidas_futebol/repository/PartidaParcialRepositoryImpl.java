@@ -0,0 +1,74 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.entity.Partida;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+class PartidaParcialRepositoryImpl implements PartidaParcialRepository {
+
+    private static final ProjecaoParcial<Partida, PartidaResponseDto> PROJECAO = new ProjecaoParcial<>(Partida.class, PartidaResponseDto::new)
+            .campo("partidaId", root -> root.<Long>get("partidaId"), PartidaResponseDto::setPartidaId)
+            .campo("clubeMandanteId", root -> root.get("clubeMandante").<Long>get("id"), PartidaResponseDto::setClubeMandanteId)
+            .campo("clubeMandanteNome", root -> root.join("clubeMandante").<String>get("nome"), PartidaResponseDto::setClubeMandanteNome)
+            .campo("clubeVisitanteId", root -> root.get("clubeVisitante").<Long>get("id"), PartidaResponseDto::setClubeVisitanteId)
+            .campo("clubeVisitanteNome", root -> root.join("clubeVisitante").<String>get("nome"), PartidaResponseDto::setClubeVisitanteNome)
+            .campo("clubeMandanteGols", root -> root.<Integer>get("clubeMandanteGols"), PartidaResponseDto::setClubeMandanteGols)
+            .campo("clubeVisitanteGols", root -> root.<Integer>get("clubeVisitanteGols"), PartidaResponseDto::setClubeVisitanteGols)
+            .campo("estadioId", root -> root.get("estadio").<Long>get("id"), PartidaResponseDto::setEstadioId)
+            .campo("estadioNome", root -> root.join("estadio").<String>get("nome"), PartidaResponseDto::setEstadioNome)
+            .campo("dataHora", root -> root.<LocalDateTime>get("dataHora"), PartidaResponseDto::setDataHora);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Set<String> camposDePartida() {
+        return PROJECAO.nomes();
+    }
+
+    @Override
+    public Page<PartidaResponseDto> buscarPartidasParciais(Specification<Partida> specification, Set<String> campos, Pageable pageable) {
+        return PROJECAO.buscar(entityManager, specification, campos, pageable);
+    }
+
+    @Override
+    public Slice<VersaoRecursoDto> buscarVersoes(Specification<Partida> specification, Pageable pageable) {
+        return SondagemVersoes.buscar(entityManager, Partida.class, specification, pageable,
+                PartidaParcialRepositoryImpl::selecionarVersoes, PartidaParcialRepositoryImpl::combinarVersoes);
+    }
+
+    private static List<Selection<?>> selecionarVersoes(Root<Partida> root) {
+        Join<Partida, Clube> clubeMandante = root.join("clubeMandante");
+        Join<Partida, Clube> clubeVisitante = root.join("clubeVisitante");
+        Join<Partida, Estadio> estadio = root.join("estadio");
+
+        return List.of(root.get("partidaId"),
+                root.get("versao"), clubeMandante.get("versao"), clubeVisitante.get("versao"), estadio.get("versao"),
+                root.get("atualizadoEm"), clubeMandante.get("atualizadoEm"), clubeVisitante.get("atualizadoEm"), estadio.get("atualizadoEm"));
+    }
+
+    private static VersaoRecursoDto combinarVersoes(Tuple linha) {
+        return VersaoRecursoDto.combinar(linha.get(0, Long.class),
+                Arrays.asList(linha.get(1), linha.get(2), linha.get(3), linha.get(4)),
+                Arrays.asList(linha.get(5, LocalDateTime.class), linha.get(6, LocalDateTime.class),
+                        linha.get(7, LocalDateTime.class), linha.get(8, LocalDateTime.class)));
+    }
+
+}
@@ -1,32 +1,100 @@
 package br.com.neocamp.partidas_futebol.repository;
 
-import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.ConfrontoDiretoResumoDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaAgendaDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaPlacarVersionadoDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
 import br.com.neocamp.partidas_futebol.entity.Partida;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface PartidaRepository extends JpaRepository<Partida, Long> {
+public interface PartidaRepository extends JpaRepository<Partida, Long>, JpaSpecificationExecutor<Partida>, PartidaFluxoRepository, PartidaParcialRepository {
 
-    List<Partida> findByClubeMandanteId(Long clubeMandanteId);
+    @Query("SELECT new br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaAgendaDto(" +
+            "p.partidaId, p.clubeMandante.id, p.clubeVisitante.id, p.estadio.id, p.dataHora) FROM Partida p " +
+            "WHERE (p.clubeMandante.id IN :clubeIds OR p.clubeVisitante.id IN :clubeIds OR p.estadio.id IN :estadioIds) " +
+            "AND p.dataHora > :inicio AND p.dataHora < :fim")
+    List<PartidaAgendaDto> buscarAgendaNoIntervalo(
+            @Param("clubeIds") Collection<Long> clubeIds,
+            @Param("estadioIds") Collection<Long> estadioIds,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim
+    );
 
-    List<Partida> findByClubeVisitanteId(Long clubeVisitanteId);
+    @Query("SELECT MIN(p.partidaId) FROM Partida p")
+    Long buscarMenorPartidaId();
 
-    Page<Partida> findByClubeMandanteIdAndClubeVisitanteIdAndEstadioId(Long clubeMandanteId, Long clubeVisitanteId, Long estadioId, Pageable pageable);
+    @Query("SELECT MAX(p.partidaId) FROM Partida p")
+    Long buscarMaiorPartidaId();
 
-    Page<Partida> findByClubeMandanteIdAndEstadioId(Long clubeMandanteId, Long estadioId, Pageable pageable);
+    @Query("SELECT new br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaPlacarVersionadoDto(" +
+            "p.partidaId, p.versao, p.clubeMandante.id, p.clubeVisitante.id, p.clubeMandanteGols, p.clubeVisitanteGols) FROM Partida p " +
+            "WHERE p.partidaId BETWEEN :inicio AND :fim ORDER BY p.partidaId")
+    List<PartidaPlacarVersionadoDto> buscarPlacaresPorFaixaDeIds(@Param("inicio") Long inicio, @Param("fim") Long fim);
 
-    Page<Partida> findByClubeVisitanteIdAndEstadioId(Long clubeVisitanteId, Long estadioId, Pageable pageable);
+    @Query("SELECT new br.com.neocamp.partidas_futebol.dto.partidaDto.ConfrontoDiretoResumoDto(" +
+            "COUNT(p), " +
+            "COALESCE(SUM(CASE WHEN (p.clubeMandante.id = :clubeAId AND p.clubeMandanteGols > p.clubeVisitanteGols) " +
+            "OR (p.clubeVisitante.id = :clubeAId AND p.clubeVisitanteGols > p.clubeMandanteGols) THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN (p.clubeMandante.id = :clubeBId AND p.clubeMandanteGols > p.clubeVisitanteGols) " +
+            "OR (p.clubeVisitante.id = :clubeBId AND p.clubeVisitanteGols > p.clubeMandanteGols) THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN p.clubeMandanteGols = p.clubeVisitanteGols THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN p.clubeMandante.id = :clubeAId THEN p.clubeMandanteGols ELSE p.clubeVisitanteGols END), 0), " +
+            "COALESCE(SUM(CASE WHEN p.clubeMandante.id = :clubeBId THEN p.clubeMandanteGols ELSE p.clubeVisitanteGols END), 0)) " +
+            "FROM Partida p " +
+            "WHERE p.clubeMandante.id IN (:clubeAId, :clubeBId) AND p.clubeVisitante.id IN (:clubeAId, :clubeBId) " +
+            "AND p.clubeMandante.id <> p.clubeVisitante.id")
+    ConfrontoDiretoResumoDto resumirConfrontoDireto(@Param("clubeAId") Long clubeAId, @Param("clubeBId") Long clubeBId);
 
-    Page<Partida> findByClubeMandanteId(Long clubeMandanteId, Pageable pageable);
+    @EntityGraph(Partida.GRAFO_COMPLETO)
+    @Query(value = "SELECT p FROM Partida p " +
+            "WHERE p.clubeMandante.id IN (:clubeAId, :clubeBId) AND p.clubeVisitante.id IN (:clubeAId, :clubeBId) " +
+            "AND p.clubeMandante.id <> p.clubeVisitante.id",
+            countQuery = "SELECT COUNT(p) FROM Partida p " +
+            "WHERE p.clubeMandante.id IN (:clubeAId, :clubeBId) AND p.clubeVisitante.id IN (:clubeAId, :clubeBId) " +
+            "AND p.clubeMandante.id <> p.clubeVisitante.id")
+    Page<Partida> buscarConfrontoDireto(@Param("clubeAId") Long clubeAId, @Param("clubeBId") Long clubeBId, Pageable pageable);
 
-    Page<Partida> findByClubeVisitanteId(Long clubeVisitanteId, Pageable pageable);
+    @Query("SELECT new br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto(p.partidaId, " +
+            "CONCAT(CAST(p.versao AS String), '.', CAST(cm.versao AS String), '.', CAST(cv.versao AS String), '.', CAST(e.versao AS String)), " +
+            "GREATEST(p.atualizadoEm, cm.atualizadoEm, cv.atualizadoEm, e.atualizadoEm)) " +
+            "FROM Partida p JOIN p.clubeMandante cm JOIN p.clubeVisitante cv JOIN p.estadio e " +
+            "WHERE p.partidaId = :partidaId")
+    Optional<VersaoRecursoDto> buscarVersaoPorId(@Param("partidaId") Long partidaId);
 
-    Page<Partida> findByEstadioId(Long estadioId, Pageable pageable);
+    @EntityGraph(Partida.GRAFO_COMPLETO)
+    @Query("SELECT p FROM Partida p WHERE p.partidaId = :partidaId")
+    Optional<Partida> buscarPorIdComRelacionamentos(@Param("partidaId") Long partidaId);
 
-    Page<Partida> findAll(Pageable pageable);
+    @EntityGraph(Partida.GRAFO_COMPLETO)
+    @Query("SELECT p FROM Partida p WHERE p.partidaId IN :partidaIds")
+    List<Partida> buscarPorIdsComRelacionamentos(@Param("partidaIds") Collection<Long> partidaIds);
 
+    @EntityGraph(Partida.GRAFO_COMPLETO)
+    Page<Partida> findAll(Specification<Partida> specification, Pageable pageable);
+
+    default Slice<Partida> buscarPartidasPorFatia(Specification<Partida> specification, Pageable pageable) {
+        return findBy(specification, consulta -> consulta.project(Partida.RELACIONAMENTOS).slice(pageable));
+    }
+
+    default List<Partida> buscarPaginaPorCursor(Specification<Partida> specification, Limit limite) {
+        return findBy(specification, consulta -> consulta.project(Partida.RELACIONAMENTOS)
+                .sortBy(Sort.by(Sort.Direction.DESC, "dataHora", "partidaId"))
+                .limit(limite.max())
+                .all());
+    }
 }
@@ -0,0 +1,64 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.entity.Partida;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public final class PartidaSpecification {
+
+    private PartidaSpecification() {}
+
+    public static Specification<Partida> comFiltros(Long clubeMandanteId, Long clubeVisitanteId, Long estadioId) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicados = new ArrayList<>();
+
+            if (clubeMandanteId != null) {
+                predicados.add(criteriaBuilder.equal(root.get("clubeMandante").get("id"), clubeMandanteId));
+            }
+            if (clubeVisitanteId != null) {
+                predicados.add(criteriaBuilder.equal(root.get("clubeVisitante").get("id"), clubeVisitanteId));
+            }
+            if (estadioId != null) {
+                predicados.add(criteriaBuilder.equal(root.get("estadio").get("id"), estadioId));
+            }
+
+            return criteriaBuilder.and(predicados.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<Partida> comIds(Collection<Long> ids) {
+        return (root, query, criteriaBuilder) -> ids.isEmpty()
+                ? criteriaBuilder.disjunction()
+                : root.get("partidaId").in(ids);
+    }
+
+    public static Specification<Partida> noPeriodo(LocalDateTime inicio, LocalDateTime fim) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicados = new ArrayList<>();
+
+            if (inicio != null) {
+                predicados.add(criteriaBuilder.greaterThanOrEqualTo(root.get("dataHora"), inicio));
+            }
+            if (fim != null) {
+                predicados.add(criteriaBuilder.lessThan(root.get("dataHora"), fim));
+            }
+
+            return criteriaBuilder.and(predicados.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<Partida> antesDoCursor(LocalDateTime dataHoraCursor, Long partidaIdCursor) {
+        return (root, query, criteriaBuilder) -> dataHoraCursor == null ? null
+                : criteriaBuilder.or(
+                        criteriaBuilder.lessThan(root.get("dataHora"), dataHoraCursor),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(root.get("dataHora"), dataHoraCursor),
+                                criteriaBuilder.lessThan(root.get("partidaId"), partidaIdCursor)));
+    }
+
+}
@@ -0,0 +1,110 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+final class ProjecaoParcial<E, D> {
+
+    private final Class<E> entidade;
+    private final Supplier<D> novoDto;
+    private final Map<String, Campo<E, D>> campos = new LinkedHashMap<>();
+
+    ProjecaoParcial(Class<E> entidade, Supplier<D> novoDto) {
+        this.entidade = entidade;
+        this.novoDto = novoDto;
+    }
+
+    @SuppressWarnings("unchecked")
+    <V> ProjecaoParcial<E, D> campo(String nome, Function<Root<E>, Expression<V>> expressao, BiConsumer<D, V> atribuir) {
+        campos.put(nome, new Campo<>(expressao::apply, (BiConsumer<D, Object>) atribuir));
+        return this;
+    }
+
+    Set<String> nomes() {
+        return campos.keySet();
+    }
+
+    Page<D> buscar(EntityManager entityManager, Specification<E> specification, Set<String> selecionados, Pageable pageable) {
+        List<Campo<E, D>> projetados = new ArrayList<>();
+        for (String nome : selecionados) {
+            Campo<E, D> campo = campos.get(nome);
+            if (campo == null) {
+                throw new IllegalArgumentException("Campo desconhecido: " + nome);
+            }
+            projetados.add(campo);
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<E> root = query.from(entidade);
+
+        List<Selection<?>> selecoes = new ArrayList<>();
+        for (Campo<E, D> campo : projetados) {
+            selecoes.add(campo.expressao().apply(root));
+        }
+        query.multiselect(selecoes);
+
+        Predicate predicado = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicado != null) {
+            query.where(predicado);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        TypedQuery<Tuple> consulta = entityManager.createQuery(query).setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (pageable.isPaged()) {
+            consulta.setFirstResult((int) pageable.getOffset());
+            consulta.setMaxResults(pageable.getPageSize());
+        }
+
+        List<D> conteudo = new ArrayList<>();
+        for (Tuple linha : consulta.getResultList()) {
+            D dto = novoDto.get();
+            for (int i = 0; i < projetados.size(); i++) {
+                projetados.get(i).atribuir().accept(dto, linha.get(i));
+            }
+            conteudo.add(dto);
+        }
+
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> contar(entityManager, specification));
+    }
+
+    private long contar(EntityManager entityManager, Specification<E> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<E> root = query.from(entidade);
+        query.select(criteriaBuilder.count(root));
+
+        Predicate predicado = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicado != null) {
+            query.where(predicado);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private record Campo<E, D>(Function<Root<E>, Expression<?>> expressao, BiConsumer<D, Object> atribuir) {}
+
+}
@@ -0,0 +1,53 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.function.Function;
+
+final class SondagemVersoes {
+
+    private SondagemVersoes() {}
+
+    static <E> Slice<VersaoRecursoDto> buscar(EntityManager entityManager, Class<E> entidade, Specification<E> specification, Pageable pageable,
+                                            Function<Root<E>, List<Selection<?>>> selecoes, Function<Tuple, VersaoRecursoDto> versao) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<E> root = query.from(entidade);
+        query.multiselect(selecoes.apply(root));
+
+        Predicate predicado = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicado != null) {
+            query.where(predicado);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        TypedQuery<Tuple> consulta = entityManager.createQuery(query).setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (pageable.isPaged()) {
+            consulta.setFirstResult((int) pageable.getOffset());
+            consulta.setMaxResults(pageable.getPageSize() + 1);
+        }
+
+        List<VersaoRecursoDto> versoes = consulta.getResultList().stream().map(versao).toList();
+        boolean possuiProximo = pageable.isPaged() && versoes.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(possuiProximo ? versoes.subList(0, pageable.getPageSize()) : versoes, pageable, possuiProximo);
+    }
+
+}
@@ -0,0 +1,67 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaAgendaDto;
+import br.com.neocamp.partidas_futebol.exceptions.EntityConflictException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+class AgendaPartidas {
+
+    private final Duration intervaloMinimo;
+
+    private final Map<Long, NavigableSet<LocalDateTime>> horariosPorClube = new HashMap<>();
+
+    private final Map<Long, Set<LocalDate>> datasPorEstadio = new HashMap<>();
+
+
+    AgendaPartidas(Duration intervaloMinimo) {
+        this.intervaloMinimo = intervaloMinimo;
+    }
+
+
+    void registrar(PartidaAgendaDto partida) {
+        registrar(partida.clubeMandanteId(), partida.clubeVisitanteId(), partida.estadioId(), partida.dataHora());
+    }
+
+    void registrar(Long clubeMandanteId, Long clubeVisitanteId, Long estadioId, LocalDateTime dataHora) {
+        horariosPorClube.computeIfAbsent(clubeMandanteId, id -> new TreeSet<>()).add(dataHora);
+        horariosPorClube.computeIfAbsent(clubeVisitanteId, id -> new TreeSet<>()).add(dataHora);
+        datasPorEstadio.computeIfAbsent(estadioId, id -> new HashSet<>()).add(dataHora.toLocalDate());
+    }
+
+    void validar(Long clubeMandanteId, Long clubeVisitanteId, Long estadioId, LocalDateTime dataHora) {
+        if (possuiPartidaNoIntervalo(clubeMandanteId, dataHora)) {
+            throw new EntityConflictException("Clube mandante já possui outra partida em menos de 48 horas");
+        }
+
+        if (possuiPartidaNoIntervalo(clubeVisitanteId, dataHora)) {
+            throw new EntityConflictException("Clube visitante já possui outra partida em menos de 48 horas");
+        }
+
+        if (datasPorEstadio.getOrDefault(estadioId, Set.of()).contains(dataHora.toLocalDate())) {
+            throw new EntityConflictException("Estádio já possui outra partida no mesmo dia");
+        }
+    }
+
+    private boolean possuiPartidaNoIntervalo(Long clubeId, LocalDateTime dataHora) {
+        NavigableSet<LocalDateTime> horarios = horariosPorClube.get(clubeId);
+        if (horarios == null) {
+            return false;
+        }
+
+        LocalDateTime anterior = horarios.floor(dataHora);
+        LocalDateTime posterior = horarios.ceiling(dataHora);
+
+        return (anterior != null && Duration.between(anterior, dataHora).compareTo(intervaloMinimo) < 0)
+                || (posterior != null && Duration.between(dataHora, posterior).compareTo(intervaloMinimo) < 0);
+    }
+
+}
@@ -0,0 +1,74 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.repository.ClubeRepository;
+import br.com.neocamp.partidas_futebol.repository.EstadioRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Service
+public class CacheReferenciaService {
+
+    static final String CACHE_CLUBES = "clubes";
+    static final String CACHE_ESTADIOS = "estadios";
+
+    private final ClubeRepository clubeRepository;
+    private final EstadioRepository estadioRepository;
+
+    private final Cache<Long, Clube> clubes;
+    private final Cache<Long, Estadio> estadios;
+
+    public CacheReferenciaService(ClubeRepository clubeRepository,
+                                  EstadioRepository estadioRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${partidas.cache.referencias.tamanho-maximo:10000}") long tamanhoMaximo,
+                                  @Value("${partidas.cache.referencias.validade:PT10M}") Duration validade) {
+        this.clubeRepository = clubeRepository;
+        this.estadioRepository = estadioRepository;
+        this.clubes = CaffeineCacheMetrics.monitor(meterRegistry, criarCache(tamanhoMaximo, validade), CACHE_CLUBES);
+        this.estadios = CaffeineCacheMetrics.monitor(meterRegistry, criarCache(tamanhoMaximo, validade), CACHE_ESTADIOS);
+    }
+
+    public Optional<Clube> buscarClube(Long id) {
+        return Optional.ofNullable(clubes.get(id, chave -> clubeRepository.findById(chave).orElse(null)));
+    }
+
+    public Optional<Estadio> buscarEstadio(Long id) {
+        return Optional.ofNullable(estadios.get(id, chave -> estadioRepository.findById(chave).orElse(null)));
+    }
+
+    public boolean existeClube(Long id) {
+        return buscarClube(id).isPresent();
+    }
+
+    public boolean existeEstadio(Long id) {
+        return buscarEstadio(id).isPresent();
+    }
+
+    public void atualizarClube(Clube clube) {
+        clubes.invalidate(clube.getId());
+        AposCommit.executar(() -> clubes.put(clube.getId(), clube));
+    }
+
+    public void atualizarEstadio(Estadio estadio) {
+        estadios.invalidate(estadio.getId());
+        AposCommit.executar(() -> estadios.put(estadio.getId(), estadio));
+    }
+
+    private static <T> Cache<Long, T> criarCache(long tamanhoMaximo, Duration validade) {
+        return Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(validade)
+                .recordStats()
+                .build();
+    }
+
+}
@@ -0,0 +1,25 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import java.util.List;
+import java.util.Set;
+
+final class CamposSelecionados {
+
+    private CamposSelecionados() {}
+
+    static boolean todos(Set<String> campos) {
+        return campos == null || campos.isEmpty();
+    }
+
+    static String validar(Set<String> campos, Set<String> disponiveis) {
+        List<String> desconhecidos = campos.stream()
+                .filter(campo -> !disponiveis.contains(campo))
+                .toList();
+        if (desconhecidos.isEmpty()) {
+            return null;
+        }
+        return "Campos inválidos em fields: " + String.join(", ", desconhecidos)
+                + ". Disponíveis: " + String.join(", ", disponiveis);
+    }
+
+}
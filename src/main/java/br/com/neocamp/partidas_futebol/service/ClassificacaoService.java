@@ -0,0 +1,265 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.classificacaoDto.ClassificacaoResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaPlacarDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaPlacarVersionadoDto;
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Partida;
+import br.com.neocamp.partidas_futebol.repository.ClubeRepository;
+import br.com.neocamp.partidas_futebol.repository.PartidaRepository;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+public class ClassificacaoService {
+
+    private static final int PONTOS_VITORIA = 3;
+    private static final int PONTOS_EMPATE = 1;
+
+    private static final Comparator<ClassificacaoResponseDto> CRITERIOS_DESEMPATE = Comparator
+            .comparingInt(ClassificacaoResponseDto::getPontos).reversed()
+            .thenComparing(Comparator.comparingInt(ClassificacaoResponseDto::getVitorias).reversed())
+            .thenComparing(Comparator.comparingInt(ClassificacaoResponseDto::getSaldoGols).reversed())
+            .thenComparing(Comparator.comparingInt(ClassificacaoResponseDto::getGolsPro).reversed())
+            .thenComparing(ClassificacaoResponseDto::getClubeId);
+
+    private final PartidaRepository partidaRepository;
+    private final ClubeRepository clubeRepository;
+    private final int tamanhoParticao;
+    private final int paralelismo;
+
+    private final Map<Long, Desempenho> desempenhoPorClube = new ConcurrentHashMap<>();
+    private final Map<Long, String> nomesClubes = new ConcurrentHashMap<>();
+
+    private final Object travaDesempenho = new Object();
+    private Map<Long, List<Alteracao>> alteracoesDuranteRecalculo;
+
+    public ClassificacaoService(
+            PartidaRepository partidaRepository,
+            ClubeRepository clubeRepository,
+            @Value("${partidas.classificacao.tamanho-particao:50000}") int tamanhoParticao,
+            @Value("${partidas.classificacao.paralelismo:4}") int paralelismo) {
+        this.partidaRepository = partidaRepository;
+        this.clubeRepository = clubeRepository;
+        this.tamanhoParticao = tamanhoParticao;
+        this.paralelismo = paralelismo;
+    }
+
+    public List<ClassificacaoResponseDto> listarClassificacao() {
+        List<ClassificacaoResponseDto> classificacao = new ArrayList<>();
+
+        desempenhoPorClube.forEach((clubeId, desempenho) -> classificacao.add(toResponseDto(clubeId, desempenho)));
+        classificacao.sort(CRITERIOS_DESEMPATE);
+
+        for (int i = 0; i < classificacao.size(); i++) {
+            classificacao.get(i).setPosicao(i + 1);
+        }
+        return classificacao;
+    }
+
+    public void registrarPartida(Partida partida) {
+        registrarNomes(partida);
+        PartidaPlacarDto placar = PartidaPlacarDto.de(partida);
+        AposCommit.executar(() -> aplicar(partida.getPartidaId(), new Alteracao(versao(partida), null, placar)));
+    }
+
+    public void substituirPartida(PartidaPlacarDto placarAnterior, Partida partida) {
+        registrarNomes(partida);
+        PartidaPlacarDto placar = PartidaPlacarDto.de(partida);
+        AposCommit.executar(() -> aplicar(partida.getPartidaId(), new Alteracao(versao(partida), placarAnterior, placar)));
+    }
+
+    public void removerPartida(Partida partida) {
+        PartidaPlacarDto placar = PartidaPlacarDto.de(partida);
+        AposCommit.executar(() -> aplicar(partida.getPartidaId(), new Alteracao(Alteracao.REMOCAO, placar, null)));
+    }
+
+    public void atualizarNomeClube(Long clubeId, String nome) {
+        nomesClubes.put(clubeId, nome);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void recalcularClassificacao() {
+        synchronized (travaDesempenho) {
+            alteracoesDuranteRecalculo = new HashMap<>();
+        }
+        try {
+            Map<Long, String> nomes = new HashMap<>();
+            for (Clube clube : clubeRepository.findAll()) {
+                nomes.put(clube.getId(), clube.getNome());
+            }
+
+            Map<Long, Desempenho> recalculado = new HashMap<>();
+            List<Particao> lidas = new ArrayList<>();
+            Long menorId = partidaRepository.buscarMenorPartidaId();
+            Long maiorId = partidaRepository.buscarMaiorPartidaId();
+
+            if (menorId != null && maiorId != null) {
+                ExecutorService executor = Executors.newFixedThreadPool(paralelismo);
+                try {
+                    List<CompletableFuture<Particao>> particoes = new ArrayList<>();
+                    for (long inicio = menorId; inicio <= maiorId; inicio += tamanhoParticao) {
+                        long inicioParticao = inicio;
+                        long fimParticao = Math.min(maiorId, inicio + tamanhoParticao - 1);
+                        particoes.add(CompletableFuture.supplyAsync(() -> calcularParticao(inicioParticao, fimParticao), executor));
+                    }
+
+                    for (CompletableFuture<Particao> particao : particoes) {
+                        Particao lida = particao.join();
+                        lida.desempenhos().forEach((clubeId, desempenho) -> recalculado.merge(clubeId, desempenho, Desempenho::somar));
+                        lidas.add(lida);
+                    }
+                } finally {
+                    executor.shutdown();
+                }
+            }
+
+            synchronized (travaDesempenho) {
+                alteracoesDuranteRecalculo.forEach((partidaId, alteracoes) ->
+                        reaplicarNaoLidas(recalculado, versaoLida(lidas, partidaId), alteracoes));
+                nomesClubes.clear();
+                nomesClubes.putAll(nomes);
+                desempenhoPorClube.clear();
+                desempenhoPorClube.putAll(recalculado);
+            }
+        } finally {
+            synchronized (travaDesempenho) {
+                alteracoesDuranteRecalculo = null;
+            }
+        }
+    }
+
+    private Particao calcularParticao(long inicio, long fim) {
+        Map<Long, Desempenho> parcial = new HashMap<>();
+        List<PartidaPlacarVersionadoDto> linhas = partidaRepository.buscarPlacaresPorFaixaDeIds(inicio, fim);
+        long[] ids = new long[linhas.size()];
+        long[] versoes = new long[linhas.size()];
+        for (int i = 0; i < linhas.size(); i++) {
+            PartidaPlacarVersionadoDto linha = linhas.get(i);
+            ids[i] = linha.partidaId();
+            versoes[i] = linha.versao() != null ? linha.versao() : 0L;
+            somar(parcial, linha.placar(), 1);
+        }
+        return new Particao(inicio, fim, parcial, ids, versoes);
+    }
+
+    private static Long versaoLida(List<Particao> lidas, Long partidaId) {
+        for (Particao particao : lidas) {
+            if (partidaId >= particao.inicio() && partidaId <= particao.fim()) {
+                int posicao = Arrays.binarySearch(particao.ids(), partidaId);
+                return posicao >= 0 ? particao.versoes()[posicao] : null;
+            }
+        }
+        return null;
+    }
+
+    private static void reaplicarNaoLidas(Map<Long, Desempenho> recalculado, Long versaoLida, List<Alteracao> alteracoes) {
+        boolean removida = alteracoes.stream().anyMatch(alteracao -> alteracao.versao() == Alteracao.REMOCAO);
+        for (Alteracao alteracao : alteracoes) {
+            if (versaoLida != null ? alteracao.versao() > versaoLida : !removida) {
+                alteracao.aplicarEm(recalculado);
+            }
+        }
+    }
+
+    private void aplicar(Long partidaId, Alteracao alteracao) {
+        synchronized (travaDesempenho) {
+            alteracao.aplicarEm(desempenhoPorClube);
+            if (alteracoesDuranteRecalculo != null && partidaId != null) {
+                alteracoesDuranteRecalculo.computeIfAbsent(partidaId, id -> new ArrayList<>()).add(alteracao);
+            }
+        }
+    }
+
+    private static long versao(Partida partida) {
+        return partida.getVersao() != null ? partida.getVersao() : 0L;
+    }
+
+    private static void somar(Map<Long, Desempenho> desempenhos, PartidaPlacarDto placar, int sinal) {
+        desempenhos.merge(placar.clubeMandanteId(), Desempenho.de(placar.clubeMandanteGols(), placar.clubeVisitanteGols(), sinal), Desempenho::somar);
+        desempenhos.merge(placar.clubeVisitanteId(), Desempenho.de(placar.clubeVisitanteGols(), placar.clubeMandanteGols(), sinal), Desempenho::somar);
+    }
+
+    private void registrarNomes(Partida partida) {
+        registrarNome(partida.getClubeMandante());
+        registrarNome(partida.getClubeVisitante());
+    }
+
+    private void registrarNome(Clube clube) {
+        if (Hibernate.isInitialized(clube)) {
+            nomesClubes.put(clube.getId(), clube.getNome());
+        }
+    }
+
+    private ClassificacaoResponseDto toResponseDto(Long clubeId, Desempenho desempenho) {
+        return new ClassificacaoResponseDto(
+                0,
+                clubeId,
+                nomesClubes.get(clubeId),
+                desempenho.vitorias() * PONTOS_VITORIA + desempenho.empates() * PONTOS_EMPATE,
+                desempenho.jogos(),
+                desempenho.vitorias(),
+                desempenho.empates(),
+                desempenho.derrotas(),
+                desempenho.golsPro(),
+                desempenho.golsContra(),
+                desempenho.golsPro() - desempenho.golsContra()
+        );
+    }
+
+    private record Particao(long inicio, long fim, Map<Long, Desempenho> desempenhos, long[] ids, long[] versoes) {}
+
+    private record Alteracao(long versao, PartidaPlacarDto anterior, PartidaPlacarDto novo) {
+
+        private static final long REMOCAO = Long.MAX_VALUE;
+
+        private void aplicarEm(Map<Long, Desempenho> desempenhos) {
+            if (anterior != null) {
+                somar(desempenhos, anterior, -1);
+            }
+            if (novo != null) {
+                somar(desempenhos, novo, 1);
+            }
+        }
+    }
+
+    private record Desempenho(int jogos, int vitorias, int empates, int derrotas, int golsPro, int golsContra) {
+
+        private static Desempenho de(int golsPro, int golsContra, int sinal) {
+            return new Desempenho(
+                    sinal,
+                    golsPro > golsContra ? sinal : 0,
+                    golsPro == golsContra ? sinal : 0,
+                    golsPro < golsContra ? sinal : 0,
+                    golsPro * sinal,
+                    golsContra * sinal
+            );
+        }
+
+        private static Desempenho somar(Desempenho atual, Desempenho delta) {
+            return new Desempenho(
+                    atual.jogos + delta.jogos,
+                    atual.vitorias + delta.vitorias,
+                    atual.empates + delta.empates,
+                    atual.derrotas + delta.derrotas,
+                    atual.golsPro + delta.golsPro,
+                    atual.golsContra + delta.golsContra
+            );
+        }
+    }
+
+}
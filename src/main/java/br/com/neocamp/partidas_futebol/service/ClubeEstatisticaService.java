@@ -0,0 +1,131 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.DesempenhoDto;
+import br.com.neocamp.partidas_futebol.dto.clubeDto.RetrospectoResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaPlacarDto;
+import br.com.neocamp.partidas_futebol.entity.ClubeEstatistica;
+import br.com.neocamp.partidas_futebol.repository.ClubeEstatisticaRepository;
+import br.com.neocamp.partidas_futebol.repository.ClubeRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+@Service
+public class ClubeEstatisticaService {
+
+    private final ClubeEstatisticaRepository clubeEstatisticaRepository;
+    private final ClubeRepository clubeRepository;
+
+    public ClubeEstatisticaService(ClubeEstatisticaRepository clubeEstatisticaRepository, ClubeRepository clubeRepository) {
+        this.clubeEstatisticaRepository = clubeEstatisticaRepository;
+        this.clubeRepository = clubeRepository;
+    }
+
+    public RetrospectoResponseDto buscarRetrospecto(Long clubeId) {
+
+        Optional<ClubeEstatistica> estatisticaOptional = clubeEstatisticaRepository.findById(clubeId);
+
+        if (estatisticaOptional.isEmpty()) {
+            if (!clubeRepository.existsById(clubeId)) {
+                throw new EntityNotFoundException("Clube não encontrado");
+            }
+            return toResponseDto(new ClubeEstatistica(clubeId));
+        }
+
+        return toResponseDto(estatisticaOptional.get());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void criarEstatistica(Long clubeId) {
+        clubeEstatisticaRepository.criarZerada(clubeId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarPartidas(Collection<PartidaPlacarDto> placares) {
+        aplicar(List.of(), placares);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void substituirPartida(PartidaPlacarDto placarAnterior, PartidaPlacarDto placarNovo) {
+        aplicar(List.of(placarAnterior), List.of(placarNovo));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removerPartida(PartidaPlacarDto placar) {
+        aplicar(List.of(placar), List.of());
+    }
+
+    private void aplicar(Collection<PartidaPlacarDto> removidos, Collection<PartidaPlacarDto> adicionados) {
+        Map<Long, ClubeEstatistica> estatisticas = bloquearEstatisticas(removidos, adicionados);
+
+        removidos.forEach(placar -> aplicar(estatisticas, placar, -1));
+        adicionados.forEach(placar -> aplicar(estatisticas, placar, 1));
+    }
+
+    private void aplicar(Map<Long, ClubeEstatistica> estatisticas, PartidaPlacarDto placar, int sinal) {
+        estatisticas.get(placar.clubeMandanteId())
+                .registrarComoMandante(placar.clubeMandanteGols(), placar.clubeVisitanteGols(), sinal);
+        estatisticas.get(placar.clubeVisitanteId())
+                .registrarComoVisitante(placar.clubeVisitanteGols(), placar.clubeMandanteGols(), sinal);
+    }
+
+    private Map<Long, ClubeEstatistica> bloquearEstatisticas(Collection<PartidaPlacarDto> removidos, Collection<PartidaPlacarDto> adicionados) {
+        TreeSet<Long> clubeIds = new TreeSet<>();
+        for (Collection<PartidaPlacarDto> placares : List.of(removidos, adicionados)) {
+            for (PartidaPlacarDto placar : placares) {
+                clubeIds.add(placar.clubeMandanteId());
+                clubeIds.add(placar.clubeVisitanteId());
+            }
+        }
+
+        Map<Long, ClubeEstatistica> estatisticas = new HashMap<>();
+        for (Long clubeId : clubeIds) {
+            ClubeEstatistica estatistica = clubeEstatisticaRepository.buscarParaAtualizacao(clubeId)
+                    .orElseGet(() -> criarSobBloqueioDoClube(clubeId));
+            estatisticas.put(clubeId, estatistica);
+        }
+        return estatisticas;
+    }
+
+    private ClubeEstatistica criarSobBloqueioDoClube(Long clubeId) {
+        clubeRepository.bloquearParaAtualizacao(clubeId)
+                .orElseThrow(() -> new EntityNotFoundException("Clube não encontrado"));
+
+        return clubeEstatisticaRepository.buscarParaAtualizacao(clubeId)
+                .orElseGet(() -> {
+                    clubeEstatisticaRepository.criarZerada(clubeId);
+                    return clubeEstatisticaRepository.buscarParaAtualizacao(clubeId).orElseThrow();
+                });
+    }
+
+    private RetrospectoResponseDto toResponseDto(ClubeEstatistica estatistica) {
+        return new RetrospectoResponseDto(
+                estatistica.getClubeId(),
+                new DesempenhoDto(
+                        estatistica.getJogosMandante(),
+                        estatistica.getVitoriasMandante(),
+                        estatistica.getEmpatesMandante(),
+                        estatistica.getDerrotasMandante(),
+                        estatistica.getGolsProMandante(),
+                        estatistica.getGolsContraMandante()
+                ),
+                new DesempenhoDto(
+                        estatistica.getJogosVisitante(),
+                        estatistica.getVitoriasVisitante(),
+                        estatistica.getEmpatesVisitante(),
+                        estatistica.getDerrotasVisitante(),
+                        estatistica.getGolsProVisitante(),
+                        estatistica.getGolsContraVisitante()
+                )
+        );
+    }
+
+}
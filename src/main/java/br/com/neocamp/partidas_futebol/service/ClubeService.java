@@ -2,20 +2,36 @@ package br.com.neocamp.partidas_futebol.service;
 
 import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
 import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeRequestDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaCursorDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaFatiaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.RecursoVersionadoDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
 import br.com.neocamp.partidas_futebol.entity.Clube;
 import br.com.neocamp.partidas_futebol.enums.EstadosBrasil;
+import br.com.neocamp.partidas_futebol.enums.ModoPaginacao;
+import br.com.neocamp.partidas_futebol.exceptions.EntityBadRequestException;
+import br.com.neocamp.partidas_futebol.exceptions.EntityPreconditionFailedException;
 import br.com.neocamp.partidas_futebol.repository.ClubeRepository;
+import br.com.neocamp.partidas_futebol.repository.ClubeSpecification;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 @Service
@@ -25,12 +41,36 @@ public class ClubeService {
     private final ClubeRepository clubeRepository;
 
     
+    private final ClassificacaoService classificacaoService;
+
+    
+    private final ContagemPaginacaoService contagemPaginacaoService;
+
+    
+    private final CacheReferenciaService cacheReferenciaService;
+
+    
+    private final RespostaSerializadaService respostaSerializadaService;
+
+    
+    private final IndiceNomesService indiceNomesService;
+
+
+    private final ClubeEstatisticaService clubeEstatisticaService;
+
+    
     @Autowired
-    public ClubeService(ClubeRepository clubeRepository) {
+    public ClubeService(ClubeRepository clubeRepository, ClassificacaoService classificacaoService, ContagemPaginacaoService contagemPaginacaoService, CacheReferenciaService cacheReferenciaService, RespostaSerializadaService respostaSerializadaService, IndiceNomesService indiceNomesService, ClubeEstatisticaService clubeEstatisticaService) {
         this.clubeRepository = clubeRepository;
+        this.classificacaoService = classificacaoService;
+        this.contagemPaginacaoService = contagemPaginacaoService;
+        this.cacheReferenciaService = cacheReferenciaService;
+        this.respostaSerializadaService = respostaSerializadaService;
+        this.indiceNomesService = indiceNomesService;
+        this.clubeEstatisticaService = clubeEstatisticaService;
     }
 
-    
+    @Transactional
     public ClubeResponseDto cadastrarClube(ClubeRequestDto clubeDto) {
         if (clubeDto.getNome() == null || clubeDto.getNome().trim().isEmpty() || clubeDto.getSiglaEstado() == null || clubeDto.getSiglaEstado().trim().isEmpty() || clubeDto.getDataCriacao() == null  || clubeDto.getAtivo() == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Todos os campos são obrigatórios e não podem ser vazios");
@@ -45,24 +85,24 @@ public class ClubeService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Data de criação não pode ser no futuro");
         }
 
-        Optional<Clube> clubeExistente = clubeRepository.findByNomeAndSiglaEstado(clubeDto.getNome().trim(), clubeDto.getSiglaEstado().trim().toUpperCase());
-        if(clubeExistente.isPresent()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Já existe um clube com o mesmo nome no mesmo estado");
-        }
-
         Clube clube = new Clube(
                 clubeDto.getNome().trim(),
                 clubeDto.getSiglaEstado().trim().toUpperCase(),
                 clubeDto.getDataCriacao(),
                 clubeDto.getAtivo()
         );
-        return toResponseDto(clubeRepository.save(clube));
+        Clube clubeSalvo = salvarComNomeUnico(clube);
+        clubeEstatisticaService.criarEstatistica(clubeSalvo.getId());
+        contagemPaginacaoService.ajustarTotal(ContagemPaginacaoService.CLUBE, 1);
+        cacheReferenciaService.atualizarClube(clubeSalvo);
+        indiceNomesService.indexarClube(clubeSalvo);
+        return toResponseDto(clubeSalvo);
     }
 
     
     public ClubeResponseDto buscarPorId(Long id) {
 
-        Optional<Clube> clubeOptional = clubeRepository.findById(id);
+        Optional<Clube> clubeOptional = cacheReferenciaService.buscarClube(id);
 
         if (clubeOptional.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Clube não encontrado");
@@ -71,7 +111,39 @@ public class ClubeService {
     }
 
     
+    public RecursoVersionadoDto<ClubeResponseDto> buscarPorIdVersionado(Long id) {
+
+        Clube clube = cacheReferenciaService.buscarClube(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Clube não encontrado"));
+        return new RecursoVersionadoDto<>(VersaoRecursoDto.de(clube).versao(), toResponseDto(clube));
+    }
+
+    
+    public VersaoRecursoDto buscarVersao(Long id) {
+
+        return cacheReferenciaService.buscarClube(id)
+                .map(VersaoRecursoDto::de)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Clube não encontrado"));
+    }
+
+    
+    public VersaoPaginaDto buscarVersaoDaPagina(String nome, String siglaEstado, Boolean ativo, Pageable pageable) {
+
+        Optional<List<Long>> ids = buscarIdsPorNome(nome);
+        if (ids.isPresent() && ids.get().isEmpty()) {
+            return VersaoConsulta.vazia(pageable);
+        }
+
+        return VersaoConsulta.resumir(clubeRepository.buscarVersoes(especificacao(ids, nome, siglaEstado, ativo), pageable));
+    }
+
+    
     public ClubeResponseDto atualizarPorId(Long id, ClubeRequestDto clubeAtualizado) {
+        return atualizarPorId(id, clubeAtualizado, null);
+    }
+
+    
+    public ClubeResponseDto atualizarPorId(Long id, ClubeRequestDto clubeAtualizado, String versaoEsperada) {
 
         Optional<Clube> clubeOptional = clubeRepository.findById(id);
 
@@ -81,6 +153,10 @@ public class ClubeService {
 
         Clube clube = clubeOptional.get();
 
+        if (versaoEsperada != null && !versaoEsperada.equals(VersaoRecursoDto.de(clube).versao())) {
+            throw new EntityPreconditionFailedException("Clube foi alterado desde a versão informada");
+        }
+
         if (clubeAtualizado.getNome() == null || clubeAtualizado.getNome().trim().length() < 2) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nome inválido: deve ter no mínimo 2 caracteres");
         }
@@ -94,17 +170,16 @@ public class ClubeService {
         // TODO: Validar se a nova data de criação é posterior à data de alguma partida já registrada para este clube (requisito de cenários de exceção do projeto - 409 Conflict)
 
 
-        Optional<Clube> clubeExistente = clubeRepository.findByNomeAndSiglaEstado(clubeAtualizado.getNome().trim(), clubeAtualizado.getSiglaEstado().trim().toUpperCase());
-        if (clubeExistente.isPresent() && !clubeExistente.get().getId().equals(id)) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Já existe um clube com o mesmo nome no mesmo estado");
-        }
-
-        clube.setNome(clubeAtualizado.getNome());
-        clube.setSiglaEstado(clubeAtualizado.getSiglaEstado());
+        clube.setNome(clubeAtualizado.getNome().trim());
+        clube.setSiglaEstado(clubeAtualizado.getSiglaEstado().trim().toUpperCase());
         clube.setDataCriacao(clubeAtualizado.getDataCriacao());
         clube.setAtivo(clubeAtualizado.getAtivo());
 
-        Clube clubeSalvo = clubeRepository.save(clube);
+        Clube clubeSalvo = salvarComNomeUnico(clube);
+        classificacaoService.atualizarNomeClube(clubeSalvo.getId(), clubeSalvo.getNome());
+        cacheReferenciaService.atualizarClube(clubeSalvo);
+        indiceNomesService.indexarClube(clubeSalvo);
+        respostaSerializadaService.invalidar(RespostaSerializadaService.CLUBE, id);
 
         return toResponseDto(clubeSalvo);
     }
@@ -119,47 +194,101 @@ public class ClubeService {
 
         Clube clube = clubeOptional.get();
         clube.setAtivo(false);
-        clubeRepository.save(clube);
+        Clube clubeSalvo = clubeRepository.save(clube);
+        cacheReferenciaService.atualizarClube(clubeSalvo);
+        respostaSerializadaService.invalidar(RespostaSerializadaService.CLUBE, id);
     }
 
     
-    public List<ClubeResponseDto> listarClubes(String nome, String siglaEstado, Boolean ativo) {
+    @Transactional(readOnly = true)
+    public void listarClubesEmFluxo(String nome, String siglaEstado, Boolean ativo, Consumer<ClubeResponseDto> consumidor) {
 
-        List<Clube> clubes;
+        try (Stream<ClubeResponseDto> clubes = clubeRepository.buscarClubesEmFluxo(ClubeSpecification.comFiltros(nome, siglaEstado, ativo))) {
+            clubes.forEach(consumidor);
+        }
+    }
 
-        if (nome != null && siglaEstado != null && ativo != null) {
-            clubes = clubeRepository.findByNomeContainingIgnoreCaseAndSiglaEstadoAndAtivo(nome, siglaEstado, ativo);
-        } else if (nome != null && siglaEstado != null) {
-            clubes = clubeRepository.findByNomeContainingIgnoreCaseAndSiglaEstado(nome, siglaEstado);
-        } else if (nome != null && ativo != null) {
-            clubes = clubeRepository.findByNomeContainingIgnoreCaseAndAtivo(nome, ativo);
-        } else if (siglaEstado != null && ativo != null) {
-            clubes = clubeRepository.findBySiglaEstadoAndAtivo(siglaEstado, ativo);
-        } else if (nome != null) {
-            clubes = clubeRepository.findByNomeContainingIgnoreCase(nome);
-        } else if (siglaEstado != null) {
-            clubes = clubeRepository.findBySiglaEstado(siglaEstado);
-        } else if (ativo != null) {
-            clubes = clubeRepository.findByAtivo(ativo);
+    
+    public Page<ClubeResponseDto> listarClubes(VersaoPaginaDto pagina, String nome, String siglaEstado, Boolean ativo, Set<String> campos, Pageable pageable) {
+
+        List<ClubeResponseDto> clubes;
+        if (CamposSelecionados.todos(campos)) {
+            clubes = VersaoConsulta.ordenar(clubeRepository.findAllById(pagina.ids()), pagina.ids(), Clube::getId).stream()
+                    .map(this::toResponseDto)
+                    .toList();
         } else {
-            clubes = clubeRepository.findAll();
+            String erroCampos = CamposSelecionados.validar(campos, clubeRepository.camposDeClube());
+            if (erroCampos != null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, erroCampos);
+            }
+            clubes = pagina.ids().isEmpty() ? List.of()
+                    : clubeRepository.buscarClubesParciais(ClubeSpecification.comIds(pagina.ids()), campos, Pageable.unpaged(pageable.getSort())).getContent();
         }
 
-        List<ClubeResponseDto> listarClubesDto = new ArrayList<>();
+        return VersaoConsulta.paginar(clubes, pagina, pageable,
+                () -> clubeRepository.count(especificacao(buscarIdsPorNome(nome), nome, siglaEstado, ativo)));
+    }
 
-        for (Clube clube : clubes) {
+    
+    public PaginaFatiaDto<ClubeResponseDto> listarClubesSemContagem(String nome, String siglaEstado, Boolean ativo, Pageable pageable, ModoPaginacao modo) {
+
+        Optional<List<Long>> ids = buscarIdsPorNome(nome);
+        Slice<Clube> clubes = ids.isPresent() && ids.get().isEmpty()
+                ? new SliceImpl<>(List.of(), pageable, false)
+                : clubeRepository.buscarClubesPorFatia(especificacao(ids, nome, siglaEstado, ativo), pageable);
+        contagemPaginacaoService.registrarContagemEvitada(ContagemPaginacaoService.CLUBE, modo);
 
-            listarClubesDto.add(toResponseDto(clube));
+        Long totalEstimado = null;
+        if (modo == ModoPaginacao.ESTIMADO && nome == null && siglaEstado == null && ativo == null) {
+            totalEstimado = contagemPaginacaoService.estimarTotal(ContagemPaginacaoService.CLUBE, clubeRepository::count);
         }
-        return listarClubesDto;
+
+        return new PaginaFatiaDto<>(clubes.map(this::toResponseDto).getContent(), clubes.getNumber(), clubes.getSize(), clubes.hasNext(), totalEstimado);
     }
 
     
-    public Page<ClubeResponseDto> listarClubes(String nome, String siglaEstado, Boolean ativo, Pageable pageable) {
+    public PaginaCursorDto<ClubeResponseDto> listarClubesPorCursor(String nome, String siglaEstado, Boolean ativo, String cursor, int tamanho) {
+
+        String nomeCursor = null;
+        Long idCursor = null;
+        if (cursor != null) {
+            try {
+                CursorPaginacao cursorPaginacao = CursorPaginacao.decodificar(cursor);
+                nomeCursor = cursorPaginacao.getChave();
+                idCursor = cursorPaginacao.getId();
+            } catch (IllegalArgumentException e) {
+                throw new EntityBadRequestException("Cursor inválido");
+            }
+        }
+
+        Optional<List<Long>> ids = buscarIdsPorNome(nome);
+        Specification<Clube> specification = especificacao(ids, nome, siglaEstado, ativo)
+                .and(ClubeSpecification.aposCursor(nomeCursor, idCursor));
+        List<Clube> clubes = ids.isPresent() && ids.get().isEmpty()
+                ? List.of()
+                : clubeRepository.buscarClubesPorCursor(specification, Limit.of(tamanho + 1));
+        contagemPaginacaoService.registrarContagemEvitada(ContagemPaginacaoService.CLUBE, ModoPaginacao.CURSOR);
+
+        String proximoCursor = null;
+        if (clubes.size() > tamanho) {
+            clubes = clubes.subList(0, tamanho);
+            Clube ultimoClube = clubes.get(tamanho - 1);
+            proximoCursor = CursorPaginacao.codificar(ultimoClube.getId(), ultimoClube.getNome());
+        }
+
+        return new PaginaCursorDto<>(clubes.stream().map(this::toResponseDto).toList(), tamanho, proximoCursor);
+    }
 
-        Page<Clube> clubesPage = clubeRepository.buscarClubesPorPaginacao(nome, siglaEstado, ativo, pageable);
+    
+    private Optional<List<Long>> buscarIdsPorNome(String nome) {
+        return nome == null ? Optional.empty() : indiceNomesService.buscarIdsDeClubes(nome);
+    }
 
-        return clubesPage.map(this::toResponseDto);
+    
+    private Specification<Clube> especificacao(Optional<List<Long>> ids, String nome, String siglaEstado, Boolean ativo) {
+        return ids
+                .map(encontrados -> ClubeSpecification.comIds(encontrados).and(ClubeSpecification.comFiltros(null, siglaEstado, ativo)))
+                .orElseGet(() -> ClubeSpecification.comFiltros(nome, siglaEstado, ativo));
     }
 
     
@@ -174,6 +303,11 @@ public class ClubeService {
     }
 
     
+    private Clube salvarComNomeUnico(Clube clube) {
+        return RestricaoUnica.gravar(() -> clubeRepository.saveAndFlush(clube), Clube.RESTRICAO_NOME_ESTADO, "Já existe um clube com o mesmo nome no mesmo estado");
+    }
+
+    
     private void validarSiglaEstado(String siglaEstado) {
         try {
             EstadosBrasil.valueOf(siglaEstado.trim().toUpperCase());
@@ -0,0 +1,111 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaCursorDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaFatiaDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.enums.FormatoResposta;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CodificadorRespostas {
+
+    public static final String ESQUEMA_PROTOBUF = "proto/partidas.proto";
+
+    private static final Map<Class<?>, String> MENSAGENS_ITEM = Map.of(
+            ClubeResponseDto.class, "Clube",
+            EstadioResponseDto.class, "Estadio",
+            PartidaResponseDto.class, "Partida");
+
+    private final Map<FormatoResposta, ObjectMapper> mapeadores = new EnumMap<>(FormatoResposta.class);
+    private final Map<String, ProtobufSchema> esquemas = new HashMap<>();
+
+    public CodificadorRespostas(ObjectMapper objectMapper) {
+        mapeadores.put(FormatoResposta.JSON, objectMapper);
+        mapeadores.put(FormatoResposta.CBOR, objectMapper.copyWith(new CBORFactory()));
+        mapeadores.put(FormatoResposta.SMILE, objectMapper.copyWith(new SmileFactory()));
+        mapeadores.put(FormatoResposta.PROTOBUF, objectMapper.copyWith(new ProtobufFactory()));
+
+        try (InputStream entrada = CodificadorRespostas.class.getClassLoader().getResourceAsStream(ESQUEMA_PROTOBUF)) {
+            if (entrada == null) {
+                throw new IllegalStateException("Esquema Protobuf não encontrado: " + ESQUEMA_PROTOBUF);
+            }
+            NativeProtobufSchema nativo = ProtobufSchemaLoader.std.loadNative(entrada, true);
+            for (String mensagem : nativo.getMessageNames()) {
+                esquemas.put(mensagem, nativo.forType(mensagem));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ObjectMapper getMapeador(FormatoResposta formato) {
+        return mapeadores.get(formato);
+    }
+
+    public static boolean suportaProtobuf(Class<?> tipo) {
+        return MENSAGENS_ITEM.containsKey(tipo)
+                || PaginaDto.class.isAssignableFrom(tipo)
+                || PaginaFatiaDto.class.isAssignableFrom(tipo)
+                || PaginaCursorDto.class.isAssignableFrom(tipo);
+    }
+
+    public byte[] codificar(Object valor, FormatoResposta formato) throws IOException {
+        return escritor(valor, formato).writeValueAsBytes(valor);
+    }
+
+    public void codificar(Object valor, FormatoResposta formato, OutputStream saida) throws IOException {
+        escritor(valor, formato).writeValue(saida, valor);
+    }
+
+    private ObjectWriter escritor(Object valor, FormatoResposta formato) {
+        ObjectWriter escritor = mapeadores.get(formato).writer();
+        if (formato != FormatoResposta.PROTOBUF) {
+            return escritor;
+        }
+
+        ProtobufSchema esquema = esquemas.get(mensagemProtobuf(valor));
+        if (esquema == null) {
+            throw new IllegalArgumentException("Sem mensagem Protobuf para " + valor.getClass().getSimpleName());
+        }
+        return escritor.with(esquema);
+    }
+
+    private static String mensagemProtobuf(Object valor) {
+        if (valor instanceof PaginaDto<?> pagina) {
+            return "Pagina" + mensagemDoConteudo(pagina.getConteudo());
+        }
+        if (valor instanceof PaginaFatiaDto<?> fatia) {
+            return "Fatia" + mensagemDoConteudo(fatia.getConteudo());
+        }
+        if (valor instanceof PaginaCursorDto<?> cursor) {
+            return "Cursor" + mensagemDoConteudo(cursor.getConteudo());
+        }
+        return MENSAGENS_ITEM.get(valor.getClass());
+    }
+
+    private static String mensagemDoConteudo(List<?> conteudo) {
+        if (conteudo == null || conteudo.isEmpty()) {
+            return MENSAGENS_ITEM.get(PartidaResponseDto.class);
+        }
+        return MENSAGENS_ITEM.get(conteudo.get(0).getClass());
+    }
+
+}
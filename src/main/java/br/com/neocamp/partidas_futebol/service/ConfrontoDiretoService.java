@@ -0,0 +1,65 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.ConfrontoDiretoResumoDto;
+import br.com.neocamp.partidas_futebol.repository.PartidaRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class ConfrontoDiretoService {
+
+    private static final long MAIOR_ID_EMPACOTAVEL = 0xFFFFFFFFL;
+
+    private final PartidaRepository partidaRepository;
+
+    private final Map<Long, ConfrontoDiretoResumoDto> resumosPorPar = new ConcurrentHashMap<>();
+    private final Map<Long, Long> geracoesPorPar = new ConcurrentHashMap<>();
+
+    public ConfrontoDiretoService(PartidaRepository partidaRepository) {
+        this.partidaRepository = partidaRepository;
+    }
+
+    public ConfrontoDiretoResumoDto buscarResumo(Long clubeAId, Long clubeBId) {
+        long menorId = Math.min(clubeAId, clubeBId);
+        long maiorId = Math.max(clubeAId, clubeBId);
+
+        ConfrontoDiretoResumoDto resumo = maiorId <= MAIOR_ID_EMPACOTAVEL
+                ? buscarResumoEmCache(chaveDoPar(menorId, maiorId), menorId, maiorId)
+                : partidaRepository.resumirConfrontoDireto(menorId, maiorId);
+
+        return clubeAId == menorId ? resumo : resumo.invertido();
+    }
+
+    private ConfrontoDiretoResumoDto buscarResumoEmCache(long chave, long menorId, long maiorId) {
+        ConfrontoDiretoResumoDto resumo = resumosPorPar.get(chave);
+        if (resumo != null) {
+            return resumo;
+        }
+
+        long geracao = geracoesPorPar.getOrDefault(chave, 0L);
+        ConfrontoDiretoResumoDto resumoCalculado = partidaRepository.resumirConfrontoDireto(menorId, maiorId);
+
+        resumosPorPar.compute(chave, (par, atual) -> geracoesPorPar.getOrDefault(par, 0L) == geracao ? resumoCalculado : atual);
+        return resumoCalculado;
+    }
+
+    public void invalidar(Long clubeMandanteId, Long clubeVisitanteId) {
+        long menorId = Math.min(clubeMandanteId, clubeVisitanteId);
+        long maiorId = Math.max(clubeMandanteId, clubeVisitanteId);
+
+        if (maiorId <= MAIOR_ID_EMPACOTAVEL) {
+            long chave = chaveDoPar(menorId, maiorId);
+            AposCommit.executar(() -> {
+                geracoesPorPar.merge(chave, 1L, Long::sum);
+                resumosPorPar.remove(chave);
+            });
+        }
+    }
+
+    static long chaveDoPar(long menorId, long maiorId) {
+        return (menorId << 32) | maiorId;
+    }
+
+}
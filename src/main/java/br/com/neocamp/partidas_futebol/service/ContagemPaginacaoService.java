@@ -0,0 +1,62 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.enums.ModoPaginacao;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Service
+public class ContagemPaginacaoService {
+
+    public static final String PARTIDA = "partida";
+    public static final String CLUBE = "clube";
+    public static final String ESTADIO = "estadio";
+
+    static final String METRICA_CONTAGENS_EVITADAS = "paginacao.contagens.evitadas";
+    static final String METRICA_ESTIMATIVAS_RECALCULADAS = "paginacao.estimativas.recalculadas";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration validadeEstimativa;
+    private final Map<String, Estimativa> estimativas = new ConcurrentHashMap<>();
+
+    public ContagemPaginacaoService(MeterRegistry meterRegistry,
+                                    @Value("${partidas.paginacao.validade-estimativa:PT5M}") Duration validadeEstimativa) {
+        this.meterRegistry = meterRegistry;
+        this.validadeEstimativa = validadeEstimativa;
+    }
+
+    public long estimarTotal(String recurso, LongSupplier contagemExata) {
+        Estimativa estimativa = estimativas.compute(recurso, (chave, atual) -> {
+            if (atual != null && atual.calculadaEm().plus(validadeEstimativa).isAfter(Instant.now())) {
+                return atual;
+            }
+            meterRegistry.counter(METRICA_ESTIMATIVAS_RECALCULADAS, "recurso", recurso).increment();
+            return new Estimativa(new AtomicLong(contagemExata.getAsLong()), Instant.now());
+        });
+
+        return Math.max(0, estimativa.total().get());
+    }
+
+    public void ajustarTotal(String recurso, long delta) {
+        AposCommit.executar(() -> {
+            Estimativa estimativa = estimativas.get(recurso);
+            if (estimativa != null) {
+                estimativa.total().addAndGet(delta);
+            }
+        });
+    }
+
+    public void registrarContagemEvitada(String recurso, ModoPaginacao modo) {
+        meterRegistry.counter(METRICA_CONTAGENS_EVITADAS, "recurso", recurso, "modo", modo.name()).increment();
+    }
+
+    private record Estimativa(AtomicLong total, Instant calculadaEm) {}
+
+}
@@ -0,0 +1,43 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+final class CursorPaginacao {
+
+    private static final String SEPARADOR = ":";
+
+    private final Long id;
+    private final String chave;
+
+    private CursorPaginacao(Long id, String chave) {
+        this.id = id;
+        this.chave = chave;
+    }
+
+    static String codificar(Long id, Object chave) {
+        String conteudo = id + SEPARADOR + chave;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static CursorPaginacao decodificar(String token) {
+        try {
+            String conteudo = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = conteudo.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new CursorPaginacao(Long.valueOf(conteudo.substring(0, separador)), conteudo.substring(separador + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    String getChave() {
+        return chave;
+    }
+}
@@ -2,16 +2,28 @@ package br.com.neocamp.partidas_futebol.service;
 
 import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioRequestDto;
 import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.RecursoVersionadoDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaFatiaDto;
 import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.enums.ModoPaginacao;
+import br.com.neocamp.partidas_futebol.exceptions.EntityPreconditionFailedException;
 import br.com.neocamp.partidas_futebol.repository.EstadioRepository;
+import br.com.neocamp.partidas_futebol.repository.EstadioSpecification;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 
 @Service
@@ -21,9 +33,25 @@ public class EstadioService {
     private final EstadioRepository estadioRepository;
 
     
+    private final ContagemPaginacaoService contagemPaginacaoService;
+
+    
+    private final CacheReferenciaService cacheReferenciaService;
+
+    
+    private final RespostaSerializadaService respostaSerializadaService;
+
+    
+    private final IndiceNomesService indiceNomesService;
+
+    
     @Autowired
-    public EstadioService(EstadioRepository estadioRepository) {
+    public EstadioService(EstadioRepository estadioRepository, ContagemPaginacaoService contagemPaginacaoService, CacheReferenciaService cacheReferenciaService, RespostaSerializadaService respostaSerializadaService, IndiceNomesService indiceNomesService) {
         this.estadioRepository = estadioRepository;
+        this.contagemPaginacaoService = contagemPaginacaoService;
+        this.cacheReferenciaService = cacheReferenciaService;
+        this.respostaSerializadaService = respostaSerializadaService;
+        this.indiceNomesService = indiceNomesService;
     }
 
     
@@ -32,21 +60,23 @@ public class EstadioService {
         if (estadioDto.getNome() == null || estadioDto.getNome().trim().length() < 3) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nome inválido: deve ter no mínimo 3 caracteres");
         }
-        if (estadioRepository.findByNome(estadioDto.getNome().trim()).isPresent()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Já existe um estádio com o mesmo nome");
-        }
 
             Estadio estadio = new Estadio(
                     estadioDto.getNome().trim()
                     );
 
-            return toResponseDto(estadioRepository.save(estadio));
+            Estadio estadioSalvo = salvarComNomeUnico(estadio);
+            contagemPaginacaoService.ajustarTotal(ContagemPaginacaoService.ESTADIO, 1);
+            cacheReferenciaService.atualizarEstadio(estadioSalvo);
+            indiceNomesService.indexarEstadio(estadioSalvo);
+
+            return toResponseDto(estadioSalvo);
     }
 
     
     public EstadioResponseDto buscarPorId(Long id) {
 
-        Optional<Estadio> estadioOptional = estadioRepository.findById(id);
+        Optional<Estadio> estadioOptional = cacheReferenciaService.buscarEstadio(id);
 
         if (estadioOptional.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Estádio não encontrado");
@@ -56,7 +86,39 @@ public class EstadioService {
     }
 
     
+    public RecursoVersionadoDto<EstadioResponseDto> buscarPorIdVersionado(Long id) {
+
+        Estadio estadio = cacheReferenciaService.buscarEstadio(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Estádio não encontrado"));
+        return new RecursoVersionadoDto<>(VersaoRecursoDto.de(estadio).versao(), toResponseDto(estadio));
+    }
+
+    
+    public VersaoRecursoDto buscarVersao(Long id) {
+
+        return cacheReferenciaService.buscarEstadio(id)
+                .map(VersaoRecursoDto::de)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Estádio não encontrado"));
+    }
+
+    
+    public VersaoPaginaDto buscarVersaoDaPagina(String nome, Pageable pageable) {
+
+        Optional<List<Long>> ids = buscarIdsPorNome(nome);
+        if (ids.isPresent() && ids.get().isEmpty()) {
+            return VersaoConsulta.vazia(pageable);
+        }
+
+        return VersaoConsulta.resumir(estadioRepository.buscarVersoes(especificacao(ids, nome), pageable));
+    }
+
+    
     public EstadioResponseDto atualizarPorId(Long id, EstadioRequestDto estadioAtualizado) {
+        return atualizarPorId(id, estadioAtualizado, null);
+    }
+
+    
+    public EstadioResponseDto atualizarPorId(Long id, EstadioRequestDto estadioAtualizado, String versaoEsperada) {
 
         Optional<Estadio> estadioOptional = estadioRepository.findById(id);
 
@@ -66,38 +128,78 @@ public class EstadioService {
 
         Estadio estadio = estadioOptional.get();
 
+        if (versaoEsperada != null && !versaoEsperada.equals(VersaoRecursoDto.de(estadio).versao())) {
+            throw new EntityPreconditionFailedException("Estádio foi alterado desde a versão informada");
+        }
+
         if (estadioAtualizado.getNome() == null || estadioAtualizado.getNome().trim().length() < 3) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nome inválido: deve ter no mínimo 3 caracteres");
         }
 
-        Optional<Estadio> estadioExistente = estadioRepository
-                .findByNome(estadioAtualizado.getNome().trim());
+        estadio.setNome(estadioAtualizado.getNome().trim());
 
-        if (estadioExistente.isPresent() && !estadioExistente.get().getId().equals(id)) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Já existe um estádio com o mesmo nome");
-        }
+        Estadio estadioSalvo = salvarComNomeUnico(estadio);
+        cacheReferenciaService.atualizarEstadio(estadioSalvo);
+        indiceNomesService.indexarEstadio(estadioSalvo);
+        respostaSerializadaService.invalidar(RespostaSerializadaService.ESTADIO, id);
 
-        estadio.setNome(estadioAtualizado.getNome());
+        return toResponseDto(estadioSalvo);
 
-        Estadio estadioSalvo = estadioRepository.save(estadio);
+    }
 
-        return toResponseDto(estadioSalvo);
+    
+    public Page<EstadioResponseDto> listarEstadios(VersaoPaginaDto pagina, String nome, Set<String> campos, Pageable pageable) {
 
+        List<EstadioResponseDto> estadios;
+        if (CamposSelecionados.todos(campos)) {
+            estadios = VersaoConsulta.ordenar(estadioRepository.findAllById(pagina.ids()), pagina.ids(), Estadio::getId).stream()
+                    .map(this::toResponseDto)
+                    .toList();
+        } else {
+            String erroCampos = CamposSelecionados.validar(campos, estadioRepository.camposDeEstadio());
+            if (erroCampos != null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, erroCampos);
+            }
+            estadios = pagina.ids().isEmpty() ? List.of()
+                    : estadioRepository.buscarEstadiosParciais(EstadioSpecification.comIds(pagina.ids()), campos, Pageable.unpaged(pageable.getSort())).getContent();
+        }
+
+        return VersaoConsulta.paginar(estadios, pagina, pageable,
+                () -> estadioRepository.count(especificacao(buscarIdsPorNome(nome), nome)));
     }
 
     
-    public Page<EstadioResponseDto> listarEstadios(String nome, Pageable pageable) {
+    public PaginaFatiaDto<EstadioResponseDto> listarEstadiosSemContagem(String nome, Pageable pageable, ModoPaginacao modo) {
 
-        Page<Estadio> estadioPage;
+        Optional<List<Long>> ids = buscarIdsPorNome(nome);
+        Slice<Estadio> estadios = ids.isPresent() && ids.get().isEmpty()
+                ? new SliceImpl<>(List.of(), pageable, false)
+                : estadioRepository.buscarEstadiosPorFatia(especificacao(ids, nome), pageable);
+        contagemPaginacaoService.registrarContagemEvitada(ContagemPaginacaoService.ESTADIO, modo);
 
-        if (nome != null) {
-            estadioPage = estadioRepository.findByNomeContainingIgnoreCase(nome.trim(), pageable);
-        } else {
-            estadioPage = estadioRepository.findAll(pageable);
+        Long totalEstimado = null;
+        if (modo == ModoPaginacao.ESTIMADO && nome == null) {
+            totalEstimado = contagemPaginacaoService.estimarTotal(ContagemPaginacaoService.ESTADIO, estadioRepository::count);
         }
 
-        return estadioPage.map(this::toResponseDto);
+        return new PaginaFatiaDto<>(estadios.map(this::toResponseDto).getContent(), estadios.getNumber(), estadios.getSize(), estadios.hasNext(), totalEstimado);
+    }
 
+    
+    private Estadio salvarComNomeUnico(Estadio estadio) {
+        return RestricaoUnica.gravar(() -> estadioRepository.saveAndFlush(estadio), Estadio.RESTRICAO_NOME, "Já existe um estádio com o mesmo nome");
+    }
+
+    
+    private Optional<List<Long>> buscarIdsPorNome(String nome) {
+        return nome == null ? Optional.empty() : indiceNomesService.buscarIdsDeEstadios(nome);
+    }
+
+    
+    private Specification<Estadio> especificacao(Optional<List<Long>> ids, String nome) {
+        return ids
+                .map(EstadioSpecification::comIds)
+                .orElseGet(() -> EstadioSpecification.comNome(nome));
     }
 
     
@@ -0,0 +1,162 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.enums.FormatoExportacao;
+import br.com.neocamp.partidas_futebol.exceptions.EntityBadRequestException;
+import br.com.neocamp.partidas_futebol.repository.ClubeRepository;
+import br.com.neocamp.partidas_futebol.repository.ClubeSpecification;
+import br.com.neocamp.partidas_futebol.repository.EstadioRepository;
+import br.com.neocamp.partidas_futebol.repository.PartidaRepository;
+import br.com.neocamp.partidas_futebol.repository.PartidaSpecification;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+public class ExportacaoService {
+
+    public static final String PARTIDA = "partida";
+    public static final String CLUBE = "clube";
+    public static final String ESTADIO = "estadio";
+
+    static final String METRICA_LINHAS = "partidas.exportacao.linhas";
+    static final String METRICA_DURACAO = "partidas.exportacao.duracao";
+
+    private static final List<String> COLUNAS_PARTIDA = List.of(
+            "partidaId", "clubeMandanteId", "clubeMandanteNome", "clubeVisitanteId", "clubeVisitanteNome",
+            "clubeMandanteGols", "clubeVisitanteGols", "estadioId", "estadioNome", "dataHora");
+    private static final List<String> COLUNAS_CLUBE = List.of("id", "nome", "siglaEstado", "dataCriacao", "ativo");
+    private static final List<String> COLUNAS_ESTADIO = List.of("id", "nome");
+
+    private final PartidaRepository partidaRepository;
+    private final ClubeRepository clubeRepository;
+    private final EstadioRepository estadioRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public ExportacaoService(PartidaRepository partidaRepository, ClubeRepository clubeRepository, EstadioRepository estadioRepository,
+                             ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.partidaRepository = partidaRepository;
+        this.clubeRepository = clubeRepository;
+        this.estadioRepository = estadioRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void validar(String entidade, LocalDateTime dataHoraInicio, LocalDateTime dataHoraFim) {
+        if (!List.of(PARTIDA, CLUBE, ESTADIO).contains(entidade)) {
+            throw new EntityNotFoundException("Entidade de exportação não encontrada: use partida, clube ou estadio");
+        }
+        if ((dataHoraInicio != null || dataHoraFim != null) && !PARTIDA.equals(entidade)) {
+            throw new EntityBadRequestException("Filtro por dataHora disponível apenas para partidas");
+        }
+        if (dataHoraInicio != null && dataHoraFim != null && !dataHoraInicio.isBefore(dataHoraFim)) {
+            throw new EntityBadRequestException("dataHoraInicio deve ser anterior a dataHoraFim");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportar(String entidade, FormatoExportacao formato, LocalDateTime dataHoraInicio, LocalDateTime dataHoraFim, OutputStream saida) throws IOException {
+        validar(entidade, dataHoraInicio, dataHoraFim);
+
+        Timer.Sample amostra = Timer.start(meterRegistry);
+        long linhas;
+        try {
+            linhas = switch (entidade) {
+                case PARTIDA -> {
+                    try (Stream<PartidaResponseDto> partidas = partidaRepository.buscarPartidasEmFluxo(PartidaSpecification.noPeriodo(dataHoraInicio, dataHoraFim))) {
+                        yield escrever(partidas, formato, COLUNAS_PARTIDA, partida -> Arrays.asList(
+                                partida.getPartidaId(), partida.getClubeMandanteId(), partida.getClubeMandanteNome(),
+                                partida.getClubeVisitanteId(), partida.getClubeVisitanteNome(),
+                                partida.getClubeMandanteGols(), partida.getClubeVisitanteGols(),
+                                partida.getEstadioId(), partida.getEstadioNome(), partida.getDataHora()), saida);
+                    }
+                }
+                case CLUBE -> {
+                    try (Stream<ClubeResponseDto> clubes = clubeRepository.buscarClubesEmFluxo(ClubeSpecification.comFiltros(null, null, null))) {
+                        yield escrever(clubes, formato, COLUNAS_CLUBE, clube -> Arrays.asList(
+                                clube.getId(), clube.getNome(), clube.getSiglaEstado(), clube.getDataCriacao(), clube.getAtivo()), saida);
+                    }
+                }
+                default -> {
+                    try (Stream<EstadioResponseDto> estadios = estadioRepository.buscarEstadiosEmFluxo()) {
+                        yield escrever(estadios, formato, COLUNAS_ESTADIO, estadio -> Arrays.asList(estadio.getId(), estadio.getNome()), saida);
+                    }
+                }
+            };
+        } finally {
+            amostra.stop(meterRegistry.timer(METRICA_DURACAO, "entidade", entidade, "formato", formato.name()));
+        }
+
+        meterRegistry.counter(METRICA_LINHAS, "entidade", entidade, "formato", formato.name()).increment(linhas);
+        return linhas;
+    }
+
+    private <T> long escrever(Stream<T> registros, FormatoExportacao formato, List<String> colunas,
+                              Function<T, List<Object>> valores, OutputStream saida) throws IOException {
+        Iterator<T> iterador = registros.iterator();
+        long linhas = 0;
+
+        if (formato == FormatoExportacao.CSV) {
+            Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+            escreverLinhaCsv(escritor, colunas);
+            while (iterador.hasNext()) {
+                escreverLinhaCsv(escritor, valores.apply(iterador.next()));
+                linhas++;
+            }
+            escritor.flush();
+            return linhas;
+        }
+
+        JsonGenerator gerador = objectMapper.createGenerator(saida);
+        gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (iterador.hasNext()) {
+            gerador.writeObject(iterador.next());
+            gerador.writeRaw('\n');
+            linhas++;
+        }
+        gerador.flush();
+        return linhas;
+    }
+
+    private void escreverLinhaCsv(Writer escritor, List<?> valores) throws IOException {
+        for (int i = 0; i < valores.size(); i++) {
+            if (i > 0) {
+                escritor.write(',');
+            }
+            escritor.write(valorCsv(valores.get(i)));
+        }
+        escritor.write('\n');
+    }
+
+    private String valorCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor.toString();
+        if (texto.indexOf(',') >= 0 || texto.indexOf('"') >= 0 || texto.indexOf('\n') >= 0 || texto.indexOf('\r') >= 0) {
+            return '"' + texto.replace("\"", "\"\"") + '"';
+        }
+        return texto;
+    }
+
+}
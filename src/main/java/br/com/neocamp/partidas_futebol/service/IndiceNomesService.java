@@ -0,0 +1,120 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.buscaDto.ResultadoBuscaDto;
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.repository.ClubeRepository;
+import br.com.neocamp.partidas_futebol.repository.ClubeSpecification;
+import br.com.neocamp.partidas_futebol.repository.EstadioRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Service
+public class IndiceNomesService {
+
+    static final String CLUBE = "CLUBE";
+    static final String ESTADIO = "ESTADIO";
+
+    static final int LIMITE_BUSCA = 50;
+
+    private final ClubeRepository clubeRepository;
+    private final EstadioRepository estadioRepository;
+    private final int maximoIds;
+
+    private final IndiceTrigramas clubes = new IndiceTrigramas();
+    private final IndiceTrigramas estadios = new IndiceTrigramas();
+
+    private volatile boolean carregado;
+
+    public IndiceNomesService(ClubeRepository clubeRepository,
+                              EstadioRepository estadioRepository,
+                              @Value("${partidas.busca.maximo-ids:1000}") int maximoIds) {
+        this.clubeRepository = clubeRepository;
+        this.estadioRepository = estadioRepository;
+        this.maximoIds = maximoIds;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void recarregar() {
+        clubes.iniciarRecarga();
+        estadios.iniciarRecarga();
+
+        Map<Long, String> nomesClubes = new HashMap<>();
+        try (Stream<ClubeResponseDto> fluxo = clubeRepository.buscarClubesEmFluxo(ClubeSpecification.comFiltros(null, null, null))) {
+            fluxo.forEach(clube -> nomesClubes.put(clube.getId(), clube.getNome()));
+        }
+
+        Map<Long, String> nomesEstadios = new HashMap<>();
+        try (Stream<EstadioResponseDto> fluxo = estadioRepository.buscarEstadiosEmFluxo()) {
+            fluxo.forEach(estadio -> nomesEstadios.put(estadio.getId(), estadio.getNome()));
+        }
+
+        clubes.substituir(nomesClubes);
+        estadios.substituir(nomesEstadios);
+        carregado = true;
+    }
+
+    public void indexarClube(Clube clube) {
+        Long id = clube.getId();
+        String nome = clube.getNome();
+        AposCommit.executar(() -> clubes.indexar(id, nome));
+    }
+
+    public void indexarEstadio(Estadio estadio) {
+        Long id = estadio.getId();
+        String nome = estadio.getNome();
+        AposCommit.executar(() -> estadios.indexar(id, nome));
+    }
+
+    public Optional<List<Long>> buscarIdsDeClubes(String nome) {
+        return buscarIds(clubes, nome);
+    }
+
+    public Optional<List<Long>> buscarIdsDeEstadios(String nome) {
+        return buscarIds(estadios, nome);
+    }
+
+    public List<ResultadoBuscaDto> buscar(String termo, int limite) {
+        if (termo == null || IndiceTrigramas.normalizar(termo).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O parâmetro q é obrigatório");
+        }
+        if (limite < 1 || limite > LIMITE_BUSCA) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O limite deve estar entre 1 e " + LIMITE_BUSCA);
+        }
+
+        List<Resultado> resultados = new ArrayList<>();
+        clubes.buscarRanqueado(termo, limite).forEach(ocorrencia -> resultados.add(new Resultado(CLUBE, ocorrencia)));
+        estadios.buscarRanqueado(termo, limite).forEach(ocorrencia -> resultados.add(new Resultado(ESTADIO, ocorrencia)));
+        resultados.sort((um, outro) -> IndiceTrigramas.RELEVANCIA.compare(um.ocorrencia(), outro.ocorrencia()));
+
+        return resultados.stream()
+                .limit(limite)
+                .map(resultado -> new ResultadoBuscaDto(resultado.tipo(), resultado.ocorrencia().id(), resultado.ocorrencia().nome()))
+                .toList();
+    }
+
+    private Optional<List<Long>> buscarIds(IndiceTrigramas indice, String nome) {
+        if (!carregado || nome == null || IndiceTrigramas.normalizar(nome).isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(indice.buscarIds(nome, maximoIds));
+    }
+
+    private record Resultado(String tipo, IndiceTrigramas.Ocorrencia ocorrencia) {}
+
+}
@@ -0,0 +1,574 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.entity.NormalizacaoNome;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+final class IndiceTrigramas {
+
+    static final int EXATO = 0;
+    static final int PREFIXO = 1;
+    static final int INICIO_DE_PALAVRA = 2;
+    static final int CONTIDO = 3;
+
+    static final Comparator<Ocorrencia> RELEVANCIA = Comparator
+            .comparingInt(Ocorrencia::categoria)
+            .thenComparingInt(Ocorrencia::posicao)
+            .thenComparingInt(ocorrencia -> ocorrencia.normalizado().length())
+            .thenComparing(Ocorrencia::normalizado)
+            .thenComparingLong(Ocorrencia::id);
+
+    private static final int LIMIAR_FREQUENTE = 2048;
+
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+
+    private Estado estado = Estado.construir(Map.of());
+
+    private Map<Long, String> alteracoesDuranteRecarga;
+
+    static String normalizar(String texto) {
+        return texto == null ? "" : NormalizacaoNome.normalizar(texto);
+    }
+
+    void indexar(long id, String nome) {
+        trava.writeLock().lock();
+        try {
+            estado.indexar(id, nome);
+            if (alteracoesDuranteRecarga != null) {
+                alteracoesDuranteRecarga.put(id, nome);
+            }
+            if (estado.precisaCompactar()) {
+                estado = estado.compactado();
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    void remover(long id) {
+        trava.writeLock().lock();
+        try {
+            estado.remover(id);
+            if (alteracoesDuranteRecarga != null) {
+                alteracoesDuranteRecarga.put(id, null);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    void iniciarRecarga() {
+        trava.writeLock().lock();
+        try {
+            alteracoesDuranteRecarga = new LinkedHashMap<>();
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    void substituir(Map<Long, String> nomes) {
+        Estado novo = Estado.construir(nomes);
+
+        trava.writeLock().lock();
+        try {
+            if (alteracoesDuranteRecarga != null) {
+                alteracoesDuranteRecarga.forEach((id, nome) -> {
+                    if (nome == null) {
+                        novo.remover(id);
+                    } else {
+                        novo.indexar(id, nome);
+                    }
+                });
+                alteracoesDuranteRecarga = null;
+            }
+            estado = novo.precisaCompactar() ? novo.compactado() : novo;
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    int tamanho() {
+        trava.readLock().lock();
+        try {
+            return estado.slotPorId.size();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    List<Long> buscarIds(String termo, int maximo) {
+        String normalizado = normalizar(termo);
+
+        trava.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (int slot : estado.candidatos(normalizado)) {
+                if (estado.vivos[slot] && estado.normalizados[slot].contains(normalizado)) {
+                    if (ids.size() == maximo) {
+                        return null;
+                    }
+                    ids.add(estado.ids[slot]);
+                }
+            }
+            return ids;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    List<Ocorrencia> buscarRanqueado(String termo, int limite) {
+        String normalizado = normalizar(termo);
+        if (normalizado.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Ocorrencia> melhores = new PriorityQueue<>(limite + 1, RELEVANCIA.reversed());
+
+        trava.readLock().lock();
+        try {
+            estado.ranquear(normalizado, limite, melhores);
+        } finally {
+            trava.readLock().unlock();
+        }
+
+        List<Ocorrencia> ordenadas = new ArrayList<>(melhores);
+        ordenadas.sort(RELEVANCIA);
+        return ordenadas;
+    }
+
+    private static long chave(String texto, int inicio, int tamanho) {
+        long chave = tamanho;
+        for (int i = inicio; i < inicio + tamanho; i++) {
+            chave = (chave << 16) | texto.charAt(i);
+        }
+        return chave;
+    }
+
+    private static void oferecer(PriorityQueue<Ocorrencia> melhores, int limite, Ocorrencia ocorrencia) {
+        if (melhores.size() < limite) {
+            melhores.add(ocorrencia);
+        } else if (RELEVANCIA.compare(ocorrencia, melhores.peek()) < 0) {
+            melhores.poll();
+            melhores.add(ocorrencia);
+        }
+    }
+
+    record Ocorrencia(long id, String nome, String normalizado, int categoria, int posicao) {}
+
+    private static final class Estado {
+
+        private long[] ids;
+        private String[] nomes;
+        private String[] normalizados;
+        private boolean[] vivos;
+        private int ocupados;
+        private int removidos;
+
+        private final Map<Long, Integer> slotPorId = new HashMap<>();
+        private final Map<Long, Postagem> trigramas = new HashMap<>();
+        private final Map<Long, PostagemOrdenada> primeirasPosicoes = new HashMap<>();
+        private final Map<Long, PostagemOrdenada> iniciosDePalavra = new HashMap<>();
+
+        private Estado(int capacidade) {
+            ids = new long[capacidade];
+            nomes = new String[capacidade];
+            normalizados = new String[capacidade];
+            vivos = new boolean[capacidade];
+        }
+
+        private static Estado construir(Map<Long, String> nomes) {
+            Map<Long, String> normalizadosPorId = new HashMap<>(nomes.size() * 2);
+            nomes.forEach((id, nome) -> normalizadosPorId.put(id, normalizar(nome)));
+
+            List<Long> ordem = new ArrayList<>(nomes.keySet());
+            ordem.sort(Comparator
+                    .<Long>comparingInt(id -> normalizadosPorId.get(id).length())
+                    .thenComparing(normalizadosPorId::get)
+                    .thenComparing(Comparator.naturalOrder()));
+
+            Estado estado = new Estado(Math.max(16, ordem.size()));
+            for (Long id : ordem) {
+                estado.registrarPostagens(estado.ocupar(id, nomes.get(id), normalizadosPorId.get(id)), false);
+            }
+            estado.primeirasPosicoes.values().forEach(PostagemOrdenada::ordenar);
+            estado.iniciosDePalavra.values().forEach(PostagemOrdenada::ordenar);
+            return estado;
+        }
+
+        private void indexar(long id, String nome) {
+            String normalizado = normalizar(nome);
+            Integer atual = slotPorId.get(id);
+            if (atual != null && normalizado.equals(normalizados[atual])) {
+                nomes[atual] = nome;
+                return;
+            }
+            remover(id);
+            registrarPostagens(ocupar(id, nome, normalizado), true);
+        }
+
+        private int ocupar(long id, String nome, String normalizado) {
+            if (ocupados == ids.length) {
+                int capacidade = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacidade);
+                nomes = Arrays.copyOf(nomes, capacidade);
+                normalizados = Arrays.copyOf(normalizados, capacidade);
+                vivos = Arrays.copyOf(vivos, capacidade);
+            }
+
+            int slot = ocupados++;
+            ids[slot] = id;
+            nomes[slot] = nome;
+            normalizados[slot] = normalizado;
+            vivos[slot] = true;
+            slotPorId.put(id, slot);
+            return slot;
+        }
+
+        private void registrarPostagens(int slot, boolean ordenado) {
+            String normalizado = normalizados[slot];
+
+            Map<Long, Integer> posicoes = new HashMap<>();
+            for (int i = 0; i + 2 <= normalizado.length(); i++) {
+                posicoes.putIfAbsent(chave(normalizado, i, 2), i);
+                if (i + 3 <= normalizado.length()) {
+                    long trigrama = chave(normalizado, i, 3);
+                    if (posicoes.putIfAbsent(trigrama, i) == null) {
+                        trigramas.computeIfAbsent(trigrama, chave -> new Postagem()).adicionar(slot);
+                    }
+                }
+            }
+            posicoes.forEach((grama, posicao) -> registrar(primeirasPosicoes, grama, slot, posicao, ordenado));
+
+            posicoes.clear();
+            for (int i = 0; i < normalizado.length(); i++) {
+                if (i > 0 && normalizado.charAt(i - 1) != ' ') {
+                    continue;
+                }
+                for (int tamanho = 1; tamanho <= 3 && i + tamanho <= normalizado.length(); tamanho++) {
+                    posicoes.putIfAbsent(chave(normalizado, i, tamanho), i);
+                }
+            }
+            posicoes.forEach((inicio, posicao) -> registrar(iniciosDePalavra, inicio, slot, posicao, ordenado));
+        }
+
+        private void registrar(Map<Long, PostagemOrdenada> postagens, long chave, int slot, int posicao, boolean ordenado) {
+            PostagemOrdenada postagem = postagens.computeIfAbsent(chave, ignorada -> new PostagemOrdenada(this));
+            if (ordenado) {
+                postagem.inserir(slot, posicao);
+            } else {
+                postagem.adicionar(slot, posicao);
+            }
+        }
+
+        private void remover(long id) {
+            Integer slot = slotPorId.remove(id);
+            if (slot != null) {
+                vivos[slot] = false;
+                nomes[slot] = null;
+                removidos++;
+            }
+        }
+
+        private boolean precisaCompactar() {
+            return removidos > 1024 && removidos > ocupados / 4;
+        }
+
+        private Estado compactado() {
+            Map<Long, String> vigentes = new HashMap<>();
+            for (int slot = 0; slot < ocupados; slot++) {
+                if (vivos[slot]) {
+                    vigentes.put(ids[slot], nomes[slot]);
+                }
+            }
+            return construir(vigentes);
+        }
+
+        private int comparar(int posicao, int slot, int outraPosicao, int outroSlot) {
+            int resultado = Integer.compare(posicao, outraPosicao);
+            if (resultado == 0) {
+                resultado = Integer.compare(normalizados[slot].length(), normalizados[outroSlot].length());
+            }
+            if (resultado == 0) {
+                resultado = normalizados[slot].compareTo(normalizados[outroSlot]);
+            }
+            return resultado != 0 ? resultado : Long.compare(ids[slot], ids[outroSlot]);
+        }
+
+        private void ranquear(String termo, int limite, PriorityQueue<Ocorrencia> melhores) {
+            long[] filtro = null;
+            Postagem maisRara = null;
+            int deslocamento = 0;
+
+            if (termo.length() > 3) {
+                List<Postagem> listas = new ArrayList<>();
+                for (int i = 0; i + 3 <= termo.length(); i++) {
+                    Postagem postagem = trigramas.get(chave(termo, i, 3));
+                    if (postagem == null) {
+                        return;
+                    }
+                    listas.add(postagem);
+                    if (maisRara == null || postagem.tamanho < maisRara.tamanho) {
+                        maisRara = postagem;
+                        deslocamento = i;
+                    }
+                }
+
+                if (maisRara.bits == null) {
+                    for (int slot : intersectar(listas)) {
+                        Ocorrencia ocorrencia = vivos[slot] ? classificar(slot, termo) : null;
+                        if (ocorrencia != null) {
+                            oferecer(melhores, limite, ocorrencia);
+                        }
+                    }
+                    return;
+                }
+
+                filtro = maisRara.bits.clone();
+                for (Postagem postagem : listas) {
+                    for (int i = 0; i < filtro.length; i++) {
+                        filtro[i] &= i < postagem.bits.length ? postagem.bits[i] : 0L;
+                    }
+                }
+            }
+
+            PostagemOrdenada inicios = iniciosDePalavra.get(chave(termo, 0, Math.min(3, termo.length())));
+            if (inicios != null) {
+                varrer(inicios, 0, false, filtro, termo, limite, melhores);
+            }
+            if (melhores.size() >= limite) {
+                return;
+            }
+
+            if (termo.length() == 1) {
+                for (int slot = 0; slot < ocupados; slot++) {
+                    if (vivos[slot] && normalizados[slot].contains(termo)) {
+                        Ocorrencia ocorrencia = classificar(slot, termo);
+                        if (ocorrencia.categoria() == CONTIDO) {
+                            oferecer(melhores, limite, ocorrencia);
+                        }
+                    }
+                }
+                return;
+            }
+
+            PostagemOrdenada contidos = termo.length() > 3
+                    ? primeirasPosicoes.get(chave(termo, deslocamento, 3))
+                    : primeirasPosicoes.get(chave(termo, 0, termo.length()));
+            if (contidos != null) {
+                varrer(contidos, deslocamento, true, filtro, termo, limite, melhores);
+            }
+        }
+
+        private void varrer(PostagemOrdenada postagem, int deslocamento, boolean contidos, long[] filtro,
+                            String termo, int limite, PriorityQueue<Ocorrencia> melhores) {
+            for (int i = 0; i < postagem.tamanho; i++) {
+                int slot = postagem.slots[i];
+                int posicao = Math.max(0, postagem.posicoes[i] - deslocamento);
+                int categoria = contidos ? CONTIDO
+                        : posicao > 0 ? INICIO_DE_PALAVRA
+                        : normalizados[slot].length() == termo.length() ? EXATO : PREFIXO;
+                if (superaOLimite(melhores, limite, categoria, posicao, slot)) {
+                    return;
+                }
+                if (!vivos[slot] || (filtro != null && !contem(filtro, slot))) {
+                    continue;
+                }
+
+                Ocorrencia ocorrencia = classificar(slot, termo);
+                if (ocorrencia != null && (ocorrencia.categoria() == CONTIDO) == contidos) {
+                    oferecer(melhores, limite, ocorrencia);
+                }
+            }
+        }
+
+        private boolean superaOLimite(PriorityQueue<Ocorrencia> melhores, int limite, int categoria, int posicao, int slot) {
+            if (melhores.size() < limite) {
+                return false;
+            }
+
+            Ocorrencia pior = melhores.peek();
+            int resultado = Integer.compare(categoria, pior.categoria());
+            if (resultado == 0) {
+                resultado = Integer.compare(posicao, pior.posicao());
+            }
+            if (resultado == 0) {
+                resultado = Integer.compare(normalizados[slot].length(), pior.normalizado().length());
+            }
+            if (resultado == 0) {
+                resultado = normalizados[slot].compareTo(pior.normalizado());
+            }
+            if (resultado == 0) {
+                resultado = Long.compare(ids[slot], pior.id());
+            }
+            return resultado > 0;
+        }
+
+        private Ocorrencia classificar(int slot, String termo) {
+            String normalizado = normalizados[slot];
+            int primeira = normalizado.indexOf(termo);
+            if (primeira < 0) {
+                return null;
+            }
+            if (primeira == 0) {
+                int categoria = normalizado.length() == termo.length() ? EXATO : PREFIXO;
+                return new Ocorrencia(ids[slot], nomes[slot], normalizado, categoria, 0);
+            }
+
+            for (int posicao = primeira; posicao >= 0; posicao = normalizado.indexOf(termo, posicao + 1)) {
+                if (normalizado.charAt(posicao - 1) == ' ') {
+                    return new Ocorrencia(ids[slot], nomes[slot], normalizado, INICIO_DE_PALAVRA, posicao);
+                }
+            }
+            return new Ocorrencia(ids[slot], nomes[slot], normalizado, CONTIDO, primeira);
+        }
+
+        private int[] candidatos(String termo) {
+            if (termo.length() < 3) {
+                int[] todos = new int[ocupados];
+                Arrays.setAll(todos, slot -> slot);
+                return todos;
+            }
+
+            List<Postagem> listas = new ArrayList<>();
+            for (int i = 0; i + 3 <= termo.length(); i++) {
+                Postagem postagem = trigramas.get(chave(termo, i, 3));
+                if (postagem == null) {
+                    return new int[0];
+                }
+                listas.add(postagem);
+            }
+            return intersectar(listas);
+        }
+
+        private static int[] intersectar(List<Postagem> listas) {
+            Postagem menor = listas.get(0);
+            for (Postagem postagem : listas) {
+                if (postagem.tamanho < menor.tamanho) {
+                    menor = postagem;
+                }
+            }
+
+            int[] resultado = new int[menor.tamanho];
+            int tamanho = 0;
+            for (int i = 0; i < menor.tamanho; i++) {
+                int slot = menor.slots[i];
+                boolean emTodas = true;
+                for (int j = 0; j < listas.size() && emTodas; j++) {
+                    emTodas = listas.get(j) == menor || listas.get(j).contem(slot);
+                }
+                if (emTodas) {
+                    resultado[tamanho++] = slot;
+                }
+            }
+            return Arrays.copyOf(resultado, tamanho);
+        }
+
+        private static boolean contem(long[] bits, int slot) {
+            int palavra = slot >>> 6;
+            return palavra < bits.length && (bits[palavra] & (1L << slot)) != 0;
+        }
+
+    }
+
+    private static final class Postagem {
+
+        private int[] slots = new int[4];
+        private int tamanho;
+        private long[] bits;
+
+        private void adicionar(int slot) {
+            if (tamanho == slots.length) {
+                slots = Arrays.copyOf(slots, tamanho * 2);
+            }
+            slots[tamanho++] = slot;
+
+            if (bits != null) {
+                marcar(slot);
+            } else if (tamanho >= LIMIAR_FREQUENTE) {
+                bits = new long[(slot >>> 6) + 1];
+                for (int i = 0; i < tamanho; i++) {
+                    marcar(slots[i]);
+                }
+            }
+        }
+
+        private void marcar(int slot) {
+            int palavra = slot >>> 6;
+            if (palavra >= bits.length) {
+                bits = Arrays.copyOf(bits, Math.max(palavra + 1, bits.length * 2));
+            }
+            bits[palavra] |= 1L << slot;
+        }
+
+        private boolean contem(int slot) {
+            if (bits != null) {
+                return Estado.contem(bits, slot);
+            }
+            return Arrays.binarySearch(slots, 0, tamanho, slot) >= 0;
+        }
+
+    }
+
+    private static final class PostagemOrdenada {
+
+        private final Estado estado;
+        private int[] slots = new int[4];
+        private int[] posicoes = new int[4];
+        private int tamanho;
+
+        private PostagemOrdenada(Estado estado) {
+            this.estado = estado;
+        }
+
+        private void adicionar(int slot, int posicao) {
+            if (tamanho == slots.length) {
+                slots = Arrays.copyOf(slots, tamanho * 2);
+                posicoes = Arrays.copyOf(posicoes, tamanho * 2);
+            }
+            slots[tamanho] = slot;
+            posicoes[tamanho++] = posicao;
+        }
+
+        private void inserir(int slot, int posicao) {
+            int inicio = 0;
+            int fim = tamanho;
+            while (inicio < fim) {
+                int meio = (inicio + fim) >>> 1;
+                if (estado.comparar(posicoes[meio], slots[meio], posicao, slot) < 0) {
+                    inicio = meio + 1;
+                } else {
+                    fim = meio;
+                }
+            }
+
+            adicionar(slot, posicao);
+            System.arraycopy(slots, inicio, slots, inicio + 1, tamanho - 1 - inicio);
+            System.arraycopy(posicoes, inicio, posicoes, inicio + 1, tamanho - 1 - inicio);
+            slots[inicio] = slot;
+            posicoes[inicio] = posicao;
+        }
+
+        private void ordenar() {
+            long[] chaves = new long[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                chaves[i] = ((long) posicoes[i] << 32) | slots[i];
+            }
+            Arrays.sort(chaves);
+            for (int i = 0; i < tamanho; i++) {
+                posicoes[i] = (int) (chaves[i] >>> 32);
+                slots[i] = (int) chaves[i];
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,263 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaImportacaoProgressoDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaLoteErroDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaLoteResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaRequestDto;
+import br.com.neocamp.partidas_futebol.exceptions.EntityBadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Service
+public class PartidaImportacaoService {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final List<String> COLUNAS_CSV = List.of(
+            "clubeMandanteId", "clubeVisitanteId", "clubeMandanteGols", "clubeVisitanteGols", "estadioId", "dataHora");
+
+    private final PartidaService partidaService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int tamanhoLote;
+
+    public PartidaImportacaoService(
+            PartidaService partidaService,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            @Value("${partidas.importacao.tamanho-lote:500}") int tamanhoLote) {
+        this.partidaService = partidaService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    public void importarPartidas(InputStream conteudo, MediaType formato, Consumer<PartidaImportacaoProgressoDto> progresso) throws IOException {
+        boolean csv = validarFormato(formato);
+
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(conteudo, StandardCharsets.UTF_8));
+        Map<String, Integer> colunas = csv ? lerCabecalhoCsv(leitor) : Map.of();
+        long numeroLinha = csv ? 1 : 0;
+
+        LoteImportacao lote = new LoteImportacao(1);
+        long totalPartidasCadastradas = 0;
+        String linha;
+
+        while ((linha = leitor.readLine()) != null) {
+            numeroLinha++;
+            long linhaDoRegistro = numeroLinha;
+            if (linha.isBlank()) {
+                continue;
+            }
+
+            try {
+                PartidaRequestDto partidaRequestDto;
+                if (csv) {
+                    RegistroCsv registro = lerRegistroCsv(linha, leitor);
+                    numeroLinha += registro.linhasAdicionais();
+                    partidaRequestDto = converterRegistroCsv(registro.valores(), colunas);
+                } else {
+                    partidaRequestDto = converterLinhaNdjson(linha);
+                }
+                lote.adicionar(linhaDoRegistro, partidaRequestDto);
+            } catch (EntityBadRequestException e) {
+                lote.erros.add(new PartidaLoteErroDto(Math.toIntExact(linhaDoRegistro), e.getMessage()));
+            }
+
+            if (lote.tamanho() >= tamanhoLote) {
+                totalPartidasCadastradas += processarLote(lote, numeroLinha, totalPartidasCadastradas, progresso);
+                lote = new LoteImportacao(lote.numero + 1);
+            }
+        }
+
+        if (lote.tamanho() > 0 || lote.numero == 1) {
+            processarLote(lote, numeroLinha, totalPartidasCadastradas, progresso);
+        }
+    }
+
+    private int processarLote(LoteImportacao lote, long linhasProcessadas, long totalPartidasCadastradas, Consumer<PartidaImportacaoProgressoDto> progresso) {
+        int partidasCadastradas = 0;
+
+        if (!lote.partidas.isEmpty()) {
+            PartidaLoteResponseDto resultado = partidaService.cadastrarPartidasEmLote(lote.partidas);
+            partidasCadastradas = resultado.getPartidasCadastradas().size();
+
+            for (PartidaLoteErroDto erro : resultado.getErros()) {
+                lote.erros.add(new PartidaLoteErroDto(Math.toIntExact(lote.linhas.get(erro.getIndice())), erro.getMensagem()));
+            }
+
+            entityManager.clear();
+        }
+
+        lote.erros.sort((erro, outroErro) -> Integer.compare(erro.getIndice(), outroErro.getIndice()));
+
+        progresso.accept(new PartidaImportacaoProgressoDto(
+                lote.numero,
+                linhasProcessadas,
+                partidasCadastradas,
+                totalPartidasCadastradas + partidasCadastradas,
+                lote.erros
+        ));
+
+        return partidasCadastradas;
+    }
+
+    private boolean validarFormato(MediaType formato) {
+        if (formato != null && TEXT_CSV.isCompatibleWith(formato)) {
+            return true;
+        }
+        if (formato != null && APPLICATION_NDJSON.isCompatibleWith(formato)) {
+            return false;
+        }
+        throw new EntityBadRequestException("Formato de importação não suportado: use application/x-ndjson ou text/csv");
+    }
+
+    private PartidaRequestDto converterLinhaNdjson(String linha) {
+        try {
+            return objectMapper.readValue(linha, PartidaRequestDto.class);
+        } catch (JsonProcessingException e) {
+            throw new EntityBadRequestException("Linha com JSON inválido");
+        }
+    }
+
+    private Map<String, Integer> lerCabecalhoCsv(BufferedReader leitor) throws IOException {
+        String cabecalho = leitor.readLine();
+        if (cabecalho == null) {
+            return Map.of();
+        }
+
+        List<String> nomes = lerRegistroCsv(cabecalho, leitor).valores();
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < nomes.size(); i++) {
+            colunas.put(nomes.get(i).trim(), i);
+        }
+
+        if (!colunas.keySet().containsAll(COLUNAS_CSV)) {
+            throw new EntityBadRequestException("Cabeçalho CSV deve conter as colunas " + String.join(",", COLUNAS_CSV));
+        }
+        return colunas;
+    }
+
+    private RegistroCsv lerRegistroCsv(String linha, BufferedReader leitor) throws IOException {
+        List<String> valores = new ArrayList<>();
+        StringBuilder valor = new StringBuilder();
+        boolean entreAspas = false;
+        int linhasAdicionais = 0;
+        int posicao = 0;
+
+        while (true) {
+            if (posicao == linha.length()) {
+                if (!entreAspas) {
+                    break;
+                }
+                linha = leitor.readLine();
+                if (linha == null) {
+                    throw new EntityBadRequestException("Linha CSV com aspas não fechadas");
+                }
+                valor.append('\n');
+                linhasAdicionais++;
+                posicao = 0;
+                continue;
+            }
+
+            char caractere = linha.charAt(posicao++);
+            if (entreAspas) {
+                if (caractere != '"') {
+                    valor.append(caractere);
+                } else if (posicao < linha.length() && linha.charAt(posicao) == '"') {
+                    valor.append('"');
+                    posicao++;
+                } else {
+                    entreAspas = false;
+                }
+            } else if (caractere == '"') {
+                entreAspas = true;
+            } else if (caractere == ',') {
+                valores.add(valor.toString());
+                valor.setLength(0);
+            } else {
+                valor.append(caractere);
+            }
+        }
+
+        valores.add(valor.toString());
+        return new RegistroCsv(valores, linhasAdicionais);
+    }
+
+    private PartidaRequestDto converterRegistroCsv(List<String> valores, Map<String, Integer> colunas) {
+        try {
+            return new PartidaRequestDto(
+                    converterLong(valorCsv(valores, colunas, "clubeMandanteId")),
+                    converterLong(valorCsv(valores, colunas, "clubeVisitanteId")),
+                    converterInteger(valorCsv(valores, colunas, "clubeMandanteGols")),
+                    converterInteger(valorCsv(valores, colunas, "clubeVisitanteGols")),
+                    converterLong(valorCsv(valores, colunas, "estadioId")),
+                    converterDataHora(valorCsv(valores, colunas, "dataHora"))
+            );
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new EntityBadRequestException("Linha CSV com valor inválido");
+        }
+    }
+
+    private String valorCsv(List<String> valores, Map<String, Integer> colunas, String coluna) {
+        int indice = colunas.get(coluna);
+        if (indice >= valores.size() || valores.get(indice).isBlank()) {
+            return null;
+        }
+        return valores.get(indice).trim();
+    }
+
+    private Long converterLong(String valor) {
+        return valor == null ? null : Long.valueOf(valor);
+    }
+
+    private Integer converterInteger(String valor) {
+        return valor == null ? null : Integer.valueOf(valor);
+    }
+
+    private LocalDateTime converterDataHora(String valor) {
+        return valor == null ? null : LocalDateTime.parse(valor);
+    }
+
+    private record RegistroCsv(List<String> valores, int linhasAdicionais) {}
+
+    private static class LoteImportacao {
+
+        private final int numero;
+        private final List<PartidaRequestDto> partidas = new ArrayList<>();
+        private final List<Long> linhas = new ArrayList<>();
+        private final List<PartidaLoteErroDto> erros = new ArrayList<>();
+
+        private LoteImportacao(int numero) {
+            this.numero = numero;
+        }
+
+        private void adicionar(long numeroLinha, PartidaRequestDto partidaRequestDto) {
+            partidas.add(partidaRequestDto);
+            linhas.add(numeroLinha);
+        }
+
+        private int tamanho() {
+            return partidas.size() + erros.size();
+        }
+    }
+
+}
@@ -1,61 +1,219 @@
 package br.com.neocamp.partidas_futebol.service;
 
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaCursorDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaFatiaDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.ConfrontoDiretoResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.ConfrontoDiretoResumoDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaLoteErroDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaLoteResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaPlacarDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaReferenciaDto;
 import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaRequestDto;
 import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.RecursoVersionadoDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
 import br.com.neocamp.partidas_futebol.entity.Clube;
 import br.com.neocamp.partidas_futebol.entity.Estadio;
 import br.com.neocamp.partidas_futebol.entity.Partida;
+import br.com.neocamp.partidas_futebol.enums.ModoPaginacao;
 import br.com.neocamp.partidas_futebol.exceptions.EntityBadRequestException;
 import br.com.neocamp.partidas_futebol.exceptions.EntityConflictException;
+import br.com.neocamp.partidas_futebol.exceptions.EntityPreconditionFailedException;
 import br.com.neocamp.partidas_futebol.repository.ClubeRepository;
 import br.com.neocamp.partidas_futebol.repository.EstadioRepository;
 import br.com.neocamp.partidas_futebol.repository.PartidaRepository;
+import br.com.neocamp.partidas_futebol.repository.PartidaSpecification;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class PartidaService {
 
+    private static final long INTERVALO_MINIMO_ENTRE_PARTIDAS_HORAS = 48;
+
     private final PartidaRepository partidaRepository;
     private final ClubeRepository clubeRepository;
     private final EstadioRepository estadioRepository;
+    private final ClassificacaoService classificacaoService;
+    private final ConfrontoDiretoService confrontoDiretoService;
+    private final ClubeEstatisticaService clubeEstatisticaService;
+    private final ContagemPaginacaoService contagemPaginacaoService;
+    private final CacheReferenciaService cacheReferenciaService;
+    private final RespostaSerializadaService respostaSerializadaService;
 
     @Autowired
-    public PartidaService(PartidaRepository partidaRepository, ClubeRepository clubeRepository, EstadioRepository estadioRepository) {
+    public PartidaService(PartidaRepository partidaRepository, ClubeRepository clubeRepository, EstadioRepository estadioRepository, ClassificacaoService classificacaoService, ConfrontoDiretoService confrontoDiretoService, ClubeEstatisticaService clubeEstatisticaService, ContagemPaginacaoService contagemPaginacaoService, CacheReferenciaService cacheReferenciaService, RespostaSerializadaService respostaSerializadaService) {
         this.partidaRepository = partidaRepository;
         this.clubeRepository = clubeRepository;
         this.estadioRepository = estadioRepository;
+        this.classificacaoService = classificacaoService;
+        this.confrontoDiretoService = confrontoDiretoService;
+        this.clubeEstatisticaService = clubeEstatisticaService;
+        this.contagemPaginacaoService = contagemPaginacaoService;
+        this.cacheReferenciaService = cacheReferenciaService;
+        this.respostaSerializadaService = respostaSerializadaService;
     }
 
+    @Transactional
     public PartidaResponseDto cadastrarPartida(PartidaRequestDto partidaRequestDto) {
 
-        Clube clubeMandante = clubeRepository.findById(partidaRequestDto.getClubeMandanteId())
-                .orElseThrow(() -> new EntityNotFoundException("Clube mandante não encontrado"));
-        Clube clubeVisitante = clubeRepository.findById(partidaRequestDto.getClubeVisitanteId())
-                .orElseThrow(() -> new EntityNotFoundException("Clube visitante não encontrado"));
-        Estadio estadio = buscarEstadio(partidaRequestDto.getEstadioId());
-        LocalDateTime dataCriacaoMandante = clubeMandante.getDataCriacao().atStartOfDay();
-        LocalDateTime dataCriacaoVisitante = clubeVisitante.getDataCriacao().atStartOfDay();
-        LocalDateTime dataHora = partidaRequestDto.getDataHora();
+        ReferenciasPartida referencias = carregarReferencias(partidaRequestDto, null);
 
-        validarPartida(partidaRequestDto, dataCriacaoMandante, dataCriacaoVisitante, clubeMandante, clubeVisitante, estadio, dataHora);
+        validarPartida(partidaRequestDto, referencias);
 
         Partida partida = new Partida();
-        partida.setClubeMandante(clubeMandante);
-        partida.setClubeVisitante(clubeVisitante);
+        partida.setClubeMandante(clubeRepository.getReferenceById(partidaRequestDto.getClubeMandanteId()));
+        partida.setClubeVisitante(clubeRepository.getReferenceById(partidaRequestDto.getClubeVisitanteId()));
         partida.setClubeMandanteGols(partidaRequestDto.getClubeMandanteGols());
         partida.setClubeVisitanteGols(partidaRequestDto.getClubeVisitanteGols());
-        partida.setEstadio(estadio);
+        partida.setEstadio(estadioRepository.getReferenceById(partidaRequestDto.getEstadioId()));
         partida.setDataHora(partidaRequestDto.getDataHora());
 
-        return toResponseDto(partidaRepository.save(partida));
+        Partida partidaSalva = partidaRepository.save(partida);
+        clubeEstatisticaService.registrarPartidas(List.of(PartidaPlacarDto.de(partidaSalva)));
+        registrarNomesDosClubes(referencias);
+        classificacaoService.registrarPartida(partidaSalva);
+        confrontoDiretoService.invalidar(referencias.mandante().clubeId(), referencias.visitante().clubeId());
+        contagemPaginacaoService.ajustarTotal(ContagemPaginacaoService.PARTIDA, 1);
+
+        return toResponseDto(partidaSalva, referencias);
+    }
+
+    @Transactional
+    public PartidaLoteResponseDto cadastrarPartidasEmLote(List<PartidaRequestDto> partidasRequestDto) {
+
+        Map<Long, Clube> clubes = buscarClubesDoLote(partidasRequestDto);
+        Map<Long, Estadio> estadios = buscarEstadiosDoLote(partidasRequestDto);
+        AgendaPartidas agenda = carregarAgendaDoLote(partidasRequestDto);
+
+        List<Partida> partidasValidas = new ArrayList<>();
+        List<PartidaLoteErroDto> erros = new ArrayList<>();
+
+        for (int indice = 0; indice < partidasRequestDto.size(); indice++) {
+            PartidaRequestDto partidaRequestDto = partidasRequestDto.get(indice);
+            try {
+                partidasValidas.add(validarPartidaDoLote(partidaRequestDto, clubes, estadios, agenda));
+            } catch (EntityBadRequestException | EntityConflictException | EntityNotFoundException e) {
+                erros.add(new PartidaLoteErroDto(indice, e.getMessage()));
+            }
+        }
+
+        List<Partida> partidasSalvas = partidaRepository.saveAll(partidasValidas);
+        clubeEstatisticaService.registrarPartidas(partidasSalvas.stream().map(PartidaPlacarDto::de).toList());
+        contagemPaginacaoService.ajustarTotal(ContagemPaginacaoService.PARTIDA, partidasSalvas.size());
+        for (Partida partidaSalva : partidasSalvas) {
+            classificacaoService.registrarPartida(partidaSalva);
+            confrontoDiretoService.invalidar(partidaSalva.getClubeMandante().getId(), partidaSalva.getClubeVisitante().getId());
+        }
+
+        List<PartidaResponseDto> partidasCadastradas = partidasSalvas.stream()
+                .map(this::toResponseDto)
+                .toList();
+
+        return new PartidaLoteResponseDto(partidasCadastradas, erros);
+    }
+
+    private Partida validarPartidaDoLote(PartidaRequestDto partidaRequestDto, Map<Long, Clube> clubes, Map<Long, Estadio> estadios, AgendaPartidas agenda) {
+        validarCamposObrigatorios(partidaRequestDto);
+        validarClubesOponentesDiferentes(partidaRequestDto);
+
+        Clube clubeMandante = Optional.ofNullable(clubes.get(partidaRequestDto.getClubeMandanteId()))
+                .orElseThrow(() -> new EntityNotFoundException("Clube mandante não encontrado"));
+        Clube clubeVisitante = Optional.ofNullable(clubes.get(partidaRequestDto.getClubeVisitanteId()))
+                .orElseThrow(() -> new EntityNotFoundException("Clube visitante não encontrado"));
+        Estadio estadio = Optional.ofNullable(estadios.get(partidaRequestDto.getEstadioId()))
+                .orElseThrow(() -> new EntityNotFoundException("Estádio não encontrado"));
+        LocalDateTime dataHora = partidaRequestDto.getDataHora();
+
+        validarGolsNaoNegativos(partidaRequestDto);
+        validarDataHoraAnteriorDataCriacaoClubes(partidaRequestDto, clubeMandante.getDataCriacao().atStartOfDay(), clubeVisitante.getDataCriacao().atStartOfDay());
+        validarClubesInativos(clubeMandante.getAtivo(), clubeVisitante.getAtivo());
+        agenda.validar(clubeMandante.getId(), clubeVisitante.getId(), estadio.getId(), dataHora);
+        agenda.registrar(clubeMandante.getId(), clubeVisitante.getId(), estadio.getId(), dataHora);
+
+        return new Partida(clubeMandante, clubeVisitante, partidaRequestDto.getClubeMandanteGols(), partidaRequestDto.getClubeVisitanteGols(), estadio, dataHora);
+    }
+
+    private Map<Long, Clube> buscarClubesDoLote(List<PartidaRequestDto> partidasRequestDto) {
+        Set<Long> clubeIds = new HashSet<>();
+        for (PartidaRequestDto partidaRequestDto : partidasRequestDto) {
+            adicionarSeInformado(clubeIds, partidaRequestDto.getClubeMandanteId());
+            adicionarSeInformado(clubeIds, partidaRequestDto.getClubeVisitanteId());
+        }
+
+        return clubeRepository.findAllById(clubeIds).stream()
+                .collect(Collectors.toMap(Clube::getId, Function.identity()));
+    }
+
+    private Map<Long, Estadio> buscarEstadiosDoLote(List<PartidaRequestDto> partidasRequestDto) {
+        Set<Long> estadioIds = new HashSet<>();
+        for (PartidaRequestDto partidaRequestDto : partidasRequestDto) {
+            adicionarSeInformado(estadioIds, partidaRequestDto.getEstadioId());
+        }
+
+        return estadioRepository.findAllById(estadioIds).stream()
+                .collect(Collectors.toMap(Estadio::getId, Function.identity()));
+    }
+
+    private AgendaPartidas carregarAgendaDoLote(List<PartidaRequestDto> partidasRequestDto) {
+        AgendaPartidas agenda = new AgendaPartidas(Duration.ofHours(INTERVALO_MINIMO_ENTRE_PARTIDAS_HORAS));
+
+        Set<Long> clubeIds = new HashSet<>();
+        Set<Long> estadioIds = new HashSet<>();
+        LocalDateTime menorDataHora = null;
+        LocalDateTime maiorDataHora = null;
+
+        for (PartidaRequestDto partidaRequestDto : partidasRequestDto) {
+            LocalDateTime dataHora = partidaRequestDto.getDataHora();
+            if (dataHora == null) {
+                continue;
+            }
+            adicionarSeInformado(clubeIds, partidaRequestDto.getClubeMandanteId());
+            adicionarSeInformado(clubeIds, partidaRequestDto.getClubeVisitanteId());
+            adicionarSeInformado(estadioIds, partidaRequestDto.getEstadioId());
+            menorDataHora = menorDataHora == null || dataHora.isBefore(menorDataHora) ? dataHora : menorDataHora;
+            maiorDataHora = maiorDataHora == null || dataHora.isAfter(maiorDataHora) ? dataHora : maiorDataHora;
+        }
+
+        if (clubeIds.isEmpty() || estadioIds.isEmpty()) {
+            return agenda;
+        }
+
+        partidaRepository.buscarAgendaNoIntervalo(
+                clubeIds,
+                estadioIds,
+                menorDataHora.minusHours(INTERVALO_MINIMO_ENTRE_PARTIDAS_HORAS),
+                maiorDataHora.plusHours(INTERVALO_MINIMO_ENTRE_PARTIDAS_HORAS)
+        ).forEach(agenda::registrar);
+
+        return agenda;
+    }
+
+    private void adicionarSeInformado(Set<Long> ids, Long id) {
+        if (id != null) {
+            ids.add(id);
+        }
     }
 
     private void validarCamposObrigatorios(PartidaRequestDto partidaRequestDto) {
@@ -75,9 +233,35 @@ public class PartidaService {
         }
     }
 
-    private Estadio buscarEstadio(Long id) {
-        return estadioRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Estádio não encontrado"));
+    private ReferenciasPartida carregarReferencias(PartidaRequestDto partidaRequestDto, Long partidaIdIgnorada) {
+        validarCamposObrigatorios(partidaRequestDto);
+        validarClubesOponentesDiferentes(partidaRequestDto);
+
+        LocalDateTime dataHora = partidaRequestDto.getDataHora();
+        Map<Long, PartidaReferenciaDto> referencias = clubeRepository.buscarReferenciasDePartida(
+                        List.of(partidaRequestDto.getClubeMandanteId(), partidaRequestDto.getClubeVisitanteId()),
+                        partidaRequestDto.getEstadioId(),
+                        dataHora.minusHours(INTERVALO_MINIMO_ENTRE_PARTIDAS_HORAS),
+                        dataHora.plusHours(INTERVALO_MINIMO_ENTRE_PARTIDAS_HORAS),
+                        dataHora.toLocalDate(),
+                        partidaIdIgnorada
+                ).stream()
+                .collect(Collectors.toMap(PartidaReferenciaDto::clubeId, Function.identity()));
+
+        PartidaReferenciaDto mandante = Optional.ofNullable(referencias.get(partidaRequestDto.getClubeMandanteId()))
+                .orElseThrow(() -> new EntityNotFoundException("Clube mandante não encontrado"));
+        PartidaReferenciaDto visitante = Optional.ofNullable(referencias.get(partidaRequestDto.getClubeVisitanteId()))
+                .orElseThrow(() -> new EntityNotFoundException("Clube visitante não encontrado"));
+        if (mandante.estadioId() == null) {
+            throw new EntityNotFoundException("Estádio não encontrado");
+        }
+
+        return new ReferenciasPartida(mandante, visitante);
+    }
+
+    private void registrarNomesDosClubes(ReferenciasPartida referencias) {
+        classificacaoService.atualizarNomeClube(referencias.mandante().clubeId(), referencias.mandante().clubeNome());
+        classificacaoService.atualizarNomeClube(referencias.visitante().clubeId(), referencias.visitante().clubeNome());
     }
 
     private void validarGolsNaoNegativos(PartidaRequestDto partidaRequestDto) {
@@ -92,51 +276,52 @@ public class PartidaService {
         }
     }
 
-    private void validarClubesInativos(Clube mandante, Clube visitante) {
-        if (!mandante.getAtivo() || !visitante.getAtivo()) {
+    private void validarClubesInativos(Boolean mandanteAtivo, Boolean visitanteAtivo) {
+        if (!mandanteAtivo || !visitanteAtivo) {
             throw new EntityConflictException("Não é possível realizar operações com clube inativo");
         }
     }
 
-    private void validarIntervaloDePartidas(Clube mandante, Clube visitante, LocalDateTime dataHoraNovaPartida) {
-        List<Partida> partidasMandante = partidaRepository.findByClubeMandanteId(mandante.getId());
-        List<Partida> partidasVisitante = partidaRepository.findByClubeVisitanteId(visitante.getId());
-
-        for (Partida partida : partidasMandante) {
-            long diff = Math.abs(java.time.Duration.between(partida.getDataHora(), dataHoraNovaPartida).toHours());
-            if (diff < 48) {
-                throw new EntityConflictException("Clube mandante já possui outra partida em menos de 48 horas");
-            }
+    private void validarIntervaloDePartidas(PartidaReferenciaDto mandante, PartidaReferenciaDto visitante) {
+        if (mandante.clubeComPartidaNoIntervalo()) {
+            throw new EntityConflictException("Clube mandante já possui outra partida em menos de 48 horas");
         }
 
-        for (Partida partida : partidasVisitante) {
-            long diff = Math.abs(java.time.Duration.between(partida.getDataHora(), dataHoraNovaPartida).toHours());
-            if (diff < 48) {
-                throw new EntityConflictException("Clube visitante já possui outra partida em menos de 48 horas");
-            }
+        if (visitante.clubeComPartidaNoIntervalo()) {
+            throw new EntityConflictException("Clube visitante já possui outra partida em menos de 48 horas");
         }
-
     }
 
-    private void validarPartidaComEstadioDisponivel(Estadio estadio, LocalDateTime dataHoraNovaPartida) {
-        List<Partida> partidasEstadio = estadio.getPartidas();
-        for (Partida partida : partidasEstadio) {
-            if (partida.getDataHora().toLocalDate().equals(dataHoraNovaPartida.toLocalDate())) {
-                throw new EntityConflictException("Estádio já possui outra partida no mesmo dia");
-            }
+    private void validarPartidaComEstadioDisponivel(PartidaReferenciaDto referencia) {
+        if (referencia.estadioComPartidaNaData()) {
+            throw new EntityConflictException("Estádio já possui outra partida no mesmo dia");
         }
     }
 
 
     public PartidaResponseDto buscarPartidaPorId(Long id) {
-        Partida partida = partidaRepository.findById(id)
+        Partida partida = partidaRepository.buscarPorIdComRelacionamentos(id)
                 .orElseThrow(() -> new EntityNotFoundException("Partida não encontrada"));
 
         return toResponseDto(partida);
     }
 
 
-    public Page<PartidaResponseDto> listarPartidas(
+    public RecursoVersionadoDto<PartidaResponseDto> buscarPartidaPorIdVersionada(Long id) {
+        Partida partida = partidaRepository.buscarPorIdComRelacionamentos(id)
+                .orElseThrow(() -> new EntityNotFoundException("Partida não encontrada"));
+
+        return new RecursoVersionadoDto<>(VersaoRecursoDto.de(partida).versao(), toResponseDto(partida));
+    }
+
+
+    public VersaoRecursoDto buscarVersao(Long id) {
+        return partidaRepository.buscarVersaoPorId(id)
+                .orElseThrow(() -> new EntityNotFoundException("Partida não encontrada"));
+    }
+
+
+    public VersaoPaginaDto buscarVersaoDaPagina(
             Long clubeMandanteId,
             Long clubeVisitanteId,
             Long estadioId,
@@ -144,143 +329,244 @@ public class PartidaService {
 
         validarExistenciaDasEntidadesParaFiltrosDePartida(clubeMandanteId, clubeVisitanteId, estadioId);
 
-        Page<Partida> partidas = aplicarFiltrosPartida(clubeMandanteId, clubeVisitanteId, estadioId, pageable);
-
-        return partidas.map(this::toResponseDto);
+        return VersaoConsulta.resumir(partidaRepository.buscarVersoes(
+                PartidaSpecification.comFiltros(clubeMandanteId, clubeVisitanteId, estadioId), pageable));
     }
 
-    private void validarExistenciaDasEntidadesParaFiltrosDePartida(
+
+    public Page<PartidaResponseDto> listarPartidas(
+            VersaoPaginaDto pagina,
             Long clubeMandanteId,
             Long clubeVisitanteId,
-            Long estadioId) {
-        if (clubeMandanteId != null) {
-            validarExistenciaClubeMandante(clubeMandanteId);
-        }
+            Long estadioId,
+            Set<String> campos,
+            Pageable pageable) {
 
-        if (clubeVisitanteId != null) {
-            validarExistenciaClubeVisitante(clubeVisitanteId);
+        List<PartidaResponseDto> partidas;
+        if (CamposSelecionados.todos(campos)) {
+            partidas = pagina.ids().isEmpty() ? List.of()
+                    : VersaoConsulta.ordenar(partidaRepository.buscarPorIdsComRelacionamentos(pagina.ids()), pagina.ids(), Partida::getPartidaId).stream()
+                            .map(this::toResponseDto)
+                            .toList();
+        } else {
+            String erroCampos = CamposSelecionados.validar(campos, partidaRepository.camposDePartida());
+            if (erroCampos != null) {
+                throw new EntityBadRequestException(erroCampos);
+            }
+            partidas = pagina.ids().isEmpty() ? List.of()
+                    : partidaRepository.buscarPartidasParciais(PartidaSpecification.comIds(pagina.ids()), campos, Pageable.unpaged(pageable.getSort())).getContent();
         }
 
-        if (estadioId != null) {
-            validarExistenciaEstadio(estadioId);
-        }
+        return VersaoConsulta.paginar(partidas, pagina, pageable,
+                () -> partidaRepository.count(PartidaSpecification.comFiltros(clubeMandanteId, clubeVisitanteId, estadioId)));
     }
 
-    private Page<Partida> aplicarFiltrosPartida(Long clubeMandanteId, Long clubeVisitanteId, Long estadioId, Pageable pageable) {
-        if (clubeMandanteId != null && clubeVisitanteId != null && estadioId != null) {
-            return buscarPorTodosFiltros(clubeMandanteId, clubeVisitanteId, estadioId, pageable);
-        }
-        else if (clubeMandanteId != null && estadioId != null) {
-            return buscarPorFiltroMandanteEEstadio(clubeMandanteId, estadioId, pageable);
-        }
-        else if (clubeVisitanteId != null && estadioId != null) {
-            return buscarPorFiltroVisitanteEEstadio(clubeVisitanteId, estadioId, pageable);
-        }
-        else if (clubeMandanteId != null) {
-            return buscarPorFiltroMandante(clubeMandanteId, pageable);
-        }
-        else if (clubeVisitanteId != null) {
-            return buscarPorFiltroVisitante(clubeVisitanteId, pageable);
-        }
-        else if (estadioId != null) {
-            return buscarPorFiltroEstadio(estadioId, pageable);
+    public PaginaCursorDto<PartidaResponseDto> listarPartidasPorCursor(
+            Long clubeMandanteId,
+            Long clubeVisitanteId,
+            Long estadioId,
+            String cursor,
+            int tamanho) {
+
+        validarExistenciaDasEntidadesParaFiltrosDePartida(clubeMandanteId, clubeVisitanteId, estadioId);
+
+        LocalDateTime dataHoraCursor = null;
+        Long partidaIdCursor = null;
+        if (cursor != null) {
+            try {
+                CursorPaginacao cursorPaginacao = CursorPaginacao.decodificar(cursor);
+                dataHoraCursor = LocalDateTime.parse(cursorPaginacao.getChave());
+                partidaIdCursor = cursorPaginacao.getId();
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new EntityBadRequestException("Cursor inválido");
+            }
         }
-        else {
-            return buscarTodasPartidas(pageable);
+
+        Specification<Partida> specification = PartidaSpecification.comFiltros(clubeMandanteId, clubeVisitanteId, estadioId)
+                .and(PartidaSpecification.antesDoCursor(dataHoraCursor, partidaIdCursor));
+        List<Partida> partidas = partidaRepository.buscarPaginaPorCursor(specification, Limit.of(tamanho + 1));
+        contagemPaginacaoService.registrarContagemEvitada(ContagemPaginacaoService.PARTIDA, ModoPaginacao.CURSOR);
+
+        String proximoCursor = null;
+        if (partidas.size() > tamanho) {
+            partidas = partidas.subList(0, tamanho);
+            Partida ultimaPartida = partidas.get(tamanho - 1);
+            proximoCursor = CursorPaginacao.codificar(ultimaPartida.getPartidaId(), ultimaPartida.getDataHora());
         }
-    }
 
-    private Page<Partida> buscarPorTodosFiltros(Long clubeMandanteId, Long clubeVisitanteId, Long estadioId, Pageable pageable) {
-        return partidaRepository.findByClubeMandanteIdAndClubeVisitanteIdAndEstadioId(clubeMandanteId, clubeVisitanteId, estadioId, pageable);
+        return new PaginaCursorDto<>(partidas.stream().map(this::toResponseDto).toList(), tamanho, proximoCursor);
     }
 
-    private Page<Partida> buscarPorFiltroMandanteEEstadio(Long mandanteId, Long estadioId, Pageable pageable) {
-        return partidaRepository.findByClubeMandanteIdAndEstadioId(mandanteId, estadioId, pageable);
-    }
+    public PaginaFatiaDto<PartidaResponseDto> listarPartidasSemContagem(
+            Long clubeMandanteId,
+            Long clubeVisitanteId,
+            Long estadioId,
+            Pageable pageable,
+            ModoPaginacao modo) {
 
-    private Page<Partida> buscarPorFiltroVisitanteEEstadio(Long visitanteId, Long estadioId, Pageable pageable) {
-        return partidaRepository.findByClubeVisitanteIdAndEstadioId(visitanteId, estadioId, pageable);
-    }
+        validarExistenciaDasEntidadesParaFiltrosDePartida(clubeMandanteId, clubeVisitanteId, estadioId);
 
-    private Page<Partida> buscarPorFiltroMandante(Long mandanteId, Pageable pageable) {
-        return partidaRepository.findByClubeMandanteId(mandanteId, pageable);
-    }
+        Slice<Partida> partidas = partidaRepository.buscarPartidasPorFatia(
+                PartidaSpecification.comFiltros(clubeMandanteId, clubeVisitanteId, estadioId), pageable);
+        contagemPaginacaoService.registrarContagemEvitada(ContagemPaginacaoService.PARTIDA, modo);
 
-    private Page<Partida> buscarPorFiltroVisitante(Long visitanteId, Pageable pageable) {
-        return partidaRepository.findByClubeVisitanteId(visitanteId, pageable);
+        Long totalEstimado = null;
+        if (modo == ModoPaginacao.ESTIMADO && clubeMandanteId == null && clubeVisitanteId == null && estadioId == null) {
+            totalEstimado = contagemPaginacaoService.estimarTotal(ContagemPaginacaoService.PARTIDA, partidaRepository::count);
+        }
+
+        return new PaginaFatiaDto<>(
+                partidas.map(this::toResponseDto).getContent(),
+                partidas.getNumber(),
+                partidas.getSize(),
+                partidas.hasNext(),
+                totalEstimado
+        );
     }
 
-    private Page<Partida> buscarPorFiltroEstadio(Long estadioId, Pageable pageable) {
-        return partidaRepository.findByEstadioId(estadioId, pageable);
+    public ConfrontoDiretoResponseDto buscarConfrontoDireto(Long clubeAId, Long clubeBId, Pageable pageable) {
+
+        if (clubeAId.equals(clubeBId)) {
+            throw new EntityBadRequestException("Informe dois clubes diferentes para o confronto direto");
+        }
+
+        validarExistenciaClube(clubeAId);
+        validarExistenciaClube(clubeBId);
+
+        ConfrontoDiretoResumoDto resumo = confrontoDiretoService.buscarResumo(clubeAId, clubeBId);
+        Page<PartidaResponseDto> partidas = partidaRepository.buscarConfrontoDireto(clubeAId, clubeBId, pageable)
+                .map(this::toResponseDto);
+
+        return new ConfrontoDiretoResponseDto(clubeAId, clubeBId, resumo, PaginaDto.de(partidas));
     }
 
-    private Page<Partida> buscarTodasPartidas(Pageable pageable) {
-        return partidaRepository.findAll(pageable);
+    private void validarExistenciaDasEntidadesParaFiltrosDePartida(
+            Long clubeMandanteId,
+            Long clubeVisitanteId,
+            Long estadioId) {
+        if (clubeMandanteId != null) {
+            validarExistenciaClubeMandante(clubeMandanteId);
+        }
+
+        if (clubeVisitanteId != null) {
+            validarExistenciaClubeVisitante(clubeVisitanteId);
+        }
+
+        if (estadioId != null) {
+            validarExistenciaEstadio(estadioId);
+        }
     }
 
     private void validarExistenciaClubeMandante(Long clubeMandante) {
-        if (!clubeRepository.existsById(clubeMandante)) {
+        if (!cacheReferenciaService.existeClube(clubeMandante)) {
             throw new EntityNotFoundException("Clube mandante não encontrado");
         }
     }
 
     private void validarExistenciaClubeVisitante(Long clubeVisitante) {
-        if (!clubeRepository.existsById(clubeVisitante)) {
+        if (!cacheReferenciaService.existeClube(clubeVisitante)) {
             throw new EntityNotFoundException("Clube visitante não encontrado");
         }
     }
 
+    private void validarExistenciaClube(Long clubeId) {
+        if (!cacheReferenciaService.existeClube(clubeId)) {
+            throw new EntityNotFoundException("Clube não encontrado");
+        }
+    }
+
     private void validarExistenciaEstadio(Long estadioId) {
-        if (!estadioRepository.existsById(estadioId)) {
+        if (!cacheReferenciaService.existeEstadio(estadioId)) {
             throw new EntityNotFoundException("Estádio não encontrado");
         }
     }
 
 
+    @Transactional
     public PartidaResponseDto atualizarPartidaPorId(Long id, PartidaRequestDto partidaRequestDto) {
+        return atualizarPartidaPorId(id, partidaRequestDto, null);
+    }
+
+
+    @Transactional
+    public PartidaResponseDto atualizarPartidaPorId(Long id, PartidaRequestDto partidaRequestDto, String versaoEsperada) {
 
         Partida partidaExistente = partidaRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Partida não encontrada"));
 
-        Clube clubeMandante = clubeRepository.findById(partidaRequestDto.getClubeMandanteId())
-                .orElseThrow(() -> new EntityNotFoundException("Clube mandante não encontrado"));
-        Clube clubeVisitante = clubeRepository.findById(partidaRequestDto.getClubeVisitanteId())
-                .orElseThrow(() -> new EntityNotFoundException("Clube visitante não encontrado"));
-        Estadio estadio = buscarEstadio(partidaRequestDto.getEstadioId());
-        LocalDateTime dataCriacaoMandante = clubeMandante.getDataCriacao().atStartOfDay();
-        LocalDateTime dataCriacaoVisitante = clubeVisitante.getDataCriacao().atStartOfDay();
-        LocalDateTime dataHora = partidaRequestDto.getDataHora();
+        if (versaoEsperada != null && !versaoEsperada.equals(VersaoRecursoDto.de(partidaExistente).versao())) {
+            throw new EntityPreconditionFailedException("Partida foi alterada desde a versão informada");
+        }
+
+        ReferenciasPartida referencias = carregarReferencias(partidaRequestDto, id);
 
-        validarPartida(partidaRequestDto, dataCriacaoMandante, dataCriacaoVisitante, clubeMandante, clubeVisitante, estadio, dataHora);
+        validarPartida(partidaRequestDto, referencias);
 
-        partidaExistente.setClubeMandante(clubeMandante);
-        partidaExistente.setClubeVisitante(clubeVisitante);
+        PartidaPlacarDto placarAnterior = PartidaPlacarDto.de(partidaExistente);
+
+        partidaExistente.setClubeMandante(clubeRepository.getReferenceById(partidaRequestDto.getClubeMandanteId()));
+        partidaExistente.setClubeVisitante(clubeRepository.getReferenceById(partidaRequestDto.getClubeVisitanteId()));
         partidaExistente.setClubeMandanteGols(partidaRequestDto.getClubeMandanteGols());
         partidaExistente.setClubeVisitanteGols(partidaRequestDto.getClubeVisitanteGols());
-        partidaExistente.setEstadio(estadio);
+        partidaExistente.setEstadio(estadioRepository.getReferenceById(partidaRequestDto.getEstadioId()));
         partidaExistente.setDataHora(partidaRequestDto.getDataHora());
 
-        return toResponseDto(partidaRepository.save(partidaExistente));
+        Partida partidaSalva = partidaRepository.save(partidaExistente);
+        clubeEstatisticaService.substituirPartida(placarAnterior, PartidaPlacarDto.de(partidaSalva));
+        registrarNomesDosClubes(referencias);
+        classificacaoService.substituirPartida(placarAnterior, partidaSalva);
+        confrontoDiretoService.invalidar(placarAnterior.clubeMandanteId(), placarAnterior.clubeVisitanteId());
+        confrontoDiretoService.invalidar(referencias.mandante().clubeId(), referencias.visitante().clubeId());
+        respostaSerializadaService.invalidar(RespostaSerializadaService.PARTIDA, id);
+
+        return toResponseDto(partidaSalva, referencias);
 
     }
 
 
+    @Transactional
     public void deletarPartidaPorId(Long id) {
         Partida partida = partidaRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Partida não encontrada"));
 
         partidaRepository.delete(partida);
+
+        PartidaPlacarDto placar = PartidaPlacarDto.de(partida);
+        clubeEstatisticaService.removerPartida(placar);
+        classificacaoService.removerPartida(partida);
+        confrontoDiretoService.invalidar(placar.clubeMandanteId(), placar.clubeVisitanteId());
+        contagemPaginacaoService.ajustarTotal(ContagemPaginacaoService.PARTIDA, -1);
+        respostaSerializadaService.invalidar(RespostaSerializadaService.PARTIDA, id);
     }
 
 
-    private void validarPartida(PartidaRequestDto partidaRequestDto, LocalDateTime dataCriacaoMandante, LocalDateTime dataCriacaoVisitante, Clube clubeMandante, Clube clubeVisitante, Estadio estadio, LocalDateTime dataHora) {
-        validarCamposObrigatorios(partidaRequestDto);
-        validarClubesOponentesDiferentes(partidaRequestDto);
+    private void validarPartida(PartidaRequestDto partidaRequestDto, ReferenciasPartida referencias) {
+        PartidaReferenciaDto mandante = referencias.mandante();
+        PartidaReferenciaDto visitante = referencias.visitante();
+
         validarGolsNaoNegativos(partidaRequestDto);
-        validarDataHoraAnteriorDataCriacaoClubes(partidaRequestDto, dataCriacaoMandante, dataCriacaoVisitante);
-        validarClubesInativos(clubeMandante, clubeVisitante);
-        validarIntervaloDePartidas(clubeMandante, clubeVisitante, dataHora);
-        validarPartidaComEstadioDisponivel(estadio, dataHora);
+        validarDataHoraAnteriorDataCriacaoClubes(partidaRequestDto, mandante.clubeDataCriacao().atStartOfDay(), visitante.clubeDataCriacao().atStartOfDay());
+        validarClubesInativos(mandante.clubeAtivo(), visitante.clubeAtivo());
+        validarIntervaloDePartidas(mandante, visitante);
+        validarPartidaComEstadioDisponivel(mandante);
+    }
+
+    private PartidaResponseDto toResponseDto(Partida partida, ReferenciasPartida referencias) {
+
+        return new PartidaResponseDto(
+
+                partida.getPartidaId(),
+                referencias.mandante().clubeId(),
+                referencias.mandante().clubeNome(),
+                referencias.visitante().clubeId(),
+                referencias.visitante().clubeNome(),
+                partida.getClubeMandanteGols(),
+                partida.getClubeVisitanteGols(),
+                referencias.mandante().estadioId(),
+                referencias.mandante().estadioNome(),
+                partida.getDataHora()
+        );
+
     }
 
     private PartidaResponseDto toResponseDto(Partida partida) {
@@ -301,4 +587,6 @@ public class PartidaService {
 
     }
 
-}
\ No newline at end of file
+    private record ReferenciasPartida(PartidaReferenciaDto mandante, PartidaReferenciaDto visitante) {}
+
+}
@@ -0,0 +1,54 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.enums.FormatoResposta;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+public final class RespostaSerializada {
+
+    private final byte[] corpo;
+    private final String versao;
+    private final FormatoResposta formato;
+    private volatile byte[] corpoGzip;
+
+    RespostaSerializada(byte[] corpo, String versao, FormatoResposta formato) {
+        this.corpo = corpo;
+        this.versao = versao;
+        this.formato = formato;
+    }
+
+    public byte[] getCorpo() {
+        return corpo;
+    }
+
+    public String getVersao() {
+        return versao;
+    }
+
+    public FormatoResposta getFormato() {
+        return formato;
+    }
+
+    public byte[] getCorpoGzip() {
+        byte[] comprimido = corpoGzip;
+        if (comprimido == null) {
+            comprimido = comprimir(corpo);
+            corpoGzip = comprimido;
+        }
+        return comprimido;
+    }
+
+    private static byte[] comprimir(byte[] conteudo) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(conteudo.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(conteudo);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+
+}
@@ -0,0 +1,82 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.versaoDto.RecursoVersionadoDto;
+import br.com.neocamp.partidas_futebol.enums.FormatoResposta;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Service
+public class RespostaSerializadaService {
+
+    public static final String CLUBE = "clube";
+    public static final String ESTADIO = "estadio";
+    public static final String PARTIDA = "partida";
+
+    static final String CACHE_RESPOSTAS = "respostas";
+
+    private final CodificadorRespostas codificadorRespostas;
+    private final Cache<Chave, RespostaSerializada> respostas;
+
+    public RespostaSerializadaService(CodificadorRespostas codificadorRespostas,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${partidas.cache.respostas.tamanho-maximo:20000}") long tamanhoMaximo,
+                                      @Value("${partidas.cache.respostas.validade:PT10M}") Duration validade) {
+        this.codificadorRespostas = codificadorRespostas;
+        this.respostas = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(validade)
+                .recordStats()
+                .<Chave, RespostaSerializada>build(), CACHE_RESPOSTAS);
+    }
+
+    public RespostaSerializada buscar(String recurso, Long id, String versao, Supplier<? extends RecursoVersionadoDto<?>> carregar) {
+        return buscar(recurso, id, versao, FormatoResposta.JSON, carregar);
+    }
+
+    public RespostaSerializada buscar(String recurso, Long id, String versao, FormatoResposta formato,
+                                      Supplier<? extends RecursoVersionadoDto<?>> carregar) {
+        Chave chave = new Chave(recurso, id, formato);
+        RespostaSerializada resposta = respostas.getIfPresent(chave);
+        if (resposta != null && resposta.getVersao().equals(versao)) {
+            return resposta;
+        }
+
+        RecursoVersionadoDto<?> carregado = carregar.get();
+        resposta = serializar(carregado.conteudo(), carregado.versao(), formato);
+        respostas.put(chave, resposta);
+        return resposta;
+    }
+
+    public void invalidar(String recurso, Long id) {
+        List<Chave> chaves = Arrays.stream(FormatoResposta.values())
+                .map(formato -> new Chave(recurso, id, formato))
+                .toList();
+        respostas.invalidateAll(chaves);
+        AposCommit.executar(() -> respostas.invalidateAll(chaves));
+    }
+
+    public void limpar() {
+        respostas.invalidateAll();
+    }
+
+    private RespostaSerializada serializar(Object dto, String versao, FormatoResposta formato) {
+        try {
+            return new RespostaSerializada(codificadorRespostas.codificar(dto, formato), versao, formato);
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao serializar resposta", e);
+        }
+    }
+
+    private record Chave(String recurso, Long id, FormatoResposta formato) {}
+
+}
@@ -0,0 +1,25 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Supplier;
+
+final class RestricaoUnica {
+
+    private RestricaoUnica() {}
+
+    static <T> T gravar(Supplier<T> gravacao, String restricao, String mensagemConflito) {
+        try {
+            return gravacao.get();
+        } catch (DataIntegrityViolationException e) {
+            String detalhe = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase();
+            if (detalhe.contains(restricao)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, mensagemConflito);
+            }
+            throw e;
+        }
+    }
+
+}
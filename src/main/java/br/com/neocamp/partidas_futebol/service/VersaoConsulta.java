@@ -0,0 +1,73 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+final class VersaoConsulta {
+
+    private VersaoConsulta() {}
+
+    static VersaoPaginaDto resumir(Slice<VersaoRecursoDto> versoes) {
+        MessageDigest digest = novoDigest();
+        atualizar(digest, versoes.getNumber() + "|" + versoes.getSize() + "|" + versoes.getSort() + "|" + versoes.hasNext());
+
+        List<Long> ids = new ArrayList<>();
+        LocalDateTime atualizadoEm = null;
+        for (VersaoRecursoDto versao : versoes) {
+            atualizar(digest, "|" + versao.id() + ":" + versao.versao());
+            ids.add(versao.id());
+            if (versao.atualizadoEm() != null && (atualizadoEm == null || versao.atualizadoEm().isAfter(atualizadoEm))) {
+                atualizadoEm = versao.atualizadoEm();
+            }
+        }
+
+        return new VersaoPaginaDto(new VersaoRecursoDto(null, HexFormat.of().formatHex(digest.digest()), atualizadoEm), ids, versoes.hasNext());
+    }
+
+    static VersaoPaginaDto vazia(Pageable pageable) {
+        return resumir(new SliceImpl<>(List.of(), pageable, false));
+    }
+
+    static <T> List<T> ordenar(List<T> carregados, List<Long> ids, Function<T, Long> id) {
+        Map<Long, T> porId = carregados.stream().collect(Collectors.toMap(id, Function.identity()));
+        return ids.stream().map(porId::get).filter(Objects::nonNull).toList();
+    }
+
+    static <T> Page<T> paginar(List<T> conteudo, VersaoPaginaDto pagina, Pageable pageable, LongSupplier contar) {
+        if (!pagina.possuiProximo() && (pageable.getOffset() == 0 || !pagina.ids().isEmpty())) {
+            return new PageImpl<>(conteudo, pageable, pageable.getOffset() + pagina.ids().size());
+        }
+        return new PageImpl<>(conteudo, pageable, contar.getAsLong());
+    }
+
+    private static void atualizar(MessageDigest digest, String valor) {
+        digest.update(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest novoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+}
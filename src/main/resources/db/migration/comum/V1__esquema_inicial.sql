@@ -0,0 +1,48 @@
+create table clube (
+    id bigint not null auto_increment,
+    nome varchar(100) not null,
+    sigla_estado varchar(2) not null,
+    data_criacao date not null,
+    ativo bit not null,
+    primary key (id)
+);
+
+create table estadio (
+    id bigint not null auto_increment,
+    nome varchar(100) not null,
+    primary key (id),
+    constraint uk_estadio_nome unique (nome)
+);
+
+create table partida (
+    partida_id bigint not null,
+    clube_mandante_id bigint not null,
+    clube_visitante_id bigint not null,
+    clube_mandante_gols integer,
+    clube_visitante_gols integer,
+    estadio_id bigint not null,
+    data_hora datetime(6) not null,
+    data_partida date not null,
+    primary key (partida_id),
+    constraint uk_partida_estadio_data_partida unique (estadio_id, data_partida),
+    constraint fk_partida_clube_mandante foreign key (clube_mandante_id) references clube (id),
+    constraint fk_partida_clube_visitante foreign key (clube_visitante_id) references clube (id),
+    constraint fk_partida_estadio foreign key (estadio_id) references estadio (id)
+);
+
+create table clube_estatistica (
+    clube_id bigint not null,
+    jogos_mandante integer not null,
+    vitorias_mandante integer not null,
+    empates_mandante integer not null,
+    derrotas_mandante integer not null,
+    gols_pro_mandante integer not null,
+    gols_contra_mandante integer not null,
+    jogos_visitante integer not null,
+    vitorias_visitante integer not null,
+    empates_visitante integer not null,
+    derrotas_visitante integer not null,
+    gols_pro_visitante integer not null,
+    gols_contra_visitante integer not null,
+    primary key (clube_id)
+);
@@ -0,0 +1,8 @@
+create index idx_partida_mandante_data_hora on partida (clube_mandante_id, data_hora);
+create index idx_partida_visitante_data_hora on partida (clube_visitante_id, data_hora);
+create index idx_partida_mandante_visitante_data_hora on partida (clube_mandante_id, clube_visitante_id, data_hora);
+create index idx_partida_estadio_data_hora on partida (estadio_id, data_hora);
+create index idx_partida_data_hora_id on partida (data_hora, partida_id);
+
+create index idx_clube_nome_id on clube (nome, id);
+create index idx_clube_sigla_estado_ativo_nome on clube (sigla_estado, ativo, nome);
@@ -0,0 +1,8 @@
+alter table clube add column versao bigint not null default 0;
+alter table clube add column atualizado_em datetime(6) not null default current_timestamp(6);
+
+alter table estadio add column versao bigint not null default 0;
+alter table estadio add column atualizado_em datetime(6) not null default current_timestamp(6);
+
+alter table partida add column versao bigint not null default 0;
+alter table partida add column atualizado_em datetime(6) not null default current_timestamp(6);
@@ -0,0 +1,33 @@
+delete from clube_estatistica;
+
+insert into clube_estatistica (clube_id,
+                               jogos_mandante, vitorias_mandante, empates_mandante, derrotas_mandante, gols_pro_mandante, gols_contra_mandante,
+                               jogos_visitante, vitorias_visitante, empates_visitante, derrotas_visitante, gols_pro_visitante, gols_contra_visitante)
+select c.id,
+       coalesce(m.jogos, 0), coalesce(m.vitorias, 0), coalesce(m.empates, 0), coalesce(m.derrotas, 0), coalesce(m.gols_pro, 0), coalesce(m.gols_contra, 0),
+       coalesce(v.jogos, 0), coalesce(v.vitorias, 0), coalesce(v.empates, 0), coalesce(v.derrotas, 0), coalesce(v.gols_pro, 0), coalesce(v.gols_contra, 0)
+from clube c
+left join (
+    select clube_mandante_id as clube_id,
+           count(*) as jogos,
+           sum(case when clube_mandante_gols > clube_visitante_gols then 1 else 0 end) as vitorias,
+           sum(case when clube_mandante_gols = clube_visitante_gols then 1 else 0 end) as empates,
+           sum(case when clube_mandante_gols < clube_visitante_gols then 1 else 0 end) as derrotas,
+           sum(clube_mandante_gols) as gols_pro,
+           sum(clube_visitante_gols) as gols_contra
+    from partida
+    where clube_mandante_gols is not null and clube_visitante_gols is not null
+    group by clube_mandante_id
+) m on m.clube_id = c.id
+left join (
+    select clube_visitante_id as clube_id,
+           count(*) as jogos,
+           sum(case when clube_visitante_gols > clube_mandante_gols then 1 else 0 end) as vitorias,
+           sum(case when clube_visitante_gols = clube_mandante_gols then 1 else 0 end) as empates,
+           sum(case when clube_visitante_gols < clube_mandante_gols then 1 else 0 end) as derrotas,
+           sum(clube_visitante_gols) as gols_pro,
+           sum(clube_mandante_gols) as gols_contra
+    from partida
+    where clube_mandante_gols is not null and clube_visitante_gols is not null
+    group by clube_visitante_id
+) v on v.clube_id = c.id;
@@ -0,0 +1 @@
+create sequence partida_seq start with 1 increment by 50;
@@ -0,0 +1,25 @@
+alter table partida add column if not exists data_partida date;
+update partida set data_partida = cast(data_hora as date) where data_partida is null;
+alter table partida alter column data_partida set not null;
+
+alter table partida add constraint if not exists uk_partida_estadio_data_partida unique (estadio_id, data_partida);
+
+create table if not exists clube_estatistica (
+    clube_id bigint not null,
+    jogos_mandante integer not null,
+    vitorias_mandante integer not null,
+    empates_mandante integer not null,
+    derrotas_mandante integer not null,
+    gols_pro_mandante integer not null,
+    gols_contra_mandante integer not null,
+    jogos_visitante integer not null,
+    vitorias_visitante integer not null,
+    empates_visitante integer not null,
+    derrotas_visitante integer not null,
+    gols_pro_visitante integer not null,
+    gols_contra_visitante integer not null,
+    primary key (clube_id)
+);
+
+-- O otimizador pooled do Hibernate (allocationSize = 50) usa o valor da sequência como o maior id do bloco.
+alter sequence partida_seq restart with (select coalesce(max(partida_id) + 50, 1) from partida);
@@ -0,0 +1,5 @@
+create table partida_seq (
+    next_val bigint
+);
+
+insert into partida_seq values (1);
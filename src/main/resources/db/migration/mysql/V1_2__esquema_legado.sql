@@ -0,0 +1,42 @@
+set @comando = (
+    select if(count(*) = 0, 'alter table partida add column data_partida date null', 'select 1')
+    from information_schema.columns
+    where table_schema = database() and table_name = 'partida' and column_name = 'data_partida'
+);
+prepare comando from @comando;
+execute comando;
+deallocate prepare comando;
+
+update partida set data_partida = date(data_hora) where data_partida is null;
+alter table partida modify data_partida date not null;
+
+set @comando = (
+    select if(count(*) = 0, 'alter table partida add constraint uk_partida_estadio_data_partida unique (estadio_id, data_partida)', 'select 1')
+    from information_schema.table_constraints
+    where table_schema = database() and table_name = 'partida' and constraint_name = 'uk_partida_estadio_data_partida'
+);
+prepare comando from @comando;
+execute comando;
+deallocate prepare comando;
+
+create table if not exists clube_estatistica (
+    clube_id bigint not null,
+    jogos_mandante integer not null,
+    vitorias_mandante integer not null,
+    empates_mandante integer not null,
+    derrotas_mandante integer not null,
+    gols_pro_mandante integer not null,
+    gols_contra_mandante integer not null,
+    jogos_visitante integer not null,
+    vitorias_visitante integer not null,
+    empates_visitante integer not null,
+    derrotas_visitante integer not null,
+    gols_pro_visitante integer not null,
+    gols_contra_visitante integer not null,
+    primary key (clube_id)
+);
+
+-- O otimizador pooled do Hibernate (allocationSize = 50) usa next_val como o maior id do bloco.
+update partida_seq
+set next_val = (select max(partida_id) + 50 from partida)
+where exists (select 1 from partida);
@@ -0,0 +1,170 @@
+package br.com.neocamp.partidas_futebol.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataSourceLimitadoTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourceLimitadoTest.class);
+
+    private static final int TAMANHO_POOL = 4;
+    private static final int CLIENTES_CONCORRENTES = 1_000;
+
+    private HikariDataSource pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:limitador;DB_CLOSE_DELAY=-1");
+        pool.setMaximumPoolSize(TAMANHO_POOL);
+        pool.setConnectionTimeout(30_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void testarGetConnection_EsgotaEsperaQuandoTodasAsPermissoesEstaoEmUso() throws Exception {
+        DataSourceLimitado limitado = new DataSourceLimitado(pool, 1, Duration.ofMillis(50));
+
+        try (Connection conexao = limitado.getConnection()) {
+            assertEquals(1, limitado.getEmUso());
+            assertThrows(SQLTransientConnectionException.class, limitado::getConnection);
+        }
+
+        assertEquals(0, limitado.getEmUso());
+        try (Connection conexao = limitado.getConnection()) {
+            assertNotNull(conexao);
+        }
+    }
+
+    @Test
+    void testarClose_LiberaAPermissaoUmaUnicaVez() throws Exception {
+        DataSourceLimitado limitado = new DataSourceLimitado(pool, 2, Duration.ofMillis(50));
+
+        Connection conexao = limitado.getConnection();
+        assertInstanceOf(ConnectionProxy.class, conexao);
+        assertFalse(((ConnectionProxy) conexao).getTargetConnection() instanceof ConnectionProxy);
+
+        conexao.close();
+        conexao.close();
+
+        assertEquals(0, limitado.getEmUso());
+        assertEquals(2, limitado.getLimite());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testarCargaConcorrente_MilClientesComparadosAoHikariSemLimitadorNaoExcedemOPool() throws Exception {
+        DataSourceLimitado limitado = new DataSourceLimitado(pool, pool.getMaximumPoolSize(), Duration.ofSeconds(30));
+
+        Carga semLimitador = executarCarga(pool, null);
+        Carga comLimitador = executarCarga(limitado, limitado);
+
+        log.info("{} clientes em threads de plataforma, pool de {}: Hikari sem limitador {} req/s p99 {} ms; com limitador {} req/s p99 {} ms (pico de {} à espera)",
+                CLIENTES_CONCORRENTES, TAMANHO_POOL, semLimitador.porSegundo(), semLimitador.p99Millis(),
+                comLimitador.porSegundo(), comLimitador.p99Millis(), comLimitador.picoAguardando());
+
+        assertEquals(0, comLimitador.falhas());
+        assertTrue(comLimitador.picoEmUso() <= TAMANHO_POOL, () -> "Pico de " + comLimitador.picoEmUso() + " conexões");
+        assertEquals(0, limitado.getEmUso());
+        assertEquals(0, limitado.getAguardando());
+    }
+
+    @Test
+    void testarLimitadorConexoesConfig_EnvolveOPoolComOTamanhoMaximoDoHikari() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(LimitadorConexoesConfig.class)
+                .withBean(HikariDataSource.class, () -> pool)
+                .withPropertyValues("partidas.jdbc.limitador.habilitado=true")
+                .run(contexto -> {
+                    DataSourceLimitado limitado = assertInstanceOf(DataSourceLimitado.class, contexto.getBean(DataSource.class));
+                    assertEquals(TAMANHO_POOL, limitado.getLimite());
+                    assertSame(pool, limitado.unwrap(HikariDataSource.class));
+                });
+
+        new ApplicationContextRunner()
+                .withUserConfiguration(LimitadorConexoesConfig.class)
+                .withBean(HikariDataSource.class, () -> pool)
+                .run(contexto -> assertSame(pool, contexto.getBean(DataSource.class)));
+    }
+
+    private static Carga executarCarga(DataSource dataSource, DataSourceLimitado limitado) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTES_CONCORRENTES);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger emUso = new AtomicInteger();
+        AtomicInteger picoEmUso = new AtomicInteger();
+        AtomicInteger picoAguardando = new AtomicInteger();
+        try {
+            List<Future<Long>> futuros = new ArrayList<>();
+            for (int i = 0; i < CLIENTES_CONCORRENTES; i++) {
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    long inicio = System.nanoTime();
+                    try (Connection conexao = dataSource.getConnection()) {
+                        picoEmUso.accumulateAndGet(emUso.incrementAndGet(), Math::max);
+                        if (limitado != null) {
+                            picoAguardando.accumulateAndGet(limitado.getAguardando(), Math::max);
+                        }
+                        try (Statement comando = conexao.createStatement(); ResultSet resultado = comando.executeQuery("select 1")) {
+                            resultado.next();
+                        }
+                        Thread.sleep(1);
+                        emUso.decrementAndGet();
+                    }
+                    return System.nanoTime() - inicio;
+                }));
+            }
+
+            long inicio = System.nanoTime();
+            largada.countDown();
+
+            long[] duracoes = new long[CLIENTES_CONCORRENTES];
+            int falhas = 0;
+            for (int i = 0; i < futuros.size(); i++) {
+                try {
+                    duracoes[i] = futuros.get(i).get(60, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    falhas++;
+                }
+            }
+            long total = System.nanoTime() - inicio;
+
+            Arrays.sort(duracoes);
+            return new Carga(CLIENTES_CONCORRENTES * 1_000_000_000L / total,
+                    duracoes[(int) Math.ceil(duracoes.length * 0.99) - 1] / 1_000_000, falhas, picoEmUso.get(), picoAguardando.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record Carga(long porSegundo, long p99Millis, int falhas, int picoEmUso, int picoAguardando) {}
+
+}
@@ -0,0 +1,53 @@
+package br.com.neocamp.partidas_futebol.controller;
+
+import br.com.neocamp.partidas_futebol.dto.buscaDto.ResultadoBuscaDto;
+import br.com.neocamp.partidas_futebol.service.IndiceNomesService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BuscaController.class)
+class BuscaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IndiceNomesService indiceNomesService;
+
+    @Test
+    void testarBuscar() throws Exception {
+        when(indiceNomesService.buscar("mara", 5)).thenReturn(List.of(
+                new ResultadoBuscaDto("ESTADIO", 2L, "Maracanã"),
+                new ResultadoBuscaDto("CLUBE", 9L, "Maranhão")));
+
+        mockMvc.perform(get("/busca").param("q", "mara").param("limite", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].tipo").value("ESTADIO"))
+                .andExpect(jsonPath("$[0].nome").value("Maracanã"))
+                .andExpect(jsonPath("$[1].id").value(9))
+                .andDo(print());
+    }
+
+    @Test
+    void testarBuscarComLimiteInvalido() throws Exception {
+        when(indiceNomesService.buscar("mara", 500))
+                .thenThrow(new ResponseStatusException(HttpStatus.BAD_REQUEST, "O limite deve estar entre 1 e 50"));
+
+        mockMvc.perform(get("/busca").param("q", "mara").param("limite", "500"))
+                .andExpect(status().isBadRequest());
+    }
+
+}
@@ -0,0 +1,66 @@
+package br.com.neocamp.partidas_futebol.controller;
+
+import br.com.neocamp.partidas_futebol.dto.classificacaoDto.ClassificacaoResponseDto;
+import br.com.neocamp.partidas_futebol.service.ClassificacaoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ClassificacaoController.class)
+class ClassificacaoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ClassificacaoService classificacaoService;
+
+    private final ClassificacaoResponseDto lider = new ClassificacaoResponseDto(1, 1L, "Corinthians", 3, 1, 1, 0, 0, 2, 0, 2);
+
+    @BeforeEach
+    void setUp() {
+        clearInvocations(classificacaoService);
+    }
+
+    @Test
+    void testarListarClassificacao() throws Exception {
+        when(classificacaoService.listarClassificacao()).thenReturn(List.of(lider));
+
+        mockMvc.perform(get("/classificacao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].posicao").value(1))
+                .andExpect(jsonPath("$[0].clubeNome").value("Corinthians"))
+                .andExpect(jsonPath("$[0].pontos").value(3))
+                .andExpect(jsonPath("$[0].saldoGols").value(2))
+                .andDo(print());
+
+        verify(classificacaoService).listarClassificacao();
+    }
+
+    @Test
+    void testarRecalcularClassificacao() throws Exception {
+        when(classificacaoService.listarClassificacao()).thenReturn(List.of(lider));
+
+        mockMvc.perform(post("/classificacao/recalculo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].clubeId").value(1L))
+                .andDo(print());
+
+        verify(classificacaoService).recalcularClassificacao();
+    }
+
+}
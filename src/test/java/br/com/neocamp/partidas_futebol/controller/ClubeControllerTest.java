@@ -2,18 +2,35 @@ package br.com.neocamp.partidas_futebol.controller;
 
 import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeRequestDto;
 import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.dto.clubeDto.DesempenhoDto;
+import br.com.neocamp.partidas_futebol.dto.clubeDto.RetrospectoResponseDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaCursorDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.RecursoVersionadoDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.enums.FormatoResposta;
+import br.com.neocamp.partidas_futebol.exceptions.EntityPreconditionFailedException;
+import br.com.neocamp.partidas_futebol.service.ClubeEstatisticaService;
 import br.com.neocamp.partidas_futebol.service.ClubeService;
+import br.com.neocamp.partidas_futebol.service.CodificadorRespostas;
+import br.com.neocamp.partidas_futebol.service.RespostaSerializadaService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -25,7 +42,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 
@@ -35,22 +54,38 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 
 @WebMvcTest(ClubeController.class)
+@Import({RespostaSerializadaService.class, SimpleMeterRegistry.class})
 public class ClubeControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private RespostaSerializadaService respostaSerializadaService;
+
     @MockitoBean
     private ClubeService clubeService;
 
+    @MockitoBean
+    private ClubeEstatisticaService clubeEstatisticaService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CodificadorRespostas codificadorRespostas;
+
     
     @BeforeEach
     void setUp() {
+        respostaSerializadaService.limpar();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        Mockito.when(clubeService.buscarVersao(Mockito.anyLong()))
+                .thenAnswer(invocacao -> new VersaoRecursoDto(invocacao.getArgument(0), "0", null));
+        Mockito.when(clubeService.buscarVersaoDaPagina(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(Pageable.class)))
+                .thenReturn(new VersaoPaginaDto(new VersaoRecursoDto(null, "pagina", null), List.of(), false));
     }
 
     ClubeRequestDto clubeRequestDto = new ClubeRequestDto();
@@ -159,7 +194,7 @@ public class ClubeControllerTest {
         clube.setDataCriacao(LocalDate.of(1914, 8 ,26));
         clube.setAtivo(true);
 
-        Mockito.when(clubeService.buscarPorId(id)).thenReturn(clube);
+        Mockito.when(clubeService.buscarPorIdVersionado(id)).thenReturn(new RecursoVersionadoDto<>("0", clube));
 
         ResultActions response = mockMvc.perform(get("/clube/{id}", id)
                 .contentType(MediaType.APPLICATION_JSON));
@@ -180,7 +215,7 @@ public class ClubeControllerTest {
     public void testarBuscarClubePorIdInexistente() throws Exception {
         Long id = 99L;
 
-        Mockito.when(clubeService.buscarPorId(id)).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Clube não encontrado"));
+        Mockito.when(clubeService.buscarVersao(id)).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Clube não encontrado"));
 
         ResultActions response = mockMvc.perform(get("/clube/{id}", id)
                 .contentType(MediaType.APPLICATION_JSON));
@@ -207,7 +242,7 @@ public class ClubeControllerTest {
         clubeResponseDto.setDataCriacao(LocalDate.of(1910, 9, 1));
         clubeResponseDto.setAtivo(true);
 
-        Mockito.when(clubeService.atualizarPorId(Mockito.eq(id), Mockito.any(ClubeRequestDto.class)))
+        Mockito.when(clubeService.atualizarPorId(Mockito.eq(id), Mockito.any(ClubeRequestDto.class), Mockito.isNull()))
                 .thenReturn(clubeResponseDto);
 
         String clubeJson = objectMapper.writeValueAsString(clubeRequestDto);
@@ -236,7 +271,7 @@ public class ClubeControllerTest {
         clubeRequestDto.setDataCriacao(LocalDate.of(1910, 9, 1));
         clubeRequestDto.setAtivo(true);
 
-        Mockito.when(clubeService.atualizarPorId(Mockito.eq(id), Mockito.any(ClubeRequestDto.class)))
+        Mockito.when(clubeService.atualizarPorId(Mockito.eq(id), Mockito.any(ClubeRequestDto.class), Mockito.isNull()))
                 .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Clube não encontrado"));
 
         String clubeJson = objectMapper.writeValueAsString(clubeRequestDto);
@@ -252,6 +287,63 @@ public class ClubeControllerTest {
     }
 
 
+    @Test
+    public void testarBuscarClubePorIdComIfNoneMatchRetornaNaoModificado() throws Exception {
+        Long id = 5L;
+        Mockito.when(clubeService.buscarVersao(id)).thenReturn(new VersaoRecursoDto(id, "3", LocalDateTime.of(2025, 1, 10, 12, 0)));
+        Mockito.when(clubeService.buscarPorIdVersionado(id)).thenReturn(new RecursoVersionadoDto<>("3", new ClubeResponseDto(id, "Santos", "SP", LocalDate.of(1912, 4, 14), true)));
+
+        mockMvc.perform(get("/clube/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-json\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
+
+        mockMvc.perform(get("/clube/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"3-json\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(new byte[0]));
+
+        Mockito.verify(clubeService, Mockito.times(1)).buscarPorIdVersionado(id);
+    }
+
+
+    @Test
+    public void testarBuscarClubePorIdEtagDeOutroFormatoNaoRetornaNaoModificado() throws Exception {
+        Long id = 5L;
+        Mockito.when(clubeService.buscarVersao(id)).thenReturn(new VersaoRecursoDto(id, "3", LocalDateTime.of(2025, 1, 10, 12, 0)));
+        Mockito.when(clubeService.buscarPorIdVersionado(id)).thenReturn(new RecursoVersionadoDto<>("3", new ClubeResponseDto(id, "Santos", "SP", LocalDate.of(1912, 4, 14), true)));
+
+        mockMvc.perform(get("/clube/{id}", id)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3-json\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3-cbor\""))
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+
+    @Test
+    public void testarAtualizarClubeComIfMatchDesatualizadoRetornaPreconditionFailed() throws Exception {
+        Long id = 1L;
+
+        ClubeRequestDto clubeRequestDto = new ClubeRequestDto();
+        clubeRequestDto.setNome("Corinthians");
+        clubeRequestDto.setSiglaEstado("SP");
+        clubeRequestDto.setDataCriacao(LocalDate.of(1910, 9, 1));
+        clubeRequestDto.setAtivo(true);
+
+        Mockito.when(clubeService.atualizarPorId(Mockito.eq(id), Mockito.any(ClubeRequestDto.class), Mockito.eq("2")))
+                .thenThrow(new EntityPreconditionFailedException("Clube foi alterado desde a versão informada"));
+
+        mockMvc.perform(put("/clube/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"2-json\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(clubeRequestDto)))
+                .andExpect(status().isPreconditionFailed())
+                .andDo(print());
+    }
+
+
     @Test
     public void testarInativarClubeComIdExistente() throws Exception {
         Long id = 1L;
@@ -298,9 +390,11 @@ public class ClubeControllerTest {
         Page<ClubeResponseDto> page = new PageImpl<>(clubes);
 
         Mockito.when(clubeService.listarClubes(
+                Mockito.any(),
                 Mockito.eq("a"),
                 Mockito.eq("SP"),
                 Mockito.eq(true),
+                Mockito.isNull(),
                 Mockito.any(Pageable.class)))
                 .thenReturn(page);
 
@@ -314,10 +408,10 @@ public class ClubeControllerTest {
                 .contentType(MediaType.APPLICATION_JSON));
 
         response.andExpect(status().isOk())
-                .andExpect(jsonPath("$.content[0].id", equalTo(1)))
-                .andExpect(jsonPath("$.content[0].nome", equalTo("Palmeiras")))
-                .andExpect(jsonPath("$.content[1].id", equalTo(2)))
-                .andExpect(jsonPath("$.content[1].nome", equalTo("Corinthians")))
+                .andExpect(jsonPath("$.conteudo[0].id", equalTo(1)))
+                .andExpect(jsonPath("$.conteudo[0].nome", equalTo("Palmeiras")))
+                .andExpect(jsonPath("$.conteudo[1].id", equalTo(2)))
+                .andExpect(jsonPath("$.conteudo[1].nome", equalTo("Corinthians")))
                 .andDo(print());
 
     }
@@ -339,13 +433,13 @@ public class ClubeControllerTest {
         clubeDto2.setDataCriacao(LocalDate.of(1910, 9, 1));
         clubeDto2.setAtivo(true);
 
-        List<ClubeResponseDto> clubesList = List.of(clubeDto1, clubeDto2);
-
-        Mockito.when(clubeService.listarClubes(
-                    Mockito.any(),
-                    Mockito.any(),
-                    Mockito.any()))
-                .thenReturn(clubesList);
+        Mockito.doAnswer(invocacao -> {
+                    Consumer<ClubeResponseDto> consumidor = invocacao.getArgument(3);
+                    consumidor.accept(clubeDto1);
+                    consumidor.accept(clubeDto2);
+                    return null;
+                })
+                .when(clubeService).listarClubesEmFluxo(Mockito.eq("a"), Mockito.eq("SP"), Mockito.eq(true), Mockito.any());
 
         ResultActions response = mockMvc.perform(get("/clube/lista-sem-paginacao")
                 .param("nome", "a")
@@ -367,9 +461,11 @@ public class ClubeControllerTest {
     @Test
     public void testarListarClubesComFiltrosOpcionaisSemPaginacaoVazia() throws Exception {
         Mockito.when(clubeService.listarClubes(
+                Mockito.any(),
                 Mockito.eq("inexistente"),
                 Mockito.eq("XX"),
                 Mockito.eq(false),
+                Mockito.isNull(),
                 Mockito.any(Pageable.class)))
                 .thenReturn(new PageImpl<>(List.of()));
 
@@ -382,8 +478,8 @@ public class ClubeControllerTest {
             .contentType(MediaType.APPLICATION_JSON));
 
         responseEmpty.andExpect(status().isOk())
-                .andExpect(jsonPath("$.content").isArray())
-                .andExpect(jsonPath("$.content").isEmpty())
+                .andExpect(jsonPath("$.conteudo").isArray())
+                .andExpect(jsonPath("$.conteudo").isEmpty())
                 .andDo(print());
     }
 
@@ -395,15 +491,85 @@ public class ClubeControllerTest {
                 new ClubeResponseDto(2L, "Corinthians", "SP", LocalDate.of(1910, 9, 1), true)
         );
 
-        Mockito.when(clubeService.listarClubes(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+        Mockito.when(clubeService.listarClubes(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.isNull(), Mockito.any()))
                 .thenReturn(new PageImpl<>(clubesOrdenados));
 
         ResultActions response = mockMvc.perform(get("/clube/lista")
                 .param("sort", "nome,asc"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content[0].nome").value("Palmeiras"))
-                .andExpect(jsonPath("$.content[1].nome").value("Corinthians"))
+                .andExpect(jsonPath("$.conteudo[0].nome").value("Palmeiras"))
+                .andExpect(jsonPath("$.conteudo[1].nome").value("Corinthians"))
+                .andDo(print());
+
+    }
+
+
+    @Test
+    public void testarBuscarRetrospectoDoClube() throws Exception {
+        RetrospectoResponseDto retrospecto = new RetrospectoResponseDto(
+                1L,
+                new DesempenhoDto(2, 1, 1, 0, 4, 2),
+                new DesempenhoDto(1, 0, 0, 1, 0, 3)
+        );
+
+        Mockito.when(clubeEstatisticaService.buscarRetrospecto(1L)).thenReturn(retrospecto);
+
+        mockMvc.perform(get("/clube/1/retrospecto"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clubeId").value(1))
+                .andExpect(jsonPath("$.mandante.vitorias").value(1))
+                .andExpect(jsonPath("$.visitante.derrotas").value(1))
+                .andExpect(jsonPath("$.total.jogos").value(3))
+                .andExpect(jsonPath("$.total.saldoGols").value(-1))
+                .andDo(print());
+    }
+
+
+    @Test
+    public void testarBuscarRetrospectoDeClubeInexistente() throws Exception {
+        Mockito.when(clubeEstatisticaService.buscarRetrospecto(99L))
+                .thenThrow(new EntityNotFoundException("Clube não encontrado"));
+
+        mockMvc.perform(get("/clube/99/retrospecto"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Clube não encontrado"))
+                .andDo(print());
+    }
+
+
+    @Test
+    public void testarListarClubesModoCursor() throws Exception {
+        PaginaCursorDto<ClubeResponseDto> pagina = new PaginaCursorDto<>(
+                List.of(new ClubeResponseDto(2L, "Corinthians", "SP", LocalDate.of(1910, 9, 1), true)), 1, null);
+
+        Mockito.when(clubeService.listarClubesPorCursor(null, "SP", null, null, 1)).thenReturn(pagina);
+
+        mockMvc.perform(get("/clube/lista")
+                        .param("siglaEstado", "SP")
+                        .param("paginacao", "CURSOR")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[0].nome").value("Corinthians"))
+                .andExpect(jsonPath("$.possuiProximo").value(false))
                 .andDo(print());
+    }
+
+
+    @Test
+    public void testarListarClubesNegociaCbor() throws Exception {
+        Page<ClubeResponseDto> page = new PageImpl<>(List.of(new ClubeResponseDto(1L, "Palmeiras", "SP", LocalDate.of(1914, 8, 26), true)));
+
+        Mockito.when(clubeService.listarClubes(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.isNull(), Mockito.any(Pageable.class)))
+                .thenReturn(page);
+
+        byte[] cbor = mockMvc.perform(get("/clube/lista")
+                        .accept(FormatoResposta.CBOR.getMediaType()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(FormatoResposta.CBOR.getMediaType()))
+                .andReturn().getResponse().getContentAsByteArray();
 
+        JsonNode pagina = codificadorRespostas.getMapeador(FormatoResposta.CBOR).readTree(cbor);
+        Assertions.assertEquals("Palmeiras", pagina.get("conteudo").get(0).get("nome").asText());
+        Assertions.assertEquals("1914-08-26", pagina.get("conteudo").get(0).get("dataCriacao").asText());
     }
 }
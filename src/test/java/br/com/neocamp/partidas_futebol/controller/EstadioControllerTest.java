@@ -2,14 +2,20 @@ package br.com.neocamp.partidas_futebol.controller;
 
 import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioRequestDto;
 import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.RecursoVersionadoDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
 import br.com.neocamp.partidas_futebol.service.EstadioService;
+import br.com.neocamp.partidas_futebol.service.RespostaSerializadaService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
@@ -29,11 +35,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.web.servlet.function.RequestPredicates.param;
 
 @WebMvcTest(EstadioController.class)
+@Import({RespostaSerializadaService.class, SimpleMeterRegistry.class})
 public class EstadioControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private RespostaSerializadaService respostaSerializadaService;
+
     @MockitoBean
     private EstadioService estadioService;
 
@@ -42,8 +52,14 @@ public class EstadioControllerTest {
 
     @BeforeEach
     void setUp() {
+        respostaSerializadaService.limpar();
         objectMapper.findAndRegisterModules();
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        when(estadioService.buscarVersao(Mockito.anyLong()))
+                .thenAnswer(invocacao -> new VersaoRecursoDto(invocacao.getArgument(0), "0", null));
+        when(estadioService.buscarVersaoDaPagina(Mockito.any(), Mockito.any()))
+                .thenReturn(new VersaoPaginaDto(new VersaoRecursoDto(null, "pagina", null), List.of(), false));
     }
 
     EstadioRequestDto estadioRequestDto = new EstadioRequestDto();
@@ -97,8 +113,8 @@ public class EstadioControllerTest {
 
         estadioResponseDto.setId(1L);
 
-        when(estadioService.buscarPorId(1L))
-                .thenReturn(estadioResponseDto);
+        when(estadioService.buscarPorIdVersionado(1L))
+                .thenReturn(new RecursoVersionadoDto<>("0", estadioResponseDto));
 
         ResultActions response = mockMvc.perform(get("/estadio/1")
                 .contentType("application/json"));
@@ -114,7 +130,7 @@ public class EstadioControllerTest {
 
         Long estadioId = 99L;
 
-        Mockito.when(estadioService.buscarPorId(estadioId))
+        Mockito.when(estadioService.buscarVersao(estadioId))
                 .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Estádio não encontrado"));
 
         ResultActions response = mockMvc.perform(get("/estadio/{id}", id)
@@ -137,7 +153,7 @@ public class EstadioControllerTest {
         estadioResponseDto.setId(2L);
         estadioResponseDto.setNome("MorumBIS");
 
-        Mockito.when(estadioService.atualizarPorId(Mockito.eq(id), Mockito.any(EstadioRequestDto.class)))
+        Mockito.when(estadioService.atualizarPorId(Mockito.eq(id), Mockito.any(EstadioRequestDto.class), Mockito.isNull()))
                 .thenReturn(estadioResponseDto);
 
         String estadioRequestJson = objectMapper.writeValueAsString(estadioRequestDto);
@@ -164,7 +180,7 @@ public class EstadioControllerTest {
         estadioRequestDto.setId(id);
         estadioRequestDto.setNome(nome);
 
-        Mockito.when(estadioService.atualizarPorId(Mockito.eq(id), Mockito.any(EstadioRequestDto.class)))
+        Mockito.when(estadioService.atualizarPorId(Mockito.eq(id), Mockito.any(EstadioRequestDto.class), Mockito.isNull()))
                 .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Estádio não encontrado"));
 
         String estadioRequestJson = objectMapper.writeValueAsString(estadioRequestDto);
@@ -197,7 +213,7 @@ public class EstadioControllerTest {
         List<EstadioResponseDto> estadios = List.of(estadioDto1, estadioDto2, estadioDto3);
         Page<EstadioResponseDto> estadiosPage = new PageImpl<>(estadios);
 
-        when(estadioService.listarEstadios(Mockito.anyString(), Mockito.any()))
+        when(estadioService.listarEstadios(Mockito.any(), Mockito.anyString(), Mockito.isNull(), Mockito.any()))
                 .thenReturn(estadiosPage);
 
         ResultActions response = mockMvc.perform(get("/estadio/lista")
@@ -208,12 +224,12 @@ public class EstadioControllerTest {
                 .contentType("application/json"));
 
         response.andExpect(status().isOk())
-                .andExpect(jsonPath("$.content[0].id").value(1))
-                .andExpect(jsonPath("$.content[0].nome").value("Allianz Parque"))
-                .andExpect(jsonPath("$.content[1].id").value(2))
-                .andExpect(jsonPath("$.content[1].nome").value("Maracanã"))
-                .andExpect(jsonPath("$.content[2].id").value(3))
-                .andExpect(jsonPath("$.content[2].nome").value("Mineirão"))
+                .andExpect(jsonPath("$.conteudo[0].id").value(1))
+                .andExpect(jsonPath("$.conteudo[0].nome").value("Allianz Parque"))
+                .andExpect(jsonPath("$.conteudo[1].id").value(2))
+                .andExpect(jsonPath("$.conteudo[1].nome").value("Maracanã"))
+                .andExpect(jsonPath("$.conteudo[2].id").value(3))
+                .andExpect(jsonPath("$.conteudo[2].nome").value("Mineirão"))
                 .andDo(print());
 
     }
@@ -0,0 +1,105 @@
+package br.com.neocamp.partidas_futebol.controller;
+
+import br.com.neocamp.partidas_futebol.enums.FormatoExportacao;
+import br.com.neocamp.partidas_futebol.service.ExportacaoService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ExportacaoController.class)
+class ExportacaoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ExportacaoService exportacaoService;
+
+    @Test
+    void testarExportarPartidasCsv_ComPeriodo() throws Exception {
+        doAnswer(invocacao -> {
+            OutputStream saida = invocacao.getArgument(4);
+            saida.write("partidaId\n1\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(exportacaoService).exportar(eq("partida"), eq(FormatoExportacao.CSV),
+                eq(LocalDateTime.of(2025, 1, 1, 0, 0)), eq(LocalDateTime.of(2025, 2, 1, 0, 0)), any(OutputStream.class));
+
+        mockMvc.perform(get("/export/partida")
+                        .param("formato", "CSV")
+                        .param("dataHoraInicio", "2025-01-01T00:00:00")
+                        .param("dataHoraFim", "2025-02-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"partida.csv\""))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string("partidaId\n1\n"));
+    }
+
+    @Test
+    void testarExportarClubesNdjson_ComprimeQuandoAceitaGzip() throws Exception {
+        doAnswer(invocacao -> {
+            OutputStream saida = invocacao.getArgument(4);
+            saida.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(exportacaoService).exportar(eq("clube"), eq(FormatoExportacao.NDJSON), eq(null), eq(null), any(OutputStream.class));
+
+        byte[] comprimido = mockMvc.perform(get("/export/clube").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (InputStream descomprimido = new GZIPInputStream(new ByteArrayInputStream(comprimido))) {
+            assertEquals("{\"id\":1}\n", new String(descomprimido.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testarExportarEntidadeInexistente_RetornaNotFoundSemIniciarStream() throws Exception {
+        doThrow(new EntityNotFoundException("Entidade de exportação não encontrada: use partida, clube ou estadio"))
+                .when(exportacaoService).validar("arbitro", null, null);
+
+        mockMvc.perform(get("/export/arbitro").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+
+        verify(exportacaoService, never()).exportar(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testarExportarComGzip_ErroAntesDoPrimeiroEnvioRespondeSemContentEncoding() throws Exception {
+        doThrow(new EntityNotFoundException("Clube não encontrado"))
+                .when(exportacaoService).exportar(eq("clube"), eq(FormatoExportacao.NDJSON), eq(null), eq(null), any(OutputStream.class));
+
+        mockMvc.perform(get("/export/clube").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_DISPOSITION))
+                .andExpect(jsonPath("$.message").value("Clube não encontrado"));
+    }
+
+}
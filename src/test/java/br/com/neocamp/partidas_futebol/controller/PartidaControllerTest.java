@@ -1,45 +1,106 @@
 package br.com.neocamp.partidas_futebol.controller;
 
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaCursorDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaFatiaDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.ConfrontoDiretoResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.ConfrontoDiretoResumoDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaImportacaoProgressoDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaLoteErroDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaLoteResponseDto;
 import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaRequestDto;
 import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.RecursoVersionadoDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.enums.FormatoResposta;
+import br.com.neocamp.partidas_futebol.enums.ModoPaginacao;
+import br.com.neocamp.partidas_futebol.exceptions.EntityPreconditionFailedException;
+import br.com.neocamp.partidas_futebol.service.CodificadorRespostas;
+import br.com.neocamp.partidas_futebol.service.PartidaImportacaoService;
 import br.com.neocamp.partidas_futebol.service.PartidaService;
+import br.com.neocamp.partidas_futebol.service.RespostaSerializadaService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.ServletException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(PartidaController.class)
+@Import({RespostaSerializadaService.class, SimpleMeterRegistry.class})
 class PartidaControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private RespostaSerializadaService respostaSerializadaService;
+
     @MockitoBean
     private PartidaService partidaService;
 
+    @MockitoBean
+    private PartidaImportacaoService partidaImportacaoService;
+
+    @Autowired
+    private CodificadorRespostas codificadorRespostas;
+
     private PartidaRequestDto partidaRequestDto;
     private PartidaResponseDto partidaResponse;
 
     @BeforeEach
     void setUp() {
+        respostaSerializadaService.limpar();
         partidaResponse = new PartidaResponseDto(
                 1L,
                 1L,
@@ -61,11 +122,13 @@ class PartidaControllerTest {
         partidaRequestDto.setEstadioId(1L);
         partidaRequestDto.setDataHora(LocalDateTime.of(2025, 1, 10, 15, 0));
 
+        when(partidaService.buscarVersao(anyLong()))
+                .thenAnswer(invocacao -> new VersaoRecursoDto(invocacao.getArgument(0), "1.0.0.0", LocalDateTime.of(2025, 1, 10, 15, 0)));
     }
 
     @Test
     void testarBuscarPartidaPorId() throws Exception {
-        when(partidaService.buscarPartidaPorId(1L)).thenReturn(partidaResponse);
+        when(partidaService.buscarPartidaPorIdVersionada(1L)).thenReturn(new RecursoVersionadoDto<>("1.0.0.0", partidaResponse));
 
         mockMvc.perform(get("/partida/1"))
                 .andExpect(status().isOk())
@@ -75,19 +138,100 @@ class PartidaControllerTest {
                 .andExpect(jsonPath("$.clubeMandanteNome").value("Corinthians"))
                 .andDo(print());
 
-        verify(partidaService).buscarPartidaPorId(1L);
+        verify(partidaService).buscarPartidaPorIdVersionada(1L);
+    }
+
+    @Test
+    void testarBuscarPartidaPorId_ReutilizaJsonSerializadoEComprimeSobDemanda() throws Exception {
+        partidaResponse.setPartidaId(2L);
+        when(partidaService.buscarPartidaPorIdVersionada(2L)).thenReturn(new RecursoVersionadoDto<>("1.0.0.0", partidaResponse));
+
+        byte[] json = mockMvc.perform(get("/partida/2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] comprimido = mockMvc.perform(get("/partida/2").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (InputStream descomprimido = new GZIPInputStream(new ByteArrayInputStream(comprimido))) {
+            assertArrayEquals(json, descomprimido.readAllBytes());
+        }
+        verify(partidaService, times(1)).buscarPartidaPorIdVersionada(2L);
+    }
+
+    @Test
+    void testarBuscarPartidaPorId_NegociaCborSeparadoDoJson() throws Exception {
+        partidaResponse.setPartidaId(4L);
+        when(partidaService.buscarPartidaPorIdVersionada(4L)).thenReturn(new RecursoVersionadoDto<>("1.0.0.0", partidaResponse));
+
+        byte[] cbor = mockMvc.perform(get("/partida/4").accept(FormatoResposta.CBOR.getMediaType()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(FormatoResposta.CBOR.getMediaType()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode partida = codificadorRespostas.getMapeador(FormatoResposta.CBOR).readTree(cbor);
+        assertEquals(4L, partida.get("partidaId").asLong());
+        assertEquals("Neo Química Arena", partida.get("estadioNome").asText());
+
+        mockMvc.perform(get("/partida/4"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.partidaId").value(4L));
     }
 
     @Test
     void testarBuscarPartidaPorId_PartidaNaoEncontrada() throws Exception {
-        when(partidaService.buscarPartidaPorId(999L))
+        when(partidaService.buscarVersao(999L))
                 .thenThrow(new EntityNotFoundException("Partida não encontrada"));
 
         mockMvc.perform(get("/partida/999"))
                 .andExpect(status().isNotFound())
                 .andDo(print());
 
-        verify(partidaService).buscarPartidaPorId(999L);
+        verify(partidaService, never()).buscarPartidaPorIdVersionada(999L);
+    }
+
+    @Test
+    void testarBuscarPartidaPorId_IfNoneMatchAtualRetornaNaoModificadoSemCarregarPartida() throws Exception {
+        mockMvc.perform(get("/partida/3").header(HttpHeaders.IF_NONE_MATCH, "\"1.0.0.0-json\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1.0.0.0-json\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING));
+
+        verify(partidaService, never()).buscarPartidaPorIdVersionada(3L);
+    }
+
+    @Test
+    void testarListarPartidas_PaginaInalteradaRetornaNaoModificado() throws Exception {
+        when(partidaService.buscarVersaoDaPagina(eq(null), eq(null), eq(1L), any(Pageable.class)))
+                .thenReturn(new VersaoPaginaDto(new VersaoRecursoDto(null, "f00d", LocalDateTime.of(2025, 1, 10, 15, 0)), List.of(), false));
+
+        mockMvc.perform(get("/partida/lista")
+                        .param("estadioId", "1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"f00d-json\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING));
+
+        verify(partidaService, never()).listarPartidas(any(), any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void testarAtualizarPartida_IfMatchDesatualizadoRetornaPreconditionFailed() throws Exception {
+        when(partidaService.atualizarPartidaPorId(eq(1L), any(PartidaRequestDto.class), eq("1.0.0.0")))
+                .thenThrow(new EntityPreconditionFailedException("Partida foi alterada desde a versão informada"));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+
+        mockMvc.perform(put("/partida/1")
+                        .header(HttpHeaders.IF_MATCH, "\"1.0.0.0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(partidaRequestDto)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value("PRECONDITION_FAILED"));
     }
 
     @Test
@@ -111,4 +255,211 @@ class PartidaControllerTest {
 
     }
 
+    @Test
+    void testarCadastrarPartida_RestricaoDeEstadioNoMesmoDiaRetornaConflito() throws Exception {
+        when(partidaService.cadastrarPartida(any(PartidaRequestDto.class)))
+                .thenThrow(new DataIntegrityViolationException(
+                        "Duplicate entry '1-2025-01-10' for key 'partida.uk_partida_estadio_data_partida'"));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        String jsonRequest = objectMapper.writeValueAsString(partidaRequestDto);
+
+        mockMvc.perform(post("/partida")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(jsonRequest))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Estádio já possui outra partida no mesmo dia"))
+                .andExpect(jsonPath("$.status").value("CONFLICT"))
+                .andDo(print());
+    }
+
+    @Test
+    void testarCadastrarPartida_OutraViolacaoDeIntegridadeNaoViraConflito() throws Exception {
+        DataIntegrityViolationException violacao = new DataIntegrityViolationException(
+                "Cannot add or update a child row: a foreign key constraint fails (`futebol`.`partida`, CONSTRAINT `FKestadio`)");
+        when(partidaService.cadastrarPartida(any(PartidaRequestDto.class))).thenThrow(violacao);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        String jsonRequest = objectMapper.writeValueAsString(partidaRequestDto);
+
+        ServletException exception = assertThrows(ServletException.class, () -> mockMvc.perform(post("/partida")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonRequest)));
+
+        assertSame(violacao, exception.getCause());
+    }
+
+    @Test
+    void testarCadastrarPartidasEmLote_ComErrosRetornaMultiStatus() throws Exception {
+        when(partidaService.cadastrarPartidasEmLote(anyList()))
+                .thenReturn(new PartidaLoteResponseDto(
+                        List.of(partidaResponse),
+                        List.of(new PartidaLoteErroDto(1, "Clube mandante não encontrado"))));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        String jsonRequest = objectMapper.writeValueAsString(List.of(partidaRequestDto, partidaRequestDto));
+
+        mockMvc.perform(post("/partida/lote")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(jsonRequest))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.partidasCadastradas[0].clubeMandanteNome").value("Corinthians"))
+                .andExpect(jsonPath("$.erros[0].indice").value(1))
+                .andExpect(jsonPath("$.erros[0].mensagem").value("Clube mandante não encontrado"))
+                .andDo(print());
+
+        verify(partidaService).cadastrarPartidasEmLote(anyList());
+    }
+
+    @Test
+    void testarImportarPartidas_EscreveProgressoPorLote() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<PartidaImportacaoProgressoDto> progresso = invocation.getArgument(2);
+            progresso.accept(new PartidaImportacaoProgressoDto(1, 2, 1, 1,
+                    List.of(new PartidaLoteErroDto(2, "Clube mandante não encontrado"))));
+            return null;
+        }).when(partidaImportacaoService).importarPartidas(any(InputStream.class), any(MediaType.class), any());
+
+        mockMvc.perform(post("/partida/importacao")
+                    .contentType("application/x-ndjson")
+                    .content("{\"clubeMandanteId\":1}\n{\"clubeMandanteId\":99}\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(jsonPath("$.lote").value(1))
+                .andExpect(jsonPath("$.totalPartidasCadastradas").value(1))
+                .andExpect(jsonPath("$.erros[0].indice").value(2))
+                .andDo(print());
+    }
+
+    @Test
+    void testarBuscarConfrontoDireto() throws Exception {
+        when(partidaService.buscarConfrontoDireto(eq(1L), eq(2L), any(Pageable.class)))
+                .thenReturn(new ConfrontoDiretoResponseDto(1L, 2L,
+                        new ConfrontoDiretoResumoDto(1, 1, 0, 0, 2, 1),
+                        PaginaDto.de(new PageImpl<>(List.of(partidaResponse)))));
+
+        mockMvc.perform(get("/partida/confronto")
+                    .param("clubeA", "1")
+                    .param("clubeB", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vitoriasClubeA").value(1))
+                .andExpect(jsonPath("$.golsClubeB").value(1))
+                .andExpect(jsonPath("$.partidas.conteudo[0].partidaId").value(1L))
+                .andDo(print());
+
+        verify(partidaService).buscarConfrontoDireto(eq(1L), eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    void testarListarPartidas_NegociaProtobufComEnvelopeDePagina() throws Exception {
+        when(partidaService.buscarVersaoDaPagina(any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new VersaoPaginaDto(new VersaoRecursoDto(null, "beef", null), List.of(), false));
+        when(partidaService.listarPartidas(any(), any(), any(), any(), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(partidaResponse)));
+
+        byte[] protobuf = mockMvc.perform(get("/partida/lista").accept(FormatoResposta.PROTOBUF.getMediaType()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(FormatoResposta.PROTOBUF.getMediaType()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        NativeProtobufSchema esquemas = ProtobufSchemaLoader.std.loadNative(
+                getClass().getClassLoader().getResource(CodificadorRespostas.ESQUEMA_PROTOBUF));
+        JsonNode pagina = new ProtobufMapper().readerFor(JsonNode.class).with(esquemas.forType("PaginaPartida")).readValue(protobuf);
+
+        assertEquals(1L, pagina.get("totalElementos").asLong());
+        assertEquals("Palmeiras", pagina.get("conteudo").get(0).get("clubeVisitanteNome").asText());
+        assertEquals("2025-01-10T15:00:00", pagina.get("conteudo").get(0).get("dataHora").asText());
+    }
+
+    @Test
+    void testarListarPartidas_ModoSliceEmSmile() throws Exception {
+        when(partidaService.listarPartidasSemContagem(eq(null), eq(null), eq(null), any(Pageable.class), eq(ModoPaginacao.SLICE)))
+                .thenReturn(new PaginaFatiaDto<>(List.of(partidaResponse), 0, 10, true, null));
+
+        byte[] smile = mockMvc.perform(get("/partida/lista")
+                        .param("paginacao", "SLICE")
+                        .accept(FormatoResposta.SMILE.getMediaType()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(FormatoResposta.SMILE.getMediaType()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode fatia = codificadorRespostas.getMapeador(FormatoResposta.SMILE).readTree(smile);
+        assertEquals("Corinthians", fatia.get("conteudo").get(0).get("clubeMandanteNome").asText());
+        assertEquals("2025-01-10T15:00:00", fatia.get("conteudo").get(0).get("dataHora").asText());
+        assertTrue(fatia.get("possuiProximo").asBoolean());
+    }
+
+    @Test
+    void testarListarPartidas_FieldsRestringeCamposEUsaEnvelopeCompacto() throws Exception {
+        PartidaResponseDto parcial = new PartidaResponseDto();
+        parcial.setPartidaId(1L);
+        parcial.setClubeMandanteGols(2);
+        parcial.setDataHora(LocalDateTime.of(2025, 1, 10, 15, 0));
+
+        when(partidaService.buscarVersaoDaPagina(any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new VersaoPaginaDto(new VersaoRecursoDto(null, "cafe", null), List.of(), false));
+        when(partidaService.listarPartidas(any(), any(), any(), any(), eq(Set.of("partidaId", "clubeMandanteGols", "dataHora")), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(parcial)));
+
+        mockMvc.perform(get("/partida/lista").param("fields", "partidaId, clubeMandanteGols,dataHora"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[0].partidaId").value(1L))
+                .andExpect(jsonPath("$.conteudo[0].clubeMandanteGols").value(2))
+                .andExpect(jsonPath("$.conteudo[0].dataHora").value("2025-01-10T15:00:00"))
+                .andExpect(jsonPath("$.conteudo[0].clubeMandanteNome").doesNotExist())
+                .andExpect(jsonPath("$.conteudo[0].estadioId").doesNotExist())
+                .andExpect(jsonPath("$.totalElementos").value(1))
+                .andExpect(jsonPath("$.possuiProximo").value(false))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist());
+    }
+
+    @Test
+    void testarListarPartidas_FieldsForaDoModoPaginaRetornaBadRequest() throws Exception {
+        mockMvc.perform(get("/partida/lista")
+                        .param("paginacao", "CURSOR")
+                        .param("fields", "partidaId"))
+                .andExpect(status().isBadRequest());
+
+        verify(partidaService, never()).listarPartidasPorCursor(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testarListarPartidas_ModoCursor() throws Exception {
+        when(partidaService.listarPartidasPorCursor(null, null, 1L, "abc", 5))
+                .thenReturn(new PaginaCursorDto<>(List.of(partidaResponse), 5, "def"));
+
+        mockMvc.perform(get("/partida/lista")
+                        .param("estadioId", "1")
+                        .param("paginacao", "CURSOR")
+                        .param("after", "abc")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[0].partidaId").value(1L))
+                .andExpect(jsonPath("$.proximoCursor").value("def"))
+                .andExpect(jsonPath("$.possuiProximo").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andDo(print());
+
+        verify(partidaService).listarPartidasPorCursor(null, null, 1L, "abc", 5);
+    }
+
+    @Test
+    void testarListarPartidas_ModoSliceSemTotal() throws Exception {
+        when(partidaService.listarPartidasSemContagem(eq(null), eq(null), eq(null), any(Pageable.class), eq(ModoPaginacao.SLICE)))
+                .thenReturn(new PaginaFatiaDto<>(List.of(partidaResponse), 0, 10, true, null));
+
+        mockMvc.perform(get("/partida/lista")
+                        .param("paginacao", "SLICE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[0].partidaId").value(1L))
+                .andExpect(jsonPath("$.possuiProximo").value(true))
+                .andExpect(jsonPath("$.totalEstimado").isEmpty())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andDo(print());
+    }
+
 }
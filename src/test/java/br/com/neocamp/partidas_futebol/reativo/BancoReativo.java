@@ -0,0 +1,74 @@
+package br.com.neocamp.partidas_futebol.reativo;
+
+import org.flywaydb.core.Flyway;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+final class BancoReativo {
+
+    static final String URL_JDBC = "jdbc:h2:mem:reativo;DB_CLOSE_DELAY=-1";
+    static final String URL_R2DBC = "r2dbc:h2:mem:///reativo?options=DB_CLOSE_DELAY=-1";
+    static final int PARTIDAS = 300;
+
+    private static boolean preparado;
+
+    private BancoReativo() {}
+
+    static synchronized void preparar() {
+        if (preparado) {
+            return;
+        }
+        Flyway.configure()
+                .dataSource(URL_JDBC, "sa", "")
+                .locations("classpath:db/migration/comum", "classpath:db/migration/h2", "classpath:br/com/neocamp/partidas_futebol/migracao")
+                .load()
+                .migrate();
+
+        try (Connection conexao = DriverManager.getConnection(URL_JDBC, "sa", "");
+             Statement comando = conexao.createStatement()) {
+            comando.executeUpdate("""
+                    insert into clube (id, nome, nome_normalizado, sigla_estado, data_criacao, ativo) values
+                        (1, 'Santos', 'santos', 'SP', date '1912-04-14', true),
+                        (2, 'São Paulo', 'sao paulo', 'SP', date '1930-01-25', true),
+                        (3, 'Flamengo', 'flamengo', 'RJ', date '1895-11-17', false)
+                    """);
+            comando.executeUpdate("""
+                    insert into estadio (id, nome, nome_normalizado) values
+                        (1, 'Vila Belmiro', 'vila belmiro'),
+                        (2, 'Morumbi', 'morumbi')
+                    """);
+
+            try (PreparedStatement insercao = conexao.prepareStatement("""
+                    insert into partida (partida_id, clube_mandante_id, clube_visitante_id, clube_mandante_gols,
+                                         clube_visitante_gols, estadio_id, data_hora, data_partida)
+                    values (?, ?, ?, ?, ?, ?, ?, ?)
+                    """)) {
+                LocalDateTime inicio = LocalDateTime.of(2020, 1, 1, 16, 0);
+                for (int i = 1; i <= PARTIDAS; i++) {
+                    boolean santosEmCasa = i % 2 == 1;
+                    LocalDateTime dataHora = inicio.plusDays(i);
+                    insercao.setLong(1, i);
+                    insercao.setLong(2, santosEmCasa ? 1 : 2);
+                    insercao.setLong(3, santosEmCasa ? 2 : 1);
+                    insercao.setInt(4, i % 4);
+                    insercao.setInt(5, i % 3);
+                    insercao.setLong(6, santosEmCasa ? 1 : 2);
+                    insercao.setTimestamp(7, Timestamp.valueOf(dataHora));
+                    insercao.setObject(8, dataHora.toLocalDate());
+                    insercao.addBatch();
+                }
+                insercao.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        preparado = true;
+    }
+
+}
@@ -0,0 +1,113 @@
+package br.com.neocamp.partidas_futebol.reativo;
+
+import br.com.neocamp.partidas_futebol.PartidasFutebolApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CargaReativoServletTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CargaReativoServletTest.class);
+
+    private static final int REQUISICOES = 600;
+    private static final int CONCORRENCIA = 256;
+    private static final int AQUECIMENTO = 200;
+
+    private static ConfigurableApplicationContext servlet;
+    private static ConfigurableApplicationContext reativo;
+
+    @BeforeAll
+    static void iniciar() {
+        BancoReativo.preparar();
+
+        servlet = new SpringApplicationBuilder(PartidasFutebolApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + BancoReativo.URL_JDBC,
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=");
+
+        reativo = new SpringApplicationBuilder(PartidasReativoApplication.class)
+                .profiles(PartidasReativoApplication.PERFIL)
+                .run("--server.port=0",
+                        "--spring.r2dbc.url=" + BancoReativo.URL_R2DBC,
+                        "--spring.r2dbc.username=sa",
+                        "--spring.r2dbc.password=");
+    }
+
+    @AfterAll
+    static void encerrar() {
+        if (reativo != null) {
+            reativo.close();
+        }
+        if (servlet != null) {
+            servlet.close();
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testarCarga_ComparaServletEReativoNasMesmasLeituras() {
+        for (String caminho : List.of("/partida/lista?size=50", "/partida/7", "/clube/1")) {
+            Resultado resultadoServlet = medir(porta(servlet), caminho);
+            Resultado resultadoReativo = medir(porta(reativo), caminho);
+
+            log.info("GET {} com {} clientes: servlet {} req/s p99 {} ms; reativo {} req/s p99 {} ms",
+                    caminho, CONCORRENCIA, resultadoServlet.porSegundo(), resultadoServlet.p99Millis(),
+                    resultadoReativo.porSegundo(), resultadoReativo.p99Millis());
+
+            assertEquals(0, resultadoServlet.falhas(), caminho);
+            assertEquals(0, resultadoReativo.falhas(), caminho);
+        }
+    }
+
+    private static Resultado medir(int porta, String caminho) {
+        WebClient cliente = WebClient.builder().baseUrl("http://localhost:" + porta).build();
+        disparar(cliente, caminho, AQUECIMENTO);
+
+        long inicio = System.nanoTime();
+        List<Long> duracoes = disparar(cliente, caminho, REQUISICOES);
+        long total = System.nanoTime() - inicio;
+
+        long[] ordenadas = duracoes.stream().filter(duracao -> duracao >= 0).mapToLong(Long::longValue).sorted().toArray();
+        long p99 = ordenadas.length == 0 ? -1 : ordenadas[(int) Math.ceil(ordenadas.length * 0.99) - 1] / 1_000_000;
+        return new Resultado(REQUISICOES * 1_000_000_000L / total, p99, REQUISICOES - ordenadas.length);
+    }
+
+    private static List<Long> disparar(WebClient cliente, String caminho, int quantidade) {
+        return Flux.range(0, quantidade)
+                .flatMap(i -> Mono.defer(() -> {
+                    long inicio = System.nanoTime();
+                    return cliente.get().uri(caminho)
+                            .accept(MediaType.APPLICATION_JSON)
+                            .retrieve()
+                            .toBodilessEntity()
+                            .map(resposta -> System.nanoTime() - inicio);
+                }).onErrorReturn(-1L), CONCORRENCIA)
+                .collectList()
+                .block(Duration.ofMinutes(2));
+    }
+
+    private static int porta(ConfigurableApplicationContext contexto) {
+        return ((WebServerApplicationContext) contexto).getWebServer().getPort();
+    }
+
+    private record Resultado(long porSegundo, long p99Millis, int falhas) {}
+
+}
@@ -0,0 +1,169 @@
+package br.com.neocamp.partidas_futebol.reativo;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.reativo.repository.PartidaReativaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(PartidasReativoApplication.PERFIL)
+class LeituraReativaTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private PartidaReativaRepository partidaReativaRepository;
+
+    @DynamicPropertySource
+    static void bancoEmMemoria(DynamicPropertyRegistry registry) {
+        BancoReativo.preparar();
+        registry.add("spring.r2dbc.url", () -> BancoReativo.URL_R2DBC);
+        registry.add("spring.r2dbc.username", () -> "sa");
+        registry.add("spring.r2dbc.password", () -> "");
+    }
+
+    @Test
+    void testarBuscarClubePorId() {
+        webTestClient.get().uri("/clube/1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.nome").isEqualTo("Santos")
+                .jsonPath("$.siglaEstado").isEqualTo("SP")
+                .jsonPath("$.dataCriacao").isEqualTo("1912-04-14")
+                .jsonPath("$.ativo").isEqualTo(true);
+
+        webTestClient.get().uri("/clube/99").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Clube não encontrado")
+                .jsonPath("$.status").isEqualTo("NOT_FOUND");
+    }
+
+    @Test
+    void testarBuscarEstadioPorId() {
+        EstadioResponseDto estadio = webTestClient.get().uri("/estadio/2").exchange()
+                .expectStatus().isOk()
+                .expectBody(EstadioResponseDto.class).returnResult().getResponseBody();
+
+        assertEquals("Morumbi", estadio.getNome());
+        webTestClient.get().uri("/estadio/99").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testarBuscarPartidaPorId_TrazNomesDeClubesEEstadio() {
+        PartidaResponseDto partida = webTestClient.get().uri("/partida/2").exchange()
+                .expectStatus().isOk()
+                .expectBody(PartidaResponseDto.class).returnResult().getResponseBody();
+
+        assertEquals("São Paulo", partida.getClubeMandanteNome());
+        assertEquals("Santos", partida.getClubeVisitanteNome());
+        assertEquals("Morumbi", partida.getEstadioNome());
+        assertEquals(2, partida.getClubeMandanteGols());
+        assertEquals(LocalDateTime.of(2020, 1, 3, 16, 0), partida.getDataHora());
+
+        webTestClient.get().uri("/partida/9999").exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testarListarClubes_AplicaFiltrosEPaginacao() {
+        assertEquals(List.of("Santos", "São Paulo"), nomesDeClubes("/clube/lista?siglaEstado=SP"));
+        assertEquals(List.of("São Paulo"), nomesDeClubes("/clube/lista?nome=PAUL"));
+        assertEquals(List.of("Flamengo"), nomesDeClubes("/clube/lista?ativo=false"));
+        assertEquals(List.of("Flamengo"), nomesDeClubes("/clube/lista?page=1&size=2"));
+        assertEquals(List.of(), nomesDeClubes("/clube/lista?nome=100%25"));
+        assertEquals(List.of("São Paulo"), nomesDeClubes("/clube/lista?nome=sao paulo"));
+        assertEquals(List.of("São Paulo"), nomesDeClubes("/clube/lista?nome= SÃO   Paulo "));
+    }
+
+    @Test
+    void testarListarEstadios_OrdenaPeloCampoPedido() {
+        List<EstadioResponseDto> estadios = webTestClient.get().uri("/estadio/lista?sortBy=nome")
+                .accept(MediaType.APPLICATION_JSON).exchange()
+                .expectStatus().isOk()
+                .expectBodyList(EstadioResponseDto.class).returnResult().getResponseBody();
+
+        assertEquals(List.of("Morumbi", "Vila Belmiro"), estadios.stream().map(EstadioResponseDto::getNome).toList());
+        assertEquals(1, webTestClient.get().uri("/estadio/lista?nome=VILA  belmíro")
+                .accept(MediaType.APPLICATION_JSON).exchange()
+                .expectStatus().isOk()
+                .expectBodyList(EstadioResponseDto.class).returnResult().getResponseBody().size());
+        webTestClient.get().uri("/estadio/lista?sortBy=versao").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Ordenação inválida: use id ou nome")
+                .jsonPath("$.status").isEqualTo("BAD_REQUEST");
+        webTestClient.get().uri("/estadio/lista?page=primeira").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("BAD_REQUEST");
+    }
+
+    @Test
+    void testarListarPartidas_FiltraPorEstadioEPagina() {
+        List<PartidaResponseDto> partidas = webTestClient.get().uri("/partida/lista?estadioId=2&page=1&size=5")
+                .accept(MediaType.APPLICATION_JSON).exchange()
+                .expectStatus().isOk()
+                .expectBodyList(PartidaResponseDto.class).returnResult().getResponseBody();
+
+        assertEquals(List.of(12L, 14L, 16L, 18L, 20L), partidas.stream().map(PartidaResponseDto::getPartidaId).toList());
+        webTestClient.get().uri("/partida/lista?size=0").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testarListarPartidas_NdjsonEntregaSobDemanda() {
+        Flux<PartidaResponseDto> partidas = webTestClient.get().uri("/partida/lista?size=" + BancoReativo.PARTIDAS)
+                .accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(PartidaResponseDto.class)
+                .getResponseBody();
+
+        StepVerifier.create(partidas, 1)
+                .expectNextMatches(partida -> partida.getPartidaId() == 1L)
+                .thenRequest(BancoReativo.PARTIDAS - 1)
+                .expectNextCount(BancoReativo.PARTIDAS - 1)
+                .verifyComplete();
+    }
+
+    @Test
+    void testarRepositorio_SoLeLinhasQuandoHaDemanda() {
+        StepVerifier.create(partidaReativaRepository.listarPartidas(null, null, null, PageRequest.of(0, BancoReativo.PARTIDAS)), 0)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(10)
+                .expectNextCount(10)
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenCancel()
+                .verify();
+    }
+
+    private List<String> nomesDeClubes(String uri) {
+        return webTestClient.get().uri(uri)
+                .accept(MediaType.APPLICATION_JSON).exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ClubeResponseDto.class).returnResult().getResponseBody()
+                .stream().map(ClubeResponseDto::getNome).toList();
+    }
+
+}
@@ -0,0 +1,122 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.entity.Partida;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = SqlCapturado.PROPRIEDADE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CacheSegundoNivelRepositoryTest {
+
+    private static final Pattern CONSULTA_DE_ASSOCIACAO = Pattern.compile("from (clube|estadio)\\b");
+
+    @Autowired
+    private PartidaRepository partidaRepository;
+
+    @Autowired
+    private ClubeRepository clubeRepository;
+
+    @Autowired
+    private EstadioRepository estadioRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transacao;
+    private Statistics estatisticas;
+    private List<Partida> partidas;
+
+    @BeforeEach
+    void setUp() {
+        transacao = new TransactionTemplate(transactionManager);
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.setStatisticsEnabled(true);
+
+        Clube corinthians = clubeRepository.save(new Clube("Corinthians", "SP", LocalDate.of(1910, 9, 1), true));
+        Clube palmeiras = clubeRepository.save(new Clube("Palmeiras", "SP", LocalDate.of(1914, 8, 26), true));
+        Clube santos = clubeRepository.save(new Clube("Santos", "SP", LocalDate.of(1912, 4, 14), true));
+        Estadio arena = estadioRepository.save(new Estadio("Neo Química Arena"));
+        Estadio allianz = estadioRepository.save(new Estadio("Allianz Parque"));
+
+        LocalDateTime dataHora = LocalDateTime.of(2025, 6, 1, 16, 0);
+        partidas = partidaRepository.saveAll(List.of(
+                new Partida(corinthians, palmeiras, 1, 0, arena, dataHora),
+                new Partida(palmeiras, santos, 2, 2, allianz, dataHora.plusDays(3)),
+                new Partida(santos, corinthians, 0, 1, arena, dataHora.plusDays(6)),
+                new Partida(corinthians, santos, 3, 1, arena, dataHora.plusDays(9))
+        ));
+        estatisticas.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        partidaRepository.deleteAllInBatch();
+        clubeRepository.deleteAllInBatch();
+        estadioRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testarSegundaPaginaDaLista_NaoConsultaAssociacoes() {
+        PageRequest primeiraPagina = PageRequest.of(0, 2, Sort.by("dataHora"));
+        listarNomes(primeiraPagina);
+
+        SqlCapturado.limpar();
+        List<String> nomes = listarNomes(primeiraPagina.next());
+
+        assertEquals(List.of("Santos", "Corinthians", "Corinthians", "Santos"), nomes);
+        assertTrue(SqlCapturado.comandos().stream().noneMatch(sql -> CONSULTA_DE_ASSOCIACAO.matcher(sql).find()),
+                "Associações da partida não deveriam gerar consultas próprias: " + SqlCapturado.comandos());
+    }
+
+    @Test
+    void testarPartidaCarregadaSemGrafo_ResolveAssociacoesPeloCache() {
+        transacao.executeWithoutResult(status -> clubeRepository.findAll());
+        transacao.executeWithoutResult(status -> estadioRepository.findAll());
+        Long partidaId = partidas.get(0).getPartidaId();
+
+        SqlCapturado.limpar();
+        String descricao = transacao.execute(status -> {
+            Partida partida = partidaRepository.findById(partidaId).orElseThrow();
+            return partida.getClubeMandante().getNome() + " x " + partida.getClubeVisitante().getNome()
+                    + " - " + partida.getEstadio().getNome();
+        });
+
+        assertEquals("Corinthians x Palmeiras - Neo Química Arena", descricao);
+        assertEquals(1, SqlCapturado.comandos().size(), "Somente a partida deveria ser lida do banco: " + SqlCapturado.comandos());
+        assertEquals(3, estatisticas.getSecondLevelCacheHitCount());
+    }
+
+    private List<String> listarNomes(PageRequest pagina) {
+        return transacao.execute(status -> partidaRepository
+                .findAll(PartidaSpecification.comFiltros(null, null, null), pagina)
+                .stream()
+                .flatMap(partida -> Stream.of(partida.getClubeMandante().getNome(), partida.getClubeVisitante().getNome()))
+                .toList());
+    }
+
+}
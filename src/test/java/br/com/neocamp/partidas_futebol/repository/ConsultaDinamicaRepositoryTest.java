@@ -0,0 +1,319 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.entity.Partida;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = SqlCapturado.PROPRIEDADE)
+class ConsultaDinamicaRepositoryTest {
+
+    @Autowired
+    private PartidaRepository partidaRepository;
+
+    @Autowired
+    private ClubeRepository clubeRepository;
+
+    @Autowired
+    private EstadioRepository estadioRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private List<Clube> clubes;
+    private List<Partida> partidas;
+    private Estadio arena;
+
+    @BeforeEach
+    void setUp() {
+        Clube corinthians = entityManager.persist(new Clube("Corinthians", "SP", LocalDate.of(1910, 9, 1), true));
+        Clube palmeiras = entityManager.persist(new Clube("Palmeiras", "SP", LocalDate.of(1914, 8, 26), true));
+        Clube flamengo = entityManager.persist(new Clube("Flamengo", "RJ", LocalDate.of(1895, 11, 17), false));
+        Clube cem = entityManager.persist(new Clube("Clube 100%", "RJ", LocalDate.of(1990, 1, 1), true));
+        clubes = List.of(corinthians, palmeiras, flamengo, cem);
+
+        arena = entityManager.persist(new Estadio("Neo Química Arena"));
+        Estadio maracana = entityManager.persist(new Estadio("Maracanã"));
+
+        LocalDateTime dataHora = LocalDateTime.of(2025, 6, 1, 16, 0);
+        partidas = List.of(
+                entityManager.persist(new Partida(corinthians, palmeiras, 1, 0, arena, dataHora)),
+                entityManager.persist(new Partida(corinthians, flamengo, 2, 2, maracana, dataHora.plusDays(3))),
+                entityManager.persist(new Partida(palmeiras, corinthians, 0, 1, arena, dataHora.plusDays(6))),
+                entityManager.persist(new Partida(corinthians, palmeiras, 3, 1, maracana, dataHora.plusDays(9)))
+        );
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testarFiltrosDePartida_TodasAsCombinacoesEmitemApenasOsPredicadosInformados() {
+        Long corinthians = clubes.get(0).getId();
+        Long palmeiras = clubes.get(1).getId();
+
+        for (int combinacao = 0; combinacao < 8; combinacao++) {
+            Long mandante = (combinacao & 1) != 0 ? corinthians : null;
+            Long visitante = (combinacao & 2) != 0 ? palmeiras : null;
+            Long estadio = (combinacao & 4) != 0 ? arena.getId() : null;
+
+            SqlCapturado.limpar();
+            List<Long> encontradas = partidaRepository.findAll(
+                            PartidaSpecification.comFiltros(mandante, visitante, estadio), PageRequest.of(0, 10))
+                    .map(Partida::getPartidaId).getContent();
+
+            List<Long> esperadas = partidas.stream()
+                    .filter(p -> mandante == null || p.getClubeMandante().getId().equals(mandante))
+                    .filter(p -> visitante == null || p.getClubeVisitante().getId().equals(visitante))
+                    .filter(p -> estadio == null || p.getEstadio().getId().equals(estadio))
+                    .map(Partida::getPartidaId)
+                    .toList();
+
+            assertEquals(esperadas.stream().sorted().toList(), encontradas.stream().sorted().toList(), "combinação " + combinacao);
+
+            List<String> comandos = SqlCapturado.comandos();
+            assertEquals(1, comandos.size(), "combinação " + combinacao);
+            String sql = comandos.get(0);
+            assertEquals(mandante != null, contemPredicado(sql, "clube_mandante_id"), sql);
+            assertEquals(visitante != null, contemPredicado(sql, "clube_visitante_id"), sql);
+            assertEquals(estadio != null, contemPredicado(sql, "estadio_id"), sql);
+            assertFalse(sql.contains("is null"), sql);
+        }
+    }
+
+    @Test
+    void testarFiltrosDeClube_TodasAsCombinacoesEmitemApenasOsPredicadosInformados() {
+        for (int combinacao = 0; combinacao < 8; combinacao++) {
+            String nome = (combinacao & 1) != 0 ? "o" : null;
+            String siglaEstado = (combinacao & 2) != 0 ? "SP" : null;
+            Boolean ativo = (combinacao & 4) != 0 ? Boolean.TRUE : null;
+
+            SqlCapturado.limpar();
+            List<Long> encontrados = clubeRepository.findAll(ClubeSpecification.comFiltros(nome, siglaEstado, ativo))
+                    .stream().map(Clube::getId).sorted().toList();
+
+            List<Long> esperados = clubes.stream()
+                    .filter(c -> nome == null || c.getNome().toLowerCase().contains(nome))
+                    .filter(c -> siglaEstado == null || c.getSiglaEstado().equals(siglaEstado))
+                    .filter(c -> ativo == null || c.getAtivo().equals(ativo))
+                    .map(Clube::getId)
+                    .sorted()
+                    .toList();
+
+            assertEquals(esperados, encontrados, "combinação " + combinacao);
+
+            List<String> comandos = SqlCapturado.comandos();
+            assertEquals(1, comandos.size(), "combinação " + combinacao);
+            String sql = comandos.get(0);
+            assertEquals(nome != null, sql.contains(" like "), sql);
+            assertEquals(siglaEstado != null, contemPredicado(sql, "sigla_estado"), sql);
+            assertEquals(ativo != null, contemPredicado(sql, "ativo"), sql);
+        }
+    }
+
+    @Test
+    void testarFiltroDeNome_TrataCuringasComoTextoLiteral() {
+        List<Clube> encontrados = clubeRepository.findAll(ClubeSpecification.comFiltros("100%", null, null));
+
+        assertEquals(List.of("Clube 100%"), encontrados.stream().map(Clube::getNome).toList());
+        assertTrue(clubeRepository.findAll(ClubeSpecification.comFiltros("_", null, null)).isEmpty());
+    }
+
+    @Test
+    void testarFiltroDeNome_IgnoraAcentosEEspacosComoONomeNormalizado() {
+        List<Estadio> estadios = estadioRepository.findAll(EstadioSpecification.comNome("  MARACANA "));
+        Slice<Estadio> fatia = estadioRepository.buscarEstadiosPorFatia(
+                EstadioSpecification.comNome("neo  quimica"), PageRequest.of(0, 10, Sort.by("nome")));
+
+        assertEquals(List.of("Maracanã"), estadios.stream().map(Estadio::getNome).toList());
+        assertEquals(List.of("Neo Química Arena"), fatia.map(Estadio::getNome).getContent());
+        assertEquals(1, clubeRepository.count(ClubeSpecification.comFiltros("CORÍNTHIANS", null, null)));
+    }
+
+    @Test
+    void testarClubesEmFluxo_AplicaOsMesmosFiltrosSemGerenciarEntidades() {
+        for (int combinacao = 0; combinacao < 8; combinacao++) {
+            String nome = (combinacao & 1) != 0 ? "o" : null;
+            String siglaEstado = (combinacao & 2) != 0 ? "SP" : null;
+            Boolean ativo = (combinacao & 4) != 0 ? Boolean.TRUE : null;
+
+            List<Long> esperados = clubeRepository.findAll(ClubeSpecification.comFiltros(nome, siglaEstado, ativo))
+                    .stream().map(Clube::getId).sorted().toList();
+            entityManager.clear();
+
+            List<Long> encontrados;
+            try (Stream<ClubeResponseDto> fluxo = clubeRepository.buscarClubesEmFluxo(ClubeSpecification.comFiltros(nome, siglaEstado, ativo))) {
+                encontrados = fluxo.map(ClubeResponseDto::getId).sorted().toList();
+            }
+
+            assertEquals(esperados, encontrados, "combinação " + combinacao);
+            assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount(), "combinação " + combinacao);
+        }
+    }
+
+    @Test
+    void testarPartidasParciais_SemNomesNaoFazJoinESelecionaApenasOsCampos() {
+        Long corinthians = clubes.get(0).getId();
+
+        SqlCapturado.limpar();
+        Page<PartidaResponseDto> pagina = partidaRepository.buscarPartidasParciais(
+                PartidaSpecification.comFiltros(corinthians, null, null),
+                Set.of("partidaId", "clubeMandanteGols", "clubeVisitanteGols", "dataHora"),
+                PageRequest.of(0, 2, Sort.by("dataHora")));
+
+        String sql = SqlCapturado.comandos().get(0);
+        assertFalse(sql.contains(" join "), sql);
+        assertFalse(sql.contains("nome"), sql);
+        assertEquals(2, SqlCapturado.comandos().size());
+
+        assertEquals(3, pagina.getTotalElements());
+        assertEquals(List.of(partidas.get(0).getPartidaId(), partidas.get(1).getPartidaId()),
+                pagina.map(PartidaResponseDto::getPartidaId).getContent());
+        PartidaResponseDto primeira = pagina.getContent().get(0);
+        assertEquals(1, primeira.getClubeMandanteGols());
+        assertEquals(LocalDateTime.of(2025, 6, 1, 16, 0), primeira.getDataHora());
+        assertNull(primeira.getClubeMandanteNome());
+        assertNull(primeira.getEstadioId());
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void testarPartidasParciais_JuntaApenasORelacionamentoDoNomePedido() {
+        SqlCapturado.limpar();
+        List<PartidaResponseDto> encontradas = partidaRepository.buscarPartidasParciais(
+                PartidaSpecification.comFiltros(null, null, arena.getId()),
+                Set.of("partidaId", "estadioNome", "clubeMandanteId"),
+                PageRequest.of(0, 10)).getContent();
+
+        String sql = SqlCapturado.comandos().get(0);
+        assertEquals(1, sql.split(" join ", -1).length - 1, sql);
+        assertEquals(2, encontradas.size());
+        assertTrue(encontradas.stream().allMatch(partida -> "Neo Química Arena".equals(partida.getEstadioNome())));
+        assertEquals(clubes.get(0).getId(), encontradas.get(0).getClubeMandanteId());
+        assertNull(encontradas.get(0).getClubeMandanteNome());
+    }
+
+    @Test
+    void testarClubesEEstadiosParciais_AplicamOsMesmosFiltros() {
+        List<Long> esperados = clubeRepository.findAll(ClubeSpecification.comFiltros("o", "SP", null))
+                .stream().map(Clube::getId).sorted().toList();
+
+        Page<ClubeResponseDto> clubesParciais = clubeRepository.buscarClubesParciais(
+                ClubeSpecification.comFiltros("o", "SP", null), Set.of("id", "nome"), PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(esperados, clubesParciais.map(ClubeResponseDto::getId).getContent());
+        assertNull(clubesParciais.getContent().get(0).getSiglaEstado());
+
+        Page<EstadioResponseDto> estadios = estadioRepository.buscarEstadiosParciais(EstadioSpecification.comNome("MARA"), Set.of("nome"), PageRequest.of(0, 10));
+        assertEquals(1, estadios.getTotalElements());
+        assertEquals("Maracanã", estadios.getContent().get(0).getNome());
+        assertNull(estadios.getContent().get(0).getId());
+
+        assertThrows(InvalidDataAccessApiUsageException.class, () -> estadioRepository.buscarEstadiosParciais(EstadioSpecification.comNome(null), Set.of("capacidade"), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void testarFatiaECursorDeClube_EmitemApenasOsPredicadosInformados() {
+        SqlCapturado.limpar();
+        Slice<Clube> fatia = clubeRepository.buscarClubesPorFatia(
+                ClubeSpecification.comFiltros(null, "SP", null), PageRequest.of(0, 1, Sort.by("nome")));
+
+        assertEquals(List.of("Corinthians"), fatia.map(Clube::getNome).getContent());
+        assertTrue(fatia.hasNext());
+
+        List<Clube> primeiraPagina = clubeRepository.buscarClubesPorCursor(
+                ClubeSpecification.comFiltros(null, null, true).and(ClubeSpecification.aposCursor(null, null)), Limit.of(2));
+        Clube ultimo = primeiraPagina.get(1);
+        List<Clube> segundaPagina = clubeRepository.buscarClubesPorCursor(
+                ClubeSpecification.comFiltros(null, null, true).and(ClubeSpecification.aposCursor(ultimo.getNome(), ultimo.getId())), Limit.of(2));
+
+        assertEquals(List.of("Clube 100%", "Corinthians"), primeiraPagina.stream().map(Clube::getNome).toList());
+        assertEquals(List.of("Palmeiras"), segundaPagina.stream().map(Clube::getNome).toList());
+        SqlCapturado.comandos().forEach(sql -> assertFalse(sql.contains("is null"), sql));
+    }
+
+    @Test
+    void testarFatiaECursorDePartida_EmitemApenasOsPredicadosInformados() {
+        SqlCapturado.limpar();
+        Slice<Partida> fatia = partidaRepository.buscarPartidasPorFatia(
+                PartidaSpecification.comFiltros(null, null, arena.getId()), PageRequest.of(0, 1, Sort.by("dataHora")));
+        List<Partida> cursor = partidaRepository.buscarPaginaPorCursor(
+                PartidaSpecification.comFiltros(clubes.get(0).getId(), null, null)
+                        .and(PartidaSpecification.antesDoCursor(partidas.get(3).getDataHora(), partidas.get(3).getPartidaId())), Limit.of(10));
+
+        assertEquals(List.of(partidas.get(0).getPartidaId()), fatia.map(Partida::getPartidaId).getContent());
+        assertTrue(fatia.hasNext());
+        assertEquals(List.of(partidas.get(1).getPartidaId(), partidas.get(0).getPartidaId()), cursor.stream().map(Partida::getPartidaId).toList());
+        SqlCapturado.comandos().forEach(sql -> {
+            assertFalse(sql.contains("is null"), sql);
+            assertFalse(contemPredicado(sql, "clube_visitante_id"), sql);
+        });
+    }
+
+    private boolean contemPredicado(String sql, String coluna) {
+        return Pattern.compile("\\." + coluna + "=\\?").matcher(sql).find();
+    }
+
+    @Test
+    void testarBuscaPorIds_CombinaIdsDoIndiceComOsDemaisFiltros() {
+        List<Long> ids = List.of(clubes.get(0).getId(), clubes.get(2).getId(), clubes.get(3).getId());
+
+        Page<Clube> ativos = clubeRepository.findAll(
+                ClubeSpecification.comIds(ids).and(ClubeSpecification.comFiltros(null, null, true)), PageRequest.of(0, 10, Sort.by("nome")));
+        Slice<VersaoRecursoDto> versoes = clubeRepository.buscarVersoes(
+                ClubeSpecification.comIds(ids).and(ClubeSpecification.comFiltros(null, "RJ", null)), PageRequest.of(0, 10));
+        Page<ClubeResponseDto> parciais = clubeRepository.buscarClubesParciais(
+                ClubeSpecification.comIds(ids).and(ClubeSpecification.comFiltros(null, "SP", null)), Set.of("nome"), PageRequest.of(0, 10));
+
+        assertEquals(List.of("Clube 100%", "Corinthians"), ativos.map(Clube::getNome).getContent());
+        assertEquals(2, versoes.getNumberOfElements());
+        assertEquals(List.of("Corinthians"), parciais.map(ClubeResponseDto::getNome).getContent());
+        assertEquals(0, clubeRepository.buscarClubesParciais(ClubeSpecification.comIds(List.of()), Set.of("id"), PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(List.of("Maracanã"), estadioRepository.findAllById(List.of(arena.getId() + 1)).stream().map(Estadio::getNome).toList());
+    }
+
+    @Test
+    void testarSondagemDeVersoes_NaoContaEEmiteApenasOsPredicadosInformados() {
+        SqlCapturado.limpar();
+        Slice<VersaoRecursoDto> partidasDaArena = partidaRepository.buscarVersoes(
+                PartidaSpecification.comFiltros(null, null, arena.getId()), PageRequest.of(0, 1, Sort.by("dataHora")));
+        Slice<VersaoRecursoDto> clubesDeSaoPaulo = clubeRepository.buscarVersoes(
+                ClubeSpecification.comFiltros(null, "SP", null), PageRequest.of(0, 2, Sort.by("nome")));
+
+        assertEquals(List.of(partidas.get(0).getPartidaId()), partidasDaArena.map(VersaoRecursoDto::id).getContent());
+        assertTrue(partidasDaArena.hasNext());
+        assertEquals(List.of(clubes.get(0).getId(), clubes.get(1).getId()), clubesDeSaoPaulo.map(VersaoRecursoDto::id).getContent());
+        assertFalse(clubesDeSaoPaulo.hasNext());
+
+        List<String> comandos = SqlCapturado.comandos();
+        assertEquals(2, comandos.size());
+        comandos.forEach(sql -> {
+            assertFalse(sql.toLowerCase().contains("count("), sql);
+            assertFalse(sql.contains("is null"), sql);
+        });
+    }
+
+}
@@ -0,0 +1,178 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.entity.Partida;
+import br.com.neocamp.partidas_futebol.enums.FormatoExportacao;
+import br.com.neocamp.partidas_futebol.exceptions.EntityBadRequestException;
+import br.com.neocamp.partidas_futebol.service.ExportacaoService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = SqlCapturado.PROPRIEDADE)
+@Import({ExportacaoService.class, SimpleMeterRegistry.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ExportacaoEmFluxoRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportacaoEmFluxoRepositoryTest.class);
+
+    private static final int TOTAL_PARTIDAS = 10_000;
+    private static final LocalDateTime INICIO = LocalDateTime.of(2000, 1, 1, 16, 0);
+
+    @Autowired
+    private ExportacaoService exportacaoService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private List<Clube> clubes;
+    private Estadio estadio;
+
+    @BeforeEach
+    void setUp() {
+        clubes = List.of(
+                entityManager.persist(new Clube("Corinthians", "SP", LocalDate.of(1910, 9, 1), true)),
+                entityManager.persist(new Clube("Palmeiras", "SP", LocalDate.of(1914, 8, 26), true)),
+                entityManager.persist(new Clube("Atlético, \"Galo\"", "MG", LocalDate.of(1908, 3, 25), false))
+        );
+        estadio = entityManager.persist(new Estadio("Neo Química Arena"));
+        gerarPartidas(0, 20);
+    }
+
+    private void gerarPartidas(int primeira, int ultima) {
+        for (int i = primeira; i < ultima; i++) {
+            Clube mandante = clubes.get(i % clubes.size());
+            Clube visitante = clubes.get((i + 1) % clubes.size());
+            entityManager.persist(new Partida(mandante, visitante, i % 4, i % 3, estadio, INICIO.plusDays(i)));
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testarExportarPartidas_UmaUnicaConsultaParaTodasAsLinhas() throws Exception {
+        double linhasAntes = linhasExportadas();
+
+        for (FormatoExportacao formato : FormatoExportacao.values()) {
+            SqlCapturado.limpar();
+
+            long linhas = exportacaoService.exportar(ExportacaoService.PARTIDA, formato, null, null, new ByteArrayOutputStream());
+
+            assertEquals(20, linhas);
+            assertEquals(1, SqlCapturado.comandos().size(), SqlCapturado.comandos().toString());
+            assertEquals(0, entityManager.getEntityManager().unwrap(org.hibernate.Session.class).getStatistics().getEntityCount());
+        }
+
+        assertEquals(40.0, linhasExportadas() - linhasAntes);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testarExportarPartidas_MedeVazaoComDezMilLinhas() throws Exception {
+        gerarPartidas(20, TOTAL_PARTIDAS);
+
+        for (FormatoExportacao formato : FormatoExportacao.values()) {
+            ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+            long inicio = System.nanoTime();
+            long linhas = exportacaoService.exportar(ExportacaoService.PARTIDA, formato, null, null, saida);
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+
+            assertEquals(TOTAL_PARTIDAS, linhas);
+            log.info("Exportação de partidas em {}: {} linhas em {} s ({} linhas/s, {} bytes)",
+                    formato, linhas, String.format("%.3f", segundos), Math.round(linhas / segundos), saida.size());
+        }
+    }
+
+    @Test
+    void testarExportar_FalhaNaEscritaAindaRegistraADuracao() {
+        OutputStream saidaComFalha = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Conexão encerrada pelo cliente");
+            }
+        };
+
+        assertThrows(IOException.class, () -> exportacaoService.exportar(ExportacaoService.ESTADIO, FormatoExportacao.CSV, null, null, saidaComFalha));
+
+        Timer duracao = meterRegistry.find("partidas.exportacao.duracao").tags("entidade", ExportacaoService.ESTADIO, "formato", "CSV").timer();
+        assertNotNull(duracao);
+        assertEquals(1, duracao.count());
+    }
+
+    @Test
+    void testarExportarPartidasNdjson_RespeitaPeriodoEIncluiNomes() throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        long linhas = exportacaoService.exportar(ExportacaoService.PARTIDA, FormatoExportacao.NDJSON,
+                INICIO.plusDays(10), INICIO.plusDays(13), saida);
+
+        String[] registros = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, linhas);
+        assertEquals(3, registros.length);
+
+        JsonNode primeira = objectMapper.readTree(registros[0]);
+        assertEquals("Palmeiras", primeira.get("clubeMandanteNome").asText());
+        assertEquals("Atlético, \"Galo\"", primeira.get("clubeVisitanteNome").asText());
+        assertEquals("Neo Química Arena", primeira.get("estadioNome").asText());
+        assertEquals("2000-01-11T16:00:00", primeira.get("dataHora").asText());
+    }
+
+    @Test
+    void testarExportarClubesCsv_EscapaVirgulasEAspas() throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+        long linhas = exportacaoService.exportar(ExportacaoService.CLUBE, FormatoExportacao.CSV, null, null, saida);
+
+        List<String> registros = saida.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, linhas);
+        assertEquals("id,nome,siglaEstado,dataCriacao,ativo", registros.get(0));
+        assertTrue(registros.contains(clubes.get(2).getId() + ",\"Atlético, \"\"Galo\"\"\",MG,1908-03-25,false"), registros.toString());
+    }
+
+    private double linhasExportadas() {
+        return meterRegistry.find("partidas.exportacao.linhas").tag("entidade", ExportacaoService.PARTIDA).counters()
+                .stream().mapToDouble(contador -> contador.count()).sum();
+    }
+
+    @Test
+    void testarExportar_PeriodoSomenteParaPartidas() {
+        assertThrows(EntityBadRequestException.class, () -> exportacaoService.exportar(ExportacaoService.ESTADIO, FormatoExportacao.CSV,
+                INICIO, null, new ByteArrayOutputStream()));
+    }
+
+}
@@ -0,0 +1,211 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MigracaoEsquemaLegadoTest {
+
+    private static final String URL = "jdbc:h2:mem:legado;DB_CLOSE_DELAY=-1";
+
+    private Connection conexao;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        conexao = DriverManager.getConnection(URL, "sa", "");
+        try (Statement comando = conexao.createStatement()) {
+            comando.execute("""
+                    create table clube (
+                        id bigint generated by default as identity,
+                        ativo boolean not null,
+                        data_criacao date not null,
+                        nome varchar(100) not null,
+                        sigla_estado varchar(2) not null,
+                        primary key (id)
+                    )""");
+            comando.execute("""
+                    create table estadio (
+                        id bigint generated by default as identity,
+                        nome varchar(100) not null,
+                        primary key (id),
+                        constraint UK_8nbh2hs2bfu5w1v5jbi4a6qra unique (nome)
+                    )""");
+            comando.execute("""
+                    create table partida (
+                        partida_id bigint generated by default as identity,
+                        clube_mandante_gols integer,
+                        clube_visitante_gols integer,
+                        data_hora timestamp(6) not null,
+                        clube_mandante_id bigint not null,
+                        clube_visitante_id bigint not null,
+                        estadio_id bigint not null,
+                        primary key (partida_id),
+                        constraint FKmandante foreign key (clube_mandante_id) references clube,
+                        constraint FKvisitante foreign key (clube_visitante_id) references clube,
+                        constraint FKestadio foreign key (estadio_id) references estadio
+                    )""");
+            comando.execute("insert into clube (ativo, data_criacao, nome, sigla_estado) values " +
+                    "(true, date '1910-09-01', 'Corinthians', 'SP'), (true, date '1914-08-26', 'Palmeiras', 'SP')");
+            comando.execute("insert into estadio (nome) values ('Neo Química Arena')");
+            comando.execute("insert into partida (clube_mandante_gols, clube_visitante_gols, data_hora, clube_mandante_id, clube_visitante_id, estadio_id) values " +
+                    "(2, 0, timestamp '2024-03-10 16:00:00', 1, 2, 1), (1, 1, timestamp '2024-03-17 18:30:00', 2, 1, 1)");
+            comando.execute("alter table partida alter column partida_id restart with 120");
+            comando.execute("insert into partida (clube_mandante_gols, clube_visitante_gols, data_hora, clube_mandante_id, clube_visitante_id, estadio_id) values " +
+                    "(0, 3, timestamp '2024-03-24 11:00:00', 1, 2, 1)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement comando = conexao.createStatement()) {
+            comando.execute("drop all objects");
+        }
+        conexao.close();
+    }
+
+    @Test
+    void testarMigracao_EsquemaLegadoRecebeColunasTabelasESequencia() throws SQLException {
+        Flyway flyway = flyway("3");
+
+        flyway.migrate();
+
+        assertArrayEquals(new String[] {"1", "1.1", "1.2", "2", "3"}, Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toArray(String[]::new));
+
+        try (Statement comando = conexao.createStatement()) {
+            ResultSet datas = comando.executeQuery("select count(*) from partida where data_partida <> cast(data_hora as date)");
+            datas.next();
+            assertEquals(0, datas.getInt(1));
+
+            ResultSet estatisticas = comando.executeQuery("select count(*) from clube_estatistica");
+            estatisticas.next();
+            assertEquals(0, estatisticas.getInt(1));
+
+            ResultSet sequencia = comando.executeQuery("select next value for partida_seq");
+            sequencia.next();
+            assertEquals(170, sequencia.getLong(1));
+        }
+
+        assertThrows(SQLException.class, () -> {
+            try (Statement comando = conexao.createStatement()) {
+                comando.execute("insert into partida (partida_id, clube_mandante_gols, clube_visitante_gols, data_hora, data_partida, clube_mandante_id, clube_visitante_id, estadio_id) " +
+                        "values (500, 1, 0, timestamp '2024-03-10 20:00:00', date '2024-03-10', 2, 1, 1)");
+            }
+        });
+    }
+
+    @Test
+    void testarMigracao_BancoNovoNaoAlteraASequencia() throws SQLException {
+        try (Statement comando = conexao.createStatement()) {
+            comando.execute("drop all objects");
+        }
+
+        flyway("3").migrate();
+
+        try (Statement comando = conexao.createStatement()) {
+            ResultSet sequencia = comando.executeQuery("select next value for partida_seq");
+            sequencia.next();
+            assertEquals(1, sequencia.getLong(1));
+        }
+    }
+
+    @Test
+    void testarMigracao_EstatisticasDosClubesSaoPreenchidasAPartirDasPartidas() throws SQLException {
+        try (Statement comando = conexao.createStatement()) {
+            comando.execute("insert into clube (ativo, data_criacao, nome, sigla_estado) values (true, date '1909-01-01', 'Juventus', 'SP')");
+            comando.execute("insert into partida (clube_mandante_gols, clube_visitante_gols, data_hora, clube_mandante_id, clube_visitante_id, estadio_id) values " +
+                    "(null, null, timestamp '2024-03-31 16:00:00', 1, 2, 1)");
+        }
+
+        flyway("latest").migrate();
+
+        try (Statement comando = conexao.createStatement()) {
+            ResultSet corinthians = comando.executeQuery("select jogos_mandante, vitorias_mandante, empates_mandante, derrotas_mandante, " +
+                    "gols_pro_mandante, gols_contra_mandante, jogos_visitante, vitorias_visitante, empates_visitante, derrotas_visitante, " +
+                    "gols_pro_visitante, gols_contra_visitante from clube_estatistica where clube_id = 1");
+            assertTrue(corinthians.next());
+            assertArrayEquals(new int[] {2, 1, 0, 1, 2, 3, 1, 0, 1, 0, 1, 1}, linha(corinthians, 12));
+
+            ResultSet juventus = comando.executeQuery("select jogos_mandante + jogos_visitante from clube_estatistica where clube_id = 3");
+            assertTrue(juventus.next());
+            assertEquals(0, juventus.getInt(1));
+
+            ResultSet total = comando.executeQuery("select count(*) from clube_estatistica");
+            total.next();
+            assertEquals(3, total.getInt(1));
+        }
+    }
+
+    @Test
+    void testarMigracao_NomesNormalizadosRepetidosRecebemSufixoERestricaoLegadaSai() throws SQLException {
+        try (Statement comando = conexao.createStatement()) {
+            comando.execute("insert into clube (ativo, data_criacao, nome, sigla_estado) values " +
+                    "(true, date '1910-09-01', '  CORINTHIANS ', 'sp'), (true, date '1910-09-01', 'Corinthians', 'RJ')");
+            comando.execute("insert into estadio (nome) values ('NEO QUIMICA  ARENA')");
+        }
+
+        flyway("latest").migrate();
+
+        try (Statement comando = conexao.createStatement()) {
+            ResultSet clubes = comando.executeQuery("select id, nome_normalizado from clube order by id");
+            assertTrue(clubes.next());
+            assertEquals("corinthians", clubes.getString(2));
+            assertTrue(clubes.next());
+            assertEquals("palmeiras", clubes.getString(2));
+            assertTrue(clubes.next());
+            assertEquals("corinthians#3", clubes.getString(2));
+            assertTrue(clubes.next());
+            assertEquals("corinthians", clubes.getString(2));
+
+            ResultSet estadios = comando.executeQuery("select nome_normalizado from estadio order by id");
+            assertTrue(estadios.next());
+            assertEquals("neo quimica arena", estadios.getString(1));
+            assertTrue(estadios.next());
+            assertEquals("neo quimica arena#2", estadios.getString(1));
+
+            ResultSet restricoes = comando.executeQuery("select constraint_name from information_schema.table_constraints " +
+                    "where table_name = 'ESTADIO' and constraint_type = 'UNIQUE'");
+            assertTrue(restricoes.next());
+            assertEquals("UK_ESTADIO_NOME_NORMALIZADO", restricoes.getString(1));
+            assertFalse(restricoes.next());
+        }
+
+        assertThrows(SQLException.class, () -> {
+            try (Statement comando = conexao.createStatement()) {
+                comando.execute("insert into estadio (nome, nome_normalizado) values ('Neo Química Arena II', 'neo quimica arena')");
+            }
+        });
+    }
+
+    private static int[] linha(ResultSet resultado, int colunas) throws SQLException {
+        int[] valores = new int[colunas];
+        for (int i = 0; i < colunas; i++) {
+            valores[i] = resultado.getInt(i + 1);
+        }
+        return valores;
+    }
+
+    private static Flyway flyway(String alvo) {
+        return Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration/comum", "classpath:db/migration/h2", "classpath:br/com/neocamp/partidas_futebol/migracao")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .target(alvo)
+                .load();
+    }
+
+}
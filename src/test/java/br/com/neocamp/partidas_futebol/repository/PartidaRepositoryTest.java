@@ -0,0 +1,391 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.ConfrontoDiretoResumoDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaAgendaDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaPlacarDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaPlacarVersionadoDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaReferenciaDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaRequestDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.entity.Partida;
+import br.com.neocamp.partidas_futebol.service.CacheReferenciaService;
+import br.com.neocamp.partidas_futebol.service.ClassificacaoService;
+import br.com.neocamp.partidas_futebol.service.ClubeEstatisticaService;
+import br.com.neocamp.partidas_futebol.service.ConfrontoDiretoService;
+import br.com.neocamp.partidas_futebol.service.ContagemPaginacaoService;
+import br.com.neocamp.partidas_futebol.service.PartidaService;
+import br.com.neocamp.partidas_futebol.service.RespostaSerializadaService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PartidaRepositoryTest {
+
+    @Autowired
+    private PartidaRepository partidaRepository;
+
+    @Autowired
+    private ClubeRepository clubeRepository;
+
+    @Autowired
+    private EstadioRepository estadioRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Clube corinthians;
+    private Clube palmeiras;
+    private Clube santos;
+    private Estadio estadio;
+
+    @BeforeEach
+    void setUp() {
+        corinthians = entityManager.persist(new Clube("Corinthians", "SP", LocalDate.of(1910, 9, 1), true));
+        palmeiras = entityManager.persist(new Clube("Palmeiras", "SP", LocalDate.of(1914, 8, 26), true));
+        santos = entityManager.persist(new Clube("Santos", "SP", LocalDate.of(1912, 4, 14), true));
+        estadio = entityManager.persist(new Estadio("Neo Química Arena"));
+    }
+
+    @Test
+    void testarIntervaloDe48Horas_ConsideraPartidasEmCasaEFora() {
+        LocalDateTime dataHora = LocalDateTime.of(2025, 1, 10, 16, 0);
+        entityManager.persist(new Partida(palmeiras, corinthians, 1, 0, estadio, dataHora));
+        entityManager.flush();
+
+        LocalDateTime novaPartida = dataHora.plusHours(47);
+
+        assertTrue(referencia(corinthians, novaPartida, null).clubeComPartidaNoIntervalo());
+        assertTrue(referencia(palmeiras, novaPartida, null).clubeComPartidaNoIntervalo());
+        assertFalse(referencia(santos, novaPartida, null).clubeComPartidaNoIntervalo());
+    }
+
+    @Test
+    void testarIntervaloDe48Horas_LimiteExatoNaoConflita() {
+        LocalDateTime dataHora = LocalDateTime.of(2025, 1, 10, 16, 0);
+        entityManager.persist(new Partida(corinthians, palmeiras, 1, 0, estadio, dataHora));
+        entityManager.flush();
+
+        LocalDateTime novaPartida = dataHora.plusHours(48);
+
+        assertFalse(referencia(corinthians, novaPartida, null).clubeComPartidaNoIntervalo());
+    }
+
+    @Test
+    void testarIntervaloDe48Horas_IgnoraAPropriaPartida() {
+        LocalDateTime dataHora = LocalDateTime.of(2025, 1, 10, 16, 0);
+        Partida partida = entityManager.persist(new Partida(corinthians, palmeiras, 1, 0, estadio, dataHora));
+        entityManager.flush();
+
+        assertTrue(referencia(corinthians, dataHora, null).clubeComPartidaNoIntervalo());
+        assertFalse(referencia(corinthians, dataHora, partida.getPartidaId()).clubeComPartidaNoIntervalo());
+    }
+
+    @Test
+    void testarIntervaloDe48Horas_NaoCarregaOHistoricoDoClube() {
+        LocalDateTime inicioHistorico = LocalDateTime.of(2000, 1, 1, 16, 0);
+        for (int i = 0; i < 500; i++) {
+            Clube adversario = i % 2 == 0 ? palmeiras : santos;
+            entityManager.persist(new Partida(corinthians, adversario, 1, 1, estadio, inicioHistorico.plusDays(3L * i)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        LocalDateTime novaPartida = LocalDateTime.of(2025, 1, 10, 16, 0);
+        PartidaReferenciaDto referencia = referencia(corinthians, novaPartida, null);
+
+        assertFalse(referencia.clubeComPartidaNoIntervalo());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testarEstadioOcupado_ConsultaPelaDataDaPartida() {
+        LocalDateTime dataHora = LocalDateTime.of(2025, 1, 10, 11, 0);
+        Partida partida = entityManager.persist(new Partida(corinthians, palmeiras, 1, 0, estadio, dataHora));
+        entityManager.flush();
+
+        assertTrue(referencia(santos, LocalDateTime.of(2025, 1, 10, 21, 0), null).estadioComPartidaNaData());
+        assertFalse(referencia(santos, LocalDateTime.of(2025, 1, 11, 9, 0), null).estadioComPartidaNaData());
+        assertFalse(referencia(santos, LocalDateTime.of(2025, 1, 10, 21, 0), partida.getPartidaId()).estadioComPartidaNaData());
+    }
+
+    @Test
+    void testarEstadioOcupado_RestricaoUnicaImpedeDuasPartidasNoMesmoDia() {
+        entityManager.persist(new Partida(corinthians, palmeiras, 1, 0, estadio, LocalDateTime.of(2025, 1, 10, 11, 0)));
+        entityManager.flush();
+
+        assertThrows(DataIntegrityViolationException.class, () ->
+                partidaRepository.saveAndFlush(new Partida(santos, palmeiras, 0, 0, estadio, LocalDateTime.of(2025, 1, 10, 21, 0))));
+    }
+
+    @Test
+    void testarAgendaNoIntervalo_RetornaPartidasDosClubesEEstadiosDoLote() {
+        Estadio outroEstadio = entityManager.persist(new Estadio("Allianz Parque"));
+        Partida partidaDoClube = entityManager.persist(new Partida(palmeiras, santos, 1, 0, outroEstadio, LocalDateTime.of(2025, 1, 10, 16, 0)));
+        Partida partidaDoEstadio = entityManager.persist(new Partida(corinthians, palmeiras, 2, 2, estadio, LocalDateTime.of(2025, 1, 14, 16, 0)));
+        entityManager.persist(new Partida(corinthians, santos, 0, 1, outroEstadio, LocalDateTime.of(2025, 3, 1, 16, 0)));
+        entityManager.flush();
+
+        List<PartidaAgendaDto> agenda = partidaRepository.buscarAgendaNoIntervalo(
+                List.of(santos.getId()),
+                List.of(estadio.getId()),
+                LocalDateTime.of(2025, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 2, 1, 0, 0));
+
+        assertEquals(2, agenda.size());
+        assertTrue(agenda.stream().anyMatch(partida -> partida.partidaId().equals(partidaDoClube.getPartidaId())));
+        assertTrue(agenda.stream().anyMatch(partida -> partida.partidaId().equals(partidaDoEstadio.getPartidaId())));
+    }
+
+    @Test
+    void testarReferenciasDePartida_ClubesEEstadioNumaUnicaConsulta() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        LocalDateTime dataHora = LocalDateTime.of(2025, 1, 10, 16, 0);
+        List<PartidaReferenciaDto> referencias = clubeRepository.buscarReferenciasDePartida(
+                List.of(corinthians.getId(), palmeiras.getId()), estadio.getId(),
+                dataHora.minusHours(48), dataHora.plusHours(48), dataHora.toLocalDate(), null);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, referencias.size());
+        assertTrue(referencias.stream().allMatch(referencia -> estadio.getId().equals(referencia.estadioId())
+                && "Neo Química Arena".equals(referencia.estadioNome())));
+
+        PartidaReferenciaDto referenciaCorinthians = referencias.stream()
+                .filter(referencia -> referencia.clubeId().equals(corinthians.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Corinthians", referenciaCorinthians.clubeNome());
+        assertEquals(LocalDate.of(1910, 9, 1), referenciaCorinthians.clubeDataCriacao());
+        assertTrue(referenciaCorinthians.clubeAtivo());
+        assertFalse(referenciaCorinthians.clubeComPartidaNoIntervalo());
+        assertFalse(referenciaCorinthians.estadioComPartidaNaData());
+    }
+
+    @Test
+    void testarReferenciasDePartida_EstadioInexistenteMantemOsClubes() {
+        LocalDateTime dataHora = LocalDateTime.of(2025, 1, 10, 16, 0);
+        List<PartidaReferenciaDto> referencias = clubeRepository.buscarReferenciasDePartida(
+                List.of(corinthians.getId(), santos.getId(), -1L), -1L,
+                dataHora.minusHours(48), dataHora.plusHours(48), dataHora.toLocalDate(), null);
+
+        assertEquals(2, referencias.size());
+        assertTrue(referencias.stream().allMatch(referencia -> referencia.estadioId() == null));
+    }
+
+    @Test
+    void testarCadastrarPartida_NaoCarregaClubesNemEstadio() {
+        PartidaService partidaService = new PartidaService(partidaRepository, clubeRepository, estadioRepository,
+                mock(ClassificacaoService.class), mock(ConfrontoDiretoService.class), mock(ClubeEstatisticaService.class),
+                mock(ContagemPaginacaoService.class), mock(CacheReferenciaService.class), mock(RespostaSerializadaService.class));
+
+        PartidaRequestDto partidaRequestDto = new PartidaRequestDto();
+        partidaRequestDto.setClubeMandanteId(corinthians.getId());
+        partidaRequestDto.setClubeVisitanteId(palmeiras.getId());
+        partidaRequestDto.setClubeMandanteGols(2);
+        partidaRequestDto.setClubeVisitanteGols(0);
+        partidaRequestDto.setEstadioId(estadio.getId());
+        partidaRequestDto.setDataHora(LocalDateTime.of(2025, 1, 10, 16, 0));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PartidaResponseDto partida = partidaService.cadastrarPartida(partidaRequestDto);
+        entityManager.flush();
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals("Corinthians", partida.getClubeMandanteNome());
+        assertEquals("Palmeiras", partida.getClubeVisitanteNome());
+        assertEquals("Neo Química Arena", partida.getEstadioNome());
+        assertEquals(corinthians.getId(), partidaRepository.findById(partida.getPartidaId()).orElseThrow().getClubeMandante().getId());
+    }
+
+    @Test
+    void testarPlacaresPorFaixaDeIds_ParticionaPelaChavePrimaria() {
+        Partida primeira = entityManager.persist(new Partida(corinthians, palmeiras, 2, 1, estadio, LocalDateTime.of(2025, 1, 10, 16, 0)));
+        Partida segunda = entityManager.persist(new Partida(santos, corinthians, 0, 0, estadio, LocalDateTime.of(2025, 1, 14, 16, 0)));
+        entityManager.flush();
+
+        assertEquals(primeira.getPartidaId(), partidaRepository.buscarMenorPartidaId());
+        assertEquals(segunda.getPartidaId(), partidaRepository.buscarMaiorPartidaId());
+
+        List<PartidaPlacarVersionadoDto> placares = partidaRepository.buscarPlacaresPorFaixaDeIds(primeira.getPartidaId(), primeira.getPartidaId());
+
+        assertEquals(List.of(new PartidaPlacarVersionadoDto(primeira.getPartidaId(), 0L, corinthians.getId(), palmeiras.getId(), 2, 1)), placares);
+        assertEquals(new PartidaPlacarDto(corinthians.getId(), palmeiras.getId(), 2, 1), placares.get(0).placar());
+    }
+
+    @Test
+    void testarConfrontoDireto_ConsideraOsDoisMandos() {
+        entityManager.persist(new Partida(corinthians, palmeiras, 2, 1, estadio, LocalDateTime.of(2025, 1, 10, 16, 0)));
+        entityManager.persist(new Partida(palmeiras, corinthians, 3, 0, estadio, LocalDateTime.of(2025, 1, 14, 16, 0)));
+        entityManager.persist(new Partida(palmeiras, corinthians, 1, 1, estadio, LocalDateTime.of(2025, 1, 18, 16, 0)));
+        entityManager.persist(new Partida(corinthians, santos, 5, 0, estadio, LocalDateTime.of(2025, 1, 22, 16, 0)));
+        entityManager.flush();
+
+        ConfrontoDiretoResumoDto resumo = partidaRepository.resumirConfrontoDireto(corinthians.getId(), palmeiras.getId());
+
+        assertEquals(new ConfrontoDiretoResumoDto(3, 1, 1, 1, 3, 5), resumo);
+
+        Page<Partida> partidas = partidaRepository.buscarConfrontoDireto(
+                palmeiras.getId(), corinthians.getId(), PageRequest.of(0, 2, Sort.by("dataHora")));
+
+        assertEquals(3, partidas.getTotalElements());
+        assertEquals(LocalDateTime.of(2025, 1, 10, 16, 0), partidas.getContent().get(0).getDataHora());
+    }
+
+    @Test
+    void testarConfrontoDireto_SemPartidas() {
+        assertEquals(new ConfrontoDiretoResumoDto(0, 0, 0, 0, 0, 0),
+                partidaRepository.resumirConfrontoDireto(corinthians.getId(), santos.getId()));
+    }
+
+    @Test
+    void testarPaginacaoPorCursor_DesempataPeloIdSemRepetirPartidas() {
+        Estadio outroEstadio = entityManager.persist(new Estadio("Allianz Parque"));
+        LocalDateTime dataHora = LocalDateTime.of(2025, 3, 1, 16, 0);
+        Partida maisAntiga = entityManager.persist(new Partida(corinthians, palmeiras, 1, 0, estadio, dataHora.minusDays(3)));
+        Partida empateA = entityManager.persist(new Partida(santos, corinthians, 2, 2, estadio, dataHora));
+        Partida empateB = entityManager.persist(new Partida(palmeiras, santos, 0, 1, outroEstadio, dataHora));
+        entityManager.flush();
+
+        List<Partida> primeiraPagina = partidaRepository.buscarPaginaPorCursor(PartidaSpecification.comFiltros(null, null, null), Limit.of(2));
+        Partida ultima = primeiraPagina.get(1);
+        List<Partida> segundaPagina = partidaRepository.buscarPaginaPorCursor(
+                PartidaSpecification.antesDoCursor(ultima.getDataHora(), ultima.getPartidaId()), Limit.of(2));
+
+        Partida primeiraDoEmpate = empateA.getPartidaId() > empateB.getPartidaId() ? empateA : empateB;
+        Partida segundaDoEmpate = primeiraDoEmpate == empateA ? empateB : empateA;
+        assertEquals(List.of(primeiraDoEmpate.getPartidaId(), segundaDoEmpate.getPartidaId()),
+                primeiraPagina.stream().map(Partida::getPartidaId).toList());
+        assertEquals(List.of(maisAntiga.getPartidaId()),
+                segundaPagina.stream().map(Partida::getPartidaId).toList());
+
+        List<Partida> filtradaPorEstadio = partidaRepository.buscarPaginaPorCursor(
+                PartidaSpecification.comFiltros(null, null, estadio.getId())
+                        .and(PartidaSpecification.antesDoCursor(empateA.getDataHora(), empateA.getPartidaId())), Limit.of(10));
+        assertEquals(List.of(maisAntiga.getPartidaId()),
+                filtradaPorEstadio.stream().map(Partida::getPartidaId).toList());
+    }
+
+    @Test
+    void testarBuscarPartidasPorFatia_NaoExecutaContagem() {
+        LocalDateTime dataHora = LocalDateTime.of(2025, 4, 1, 16, 0);
+        entityManager.persist(new Partida(corinthians, palmeiras, 1, 0, estadio, dataHora));
+        entityManager.persist(new Partida(palmeiras, santos, 2, 1, estadio, dataHora.plusDays(3)));
+        entityManager.persist(new Partida(santos, corinthians, 0, 0, estadio, dataHora.plusDays(6)));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Slice<Partida> fatia = partidaRepository.buscarPartidasPorFatia(
+                PartidaSpecification.comFiltros(null, null, estadio.getId()), PageRequest.of(0, 2, Sort.by("dataHora")));
+
+        assertEquals(2, fatia.getNumberOfElements());
+        assertTrue(fatia.hasNext());
+        assertEquals(1, statistics.getQueryExecutionCount());
+    }
+
+    @Test
+    void testarListagensDePartidas_UmaConsultaPorPaginaMaisContagem() {
+        Estadio outroEstadio = entityManager.persist(new Estadio("Allianz Parque"));
+        LocalDateTime dataHora = LocalDateTime.of(2025, 5, 1, 16, 0);
+        entityManager.persist(new Partida(corinthians, palmeiras, 1, 0, estadio, dataHora));
+        entityManager.persist(new Partida(palmeiras, santos, 2, 1, outroEstadio, dataHora.plusDays(3)));
+        entityManager.persist(new Partida(santos, corinthians, 0, 0, estadio, dataHora.plusDays(6)));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<Partida> pagina = partidaRepository.findAll(PartidaSpecification.comFiltros(null, null, null), PageRequest.of(0, 2));
+        pagina.forEach(this::lerNomes);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+
+        entityManager.clear();
+        statistics.clear();
+
+        partidaRepository.findAll(PartidaSpecification.comFiltros(null, null, estadio.getId()), PageRequest.of(0, 1)).forEach(this::lerNomes);
+        partidaRepository.buscarPaginaPorCursor(PartidaSpecification.comFiltros(null, null, null), Limit.of(3)).forEach(this::lerNomes);
+        partidaRepository.buscarPorIdComRelacionamentos(pagina.getContent().get(0).getPartidaId()).ifPresent(this::lerNomes);
+
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    @Test
+    void testarVersaoDaPartida_CombinaVersoesDaPartidaDosClubesEDoEstadio() {
+        Partida partida = entityManager.persist(new Partida(corinthians, palmeiras, 1, 0, estadio, LocalDateTime.of(2025, 5, 1, 16, 0)));
+        entityManager.flush();
+        entityManager.clear();
+
+        VersaoRecursoDto versaoInicial = partidaRepository.buscarVersaoPorId(partida.getPartidaId()).orElseThrow();
+        assertEquals("0.0.0.0", versaoInicial.versao());
+        assertNotNull(versaoInicial.atualizadoEm());
+        assertEquals(versaoInicial.versao(), VersaoRecursoDto.de(entityManager.find(Partida.class, partida.getPartidaId())).versao());
+
+        entityManager.find(Clube.class, palmeiras.getId()).setNome("Palmeiras FC");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals("0.0.1.0", partidaRepository.buscarVersaoPorId(partida.getPartidaId()).orElseThrow().versao());
+
+        Slice<VersaoRecursoDto> pagina = partidaRepository.buscarVersoes(PartidaSpecification.comFiltros(null, null, estadio.getId()), PageRequest.of(0, 10));
+        assertEquals(1, pagina.getNumberOfElements());
+        assertEquals("0.0.1.0", pagina.getContent().get(0).versao());
+    }
+
+    private void lerNomes(Partida partida) {
+        assertNotNull(partida.getClubeMandante().getNome());
+        assertNotNull(partida.getClubeVisitante().getNome());
+        assertNotNull(partida.getEstadio().getNome());
+    }
+
+    private PartidaReferenciaDto referencia(Clube clube, LocalDateTime dataHora, Long partidaIdIgnorada) {
+        return clubeRepository.buscarReferenciasDePartida(List.of(clube.getId()), estadio.getId(),
+                dataHora.minusHours(48), dataHora.plusHours(48), dataHora.toLocalDate(), partidaIdIgnorada).get(0);
+    }
+
+}
@@ -0,0 +1,129 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        SqlCapturado.PROPRIEDADE,
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:plano;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+class PlanoDeExecucaoRepositoryTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2025, 1, 8, 16, 0);
+    private static final LocalDateTime FIM = LocalDateTime.of(2025, 1, 12, 16, 0);
+
+    @Autowired
+    private PartidaRepository partidaRepository;
+
+    @Autowired
+    private ClubeRepository clubeRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void testarReferenciasDePartida_SubconsultasUsamOsIndicesDaPartida() throws SQLException {
+        for (String indice : List.of("IDX_PARTIDA_MANDANTE_DATA_HORA", "IDX_PARTIDA_VISITANTE_DATA_HORA", "UK_PARTIDA_ESTADIO_DATA_PARTIDA")) {
+            assertUsaIndice(indice, () -> clubeRepository.buscarReferenciasDePartida(
+                    List.of(1L, 2L), 1L, INICIO, FIM, LocalDate.of(2025, 1, 10), null));
+        }
+    }
+
+    @Test
+    void testarConfrontoDireto_NaoVarreATabela() throws SQLException {
+        assertUsaIndice(null,
+                () -> partidaRepository.resumirConfrontoDireto(1L, 2L));
+        assertUsaIndice(null,
+                () -> partidaRepository.buscarConfrontoDireto(1L, 2L, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void testarAgendaNoIntervalo_UsaIndiceDataHora() throws SQLException {
+        assertUsaIndice("IDX_PARTIDA_DATA_HORA_ID",
+                () -> partidaRepository.buscarAgendaNoIntervalo(List.of(1L, 2L), List.of(1L), INICIO, FIM));
+    }
+
+    @Test
+    void testarFiltrosDePartida_NaoVarremATabela() throws SQLException {
+        assertUsaIndice(null,
+                () -> partidaRepository.findAll(PartidaSpecification.comFiltros(null, null, 1L), PageRequest.of(0, 10)));
+        assertUsaIndice(null,
+                () -> partidaRepository.findAll(PartidaSpecification.comFiltros(1L, null, null), PageRequest.of(0, 10)));
+        assertUsaIndice(null,
+                () -> partidaRepository.findAll(PartidaSpecification.comFiltros(null, 2L, null), PageRequest.of(0, 10)));
+        assertUsaIndice(null,
+                () -> partidaRepository.findAll(PartidaSpecification.comFiltros(1L, 2L, 1L), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void testarFiltroDeClubePorEstadoEAtivo_UsaIndiceComposto() throws SQLException {
+        assertUsaIndice("IDX_CLUBE_SIGLA_ESTADO_ATIVO_NOME",
+                () -> clubeRepository.findAll(ClubeSpecification.comFiltros(null, "SP", true)));
+    }
+
+    private void assertUsaIndice(String indiceEsperado, Runnable consulta) throws SQLException {
+        SqlCapturado.limpar();
+        consulta.run();
+
+        List<String> comandos = SqlCapturado.comandos();
+        assertFalse(comandos.isEmpty());
+
+        for (String sql : comandos) {
+            String plano = explicar(sql);
+            assertFalse(plano.contains(".tableScan"), "Consulta caiu em varredura completa:\n" + plano);
+        }
+
+        if (indiceEsperado != null) {
+            String plano = explicar(comandos.get(0));
+            assertTrue(plano.contains(indiceEsperado), "Índice " + indiceEsperado + " não utilizado:\n" + plano);
+        }
+    }
+
+    private String explicar(String sql) throws SQLException {
+        try (Connection conexao = dataSource.getConnection();
+             PreparedStatement explain = conexao.prepareStatement("EXPLAIN " + sql)) {
+
+            ParameterMetaData parametros = explain.getParameterMetaData();
+            for (int i = 1; i <= parametros.getParameterCount(); i++) {
+                explain.setObject(i, valorDeExemplo(parametros.getParameterType(i)));
+            }
+
+            try (ResultSet resultado = explain.executeQuery()) {
+                resultado.next();
+                return resultado.getString(1);
+            }
+        }
+    }
+
+    private Object valorDeExemplo(int tipo) {
+        return switch (tipo) {
+            case Types.TIMESTAMP -> Timestamp.valueOf(INICIO);
+            case Types.DATE -> Date.valueOf(INICIO.toLocalDate());
+            case Types.BOOLEAN -> Boolean.TRUE;
+            case Types.VARCHAR -> "SP";
+            default -> 1L;
+        };
+    }
+
+}
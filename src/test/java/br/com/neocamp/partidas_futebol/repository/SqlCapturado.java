@@ -0,0 +1,29 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class SqlCapturado implements StatementInspector {
+
+    static final String PROPRIEDADE =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.com.neocamp.partidas_futebol.repository.SqlCapturado";
+
+    private static final List<String> comandos = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        comandos.add(sql.toLowerCase());
+        return sql;
+    }
+
+    static void limpar() {
+        comandos.clear();
+    }
+
+    static List<String> comandos() {
+        return List.copyOf(comandos);
+    }
+
+}
@@ -0,0 +1,206 @@
+package br.com.neocamp.partidas_futebol.repository;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeRequestDto;
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioRequestDto;
+import br.com.neocamp.partidas_futebol.service.CacheReferenciaService;
+import br.com.neocamp.partidas_futebol.service.ClassificacaoService;
+import br.com.neocamp.partidas_futebol.service.ClubeEstatisticaService;
+import br.com.neocamp.partidas_futebol.service.ClubeService;
+import br.com.neocamp.partidas_futebol.service.ContagemPaginacaoService;
+import br.com.neocamp.partidas_futebol.service.EstadioService;
+import br.com.neocamp.partidas_futebol.service.IndiceNomesService;
+import br.com.neocamp.partidas_futebol.service.RespostaSerializadaService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = SqlCapturado.PROPRIEDADE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UnicidadeNomeRepositoryTest {
+
+    private static final int REQUISICOES_PARALELAS = 16;
+
+    @Autowired
+    private ClubeRepository clubeRepository;
+
+    @Autowired
+    private EstadioRepository estadioRepository;
+
+    private ClubeService clubeService;
+    private EstadioService estadioService;
+
+    @BeforeEach
+    void setUp() {
+        ContagemPaginacaoService contagemPaginacaoService = mock(ContagemPaginacaoService.class);
+        CacheReferenciaService cacheReferenciaService = mock(CacheReferenciaService.class);
+        RespostaSerializadaService respostaSerializadaService = mock(RespostaSerializadaService.class);
+        IndiceNomesService indiceNomesService = mock(IndiceNomesService.class);
+
+        clubeService = new ClubeService(clubeRepository, mock(ClassificacaoService.class), contagemPaginacaoService,
+                cacheReferenciaService, respostaSerializadaService, indiceNomesService, mock(ClubeEstatisticaService.class));
+        estadioService = new EstadioService(estadioRepository, contagemPaginacaoService, cacheReferenciaService,
+                respostaSerializadaService, indiceNomesService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clubeRepository.deleteAllInBatch();
+        estadioRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testarCadastrarClube_GravaComUmUnicoInsertSemConsultaPrevia() {
+        SqlCapturado.limpar();
+
+        clubeService.cadastrarClube(clube("Santos", "SP"));
+
+        List<String> comandos = SqlCapturado.comandos();
+        assertEquals(1, comandos.size(), comandos::toString);
+        assertTrue(comandos.get(0).startsWith("insert into clube"), comandos::toString);
+    }
+
+    @Test
+    void testarCadastrarClube_NomeNormalizadoDuplicadoRetornaConflito() {
+        clubeService.cadastrarClube(clube("Santos", "SP"));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> clubeService.cadastrarClube(clube("  SANTOS ", "sp")));
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        assertEquals("Já existe um clube com o mesmo nome no mesmo estado", ex.getReason());
+        assertNotNull(clubeService.cadastrarClube(clube("Santos", "PI")));
+    }
+
+    @Test
+    void testarCadastrarEstadio_NomeSemAcentoDuplicadoRetornaConflito() {
+        estadioService.cadastrarEstadio(estadio("Estádio do Maracanã"));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> estadioService.cadastrarEstadio(estadio("estadio  do MARACANA")));
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        assertEquals("estadio do maracana", estadioRepository.findAll().get(0).getNomeNormalizado());
+    }
+
+    @Test
+    void testarAtualizarClube_ParaNomeDeOutroClubeRetornaConflito() {
+        clubeService.cadastrarClube(clube("Santos", "SP"));
+        ClubeResponseDto palmeiras = clubeService.cadastrarClube(clube("Palmeiras", "SP"));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> clubeService.atualizarPorId(palmeiras.getId(), clube("santos", "SP")));
+
+        assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
+        assertEquals("Palmeiras", clubeRepository.findById(palmeiras.getId()).orElseThrow().getNome());
+    }
+
+    @Test
+    void testarCadastrarClube_RequisicoesParalelasGravamUmUnicoRegistro() throws Exception {
+        List<Resultado> resultados = executarEmParalelo(i -> () -> {
+            clubeService.cadastrarClube(clube(i % 2 == 0 ? "Santos" : " santos  ", "SP"));
+            return null;
+        });
+
+        assertEquals(1, resultados.stream().filter(Resultado::gravou).count());
+        assertTrue(resultados.stream().filter(resultado -> !resultado.gravou()).allMatch(Resultado::conflito), resultados::toString);
+        assertEquals(1, clubeRepository.count());
+        assertEquals("santos", clubeRepository.findAll().get(0).getNomeNormalizado());
+    }
+
+    @Test
+    void testarCadastrarEstadio_RequisicoesParalelasGravamUmUnicoRegistro() throws Exception {
+        List<Resultado> resultados = executarEmParalelo(i -> () -> {
+            estadioService.cadastrarEstadio(estadio(i % 2 == 0 ? "Vila Belmiro" : "VILA BELMIRO "));
+            return null;
+        });
+
+        assertEquals(1, resultados.stream().filter(Resultado::gravou).count());
+        assertTrue(resultados.stream().filter(resultado -> !resultado.gravou()).allMatch(Resultado::conflito), resultados::toString);
+        assertEquals(1, estadioRepository.count());
+    }
+
+    private static List<Resultado> executarEmParalelo(Tarefa tarefa) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(REQUISICOES_PARALELAS);
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futuros = new ArrayList<>();
+            for (int i = 0; i < REQUISICOES_PARALELAS; i++) {
+                Callable<Object> chamada = tarefa.criar(i);
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    return chamada.call();
+                }));
+            }
+            largada.countDown();
+
+            List<Resultado> resultados = new ArrayList<>();
+            for (Future<Object> futuro : futuros) {
+                try {
+                    futuro.get(30, TimeUnit.SECONDS);
+                    resultados.add(new Resultado(null));
+                } catch (ExecutionException e) {
+                    resultados.add(new Resultado(e.getCause()));
+                } catch (TimeoutException e) {
+                    fail("Requisição paralela não terminou");
+                }
+            }
+            return resultados;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ClubeRequestDto clube(String nome, String siglaEstado) {
+        ClubeRequestDto dto = new ClubeRequestDto();
+        dto.setNome(nome);
+        dto.setSiglaEstado(siglaEstado);
+        dto.setDataCriacao(LocalDate.of(1912, 4, 14));
+        dto.setAtivo(true);
+        return dto;
+    }
+
+    private static EstadioRequestDto estadio(String nome) {
+        EstadioRequestDto dto = new EstadioRequestDto();
+        dto.setNome(nome);
+        return dto;
+    }
+
+    private interface Tarefa {
+        Callable<Object> criar(int indice);
+    }
+
+    private record Resultado(Throwable erro) {
+
+        boolean gravou() {
+            return erro == null;
+        }
+
+        boolean conflito() {
+            return erro instanceof ResponseStatusException ex && ex.getStatusCode() == HttpStatus.CONFLICT;
+        }
+
+    }
+
+}
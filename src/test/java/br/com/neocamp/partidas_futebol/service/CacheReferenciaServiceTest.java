@@ -0,0 +1,89 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.repository.ClubeRepository;
+import br.com.neocamp.partidas_futebol.repository.EstadioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheReferenciaServiceTest {
+
+    @Mock
+    private ClubeRepository clubeRepository;
+
+    @Mock
+    private EstadioRepository estadioRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CacheReferenciaService cacheReferenciaService;
+
+    @BeforeEach
+    void setUp() {
+        cacheReferenciaService = new CacheReferenciaService(clubeRepository, estadioRepository, meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void testarBuscarClube_ConsultaRepositorioApenasNaPrimeiraVez() {
+        Clube clube = new Clube(1L, "Palmeiras", "SP", LocalDate.of(1914, 8, 26), true);
+        when(clubeRepository.findById(1L)).thenReturn(Optional.of(clube));
+
+        assertSame(clube, cacheReferenciaService.buscarClube(1L).orElseThrow());
+        assertTrue(cacheReferenciaService.existeClube(1L));
+
+        verify(clubeRepository, times(1)).findById(1L);
+        assertEquals(1, meterRegistry.get("cache.gets").tags("cache", CacheReferenciaService.CACHE_CLUBES, "result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tags("cache", CacheReferenciaService.CACHE_CLUBES, "result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testarBuscarEstadio_NaoGuardaAusencia() {
+        Estadio estadio = new Estadio(1L, "Allianz Parque");
+        when(estadioRepository.findById(1L)).thenReturn(Optional.empty()).thenReturn(Optional.of(estadio));
+
+        assertFalse(cacheReferenciaService.existeEstadio(1L));
+        assertEquals("Allianz Parque", cacheReferenciaService.buscarEstadio(1L).orElseThrow().getNome());
+
+        verify(estadioRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testarAtualizarClube_SubstituiEntradaSemNovaConsulta() {
+        Clube clube = new Clube(1L, "Palmeiras", "SP", LocalDate.of(1914, 8, 26), true);
+        when(clubeRepository.findById(1L)).thenReturn(Optional.of(clube));
+        cacheReferenciaService.buscarClube(1L);
+
+        Clube clubeInativado = new Clube(1L, "Palmeiras", "SP", LocalDate.of(1914, 8, 26), false);
+        cacheReferenciaService.atualizarClube(clubeInativado);
+
+        assertFalse(cacheReferenciaService.buscarClube(1L).orElseThrow().getAtivo());
+        verify(clubeRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void testarAtualizarEstadio_PreencheCacheAntesDaPrimeiraBusca() {
+        Estadio estadio = new Estadio(2L, "Morumbi");
+
+        cacheReferenciaService.atualizarEstadio(estadio);
+
+        assertSame(estadio, cacheReferenciaService.buscarEstadio(2L).orElseThrow());
+        verify(estadioRepository, never()).findById(2L);
+    }
+
+}
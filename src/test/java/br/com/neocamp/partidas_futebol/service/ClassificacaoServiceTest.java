@@ -0,0 +1,174 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.classificacaoDto.ClassificacaoResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaPlacarDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaPlacarVersionadoDto;
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.entity.Estadio;
+import br.com.neocamp.partidas_futebol.entity.Partida;
+import br.com.neocamp.partidas_futebol.repository.ClubeRepository;
+import br.com.neocamp.partidas_futebol.repository.PartidaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClassificacaoServiceTest {
+
+    @Mock
+    private PartidaRepository partidaRepository;
+
+    @Mock
+    private ClubeRepository clubeRepository;
+
+    private ClassificacaoService classificacaoService;
+
+    private Clube corinthians;
+    private Clube palmeiras;
+    private Clube santos;
+    private Estadio estadio;
+
+    @BeforeEach
+    void setUp() {
+        classificacaoService = new ClassificacaoService(partidaRepository, clubeRepository, 2, 2);
+
+        corinthians = new Clube(1L, "Corinthians", "SP", LocalDate.of(1910, 9, 1), true);
+        palmeiras = new Clube(2L, "Palmeiras", "SP", LocalDate.of(1914, 8, 26), true);
+        santos = new Clube(3L, "Santos", "SP", LocalDate.of(1912, 4, 14), true);
+        estadio = new Estadio(1L, "Neo Química Arena");
+    }
+
+    @Test
+    void testarRegistrarPartidas_AtualizaClassificacaoIncrementalmente() {
+        classificacaoService.registrarPartida(partida(corinthians, palmeiras, 2, 0));
+        classificacaoService.registrarPartida(partida(palmeiras, santos, 1, 1));
+
+        List<ClassificacaoResponseDto> classificacao = classificacaoService.listarClassificacao();
+
+        assertEquals(3, classificacao.size());
+        ClassificacaoResponseDto lider = classificacao.get(0);
+        assertEquals(1, lider.getPosicao());
+        assertEquals("Corinthians", lider.getClubeNome());
+        assertEquals(3, lider.getPontos());
+        assertEquals(2, lider.getSaldoGols());
+
+        ClassificacaoResponseDto lanterna = classificacao.get(2);
+        assertEquals("Palmeiras", lanterna.getClubeNome());
+        assertEquals(1, lanterna.getPontos());
+        assertEquals(2, lanterna.getJogos());
+        assertEquals(1, lanterna.getEmpates());
+        assertEquals(1, lanterna.getDerrotas());
+        assertEquals(1, lanterna.getGolsPro());
+        assertEquals(3, lanterna.getGolsContra());
+    }
+
+    @Test
+    void testarSubstituirERemoverPartida_AplicaDeltas() {
+        Partida partida = partida(corinthians, palmeiras, 2, 0);
+        classificacaoService.registrarPartida(partida);
+
+        PartidaPlacarDto placarAnterior = PartidaPlacarDto.de(partida);
+        partida.setClubeVisitanteGols(3);
+        classificacaoService.substituirPartida(placarAnterior, partida);
+
+        List<ClassificacaoResponseDto> classificacao = classificacaoService.listarClassificacao();
+        assertEquals("Palmeiras", classificacao.get(0).getClubeNome());
+        assertEquals(3, classificacao.get(0).getPontos());
+        assertEquals(1, classificacao.get(0).getJogos());
+        assertEquals(0, classificacao.get(1).getPontos());
+        assertEquals(1, classificacao.get(1).getDerrotas());
+
+        classificacaoService.removerPartida(partida);
+
+        classificacao = classificacaoService.listarClassificacao();
+        assertEquals(0, classificacao.get(0).getJogos());
+        assertEquals(0, classificacao.get(0).getPontos());
+    }
+
+    @Test
+    void testarRecalcularClassificacao_SomaParticoesDaTabela() {
+        when(clubeRepository.findAll()).thenReturn(List.of(corinthians, palmeiras, santos));
+        when(partidaRepository.buscarMenorPartidaId()).thenReturn(1L);
+        when(partidaRepository.buscarMaiorPartidaId()).thenReturn(3L);
+        when(partidaRepository.buscarPlacaresPorFaixaDeIds(1L, 2L)).thenReturn(List.of(
+                new PartidaPlacarVersionadoDto(1L, 0L, 1L, 2L, 1, 0),
+                new PartidaPlacarVersionadoDto(2L, 0L, 2L, 3L, 2, 2)));
+        when(partidaRepository.buscarPlacaresPorFaixaDeIds(3L, 3L)).thenReturn(List.of(
+                new PartidaPlacarVersionadoDto(3L, 0L, 3L, 1L, 0, 1)));
+
+        classificacaoService.recalcularClassificacao();
+
+        List<ClassificacaoResponseDto> classificacao = classificacaoService.listarClassificacao();
+        assertEquals("Corinthians", classificacao.get(0).getClubeNome());
+        assertEquals(6, classificacao.get(0).getPontos());
+        assertEquals(2, classificacao.get(0).getJogos());
+        assertEquals("Palmeiras", classificacao.get(1).getClubeNome());
+        assertEquals(1, classificacao.get(1).getPontos());
+        assertEquals("Santos", classificacao.get(2).getClubeNome());
+        assertEquals(1, classificacao.get(2).getPontos());
+
+        verify(partidaRepository).buscarPlacaresPorFaixaDeIds(1L, 2L);
+        verify(partidaRepository).buscarPlacaresPorFaixaDeIds(3L, 3L);
+    }
+
+    @Test
+    void testarRecalcularClassificacao_AlteracoesDuranteALeituraNaoDuplicamNemSePerdem() {
+        Partida lidaNaLeitura = partida(1L, 0L, corinthians, palmeiras, 2, 0);
+        Partida gravadaAposLeitura = partida(2L, 0L, palmeiras, santos, 1, 0);
+        Partida alteradaAposLeitura = partida(3L, 1L, santos, corinthians, 0, 0);
+        ClassificacaoService recalculo = new ClassificacaoService(partidaRepository, clubeRepository, 3, 1);
+
+        when(clubeRepository.findAll()).thenReturn(List.of(corinthians, palmeiras, santos));
+        when(partidaRepository.buscarMenorPartidaId()).thenReturn(1L);
+        when(partidaRepository.buscarMaiorPartidaId()).thenReturn(3L);
+        when(partidaRepository.buscarPlacaresPorFaixaDeIds(1L, 3L)).thenAnswer(invocacao -> {
+            List<PartidaPlacarVersionadoDto> lidas = List.of(
+                    new PartidaPlacarVersionadoDto(1L, 0L, 1L, 2L, 2, 0),
+                    new PartidaPlacarVersionadoDto(3L, 0L, 3L, 1L, 3, 0));
+
+            recalculo.registrarPartida(lidaNaLeitura);
+            recalculo.registrarPartida(gravadaAposLeitura);
+            recalculo.substituirPartida(new PartidaPlacarDto(3L, 1L, 3, 0), alteradaAposLeitura);
+            return lidas;
+        });
+
+        recalculo.recalcularClassificacao();
+
+        List<ClassificacaoResponseDto> classificacao = recalculo.listarClassificacao();
+        assertEquals("Corinthians", classificacao.get(0).getClubeNome());
+        assertEquals(2, classificacao.get(0).getJogos());
+        assertEquals(4, classificacao.get(0).getPontos());
+        assertEquals("Palmeiras", classificacao.get(1).getClubeNome());
+        assertEquals(2, classificacao.get(1).getJogos());
+        assertEquals(3, classificacao.get(1).getPontos());
+        assertEquals("Santos", classificacao.get(2).getClubeNome());
+        assertEquals(2, classificacao.get(2).getJogos());
+        assertEquals(1, classificacao.get(2).getPontos());
+
+        recalculo.removerPartida(gravadaAposLeitura);
+
+        assertEquals(1, recalculo.listarClassificacao().stream().filter(linha -> linha.getClubeId() == 2L).findFirst().orElseThrow().getJogos());
+    }
+
+    private Partida partida(Long id, Long versao, Clube mandante, Clube visitante, int golsMandante, int golsVisitante) {
+        Partida partida = partida(mandante, visitante, golsMandante, golsVisitante);
+        partida.setPartidaId(id);
+        partida.setVersao(versao);
+        return partida;
+    }
+
+    private Partida partida(Clube mandante, Clube visitante, int golsMandante, int golsVisitante) {
+        return new Partida(mandante, visitante, golsMandante, golsVisitante, estadio, LocalDateTime.of(2025, 1, 10, 15, 0));
+    }
+
+}
@@ -0,0 +1,120 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.RetrospectoResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaPlacarDto;
+import br.com.neocamp.partidas_futebol.entity.ClubeEstatistica;
+import br.com.neocamp.partidas_futebol.repository.ClubeEstatisticaRepository;
+import br.com.neocamp.partidas_futebol.repository.ClubeRepository;
+import br.com.neocamp.partidas_futebol.entity.Clube;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClubeEstatisticaServiceTest {
+
+    @Mock
+    private ClubeEstatisticaRepository clubeEstatisticaRepository;
+
+    @Mock
+    private ClubeRepository clubeRepository;
+
+    @InjectMocks
+    private ClubeEstatisticaService clubeEstatisticaService;
+
+    @Test
+    void testarRegistrarPartidas_BloqueiaEmOrdemECriaLinhaAusenteSobBloqueioDoClube() {
+        ClubeEstatistica estatisticaMandante = new ClubeEstatistica(2L);
+        ClubeEstatistica estatisticaVisitante = new ClubeEstatistica(1L);
+        when(clubeEstatisticaRepository.buscarParaAtualizacao(1L))
+                .thenReturn(Optional.empty(), Optional.empty(), Optional.of(estatisticaVisitante));
+        when(clubeEstatisticaRepository.buscarParaAtualizacao(2L)).thenReturn(Optional.of(estatisticaMandante));
+        when(clubeRepository.bloquearParaAtualizacao(1L)).thenReturn(Optional.of(new Clube()));
+
+        clubeEstatisticaService.registrarPartidas(List.of(new PartidaPlacarDto(2L, 1L, 3, 1)));
+
+        InOrder ordem = inOrder(clubeEstatisticaRepository, clubeRepository);
+        ordem.verify(clubeEstatisticaRepository).buscarParaAtualizacao(1L);
+        ordem.verify(clubeRepository).bloquearParaAtualizacao(1L);
+        ordem.verify(clubeEstatisticaRepository).buscarParaAtualizacao(1L);
+        ordem.verify(clubeEstatisticaRepository).criarZerada(1L);
+        ordem.verify(clubeEstatisticaRepository).buscarParaAtualizacao(1L);
+        ordem.verify(clubeEstatisticaRepository).buscarParaAtualizacao(2L);
+
+        assertEquals(1, estatisticaVisitante.getJogosVisitante());
+        assertEquals(1, estatisticaVisitante.getDerrotasVisitante());
+
+        assertEquals(1, estatisticaMandante.getJogosMandante());
+        assertEquals(1, estatisticaMandante.getVitoriasMandante());
+        assertEquals(3, estatisticaMandante.getGolsProMandante());
+        assertEquals(1, estatisticaMandante.getGolsContraMandante());
+    }
+
+    @Test
+    void testarSubstituirPartida_DesfazPlacarAnteriorEAplicaONovo() {
+        ClubeEstatistica estatisticaMandante = new ClubeEstatistica(1L);
+        ClubeEstatistica estatisticaVisitante = new ClubeEstatistica(2L);
+        estatisticaMandante.registrarComoMandante(2, 0, 1);
+        estatisticaVisitante.registrarComoVisitante(0, 2, 1);
+        when(clubeEstatisticaRepository.buscarParaAtualizacao(1L)).thenReturn(Optional.of(estatisticaMandante));
+        when(clubeEstatisticaRepository.buscarParaAtualizacao(2L)).thenReturn(Optional.of(estatisticaVisitante));
+
+        clubeEstatisticaService.substituirPartida(new PartidaPlacarDto(1L, 2L, 2, 0), new PartidaPlacarDto(1L, 2L, 1, 1));
+
+        assertEquals(1, estatisticaMandante.getJogosMandante());
+        assertEquals(0, estatisticaMandante.getVitoriasMandante());
+        assertEquals(1, estatisticaMandante.getEmpatesMandante());
+        assertEquals(0, estatisticaVisitante.getDerrotasVisitante());
+        assertEquals(1, estatisticaVisitante.getEmpatesVisitante());
+        assertEquals(1, estatisticaVisitante.getGolsProVisitante());
+    }
+
+    @Test
+    void testarBuscarRetrospecto_SomaMandanteEVisitante() {
+        ClubeEstatistica estatistica = new ClubeEstatistica(1L);
+        estatistica.registrarComoMandante(3, 1, 1);
+        estatistica.registrarComoVisitante(0, 2, 1);
+        when(clubeEstatisticaRepository.findById(1L)).thenReturn(Optional.of(estatistica));
+
+        RetrospectoResponseDto retrospecto = clubeEstatisticaService.buscarRetrospecto(1L);
+
+        assertEquals(1, retrospecto.getMandante().getVitorias());
+        assertEquals(1, retrospecto.getVisitante().getDerrotas());
+        assertEquals(2, retrospecto.getTotal().getJogos());
+        assertEquals(0, retrospecto.getTotal().getSaldoGols());
+    }
+
+    @Test
+    void testarBuscarRetrospecto_ClubeSemPartidasRetornaZeros() {
+        when(clubeEstatisticaRepository.findById(1L)).thenReturn(Optional.empty());
+        when(clubeRepository.existsById(1L)).thenReturn(true);
+
+        RetrospectoResponseDto retrospecto = clubeEstatisticaService.buscarRetrospecto(1L);
+
+        assertEquals(0, retrospecto.getTotal().getJogos());
+    }
+
+    @Test
+    void testarBuscarRetrospecto_ClubeInexistente() {
+        when(clubeEstatisticaRepository.findById(99L)).thenReturn(Optional.empty());
+        when(clubeRepository.existsById(99L)).thenReturn(false);
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> clubeEstatisticaService.buscarRetrospecto(99L));
+
+        assertEquals("Clube não encontrado", exception.getMessage());
+    }
+
+}
@@ -2,26 +2,40 @@ package br.com.neocamp.partidas_futebol.service;
 
 import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeRequestDto;
 import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaCursorDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaFatiaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
 import br.com.neocamp.partidas_futebol.entity.Clube;
+import br.com.neocamp.partidas_futebol.enums.ModoPaginacao;
+import br.com.neocamp.partidas_futebol.exceptions.EntityBadRequestException;
+import br.com.neocamp.partidas_futebol.exceptions.EntityPreconditionFailedException;
 import br.com.neocamp.partidas_futebol.repository.ClubeRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import static org.mockito.ArgumentMatchers.anyBoolean;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -33,6 +47,26 @@ public class ClubeServiceTest {
     private ClubeRepository clubeRepository;
 
     
+    @Mock
+    private ClassificacaoService classificacaoService;
+
+    
+    @Mock
+    private ContagemPaginacaoService contagemPaginacaoService;
+
+    @Mock
+    private CacheReferenciaService cacheReferenciaService;
+
+    @Mock
+    private RespostaSerializadaService respostaSerializadaService;
+
+    @Mock
+    private IndiceNomesService indiceNomesService;
+
+    @Mock
+    private ClubeEstatisticaService clubeEstatisticaService;
+
+    
     @InjectMocks
     private ClubeService clubeService;
 
@@ -92,11 +126,10 @@ public class ClubeServiceTest {
         clubeDto.setDataCriacao(LocalDate.of(1914, 8, 26));
         clubeDto.setAtivo(true);
 
-        when(clubeRepository.findByNomeAndSiglaEstado(anyString(), anyString())).thenReturn(Optional.empty());
 
         Clube clubeSalvo = new Clube("Palmeiras", "SP", LocalDate.of(1914, 8, 26), true);
         clubeSalvo.setId(1L);
-        when(clubeRepository.save(any(Clube.class))).thenReturn(clubeSalvo);
+        when(clubeRepository.saveAndFlush(any(Clube.class))).thenReturn(clubeSalvo);
 
         ClubeResponseDto response = clubeService.cadastrarClube(clubeDto);
 
@@ -105,6 +138,7 @@ public class ClubeServiceTest {
         assertEquals("SP", response.getSiglaEstado());
         assertEquals(LocalDate.of(1914, 8, 26), response.getDataCriacao());
         assertTrue(response.getAtivo());
+        verify(clubeEstatisticaService).criarEstatistica(1L);
     }
 
 
@@ -116,13 +150,26 @@ public class ClubeServiceTest {
         clubeDto.setDataCriacao(LocalDate.of(1914, 8, 26));
         clubeDto.setAtivo(true);
 
-        Clube clubeExistente = new Clube("Palmeiras", "SP", LocalDate.of(1914, 8, 26), true);
-        clubeExistente.setId(1L);
-
-        when(clubeRepository.findByNomeAndSiglaEstado(anyString(), anyString())).thenReturn(Optional.of(clubeExistente));
+        when(clubeRepository.saveAndFlush(any(Clube.class))).thenThrow(violacaoDeRestricao(Clube.RESTRICAO_NOME_ESTADO));
 
         ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> clubeService.cadastrarClube(clubeDto));
         assertEquals (HttpStatus.CONFLICT, ex.getStatusCode());
+        assertEquals("Já existe um clube com o mesmo nome no mesmo estado", ex.getReason());
+        verify(indiceNomesService, never()).indexarClube(any(Clube.class));
+    }
+
+
+
+    @Test
+    public void testarCadastrarClubeComOutraViolacaoDeIntegridadeNaoViraConflito() {
+        clubeDto.setNome("Palmeiras");
+        clubeDto.setSiglaEstado("SP");
+        clubeDto.setDataCriacao(LocalDate.of(1914, 8, 26));
+        clubeDto.setAtivo(true);
+
+        when(clubeRepository.saveAndFlush(any(Clube.class))).thenThrow(violacaoDeRestricao("ck_clube_outra_regra"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> clubeService.cadastrarClube(clubeDto));
     }
 
 
@@ -136,8 +183,7 @@ public class ClubeServiceTest {
 
         Clube clubeSalvo = new Clube("Palmeiras", "SP", LocalDate.of(1914, 8, 26), true);
         clubeSalvo.setId(1L);
-        when(clubeRepository.findByNomeAndSiglaEstado(anyString(), anyString())).thenReturn(Optional.empty());
-        when(clubeRepository.save(any(Clube.class))).thenReturn(clubeSalvo);
+        when(clubeRepository.saveAndFlush(any(Clube.class))).thenReturn(clubeSalvo);
         ClubeResponseDto response = clubeService.cadastrarClube(clubeDto);
 
         assertNotNull(response);
@@ -152,7 +198,7 @@ public class ClubeServiceTest {
     @Test
     public void testarBuscarClubePorIdInexistente() {
         Long id = 99L;
-        when(clubeRepository.findById(id)).thenReturn(Optional.empty());
+        when(cacheReferenciaService.buscarClube(id)).thenReturn(Optional.empty());
 
         ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> clubeService.buscarPorId(id));
         assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
@@ -166,7 +212,7 @@ public class ClubeServiceTest {
         Clube clube = new Clube("Palmeiras", "SP", LocalDate.of(1914, 8, 26), true);
         clube.setId(id);
 
-        when(clubeRepository.findById(id)).thenReturn(Optional.of(clube));
+        when(cacheReferenciaService.buscarClube(id)).thenReturn(Optional.of(clube));
 
         ClubeResponseDto response = clubeService.buscarPorId(id);
 
@@ -225,11 +271,10 @@ public class ClubeServiceTest {
         clubeDto.setDataCriacao(LocalDate.of(1910, 9, 1));
         clubeDto.setAtivo(true);
 
-        when(clubeRepository.findByNomeAndSiglaEstado("Corinthians", "SP")).thenReturn(Optional.empty());
 
         Clube clubeAtualizado = new Clube("Corinthians", "SP", LocalDate.of(1910, 9, 1), true);
         clubeAtualizado.setId(id);
-        when(clubeRepository.save(any(Clube.class))).thenReturn(clubeAtualizado);
+        when(clubeRepository.saveAndFlush(any(Clube.class))).thenReturn(clubeAtualizado);
 
         ClubeResponseDto response = clubeService.atualizarPorId(id, clubeDto);
 
@@ -259,9 +304,7 @@ public class ClubeServiceTest {
         clubeDto.setDataCriacao(LocalDate.of(1910, 9, 1));
         clubeDto.setAtivo(true);
 
-        Clube clubeDuplicado = new Clube("Corinthians", "SP", LocalDate.of(1910, 9, 1), true);
-        clubeDuplicado.setId(2L);
-        when(clubeRepository.findByNomeAndSiglaEstado("Corinthians", "SP")).thenReturn(Optional.of(clubeDuplicado));
+        when(clubeRepository.saveAndFlush(any(Clube.class))).thenThrow(violacaoDeRestricao(Clube.RESTRICAO_NOME_ESTADO));
 
         ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> clubeService.atualizarPorId(id, clubeDto));
         assertEquals(HttpStatus.CONFLICT, ex.getStatusCode());
@@ -284,9 +327,7 @@ public class ClubeServiceTest {
         clubeDto.setDataCriacao(LocalDate.of(1914, 8, 26));
         clubeDto.setAtivo(true);
 
-        when(clubeRepository.findByNomeAndSiglaEstado("Palmeiras", "SP")).thenReturn(Optional.of(clubeExistente));
-
-        when(clubeRepository.save(any(Clube.class))).thenReturn(clubeExistente);
+        when(clubeRepository.saveAndFlush(any(Clube.class))).thenReturn(clubeExistente);
 
         ClubeResponseDto response = clubeService.atualizarPorId(id, clubeDto);
 
@@ -313,12 +354,11 @@ public class ClubeServiceTest {
         clubeDto.setDataCriacao(LocalDate.of(1910, 9, 1));
         clubeDto.setAtivo(true);
 
-        when(clubeRepository.findByNomeAndSiglaEstado("Corinthians", "SP")).thenReturn(Optional.empty());
 
         Clube clubeAtualizado = new Clube("Corinthians", "SP", LocalDate.of(1910, 9, 1), true);
 
         clubeAtualizado.setId(id);
-        when(clubeRepository.save(any(Clube.class))).thenReturn(clubeAtualizado);
+        when(clubeRepository.saveAndFlush(any(Clube.class))).thenReturn(clubeAtualizado);
 
         ClubeResponseDto response = clubeService.atualizarPorId(id, clubeDto);
 
@@ -348,6 +388,27 @@ public class ClubeServiceTest {
     }
 
     
+    @Test
+    public void testarAtualizarClubeComVersaoDesatualizada() {
+        Long id = 1L;
+        Clube clubeExistente = new Clube("Palmeiras", "SP", LocalDate.of(1914, 8, 26), true);
+        clubeExistente.setId(id);
+        clubeExistente.setVersao(3L);
+
+        when(clubeRepository.findById(id)).thenReturn(Optional.of(clubeExistente));
+
+        ClubeRequestDto clubeDto = new ClubeRequestDto();
+        clubeDto.setNome("Corinthians");
+        clubeDto.setSiglaEstado("SP");
+        clubeDto.setDataCriacao(LocalDate.of(1910, 9, 1));
+        clubeDto.setAtivo(true);
+
+        EntityPreconditionFailedException ex = assertThrows(EntityPreconditionFailedException.class, () -> clubeService.atualizarPorId(id, clubeDto, "2"));
+        assertEquals("Clube foi alterado desde a versão informada", ex.getMessage());
+        verify(clubeRepository, never()).saveAndFlush(any(Clube.class));
+    }
+
+    
     @Test
     public void testarAtualizarClubeComIdExistente() {
         Long id = 1L;
@@ -362,12 +423,11 @@ public class ClubeServiceTest {
         clubeDto.setDataCriacao(LocalDate.of(1910, 9, 1));
         clubeDto.setAtivo(true);
 
-        when(clubeRepository.findByNomeAndSiglaEstado("Corinthians", "SP")).thenReturn(Optional.empty());
 
         Clube clubeAtualizado = new Clube("Corinthians", "SP", LocalDate.of(1910, 9, 1), true);
         clubeAtualizado.setId(id);
 
-        when(clubeRepository.save(any(Clube.class))).thenReturn(clubeAtualizado);
+        when(clubeRepository.saveAndFlush(any(Clube.class))).thenReturn(clubeAtualizado);
 
         ClubeResponseDto response = clubeService.atualizarPorId(id, clubeDto);
 
@@ -404,77 +464,69 @@ public class ClubeServiceTest {
         clubeService.inativarClubePorId(id);
 
         assertFalse(clubeExistente.getAtivo(), "O clube deve ser inativado");
+        verify(cacheReferenciaService).atualizarClube(clubeExistente);
     }
 
 
 
     @Test
     public void testarListarClubesFiltradosSemResultados() {
-        when(clubeRepository.findByNomeContainingIgnoreCaseAndSiglaEstadoAndAtivo(anyString(), anyString(), anyBoolean())).thenReturn(List.of());
+        when(clubeRepository.buscarClubesEmFluxo(any(Specification.class))).thenAnswer(invocacao -> Stream.empty());
 
-        List<ClubeResponseDto> resultado = clubeService.listarClubes("Inexistente", "ZZ", false);
+        List<ClubeResponseDto> resultado = listarEmFluxo("Inexistente", "ZZ", false);
 
         assertNotNull(resultado);
         assertTrue(resultado.isEmpty());
 
-        when(clubeRepository.findByNomeContainingIgnoreCaseAndSiglaEstado(anyString(), anyString())).thenReturn(List.of());
-
-        resultado = clubeService.listarClubes("Inexistente", "ZZ", null);
+        resultado = listarEmFluxo("Inexistente", "ZZ", null);
 
         assertNotNull(resultado);
         assertTrue(resultado.isEmpty());
 
-        when(clubeRepository.findByNomeContainingIgnoreCaseAndAtivo(anyString(), anyBoolean())).thenReturn(List.of());
-
-        resultado = clubeService.listarClubes("Inexistente", null, false);
+        resultado = listarEmFluxo("Inexistente", null, false);
 
         assertNotNull(resultado);
         assertTrue(resultado.isEmpty());
 
-        when(clubeRepository.findBySiglaEstadoAndAtivo(anyString(), anyBoolean())).thenReturn(List.of());
-        resultado = clubeService.listarClubes(null, "ZZ", false);
+        resultado = listarEmFluxo(null, "ZZ", false);
 
         assertNotNull(resultado);
         assertTrue(resultado.isEmpty());
 
-        when(clubeRepository.findByNomeContainingIgnoreCase(anyString())).thenReturn(List.of());
-        resultado = clubeService.listarClubes("Inexistente", null, null);
+        resultado = listarEmFluxo("Inexistente", null, null);
 
         assertNotNull(resultado);
         assertTrue(resultado.isEmpty());
 
-        when(clubeRepository.findBySiglaEstado(anyString())).thenReturn(List.of());
-        resultado = clubeService.listarClubes(null, "ZZ", null);
+        resultado = listarEmFluxo(null, "ZZ", null);
 
         assertNotNull(resultado);
         assertTrue(resultado.isEmpty());
 
-        when(clubeRepository.findByAtivo(anyBoolean())).thenReturn(List.of());
-        resultado = clubeService.listarClubes(null, null, true);
+        resultado = listarEmFluxo(null, null, true);
 
         assertNotNull(resultado);
         assertTrue(resultado.isEmpty());
 
-        when(clubeRepository.findAll()).thenReturn(List.of());
-        resultado = clubeService.listarClubes(null, null, null);
+        resultado = listarEmFluxo(null, null, null);
 
         assertNotNull(resultado);
         assertTrue(resultado.isEmpty());
 
+        verify(clubeRepository, times(8)).buscarClubesEmFluxo(any(Specification.class));
     }
 
 
 
     @Test
     public void testarListarClubesFiltradosComResultados() {
-        Clube clube1 = new Clube("Palmeiras", "SP", LocalDate.of(1914, 8, 26), true);
-        clube1.setId(1L);
-        Clube clube2 = new Clube("Corinthians", "SP", LocalDate.of(1910, 9,1), true);
-        clube2.setId(2L);
+        ClubeResponseDto clube1 = new ClubeResponseDto(1L, "Palmeiras", "SP", LocalDate.of(1914, 8, 26), true);
+        ClubeResponseDto clube2 = new ClubeResponseDto(2L, "Corinthians", "SP", LocalDate.of(1910, 9, 1), true);
 
-        when(clubeRepository.findByNomeContainingIgnoreCaseAndSiglaEstadoAndAtivo("Palmeiras", "SP", true)).thenReturn(List.of(clube1));
+        when(clubeRepository.buscarClubesEmFluxo(any(Specification.class)))
+                .thenReturn(Stream.of(clube1), Stream.of(clube1), Stream.of(clube1), Stream.of(clube1, clube2));
 
-        List<ClubeResponseDto> resultado = clubeService.listarClubes("Palmeiras", "SP", true);
+        List<ClubeResponseDto> resultado = listarEmFluxo("Palmeiras", "SP", true);
 
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
@@ -482,8 +534,7 @@ public class ClubeServiceTest {
         assertEquals("SP", resultado.get(0).getSiglaEstado());
         assertTrue(resultado.get(0).getAtivo());
 
-        when(clubeRepository.findByNomeContainingIgnoreCaseAndSiglaEstado("Palmeiras", "SP")).thenReturn(List.of(clube1));
-        resultado = clubeService.listarClubes("Palmeiras", "SP", null);
+        resultado = listarEmFluxo("Palmeiras", "SP", null);
 
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
@@ -491,8 +542,7 @@ public class ClubeServiceTest {
         assertEquals("SP", resultado.get(0).getSiglaEstado());
         assertTrue(resultado.get(0).getAtivo());
 
-        when(clubeRepository.findByNomeContainingIgnoreCaseAndAtivo("Palmeiras", true)).thenReturn(List.of(clube1));
-        resultado = clubeService.listarClubes("Palmeiras", null, true);
+        resultado = listarEmFluxo("Palmeiras", null, true);
 
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
@@ -500,8 +550,7 @@ public class ClubeServiceTest {
         assertEquals("SP", resultado.get(0).getSiglaEstado());
         assertTrue(resultado.get(0).getAtivo());
 
-        when(clubeRepository.findBySiglaEstadoAndAtivo("SP", true)).thenReturn(List.of(clube1, clube2));
-        resultado = clubeService.listarClubes(null, "SP", true);
+        resultado = listarEmFluxo(null, "SP", true);
 
         assertNotNull(resultado);
         assertEquals(2, resultado.size());
@@ -525,19 +574,160 @@ public class ClubeServiceTest {
         Clube clube2 = new Clube("Corinthians", "SP", LocalDate.of(1910, 9,1), true);
         clube2.setId(2L);
 
-        List<Clube> listarClubes = List.of(clube2, clube1);
-        Page<Clube> clubesPage = new PageImpl<>(listarClubes);
-
         Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "nome"));
 
-        when(clubeRepository.buscarClubesPorPaginacao(null, "SP", true, pageable)).thenReturn(clubesPage);
+        when(clubeRepository.buscarVersoes(any(Specification.class), eq(pageable))).thenReturn(versoes(pageable, false, 2L, 1L));
+        when(clubeRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(clube1, clube2));
 
-        Page<ClubeResponseDto> resultado = clubeService.listarClubes(null, "SP", true, pageable);
+        VersaoPaginaDto pagina = clubeService.buscarVersaoDaPagina(null, "SP", true, pageable);
+        Page<ClubeResponseDto> resultado = clubeService.listarClubes(pagina, null, "SP", true, null, pageable);
 
         assertNotNull(resultado);
-        assertEquals(2, resultado.getContent().size());
+        assertEquals(2, resultado.getTotalElements());
         assertEquals("Palmeiras", resultado.getContent().get(1).getNome());
         assertEquals("Corinthians", resultado.getContent().get(0).getNome());
+        verify(clubeRepository, never()).count(any(Specification.class));
+    }
+
+
+    @Test
+    public void testarVersaoDaPaginaMudaQuandoUmClubeDaPaginaMuda() {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        when(clubeRepository.buscarVersoes(any(Specification.class), eq(pageable)))
+                .thenReturn(versoes(pageable, false, 1L, 2L))
+                .thenReturn(new SliceImpl<>(List.of(new VersaoRecursoDto(1L, "0", null), new VersaoRecursoDto(2L, "1", null)), pageable, false))
+                .thenReturn(versoes(pageable, true, 1L, 2L));
+
+        String original = clubeService.buscarVersaoDaPagina(null, null, null, pageable).versao().versao();
+
+        assertNotEquals(original, clubeService.buscarVersaoDaPagina(null, null, null, pageable).versao().versao());
+        assertNotEquals(original, clubeService.buscarVersaoDaPagina(null, null, null, pageable).versao().versao());
+        verify(clubeRepository, never()).count(any(Specification.class));
+    }
+
+
+    @Test
+    public void testarListarClubesPeloIndiceDeNomes() {
+        Clube clube = new Clube("São Paulo", "SP", LocalDate.of(1930, 1, 25), true);
+        clube.setId(3L);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(indiceNomesService.buscarIdsDeClubes("sao")).thenReturn(Optional.of(List.of(3L)));
+        when(clubeRepository.buscarVersoes(any(Specification.class), eq(pageable))).thenReturn(versoes(pageable, false, 3L));
+        when(clubeRepository.findAllById(List.of(3L))).thenReturn(List.of(clube));
+
+        VersaoPaginaDto pagina = clubeService.buscarVersaoDaPagina("sao", "SP", true, pageable);
+        Page<ClubeResponseDto> resultado = clubeService.listarClubes(pagina, "sao", "SP", true, null, pageable);
+
+        assertEquals(1, resultado.getTotalElements());
+        assertEquals("São Paulo", resultado.getContent().get(0).getNome());
+    }
+
+
+    @Test
+    public void testarListarClubesComProximaPaginaContaOTotal() {
+        Clube clube = new Clube("Botafogo", "RJ", LocalDate.of(1904, 8, 12), true);
+        clube.setId(4L);
+        Pageable pageable = PageRequest.of(0, 1);
+
+        when(indiceNomesService.buscarIdsDeClubes("bota")).thenReturn(Optional.empty());
+        when(clubeRepository.buscarVersoes(any(Specification.class), eq(pageable))).thenReturn(versoes(pageable, true, 4L));
+        when(clubeRepository.findAllById(List.of(4L))).thenReturn(List.of(clube));
+        when(clubeRepository.count(any(Specification.class))).thenReturn(3L);
+
+        VersaoPaginaDto pagina = clubeService.buscarVersaoDaPagina("bota", null, null, pageable);
+        Page<ClubeResponseDto> resultado = clubeService.listarClubes(pagina, "bota", null, null, null, pageable);
+
+        assertEquals(List.of(4L), resultado.getContent().stream().map(ClubeResponseDto::getId).toList());
+        assertEquals(3, resultado.getTotalElements());
+    }
+
+
+    @Test
+    public void testarListarClubesSemCorrespondenciaNoIndiceRetornaPaginaVazia() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(indiceNomesService.buscarIdsDeClubes("xyz")).thenReturn(Optional.of(List.of()));
+
+        VersaoPaginaDto pagina = clubeService.buscarVersaoDaPagina("xyz", null, null, pageable);
+        Page<ClubeResponseDto> resultado = clubeService.listarClubes(pagina, "xyz", null, null, null, pageable);
+
+        assertTrue(resultado.isEmpty());
+        assertEquals(0, resultado.getTotalElements());
+        verify(clubeRepository, never()).buscarVersoes(any(), any());
+        verify(clubeRepository, never()).count(any(Specification.class));
+    }
+
+
+    @Test
+    public void testarFatiaECursorSemCorrespondenciaNoIndiceNaoConsultamOBanco() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(indiceNomesService.buscarIdsDeClubes("xyz")).thenReturn(Optional.of(List.of()));
+
+        PaginaFatiaDto<ClubeResponseDto> fatia = clubeService.listarClubesSemContagem("xyz", null, null, pageable, ModoPaginacao.SLICE);
+        PaginaCursorDto<ClubeResponseDto> cursor = clubeService.listarClubesPorCursor("xyz", null, null, null, 10);
+
+        assertTrue(fatia.getConteudo().isEmpty());
+        assertTrue(cursor.getConteudo().isEmpty());
+        assertNull(cursor.getProximoCursor());
+        verify(clubeRepository, never()).buscarClubesPorFatia(any(), any());
+        verify(clubeRepository, never()).buscarClubesPorCursor(any(), any());
+    }
+
+
+    @Test
+    public void testarListarClubesPorCursorRetornaProximoCursorQuandoHaMaisRegistros() {
+        Clube clube1 = new Clube("Corinthians", "SP", LocalDate.of(1910, 9, 1), true);
+        clube1.setId(2L);
+        Clube clube2 = new Clube("Palmeiras", "SP", LocalDate.of(1914, 8, 26), true);
+        clube2.setId(1L);
+        Clube clube3 = new Clube("Santos", "SP", LocalDate.of(1912, 4, 14), true);
+        clube3.setId(3L);
+
+        when(clubeRepository.buscarClubesPorCursor(any(), eq(Limit.of(3))))
+                .thenReturn(List.of(clube1, clube2, clube3))
+                .thenReturn(List.of(clube3));
+
+        PaginaCursorDto<ClubeResponseDto> primeiraPagina = clubeService.listarClubesPorCursor(null, "SP", null, null, 2);
+
+        assertEquals(2, primeiraPagina.getConteudo().size());
+        assertTrue(primeiraPagina.isPossuiProximo());
+
+        PaginaCursorDto<ClubeResponseDto> segundaPagina = clubeService.listarClubesPorCursor(null, "SP", null, primeiraPagina.getProximoCursor(), 2);
+
+        assertEquals("Santos", segundaPagina.getConteudo().get(0).getNome());
+        assertFalse(segundaPagina.isPossuiProximo());
+    }
+
+
+    @Test
+    public void testarListarClubesPorCursorInvalido() {
+        EntityBadRequestException exception = assertThrows(EntityBadRequestException.class,
+                () -> clubeService.listarClubesPorCursor(null, null, null, "não-é-um-cursor", 10));
+
+        assertEquals("Cursor inválido", exception.getMessage());
+        verify(clubeRepository, never()).buscarClubesPorCursor(any(), any());
+    }
+
+
+    private static Slice<VersaoRecursoDto> versoes(Pageable pageable, boolean possuiProximo, Long... ids) {
+        return new SliceImpl<>(Stream.of(ids).map(id -> new VersaoRecursoDto(id, "0", null)).toList(), pageable, possuiProximo);
+    }
+
+
+    private List<ClubeResponseDto> listarEmFluxo(String nome, String siglaEstado, Boolean ativo) {
+        List<ClubeResponseDto> clubes = new ArrayList<>();
+        clubeService.listarClubesEmFluxo(nome, siglaEstado, ativo, clubes::add);
+        return clubes;
+    }
+
+
+
+    private static DataIntegrityViolationException violacaoDeRestricao(String restricao) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new RuntimeException("Unique index or primary key violation: \"PUBLIC." + restricao.toUpperCase() + "_INDEX_3\""));
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,117 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.clubeDto.ClubeResponseDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaFatiaDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.enums.FormatoResposta;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodificadorRespostasTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CodificadorRespostasTest.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final CodificadorRespostas codificadorRespostas = new CodificadorRespostas(objectMapper);
+
+    @Test
+    void testarCodificar_CborESmilePreservamOConteudoDoJson() throws IOException {
+        PaginaDto<PartidaResponseDto> pagina = paginaDePartidas(20);
+        JsonNode json = objectMapper.readTree(codificadorRespostas.codificar(pagina, FormatoResposta.JSON));
+
+        for (FormatoResposta formato : List.of(FormatoResposta.CBOR, FormatoResposta.SMILE)) {
+            byte[] corpo = codificadorRespostas.codificar(pagina, formato);
+            assertEquals(json, codificadorRespostas.getMapeador(formato).readTree(corpo), formato.name());
+        }
+    }
+
+    @Test
+    void testarCodificar_ProtobufSegueOEsquemaPublicado() throws IOException {
+        PaginaDto<PartidaResponseDto> pagina = paginaDePartidas(3);
+
+        JsonNode lida = lerProtobuf("PaginaPartida", codificadorRespostas.codificar(pagina, FormatoResposta.PROTOBUF));
+
+        assertEquals(3, lida.get("conteudo").size());
+        assertEquals(3, lida.get("totalElementos").asLong());
+        assertEquals("Mandante 2", lida.get("conteudo").get(2).get("clubeMandanteNome").asText());
+        assertEquals("2024-05-01T16:00:00", lida.get("conteudo").get(0).get("dataHora").asText());
+    }
+
+    @Test
+    void testarCodificar_ProtobufEscolheAMensagemPeloConteudo() throws IOException {
+        PaginaFatiaDto<ClubeResponseDto> fatia = new PaginaFatiaDto<>(
+                List.of(new ClubeResponseDto(7L, "Santos", "SP", LocalDate.of(1912, 4, 14), true)), 0, 10, false, null);
+
+        JsonNode lida = lerProtobuf("FatiaClube", codificadorRespostas.codificar(fatia, FormatoResposta.PROTOBUF));
+
+        assertEquals("Santos", lida.get("conteudo").get(0).get("nome").asText());
+        assertEquals("1912-04-14", lida.get("conteudo").get(0).get("dataCriacao").asText());
+        assertThrows(IllegalArgumentException.class, () -> codificadorRespostas.codificar("texto", FormatoResposta.PROTOBUF));
+    }
+
+    @Test
+    void testarCodificar_ComparaTamanhoETempoComJson() throws IOException {
+        PaginaDto<PartidaResponseDto> pagina = paginaDePartidas(500);
+        int repeticoes = 200;
+
+        Map<FormatoResposta, Integer> tamanhos = new EnumMap<>(FormatoResposta.class);
+        for (FormatoResposta formato : FormatoResposta.values()) {
+            for (int i = 0; i < repeticoes; i++) {
+                codificadorRespostas.codificar(pagina, formato);
+            }
+
+            long inicio = System.nanoTime();
+            byte[] corpo = null;
+            for (int i = 0; i < repeticoes; i++) {
+                corpo = codificadorRespostas.codificar(pagina, formato);
+            }
+            long microsPorPagina = (System.nanoTime() - inicio) / 1_000 / repeticoes;
+
+            tamanhos.put(formato, corpo.length);
+            log.info("Página de {} partidas em {}: {} bytes, {} µs por codificação", pagina.getConteudo().size(), formato, corpo.length, microsPorPagina);
+        }
+
+        int json = tamanhos.get(FormatoResposta.JSON);
+        assertTrue(tamanhos.get(FormatoResposta.CBOR) < json);
+        assertTrue(tamanhos.get(FormatoResposta.SMILE) < json);
+        assertTrue(tamanhos.get(FormatoResposta.PROTOBUF) < tamanhos.get(FormatoResposta.CBOR));
+    }
+
+    private JsonNode lerProtobuf(String mensagem, byte[] corpo) throws IOException {
+        NativeProtobufSchema esquemas = ProtobufSchemaLoader.std.loadNative(
+                getClass().getClassLoader().getResource(CodificadorRespostas.ESQUEMA_PROTOBUF));
+        return new ProtobufMapper().readerFor(JsonNode.class).with(esquemas.forType(mensagem)).readValue(corpo);
+    }
+
+    private static PaginaDto<PartidaResponseDto> paginaDePartidas(int quantidade) {
+        List<PartidaResponseDto> partidas = IntStream.range(0, quantidade)
+                .mapToObj(i -> new PartidaResponseDto((long) i + 1, (long) i % 20 + 1, "Mandante " + i, (long) i % 20 + 21, "Visitante " + i,
+                        i % 4, i % 3, (long) i % 10 + 1, "Estádio " + i % 10, LocalDateTime.of(2024, 5, 1, 16, 0).plusDays(i)))
+                .toList();
+        return PaginaDto.de(new PageImpl<>(partidas, PageRequest.of(0, Math.max(quantidade, 1)), quantidade));
+    }
+
+}
@@ -0,0 +1,60 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.ConfrontoDiretoResumoDto;
+import br.com.neocamp.partidas_futebol.repository.PartidaRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfrontoDiretoServiceTest {
+
+    @Mock
+    private PartidaRepository partidaRepository;
+
+    @InjectMocks
+    private ConfrontoDiretoService confrontoDiretoService;
+
+    private final ConfrontoDiretoResumoDto resumo = new ConfrontoDiretoResumoDto(3, 2, 1, 0, 5, 3);
+
+    @Test
+    void testarBuscarResumo_CacheIndependeDaOrdemDosClubes() {
+        when(partidaRepository.resumirConfrontoDireto(1L, 2L)).thenReturn(resumo);
+
+        assertEquals(resumo, confrontoDiretoService.buscarResumo(1L, 2L));
+        assertEquals(resumo.invertido(), confrontoDiretoService.buscarResumo(2L, 1L));
+
+        verify(partidaRepository, times(1)).resumirConfrontoDireto(1L, 2L);
+    }
+
+    @Test
+    void testarInvalidar_RemoveApenasOParAlterado() {
+        when(partidaRepository.resumirConfrontoDireto(1L, 2L)).thenReturn(resumo);
+        when(partidaRepository.resumirConfrontoDireto(1L, 3L)).thenReturn(resumo);
+
+        confrontoDiretoService.buscarResumo(1L, 2L);
+        confrontoDiretoService.buscarResumo(3L, 1L);
+
+        confrontoDiretoService.invalidar(2L, 1L);
+
+        confrontoDiretoService.buscarResumo(1L, 2L);
+        confrontoDiretoService.buscarResumo(1L, 3L);
+
+        verify(partidaRepository, times(2)).resumirConfrontoDireto(1L, 2L);
+        verify(partidaRepository, times(1)).resumirConfrontoDireto(1L, 3L);
+    }
+
+    @Test
+    void testarChaveDoPar_EmpacotaOsDoisIds() {
+        assertEquals((7L << 32) | 42L, ConfrontoDiretoService.chaveDoPar(7L, 42L));
+        assertNotEquals(ConfrontoDiretoService.chaveDoPar(1L, 2L), ConfrontoDiretoService.chaveDoPar(2L, 1L));
+    }
+
+}
@@ -0,0 +1,52 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.enums.ModoPaginacao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContagemPaginacaoServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testarEstimarTotal_ReaproveitaContagemEAplicaAjustes() {
+        ContagemPaginacaoService contagemPaginacaoService = new ContagemPaginacaoService(meterRegistry, Duration.ofMinutes(5));
+        AtomicInteger contagens = new AtomicInteger();
+
+        assertEquals(10, contagemPaginacaoService.estimarTotal(ContagemPaginacaoService.PARTIDA, () -> { contagens.incrementAndGet(); return 10; }));
+
+        contagemPaginacaoService.ajustarTotal(ContagemPaginacaoService.PARTIDA, 3);
+        contagemPaginacaoService.ajustarTotal(ContagemPaginacaoService.PARTIDA, -1);
+
+        assertEquals(12, contagemPaginacaoService.estimarTotal(ContagemPaginacaoService.PARTIDA, () -> { contagens.incrementAndGet(); return 10; }));
+        assertEquals(1, contagens.get());
+    }
+
+    @Test
+    void testarEstimarTotal_RecalculaQuandoEstimativaExpira() {
+        ContagemPaginacaoService contagemPaginacaoService = new ContagemPaginacaoService(meterRegistry, Duration.ZERO);
+
+        contagemPaginacaoService.estimarTotal(ContagemPaginacaoService.CLUBE, () -> 5);
+        assertEquals(7, contagemPaginacaoService.estimarTotal(ContagemPaginacaoService.CLUBE, () -> 7));
+
+        assertEquals(2, meterRegistry.counter(ContagemPaginacaoService.METRICA_ESTIMATIVAS_RECALCULADAS,
+                "recurso", ContagemPaginacaoService.CLUBE).count());
+    }
+
+    @Test
+    void testarRegistrarContagemEvitada_IncrementaMetricaPorRecursoEModo() {
+        ContagemPaginacaoService contagemPaginacaoService = new ContagemPaginacaoService(meterRegistry, Duration.ofMinutes(5));
+
+        contagemPaginacaoService.registrarContagemEvitada(ContagemPaginacaoService.ESTADIO, ModoPaginacao.SLICE);
+        contagemPaginacaoService.registrarContagemEvitada(ContagemPaginacaoService.ESTADIO, ModoPaginacao.SLICE);
+
+        assertEquals(2, meterRegistry.counter(ContagemPaginacaoService.METRICA_CONTAGENS_EVITADAS,
+                "recurso", ContagemPaginacaoService.ESTADIO, "modo", "SLICE").count());
+    }
+
+}
@@ -2,23 +2,29 @@ package br.com.neocamp.partidas_futebol.service;
 
 import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioRequestDto;
 import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
 import br.com.neocamp.partidas_futebol.entity.Estadio;
 import br.com.neocamp.partidas_futebol.repository.EstadioRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +37,19 @@ public class EstadioServiceTest {
     private EstadioRepository estadioRepository;
 
     
+    @Mock
+    private ContagemPaginacaoService contagemPaginacaoService;
+
+    @Mock
+    private CacheReferenciaService cacheReferenciaService;
+
+    @Mock
+    private RespostaSerializadaService respostaSerializadaService;
+
+    @Mock
+    private IndiceNomesService indiceNomesService;
+
+    
     @InjectMocks
     private EstadioService estadioService;
 
@@ -43,11 +62,9 @@ public class EstadioServiceTest {
 
         estadioRequestDto.setNome("Neo Química Arena");
 
-        when(estadioRepository.findByNome(anyString())).thenReturn(Optional.empty());
-
         Estadio estadioCadastrado = new Estadio("Neo Química Arena");
 
-        when(estadioRepository.save(any((Estadio.class)))).thenReturn(estadioCadastrado);
+        when(estadioRepository.saveAndFlush(any((Estadio.class)))).thenReturn(estadioCadastrado);
 
         EstadioResponseDto estadioResponseDto = estadioService.cadastrarEstadio(estadioRequestDto);
 
@@ -60,8 +77,8 @@ public class EstadioServiceTest {
     public void testarCadastrarEstadioComDuplicidadeDeNome() {
 
         estadioRequestDto.setNome("Neo Química Arena");
-        when(estadioRepository.findByNome(anyString()))
-            .thenReturn(Optional.of(new Estadio("Neo Química Arena")));
+        when(estadioRepository.saveAndFlush(any(Estadio.class)))
+            .thenThrow(violacaoDeRestricao(Estadio.RESTRICAO_NOME));
 
         ResponseStatusException ex = assertThrows(
             ResponseStatusException.class,
@@ -114,7 +131,7 @@ public class EstadioServiceTest {
 
         estadio.setId(estadioId);
 
-        when(estadioRepository.findById(estadioId)).thenReturn(Optional.of(estadio));
+        when(cacheReferenciaService.buscarEstadio(estadioId)).thenReturn(Optional.of(estadio));
 
         EstadioResponseDto estadioResponseDto = estadioService.buscarPorId(estadioId);
 
@@ -130,7 +147,7 @@ public class EstadioServiceTest {
 
         Long estadioId = 99L;
 
-        when(estadioRepository.findById(estadioId)).thenReturn(Optional.empty());
+        when(cacheReferenciaService.buscarEstadio(estadioId)).thenReturn(Optional.empty());
 
         ResponseStatusException ex = assertThrows(
                 ResponseStatusException.class, () -> estadioService.buscarPorId(estadioId)
@@ -155,11 +172,10 @@ public class EstadioServiceTest {
         estadioAtualizado.setNome("Allianz Parque");
 
         when(estadioRepository.findById(estadioId)).thenReturn(Optional.of(estadioExistente));
-        when(estadioRepository.findByNome("Neo Química Arena")).thenReturn(Optional.empty());
 
         Estadio estadioSalvo = new Estadio("Allianz Parque");
         estadioSalvo.setId(estadioId);
-        when(estadioRepository.save(any(Estadio.class))).thenReturn(estadioSalvo);
+        when(estadioRepository.saveAndFlush(any(Estadio.class))).thenReturn(estadioSalvo);
 
         EstadioResponseDto estadioResponseDto = estadioService.atualizarPorId(estadioId, estadioAtualizado);
 
@@ -216,19 +232,16 @@ public class EstadioServiceTest {
     public void testarAtualizarEstadioComDuplicidadeDeNome() {
 
             Long estadioExistenteId = 1L;
-            Long estadioDuplicadoId = 2L;
 
             Estadio nomeEstadioExistente = new Estadio("Allianz Parque");
             nomeEstadioExistente.setId(estadioExistenteId);
-            Estadio nomeEstadioDuplicado = new Estadio("Neo Química Arena");
-            nomeEstadioDuplicado.setId(estadioDuplicadoId);
 
             EstadioRequestDto estadioAtualizadoDto = new EstadioRequestDto();
             estadioAtualizadoDto.setId(estadioExistenteId);
             estadioAtualizadoDto.setNome("Neo Química Arena");
 
             when(estadioRepository.findById(estadioExistenteId)).thenReturn(Optional.of(nomeEstadioExistente));
-            when(estadioRepository.findByNome("Neo Química Arena")).thenReturn(Optional.of(nomeEstadioDuplicado));
+            when(estadioRepository.saveAndFlush(any(Estadio.class))).thenThrow(violacaoDeRestricao(Estadio.RESTRICAO_NOME));
 
             ResponseStatusException ex = assertThrows(
                 ResponseStatusException.class,
@@ -253,8 +266,7 @@ public class EstadioServiceTest {
         estadioAtualizadoDto.setNome("Allianz Parque");
 
         when(estadioRepository.findById(estadioId)).thenReturn(Optional.of(estadioExistente));
-        when(estadioRepository.findByNome("Allianz Parque")).thenReturn(Optional.of(estadioExistente));
-        when(estadioRepository.save(estadioExistente))
+        when(estadioRepository.saveAndFlush(estadioExistente))
                 .thenReturn(estadioExistente);
 
         EstadioResponseDto estadioSalvoDto = estadioService.atualizarPorId(estadioId, estadioAtualizadoDto);
@@ -263,7 +275,7 @@ public class EstadioServiceTest {
         assertEquals(estadioId, estadioSalvoDto.getId());
         assertEquals("Allianz Parque", estadioSalvoDto.getNome());
 
-        verify(estadioRepository).save(estadioExistente);
+        verify(estadioRepository).saveAndFlush(estadioExistente);
 
     }
 
@@ -301,61 +313,66 @@ public class EstadioServiceTest {
         Estadio estadio3 = new Estadio("Maracanã");
         estadio3.setId(3L);
 
-        Page<Estadio> estadioPage =
-                new PageImpl<>(List.of(estadio1, estadio2, estadio3), pageable, 2);
-
-        when(estadioRepository.findAll(pageable)).thenReturn(estadioPage);
+        when(estadioRepository.buscarVersoes(any(Specification.class), eq(pageable))).thenReturn(versoes(pageable, true, 2L, 3L, 1L));
+        when(estadioRepository.findAllById(List.of(2L, 3L, 1L))).thenReturn(List.of(estadio1, estadio2, estadio3));
+        when(estadioRepository.count(any(Specification.class))).thenReturn(4L);
 
-        Page<EstadioResponseDto> estadioResponsePageDto =
-                estadioService.listarEstadios(null, pageable);
+        VersaoPaginaDto pagina = estadioService.buscarVersaoDaPagina(null, pageable);
+        Page<EstadioResponseDto> estadioResponsePageDto = estadioService.listarEstadios(pagina, null, null, pageable);
 
-        assertEquals(3, estadioResponsePageDto.getTotalElements());
-        assertEquals("Neo Química Arena", estadioResponsePageDto.getContent().get(0).getNome());
-        assertEquals("Allianz Parque", estadioResponsePageDto.getContent().get(1).getNome());
-        assertEquals("Maracanã", estadioResponsePageDto.getContent().get(2).getNome());
-
-        verify(estadioRepository).findAll(pageable);
+        assertEquals(4, estadioResponsePageDto.getTotalElements());
+        assertEquals("Allianz Parque", estadioResponsePageDto.getContent().get(0).getNome());
+        assertEquals("Maracanã", estadioResponsePageDto.getContent().get(1).getNome());
+        assertEquals("Neo Química Arena", estadioResponsePageDto.getContent().get(2).getNome());
 
     }
 
     
     @Test
-    public void testarListarEstadiosComFiltroDeNome() {
+    public void testarListarEstadiosPeloIndiceDeNomes() {
 
-        String filtroNome = "Parque";
         Pageable pageable = PageRequest.of(0, 5);
 
-        Estadio estadio1 = new Estadio("Allianz Parque");
-        estadio1.setId(1L);
-
-        Page<Estadio> estadioPage = new PageImpl<>(
-                List.of(estadio1), pageable, 1
-        );
+        Estadio estadio = new Estadio("Maracanã");
+        estadio.setId(2L);
 
-        when(estadioRepository.findByNomeContainingIgnoreCase(filtroNome, pageable))
-                .thenReturn(estadioPage);
+        when(indiceNomesService.buscarIdsDeEstadios("maraca")).thenReturn(Optional.of(List.of(2L)));
+        when(estadioRepository.buscarVersoes(any(Specification.class), eq(pageable))).thenReturn(versoes(pageable, false, 2L));
+        when(estadioRepository.findAllById(List.of(2L))).thenReturn(List.of(estadio));
 
-        Page<EstadioResponseDto> estadioResponsePageDto = estadioService.listarEstadios(filtroNome, pageable);
+        VersaoPaginaDto pagina = estadioService.buscarVersaoDaPagina("maraca", pageable);
+        Page<EstadioResponseDto> estadioResponsePageDto = estadioService.listarEstadios(pagina, "maraca", null, pageable);
 
         assertEquals(1, estadioResponsePageDto.getTotalElements());
-        assertEquals("Allianz Parque", estadioResponsePageDto.getContent().get(0).getNome());
+        assertEquals("Maracanã", estadioResponsePageDto.getContent().get(0).getNome());
 
-        verify(estadioRepository).findByNomeContainingIgnoreCase(filtroNome, pageable);
+        verify(estadioRepository, never()).count(any(Specification.class));
     }
 
     
     @Test
-    public void testarListarComPaginaVaziaDeEstadios() {
+    public void testarListarEstadiosSemCorrespondenciaNoIndiceRetornaPaginaVazia() {
 
-        Pageable pageable = PageRequest.of(0, 10);
-        when(estadioRepository.findAll(pageable))
-                .thenReturn(Page.empty(pageable));
+        Pageable pageable = PageRequest.of(0, 5);
+
+        when(indiceNomesService.buscarIdsDeEstadios("xyz")).thenReturn(Optional.of(List.of()));
 
-        Page<EstadioResponseDto> estadioResponsePageDto = estadioService.listarEstadios(null, pageable);
+        VersaoPaginaDto pagina = estadioService.buscarVersaoDaPagina("xyz", pageable);
+        Page<EstadioResponseDto> estadioResponsePageDto = estadioService.listarEstadios(pagina, "xyz", null, pageable);
 
         assertTrue(estadioResponsePageDto.isEmpty());
+        verify(estadioRepository, never()).buscarVersoes(any(), any());
+        verify(estadioRepository, never()).count(any(Specification.class));
+    }
 
-        verify(estadioRepository).findAll(pageable);
+    
+    private static Slice<VersaoRecursoDto> versoes(Pageable pageable, boolean possuiProximo, Long... ids) {
+        return new SliceImpl<>(Stream.of(ids).map(id -> new VersaoRecursoDto(id, "0", null)).toList(), pageable, possuiProximo);
+    }
 
+    private static DataIntegrityViolationException violacaoDeRestricao(String restricao) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new RuntimeException("Duplicate entry 'neo química arena' for key 'estadio." + restricao + "'"));
     }
+
 }
@@ -0,0 +1,238 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceTrigramasTest {
+
+    private static final Logger log = LoggerFactory.getLogger(IndiceTrigramasTest.class);
+
+    private final IndiceTrigramas indice = new IndiceTrigramas();
+
+    @Test
+    void testarBuscarIds_IgnoraAcentosEMaiusculas() {
+        indice.indexar(1L, "São Paulo");
+        indice.indexar(2L, "Grêmio");
+        indice.indexar(3L, "Paulista de Jundiaí");
+
+        assertEquals(List.of(1L, 3L), ordenados(indice.buscarIds("PAUL", 10)));
+        assertEquals(List.of(1L), indice.buscarIds("SAO PAU", 10));
+        assertEquals(List.of(2L), indice.buscarIds("gremio", 10));
+        assertEquals(List.of(3L), indice.buscarIds("jundiai", 10));
+        assertEquals(List.of(2L, 3L), ordenados(indice.buscarIds("ê", 10)));
+        assertTrue(indice.buscarIds("palmeiras", 10).isEmpty());
+    }
+
+    @Test
+    void testarBuscarIds_ConfirmaASubstringAposIntersectarOsTrigramas() {
+        indice.indexar(1L, "Bahia abc");
+        indice.indexar(2L, "abcbahia");
+
+        assertEquals(List.of(2L), indice.buscarIds("cbah", 10));
+    }
+
+    @Test
+    void testarBuscarIds_RetornaNuloQuandoUltrapassaOMaximo() {
+        for (long id = 1; id <= 5; id++) {
+            indice.indexar(id, "Esporte Clube " + id);
+        }
+
+        assertNull(indice.buscarIds("clube", 4));
+        assertEquals(5, indice.buscarIds("clube", 5).size());
+    }
+
+    @Test
+    void testarSubstituir_PreservaAlteracoesFeitasDuranteARecarga() {
+        indice.indexar(1L, "Palestra Itália");
+        indice.indexar(2L, "Ypiranga");
+
+        indice.iniciarRecarga();
+        Map<Long, String> instantaneo = Map.of(1L, "Palestra Itália", 2L, "Ypiranga");
+        indice.indexar(1L, "Palmeiras");
+        indice.indexar(3L, "Juventus");
+        indice.remover(2L);
+        indice.substituir(instantaneo);
+
+        assertEquals(List.of(1L), indice.buscarIds("palmeiras", 10));
+        assertTrue(indice.buscarIds("palestra", 10).isEmpty());
+        assertEquals(List.of(3L), indice.buscarIds("juventus", 10));
+        assertTrue(indice.buscarIds("ypiranga", 10).isEmpty());
+        assertEquals(2, indice.tamanho());
+
+        indice.substituir(Map.of(4L, "Portuguesa"));
+
+        assertTrue(indice.buscarIds("palmeiras", 10).isEmpty());
+        assertEquals(1, indice.tamanho());
+    }
+
+    @Test
+    void testarIndexar_SubstituiONomeAnteriorERemove() {
+        indice.indexar(1L, "Palestra Itália");
+        indice.indexar(1L, "Palmeiras");
+
+        assertTrue(indice.buscarIds("palestra", 10).isEmpty());
+        assertEquals(List.of(1L), indice.buscarIds("palmeiras", 10));
+
+        indice.remover(1L);
+
+        assertTrue(indice.buscarIds("palmeiras", 10).isEmpty());
+        assertEquals(0, indice.tamanho());
+    }
+
+    @Test
+    void testarIndexar_CompactaAposMuitasRemocoes() {
+        for (long id = 1; id <= 5_000; id++) {
+            indice.indexar(id, "Clube " + id);
+        }
+        for (long id = 1; id <= 5_000; id++) {
+            indice.indexar(id, "Time " + id);
+        }
+
+        assertEquals(5_000, indice.tamanho());
+        assertEquals(List.of(4321L), indice.buscarIds("time 4321", 10));
+        assertTrue(indice.buscarIds("clube", 10).isEmpty());
+    }
+
+    @Test
+    void testarBuscarRanqueado_PriorizaNomeExatoPrefixoEInicioDePalavra() {
+        indice.indexar(1L, "Atlético Mineiro");
+        indice.indexar(2L, "Clube Atlético Paranaense");
+        indice.indexar(3L, "Atlético");
+        indice.indexar(4L, "Antiatlético");
+        indice.indexar(5L, "Atlético Goianiense");
+
+        List<Long> ids = indice.buscarRanqueado("atletico", 10).stream().map(IndiceTrigramas.Ocorrencia::id).toList();
+
+        assertEquals(List.of(3L, 1L, 5L, 2L, 4L), ids);
+        assertEquals(2, indice.buscarRanqueado("atletico", 2).size());
+        assertEquals("Atlético", indice.buscarRanqueado("ATLÉTICO", 1).get(0).nome());
+    }
+
+    @Test
+    void testarBuscarRanqueado_EquivaleAOrdenarTodosOsNomes() {
+        String[] palavras = {"esporte", "clube", "sport", "club", "atletico", "uniao", "sao", "jose", "campinas", "ferroviaria", "santa", "cruz", "america", "bahia", "ria"};
+        Random random = new Random(7);
+
+        Map<Long, String> nomes = new HashMap<>();
+        for (long id = 1; id <= 6_000; id++) {
+            nomes.put(id, nomeAleatorio(palavras, random));
+        }
+        indice.substituir(nomes);
+        for (long id = 6_001; id <= 6_500; id++) {
+            String nome = nomeAleatorio(palavras, random);
+            nomes.put(id, nome);
+            indice.indexar(id, nome);
+        }
+        for (long id = 1; id <= 300; id++) {
+            String nome = nomeAleatorio(palavras, random);
+            nomes.put(id, nome);
+            indice.indexar(id, nome);
+        }
+
+        List<String> termos = new ArrayList<>(List.of("a", "c", "ub", "ria", "ao j", "clube ", "e clube s", "sport", "ria bahia", "zzz"));
+        List<String> lista = new ArrayList<>(nomes.values());
+        for (int i = 0; i < 300; i++) {
+            String nome = IndiceTrigramas.normalizar(lista.get(random.nextInt(lista.size())));
+            int inicio = random.nextInt(nome.length() - 1);
+            termos.add(nome.substring(inicio, Math.min(nome.length(), inicio + 1 + random.nextInt(10))));
+        }
+
+        for (String termo : termos) {
+            String normalizado = IndiceTrigramas.normalizar(termo);
+            List<Long> esperados = nomes.entrySet().stream()
+                    .map(entrada -> ocorrencia(entrada.getKey(), entrada.getValue(), normalizado))
+                    .filter(ocorrencia -> ocorrencia != null)
+                    .sorted(IndiceTrigramas.RELEVANCIA)
+                    .limit(10)
+                    .map(IndiceTrigramas.Ocorrencia::id)
+                    .toList();
+
+            assertEquals(esperados, indice.buscarRanqueado(termo, 10).stream().map(IndiceTrigramas.Ocorrencia::id).toList(), termo);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testarBuscarRanqueado_CemMilNomesMedeP50EP99() {
+        String[] prefixos = {"Esporte Clube", "Sport Club", "Associação Atlética", "Clube Atlético", "Grêmio", "União", "América", "Botafogo", "Ferroviário", "Independente"};
+        String[] cidades = {"São José", "Campinas", "Itajaí", "Maringá", "Uberlândia", "Petrópolis", "Juazeiro", "Ribeirão", "Caxias", "Anápolis", "Cuiabá", "Macaé", "Taubaté", "Bragança", "Goiânia"};
+        Random random = new Random(42);
+
+        Map<Long, String> nomes = new HashMap<>();
+        for (long id = 1; id <= 100_000; id++) {
+            nomes.put(id, prefixos[random.nextInt(prefixos.length)] + " " + cidades[random.nextInt(cidades.length)] + " " + Long.toString(id * 7919, 36));
+        }
+        indice.substituir(nomes);
+
+        List<String> termos = new ArrayList<>();
+        List<String> lista = new ArrayList<>(nomes.values());
+        for (int i = 0; i < 2_000; i++) {
+            String nome = IndiceTrigramas.normalizar(lista.get(random.nextInt(lista.size())));
+            int inicio = random.nextInt(nome.length() - 3);
+            termos.add(nome.substring(inicio, Math.min(nome.length(), inicio + 3 + random.nextInt(6))));
+        }
+
+        for (int aquecimento = 0; aquecimento < 15; aquecimento++) {
+            for (String termo : termos) {
+                indice.buscarRanqueado(termo, 10);
+            }
+        }
+
+        long[] tempos = new long[termos.size()];
+        for (int i = 0; i < termos.size(); i++) {
+            long inicio = System.nanoTime();
+            indice.buscarRanqueado(termos.get(i), 10);
+            tempos[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(tempos);
+        long p50 = tempos[tempos.length / 2];
+        long p99 = tempos[(int) (tempos.length * 0.99)];
+        log.info("Busca ranqueada em {} nomes: p50 {} µs, p99 {} µs", nomes.size(), p50 / 1_000, p99 / 1_000);
+
+        String termo = "taubate 1";
+        long esperados = nomes.values().stream().filter(nome -> IndiceTrigramas.normalizar(nome).contains(termo)).count();
+        assertEquals(esperados, indice.buscarIds(termo, 100_000).size());
+    }
+
+    private static String nomeAleatorio(String[] palavras, Random random) {
+        StringBuilder nome = new StringBuilder(palavras[random.nextInt(palavras.length)]);
+        for (int i = random.nextInt(4); i > 0; i--) {
+            nome.append(' ').append(palavras[random.nextInt(palavras.length)]);
+        }
+        return nome.toString();
+    }
+
+    private static IndiceTrigramas.Ocorrencia ocorrencia(long id, String nome, String termo) {
+        String normalizado = IndiceTrigramas.normalizar(nome);
+        int primeira = normalizado.indexOf(termo);
+        if (primeira < 0) {
+            return null;
+        }
+        if (primeira == 0) {
+            int categoria = normalizado.equals(termo) ? IndiceTrigramas.EXATO : IndiceTrigramas.PREFIXO;
+            return new IndiceTrigramas.Ocorrencia(id, nome, normalizado, categoria, 0);
+        }
+        for (int posicao = primeira; posicao >= 0; posicao = normalizado.indexOf(termo, posicao + 1)) {
+            if (normalizado.charAt(posicao - 1) == ' ') {
+                return new IndiceTrigramas.Ocorrencia(id, nome, normalizado, IndiceTrigramas.INICIO_DE_PALAVRA, posicao);
+            }
+        }
+        return new IndiceTrigramas.Ocorrencia(id, nome, normalizado, IndiceTrigramas.CONTIDO, primeira);
+    }
+
+    private static List<Long> ordenados(List<Long> ids) {
+        return ids.stream().sorted().toList();
+    }
+
+}
@@ -0,0 +1,147 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaImportacaoProgressoDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaLoteErroDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaLoteResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaRequestDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.exceptions.EntityBadRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartidaImportacaoServiceTest {
+
+    @Mock
+    private PartidaService partidaService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private PartidaImportacaoService partidaImportacaoService;
+
+    private final List<PartidaImportacaoProgressoDto> progresso = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+
+        partidaImportacaoService = new PartidaImportacaoService(partidaService, entityManager, objectMapper, 2);
+    }
+
+    @Test
+    void testarImportarPartidas_NdjsonProcessadoEmLotes() throws Exception {
+        when(partidaService.cadastrarPartidasEmLote(anyList())).thenAnswer(invocation -> {
+            List<PartidaRequestDto> lote = invocation.getArgument(0);
+            List<PartidaResponseDto> cadastradas = lote.stream().map(partida -> new PartidaResponseDto()).toList();
+            return new PartidaLoteResponseDto(cadastradas, new ArrayList<>());
+        });
+
+        String conteudo = """
+                {"clubeMandanteId":1,"clubeVisitanteId":2,"clubeMandanteGols":1,"clubeVisitanteGols":0,"estadioId":1,"dataHora":"2025-01-10T15:00:00"}
+                {"clubeMandanteId":3,"clubeVisitanteId":4,"clubeMandanteGols":1,"clubeVisitanteGols":0,"estadioId":2,"dataHora":"2025-01-10T15:00:00"}
+
+                {"clubeMandanteId":5,"clubeVisitanteId":6,"clubeMandanteGols":1,"clubeVisitanteGols":0,"estadioId":3,"dataHora":"2025-01-10T15:00:00"}
+                """;
+
+        partidaImportacaoService.importarPartidas(entrada(conteudo), PartidaImportacaoService.APPLICATION_NDJSON, progresso::add);
+
+        assertEquals(2, progresso.size());
+        assertEquals(2, progresso.get(0).getPartidasCadastradasNoLote());
+        assertEquals(1, progresso.get(1).getPartidasCadastradasNoLote());
+        assertEquals(3, progresso.get(1).getTotalPartidasCadastradas());
+        assertEquals(4, progresso.get(1).getLinhasProcessadas());
+
+        verify(partidaService, times(2)).cadastrarPartidasEmLote(anyList());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void testarImportarPartidas_CsvComErrosPorLinha() throws Exception {
+        when(partidaService.cadastrarPartidasEmLote(anyList())).thenReturn(new PartidaLoteResponseDto(
+                new ArrayList<>(),
+                new ArrayList<>(List.of(new PartidaLoteErroDto(0, "Clube mandante não encontrado")))));
+
+        String conteudo = """
+                clubeMandanteId,clubeVisitanteId,clubeMandanteGols,clubeVisitanteGols,estadioId,dataHora
+                99,2,1,0,1,2025-01-10T15:00:00
+                1,2,um,0,1,2025-01-10T15:00:00
+                """;
+
+        partidaImportacaoService.importarPartidas(entrada(conteudo), PartidaImportacaoService.TEXT_CSV, progresso::add);
+
+        assertEquals(1, progresso.size());
+        List<PartidaLoteErroDto> erros = progresso.get(0).getErros();
+        assertEquals(2, erros.size());
+        assertEquals(2, erros.get(0).getIndice());
+        assertEquals("Clube mandante não encontrado", erros.get(0).getMensagem());
+        assertEquals(3, erros.get(1).getIndice());
+        assertEquals("Linha CSV com valor inválido", erros.get(1).getMensagem());
+
+        ArgumentCaptor<List<PartidaRequestDto>> lote = ArgumentCaptor.forClass(List.class);
+        verify(partidaService).cadastrarPartidasEmLote(lote.capture());
+        assertEquals(LocalDateTime.of(2025, 1, 10, 15, 0), lote.getValue().get(0).getDataHora());
+    }
+
+    @Test
+    void testarImportarPartidas_CsvExportadoComAspasEVirgulasNosNomes() throws Exception {
+        when(partidaService.cadastrarPartidasEmLote(anyList())).thenReturn(new PartidaLoteResponseDto(new ArrayList<>(), new ArrayList<>()));
+
+        String conteudo = """
+                partidaId,clubeMandanteId,clubeMandanteNome,clubeVisitanteId,clubeVisitanteNome,clubeMandanteGols,clubeVisitanteGols,estadioId,estadioNome,dataHora
+                7,3,"Atlético, ""Galo""\",1,Corinthians,2,1,4,"Arena
+                MRV",2025-01-10T15:00:00
+                8,1,Corinthians,3,"Atlético, ""Galo""\",0,0,4,"Arena MRV,2025-01-11T15:00:00
+                """;
+
+        partidaImportacaoService.importarPartidas(entrada(conteudo), PartidaImportacaoService.TEXT_CSV, progresso::add);
+
+        ArgumentCaptor<List<PartidaRequestDto>> lote = ArgumentCaptor.forClass(List.class);
+        verify(partidaService).cadastrarPartidasEmLote(lote.capture());
+        PartidaRequestDto partida = lote.getValue().get(0);
+        assertEquals(1, lote.getValue().size());
+        assertEquals(3L, partida.getClubeMandanteId());
+        assertEquals(1L, partida.getClubeVisitanteId());
+        assertEquals(2, partida.getClubeMandanteGols());
+        assertEquals(4L, partida.getEstadioId());
+        assertEquals(LocalDateTime.of(2025, 1, 10, 15, 0), partida.getDataHora());
+
+        List<PartidaLoteErroDto> erros = progresso.get(0).getErros();
+        assertEquals(1, erros.size());
+        assertEquals(4, erros.get(0).getIndice());
+        assertEquals("Linha CSV com aspas não fechadas", erros.get(0).getMensagem());
+        assertEquals(4, progresso.get(0).getLinhasProcessadas());
+    }
+
+    @Test
+    void testarImportarPartidas_FormatoNaoSuportado() {
+        assertThrows(EntityBadRequestException.class, () ->
+                partidaImportacaoService.importarPartidas(entrada("[]"), MediaType.APPLICATION_JSON, progresso::add));
+    }
+
+    private ByteArrayInputStream entrada(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -1,10 +1,22 @@
 package br.com.neocamp.partidas_futebol.service;
 
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaCursorDto;
+import br.com.neocamp.partidas_futebol.dto.paginacaoDto.PaginaFatiaDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.ConfrontoDiretoResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.ConfrontoDiretoResumoDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaAgendaDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaLoteResponseDto;
+import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaReferenciaDto;
 import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaRequestDto;
 import br.com.neocamp.partidas_futebol.dto.partidaDto.PartidaResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoPaginaDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.VersaoRecursoDto;
 import br.com.neocamp.partidas_futebol.entity.Clube;
 import br.com.neocamp.partidas_futebol.entity.Estadio;
 import br.com.neocamp.partidas_futebol.entity.Partida;
+import br.com.neocamp.partidas_futebol.enums.ModoPaginacao;
+import br.com.neocamp.partidas_futebol.exceptions.EntityBadRequestException;
+import br.com.neocamp.partidas_futebol.exceptions.EntityConflictException;
 import br.com.neocamp.partidas_futebol.repository.ClubeRepository;
 import br.com.neocamp.partidas_futebol.repository.EstadioRepository;
 import br.com.neocamp.partidas_futebol.repository.PartidaRepository;
@@ -15,15 +27,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +63,24 @@ class PartidaServiceTest {
     @Mock
     private EstadioRepository estadioRepository;
 
+    @Mock
+    private ClassificacaoService classificacaoService;
+
+    @Mock
+    private ConfrontoDiretoService confrontoDiretoService;
+
+    @Mock
+    private ClubeEstatisticaService clubeEstatisticaService;
+
+    @Mock
+    private ContagemPaginacaoService contagemPaginacaoService;
+
+    @Mock
+    private CacheReferenciaService cacheReferenciaService;
+
+    @Mock
+    private RespostaSerializadaService respostaSerializadaService;
+
     @InjectMocks
     private PartidaService partidaService;
 
@@ -92,7 +135,7 @@ class PartidaServiceTest {
 
     @Test
     void testarBuscarPartidaPorId() {
-        when(partidaRepository.findById(1L)).thenReturn(Optional.of(partida));
+        when(partidaRepository.buscarPorIdComRelacionamentos(1L)).thenReturn(Optional.of(partida));
 
         partidaResponse = partidaService.buscarPartidaPorId(1L);
 
@@ -108,12 +151,12 @@ class PartidaServiceTest {
         assertEquals("Neo Química Arena", partidaResponse.getEstadioNome());
         assertEquals(LocalDateTime.of(2025, 1, 10, 15, 0), partidaResponse.getDataHora());
 
-        verify(partidaRepository).findById(1L);
+        verify(partidaRepository).buscarPorIdComRelacionamentos(1L);
     }
 
     @Test
     void testarBuscarPartidaPorId_PartidaNaoEncontrada() {
-        when(partidaRepository.findById(999L)).thenReturn(Optional.empty());
+        when(partidaRepository.buscarPorIdComRelacionamentos(999L)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
@@ -122,14 +165,12 @@ class PartidaServiceTest {
 
         assertEquals("Partida não encontrada", exception.getMessage());
 
-        verify(partidaRepository).findById(999L);
+        verify(partidaRepository).buscarPorIdComRelacionamentos(999L);
     }
 
     @Test
     void testarCadastrarPartida_Sucesso() {
-        when(clubeRepository.findById(1L)).thenReturn(Optional.of(clubeMandante));
-        when(clubeRepository.findById(2L)).thenReturn(Optional.of(clubeVisitante));
-        when(estadioRepository.findById(1L)).thenReturn(Optional.of(estadio));
+        when(buscarReferencias(null)).thenReturn(referencias(1L));
 
         Partida partidaSalva = new Partida();
         partidaSalva.setClubeMandante(clubeMandante);
@@ -139,6 +180,9 @@ class PartidaServiceTest {
         partidaSalva.setEstadio(estadio);
         partidaSalva.setDataHora(LocalDateTime.of(2025, 1, 10, 15, 0));
 
+        when(clubeRepository.getReferenceById(1L)).thenReturn(clubeMandante);
+        when(clubeRepository.getReferenceById(2L)).thenReturn(clubeVisitante);
+        when(estadioRepository.getReferenceById(1L)).thenReturn(estadio);
         when(partidaRepository.save(any(Partida.class))).thenReturn(partidaSalva);
 
         partidaResponse = partidaService.cadastrarPartida(partidaRequestDto);
@@ -155,10 +199,259 @@ class PartidaServiceTest {
         assertEquals(LocalDateTime.of(2025, 1, 10, 15, 0), partidaResponse.getDataHora());
 
         verify(partidaRepository).save(any(Partida.class));
-        verify(clubeRepository).findById(1L);
-        verify(clubeRepository).findById(2L);
-        verify(estadioRepository).findById(1L);
+        verify(classificacaoService).registrarPartida(partidaSalva);
+        verify(confrontoDiretoService).invalidar(1L, 2L);
+        verify(classificacaoService).atualizarNomeClube(1L, "Corinthians");
+        verify(classificacaoService).atualizarNomeClube(2L, "São Paulo Futebol Clube");
+        verify(clubeRepository).buscarReferenciasDePartida(List.of(1L, 2L), 1L,
+                LocalDateTime.of(2025, 1, 8, 15, 0), LocalDateTime.of(2025, 1, 12, 15, 0), LocalDate.of(2025, 1, 10), null);
+        verify(clubeRepository, never()).findById(any());
+        verify(estadioRepository, never()).findById(any());
+        verifyNoInteractions(cacheReferenciaService);
+
+    }
+
+    @Test
+    void testarCadastrarPartida_ClubeVisitanteNaoEncontrado() {
+        when(buscarReferencias(null)).thenReturn(referencias(1L).subList(0, 1));
+
+        EntityNotFoundException exception = assertThrows(
+                EntityNotFoundException.class,
+                () -> partidaService.cadastrarPartida(partidaRequestDto)
+        );
+
+        assertEquals("Clube visitante não encontrado", exception.getMessage());
+        verify(partidaRepository, never()).save(any(Partida.class));
+    }
+
+    @Test
+    void testarCadastrarPartida_EstadioNaoEncontrado() {
+        when(buscarReferencias(null)).thenReturn(referencias(null));
+
+        EntityNotFoundException exception = assertThrows(
+                EntityNotFoundException.class,
+                () -> partidaService.cadastrarPartida(partidaRequestDto)
+        );
+
+        assertEquals("Estádio não encontrado", exception.getMessage());
+        verify(partidaRepository, never()).save(any(Partida.class));
+    }
+
+    @Test
+    void testarCadastrarPartida_CamposObrigatoriosValidadosAntesDeConsultar() {
+        partidaRequestDto.setEstadioId(null);
+
+        EntityBadRequestException exception = assertThrows(
+                EntityBadRequestException.class,
+                () -> partidaService.cadastrarPartida(partidaRequestDto)
+        );
+
+        assertEquals("Todos os campos são obrigatórios e não podem ser vazios", exception.getMessage());
+        verifyNoInteractions(clubeRepository, estadioRepository);
+    }
+
+    @Test
+    void testarCadastrarPartida_ClubeMandanteComPartidaFora_EmMenosDe48Horas() {
+        when(buscarReferencias(null)).thenReturn(referencias(1L, true, false));
+
+        EntityConflictException exception = assertThrows(
+                EntityConflictException.class,
+                () -> partidaService.cadastrarPartida(partidaRequestDto)
+        );
+
+        assertEquals("Clube mandante já possui outra partida em menos de 48 horas", exception.getMessage());
+        verify(partidaRepository, never()).save(any(Partida.class));
+    }
+
+    @Test
+    void testarCadastrarPartida_EstadioComPartidaNoMesmoDia() {
+        when(buscarReferencias(null)).thenReturn(referencias(1L, false, true));
+
+        EntityConflictException exception = assertThrows(
+                EntityConflictException.class,
+                () -> partidaService.cadastrarPartida(partidaRequestDto)
+        );
+
+        assertEquals("Estádio já possui outra partida no mesmo dia", exception.getMessage());
+        verify(partidaRepository, never()).save(any(Partida.class));
+    }
+
+    @Test
+    void testarAtualizarPartida_IgnoraAPropriaPartidaNoIntervalo() {
+        when(partidaRepository.findById(1L)).thenReturn(Optional.of(partida));
+        when(buscarReferencias(1L)).thenReturn(referencias(1L));
+        when(clubeRepository.getReferenceById(1L)).thenReturn(clubeMandante);
+        when(clubeRepository.getReferenceById(2L)).thenReturn(clubeVisitante);
+        when(estadioRepository.getReferenceById(1L)).thenReturn(estadio);
+        when(partidaRepository.save(any(Partida.class))).thenReturn(partida);
 
+        partidaResponse = partidaService.atualizarPartidaPorId(1L, partidaRequestDto);
+
+        assertNotNull(partidaResponse);
+        verify(clubeRepository).buscarReferenciasDePartida(
+                List.of(1L, 2L),
+                1L,
+                LocalDateTime.of(2025, 1, 8, 15, 0),
+                LocalDateTime.of(2025, 1, 12, 15, 0),
+                LocalDate.of(2025, 1, 10),
+                1L);
+    }
+
+    @Test
+    void testarCadastrarPartidasEmLote_RetornaErrosPorItem() {
+        Clube clubeTerceiro = new Clube(3L, "Santos", "SP", LocalDate.of(1912, 4, 14), true);
+        Estadio outroEstadio = new Estadio(2L, "Vila Belmiro");
+
+        when(clubeRepository.findAllById(anyCollection())).thenReturn(List.of(clubeMandante, clubeVisitante, clubeTerceiro));
+        when(estadioRepository.findAllById(anyCollection())).thenReturn(List.of(estadio, outroEstadio));
+        when(partidaRepository.buscarAgendaNoIntervalo(anyCollection(), anyCollection(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+        when(partidaRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PartidaRequestDto partidaMesmoDiaEClubeMandante = new PartidaRequestDto(1L, 3L, 0, 0, 2L, LocalDateTime.of(2025, 1, 11, 15, 0));
+        PartidaRequestDto partidaClubeInexistente = new PartidaRequestDto(99L, 3L, 0, 0, 2L, LocalDateTime.of(2025, 2, 1, 15, 0));
+        PartidaRequestDto partidaValida = new PartidaRequestDto(3L, 2L, 1, 1, 2L, LocalDateTime.of(2025, 1, 20, 15, 0));
+
+        PartidaLoteResponseDto resultado = partidaService.cadastrarPartidasEmLote(
+                List.of(partidaRequestDto, partidaMesmoDiaEClubeMandante, partidaClubeInexistente, partidaValida));
+
+        assertEquals(2, resultado.getPartidasCadastradas().size());
+        assertEquals(2, resultado.getErros().size());
+        assertEquals(1, resultado.getErros().get(0).getIndice());
+        assertEquals("Clube mandante já possui outra partida em menos de 48 horas", resultado.getErros().get(0).getMensagem());
+        assertEquals(2, resultado.getErros().get(1).getIndice());
+        assertEquals("Clube mandante não encontrado", resultado.getErros().get(1).getMensagem());
+
+        verify(clubeRepository).findAllById(anyCollection());
+        verify(estadioRepository).findAllById(anyCollection());
+        verify(partidaRepository).saveAll(anyList());
+        verify(partidaRepository, never()).save(any(Partida.class));
+    }
+
+    @Test
+    void testarCadastrarPartidasEmLote_ConsideraPartidasJaCadastradas() {
+        when(clubeRepository.findAllById(anyCollection())).thenReturn(List.of(clubeMandante, clubeVisitante));
+        when(estadioRepository.findAllById(anyCollection())).thenReturn(List.of(estadio));
+        when(partidaRepository.buscarAgendaNoIntervalo(anyCollection(), anyCollection(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(new PartidaAgendaDto(10L, 5L, 6L, 1L, LocalDateTime.of(2025, 1, 10, 10, 0))));
+        when(partidaRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        PartidaLoteResponseDto resultado = partidaService.cadastrarPartidasEmLote(List.of(partidaRequestDto));
+
+        assertTrue(resultado.getPartidasCadastradas().isEmpty());
+        assertEquals("Estádio já possui outra partida no mesmo dia", resultado.getErros().get(0).getMensagem());
+    }
+
+    @Test
+    void testarBuscarConfrontoDireto_ClubesIguais() {
+        EntityBadRequestException exception = assertThrows(
+                EntityBadRequestException.class,
+                () -> partidaService.buscarConfrontoDireto(1L, 1L, PageRequest.of(0, 10))
+        );
+
+        assertEquals("Informe dois clubes diferentes para o confronto direto", exception.getMessage());
+    }
+
+    @Test
+    void testarBuscarConfrontoDireto_ResumoEPartidas() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(cacheReferenciaService.existeClube(1L)).thenReturn(true);
+        when(cacheReferenciaService.existeClube(2L)).thenReturn(true);
+        when(confrontoDiretoService.buscarResumo(1L, 2L)).thenReturn(new ConfrontoDiretoResumoDto(1, 1, 0, 0, 2, 1));
+        when(partidaRepository.buscarConfrontoDireto(1L, 2L, pageable)).thenReturn(new PageImpl<>(List.of(partida), pageable, 1));
+
+        ConfrontoDiretoResponseDto confronto = partidaService.buscarConfrontoDireto(1L, 2L, pageable);
+
+        assertEquals(1, confronto.getTotalPartidas());
+        assertEquals(1, confronto.getVitoriasClubeA());
+        assertEquals(2, confronto.getGolsClubeA());
+        assertEquals(1, confronto.getPartidas().getTotalElementos());
+        assertEquals("Corinthians", confronto.getPartidas().getConteudo().get(0).getClubeMandanteNome());
+    }
+
+    @Test
+    void testarListarPartidasPorCursor_ProximoCursorApontaParaUltimaPartida() {
+        when(partidaRepository.buscarPaginaPorCursor(any(), eq(Limit.of(2))))
+                .thenReturn(List.of(partida, partida))
+                .thenReturn(List.of());
+
+        PaginaCursorDto<PartidaResponseDto> primeiraPagina = partidaService.listarPartidasPorCursor(null, null, null, null, 1);
+
+        assertEquals(1, primeiraPagina.getConteudo().size());
+        assertTrue(primeiraPagina.isPossuiProximo());
+
+        PaginaCursorDto<PartidaResponseDto> segundaPagina = partidaService.listarPartidasPorCursor(null, null, null, primeiraPagina.getProximoCursor(), 1);
+
+        assertTrue(segundaPagina.getConteudo().isEmpty());
+        assertNull(segundaPagina.getProximoCursor());
+    }
+
+    @Test
+    void testarListarPartidasComCampos_CampoDesconhecidoRetornaBadRequestSemConsultar() {
+        when(partidaRepository.camposDePartida()).thenReturn(new LinkedHashSet<>(List.of("partidaId", "dataHora")));
+
+        EntityBadRequestException exception = assertThrows(
+                EntityBadRequestException.class,
+                () -> partidaService.listarPartidas(
+                        new VersaoPaginaDto(new VersaoRecursoDto(null, "0", null), List.of(), false), null, null, null, Set.of("placar"), PageRequest.of(0, 10))
+        );
+
+        assertEquals("Campos inválidos em fields: placar. Disponíveis: partidaId, dataHora", exception.getMessage());
+        verify(partidaRepository, never()).buscarPartidasParciais(any(), any(), any());
+    }
+
+    @Test
+    void testarListarPartidasPorCursor_CursorInvalido() {
+        EntityBadRequestException exception = assertThrows(
+                EntityBadRequestException.class,
+                () -> partidaService.listarPartidasPorCursor(null, null, null, "bm90LWRhdGE6eA", 10)
+        );
+
+        assertEquals("Cursor inválido", exception.getMessage());
+        verify(partidaRepository, never()).buscarPaginaPorCursor(any(), any());
+    }
+
+    @Test
+    void testarListarPartidasSemContagem_EstimaTotalApenasSemFiltros() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(partidaRepository.buscarPartidasPorFatia(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(partida), pageable, true))
+                .thenReturn(new SliceImpl<>(List.of(partida), pageable, false));
+        when(contagemPaginacaoService.estimarTotal(eq(ContagemPaginacaoService.PARTIDA), any())).thenReturn(120L);
+
+        PaginaFatiaDto<PartidaResponseDto> pagina = partidaService.listarPartidasSemContagem(null, null, null, pageable, ModoPaginacao.ESTIMADO);
+
+        assertEquals(1, pagina.getConteudo().size());
+        assertTrue(pagina.isPossuiProximo());
+        assertEquals(120L, pagina.getTotalEstimado());
+        verify(partidaRepository, never()).count();
+        verify(contagemPaginacaoService).registrarContagemEvitada(ContagemPaginacaoService.PARTIDA, ModoPaginacao.ESTIMADO);
+
+        when(cacheReferenciaService.existeEstadio(1L)).thenReturn(true);
+
+        PaginaFatiaDto<PartidaResponseDto> filtrada = partidaService.listarPartidasSemContagem(null, null, 1L, pageable, ModoPaginacao.ESTIMADO);
+
+        assertNull(filtrada.getTotalEstimado());
+        assertFalse(filtrada.isPossuiProximo());
+    }
+
+    private List<PartidaReferenciaDto> buscarReferencias(Long partidaIdIgnorada) {
+        return clubeRepository.buscarReferenciasDePartida(List.of(1L, 2L), 1L,
+                LocalDateTime.of(2025, 1, 8, 15, 0), LocalDateTime.of(2025, 1, 12, 15, 0), LocalDate.of(2025, 1, 10), partidaIdIgnorada);
+    }
+
+    private List<PartidaReferenciaDto> referencias(Long estadioId) {
+        return referencias(estadioId, false, false);
+    }
+
+    private List<PartidaReferenciaDto> referencias(Long estadioId, boolean mandanteNoIntervalo, boolean estadioOcupado) {
+        String estadioNome = estadioId == null ? null : estadio.getNome();
+        return List.of(
+                new PartidaReferenciaDto(1L, clubeMandante.getNome(), clubeMandante.getDataCriacao(), clubeMandante.getAtivo(), estadioId, estadioNome,
+                        mandanteNoIntervalo, estadioOcupado),
+                new PartidaReferenciaDto(2L, clubeVisitante.getNome(), clubeVisitante.getDataCriacao(), clubeVisitante.getAtivo(), estadioId, estadioNome,
+                        false, estadioOcupado)
+        );
     }
 
 }
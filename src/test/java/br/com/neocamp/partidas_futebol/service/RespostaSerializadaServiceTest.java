@@ -0,0 +1,87 @@
+package br.com.neocamp.partidas_futebol.service;
+
+import br.com.neocamp.partidas_futebol.dto.estadioDto.EstadioResponseDto;
+import br.com.neocamp.partidas_futebol.dto.versaoDto.RecursoVersionadoDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RespostaSerializadaServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RespostaSerializadaService respostaSerializadaService =
+            new RespostaSerializadaService(new CodificadorRespostas(new ObjectMapper()), meterRegistry, 100, Duration.ofMinutes(10));
+
+    @Test
+    void testarBuscar_SerializaApenasNaPrimeiraVez() {
+        AtomicInteger carregamentos = new AtomicInteger();
+
+        RespostaSerializada primeira = respostaSerializadaService.buscar(RespostaSerializadaService.ESTADIO, 1L, "0",
+                () -> { carregamentos.incrementAndGet(); return new RecursoVersionadoDto<>("0", new EstadioResponseDto(1L, "Morumbi")); });
+        RespostaSerializada segunda = respostaSerializadaService.buscar(RespostaSerializadaService.ESTADIO, 1L, "0",
+                () -> { carregamentos.incrementAndGet(); return new RecursoVersionadoDto<>("0", new EstadioResponseDto(1L, "Outro")); });
+
+        assertSame(primeira, segunda);
+        assertEquals("{\"id\":1,\"nome\":\"Morumbi\"}", new String(segunda.getCorpo(), StandardCharsets.UTF_8));
+        assertEquals(1, carregamentos.get());
+    }
+
+    @Test
+    void testarInvalidar_DescartaSomenteORecursoInformado() {
+        respostaSerializadaService.buscar(RespostaSerializadaService.ESTADIO, 1L, "0", () -> new RecursoVersionadoDto<>("0", new EstadioResponseDto(1L, "Morumbi")));
+        respostaSerializadaService.buscar(RespostaSerializadaService.CLUBE, 1L, "0", () -> new RecursoVersionadoDto<>("0", new EstadioResponseDto(1L, "Clube")));
+
+        respostaSerializadaService.invalidar(RespostaSerializadaService.ESTADIO, 1L);
+
+        assertEquals("{\"id\":1,\"nome\":\"Pacaembu\"}", new String(respostaSerializadaService.buscar(RespostaSerializadaService.ESTADIO, 1L, "0",
+                () -> new RecursoVersionadoDto<>("0", new EstadioResponseDto(1L, "Pacaembu"))).getCorpo(), StandardCharsets.UTF_8));
+        assertEquals("{\"id\":1,\"nome\":\"Clube\"}", new String(respostaSerializadaService.buscar(RespostaSerializadaService.CLUBE, 1L, "0",
+                () -> fail("Clube não deveria ser recarregado")).getCorpo(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testarBuscar_SerializaNovamenteQuandoAVersaoMuda() {
+        respostaSerializadaService.buscar(RespostaSerializadaService.PARTIDA, 1L, "1.0.0.0", () -> new RecursoVersionadoDto<>("1.0.0.0", new EstadioResponseDto(1L, "A")));
+
+        RespostaSerializada atualizada = respostaSerializadaService.buscar(RespostaSerializadaService.PARTIDA, 1L, "1.1.0.0",
+                () -> new RecursoVersionadoDto<>("1.1.0.0", new EstadioResponseDto(1L, "B")));
+        RespostaSerializada reaproveitada = respostaSerializadaService.buscar(RespostaSerializadaService.PARTIDA, 1L, "1.1.0.0",
+                () -> fail("Versão já serializada não deveria ser recarregada"));
+
+        assertSame(atualizada, reaproveitada);
+        assertEquals("1.1.0.0", reaproveitada.getVersao());
+        assertEquals("{\"id\":1,\"nome\":\"B\"}", new String(reaproveitada.getCorpo(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testarBuscar_GuardaAVersaoLidaJuntoComOConteudo() {
+        RespostaSerializada resposta = respostaSerializadaService.buscar(RespostaSerializadaService.ESTADIO, 1L, "1",
+                () -> new RecursoVersionadoDto<>("2", new EstadioResponseDto(1L, "Morumbi Reformado")));
+
+        assertEquals("2", resposta.getVersao());
+        assertSame(resposta, respostaSerializadaService.buscar(RespostaSerializadaService.ESTADIO, 1L, "2",
+                () -> fail("Versão já serializada não deveria ser recarregada")));
+    }
+
+    @Test
+    void testarJsonGzip_DescomprimeParaOMesmoConteudo() throws IOException {
+        RespostaSerializada resposta = respostaSerializadaService.buscar(RespostaSerializadaService.ESTADIO, 3L, "0", () -> new RecursoVersionadoDto<>("0", new EstadioResponseDto(3L, "Maracanã")));
+
+        try (InputStream descomprimido = new GZIPInputStream(new ByteArrayInputStream(resposta.getCorpoGzip()))) {
+            assertArrayEquals(resposta.getCorpo(), descomprimido.readAllBytes());
+        }
+        assertSame(resposta.getCorpoGzip(), resposta.getCorpoGzip());
+    }
+
+}